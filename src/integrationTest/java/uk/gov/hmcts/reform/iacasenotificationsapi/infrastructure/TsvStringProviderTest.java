@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.Optional;
@@ -268,4 +269,21 @@ class TsvStringProviderTest extends SpringBootIntegrationTest {
             tsvStringProvider.get("not", "exists")
         );
     }
+
+    @Test
+    void should_fail_to_load_when_a_hearing_centre_is_missing() {
+
+        assertThatThrownBy(() -> new TsvStringProvider("strings-incomplete.tsv"))
+            .isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("hearingCentreName.bradford")
+            .hasMessageContaining("hearingCentreAddress.bradford");
+    }
+
+    @Test
+    void should_fail_to_load_when_file_does_not_exist() {
+
+        assertThatThrownBy(() -> new TsvStringProvider("does-not-exist.tsv"))
+            .isExactlyInstanceOf(IllegalStateException.class)
+            .hasMessage("Cannot load TSV strings from file: does-not-exist.tsv");
+    }
 }
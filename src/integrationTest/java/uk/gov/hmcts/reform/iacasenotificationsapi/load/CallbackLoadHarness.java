@@ -0,0 +1,212 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.load;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import uk.gov.hmcts.reform.iacasenotificationsapi.component.testutils.SpringBootIntegrationTest;
+import uk.gov.hmcts.reform.iacasenotificationsapi.component.testutils.WithServiceAuthStub;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.capture.NotificationCapture;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.config.NotificationCaptureConfiguration;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.CcdEventAuthorizor;
+
+/*
+ * Replays recorded CCD callback bodies against the whole application at a fixed rate, entirely
+ * offline: notifications go to the in-memory capture and IDAM and S2S are WireMock stubs. Only
+ * runs when given a directory of payloads, through the loadTest task:
+ *
+ *   ./gradlew loadTest -DloadTest.callbacks=/path/to/callbacks -DloadTest.ratePerSecond=50
+ *
+ * Latency is measured from when a request was due to be sent rather than when it was, so a
+ * backlog caused by the application shows up in the percentiles instead of lowering the rate.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "loadTest.callbacks", matches = ".+")
+@ActiveProfiles(NotificationCaptureConfiguration.PROFILE)
+class CallbackLoadHarness extends SpringBootIntegrationTest implements WithServiceAuthStub {
+
+    private static final String USER_TOKEN = "Bearer load-test";
+
+    @MockitoBean
+    private CcdEventAuthorizor ccdEventAuthorizor;
+
+    @Autowired
+    private NotificationCapture notificationCapture;
+
+    @Test
+    void replay_recorded_callbacks_at_target_rate() throws Exception {
+
+        Path callbackDirectory = Path.of(System.getProperty("loadTest.callbacks"));
+        String path = System.getProperty("loadTest.path", "/asylum/ccdAboutToSubmit");
+        double ratePerSecond = Double.parseDouble(System.getProperty("loadTest.ratePerSecond", "20"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(System.getProperty("loadTest.durationSeconds", "30")));
+        Path reportFile = Path.of(System.getProperty("loadTest.report", "build/reports/loadTest/report.json"));
+
+        List<String> callbacks = readCallbacks(callbackDirectory);
+
+        addServiceAuthStub(server);
+        server.stubFor(get(urlEqualTo("/userAuth/o/userinfo")).willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .withBody("{\"sub\":\"load-test@example.com\",\"uid\":\"load-test\","
+                + "\"roles\":[\"caseworker-ia-caseofficer\"],\"name\":\"Load Test\","
+                + "\"given_name\":\"Load\",\"family_name\":\"Test\"}")));
+
+        notificationCapture.clear();
+
+        long requestCount = (long) (ratePerSecond * duration.toSeconds());
+        long intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        Map<Integer, AtomicLong> statusCounts = new ConcurrentHashMap<>();
+        List<Future<?>> requests = new ArrayList<>();
+
+        long startedAt = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            for (long i = 0; i < requestCount; i++) {
+
+                long dueAt = startedAt + i * intervalNanos;
+                long waitNanos = dueAt - System.nanoTime();
+                if (waitNanos > 0) {
+                    Thread.sleep(Duration.ofNanos(waitNanos));
+                }
+
+                String callback = callbacks.get((int) (i % callbacks.size()));
+
+                requests.add(executor.submit(() -> {
+                    int status = send(path, callback);
+                    latencies.add(System.nanoTime() - dueAt);
+                    statusCounts.computeIfAbsent(status, s -> new AtomicLong()).incrementAndGet();
+                    return null;
+                }));
+            }
+
+            for (Future<?> request : requests) {
+                request.get();
+            }
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        Map<String, Object> report = report(ratePerSecond, elapsed, latencies, statusCounts);
+
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+
+        log.info("Load test report written to {}: {}", reportFile.toAbsolutePath(), report);
+    }
+
+    private int send(String path, String callback) throws Exception {
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new TestingAuthenticationToken("load-test", USER_TOKEN, "caseworker-ia-caseofficer")
+        );
+
+        try {
+            return mockMvc.perform(post(path)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.AUTHORIZATION, USER_TOKEN)
+                    .header("ServiceAuthorization", "Bearer " + SERVICE_TOKEN)
+                    .content(callback))
+                .andReturn()
+                .getResponse()
+                .getStatus();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private Map<String, Object> report(
+        double ratePerSecond,
+        Duration elapsed,
+        List<Long> latencies,
+        Map<Integer, AtomicLong> statusCounts
+    ) {
+        List<Long> sorted;
+        synchronized (latencies) {
+            sorted = new ArrayList<>(latencies);
+        }
+        Collections.sort(sorted);
+
+        Map<String, Object> latencyMillis = new LinkedHashMap<>();
+        latencyMillis.put("p50", percentileMillis(sorted, 50));
+        latencyMillis.put("p90", percentileMillis(sorted, 90));
+        latencyMillis.put("p99", percentileMillis(sorted, 99));
+        latencyMillis.put("max", percentileMillis(sorted, 100));
+
+        Map<String, Long> statuses = new LinkedHashMap<>();
+        statusCounts.forEach((status, count) -> statuses.put(String.valueOf(status), count.get()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("targetRatePerSecond", ratePerSecond);
+        report.put("requests", sorted.size());
+        report.put("elapsedSeconds", elapsed.toMillis() / 1000.0);
+        report.put("throughputPerSecond", sorted.size() / (elapsed.toNanos() / 1_000_000_000.0));
+        report.put("latencyMillis", latencyMillis);
+        report.put("responseStatuses", statuses);
+        report.put("notifications", notificationCapture.countByChannel());
+        return report;
+    }
+
+    private static double percentileMillis(List<Long> sortedNanos, int percentile) {
+        if (sortedNanos.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.size()) - 1;
+        return sortedNanos.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    private static List<String> readCallbacks(Path callbackDirectory) throws IOException {
+
+        List<String> callbacks;
+        try (Stream<Path> files = Files.list(callbackDirectory)) {
+            callbacks = files
+                .filter(file -> file.getFileName().toString().endsWith(".json"))
+                .sorted()
+                .map(CallbackLoadHarness::readString)
+                .toList();
+        }
+
+        if (callbacks.isEmpty()) {
+            throw new IllegalArgumentException("No .json callbacks found in " + callbackDirectory);
+        }
+
+        return callbacks;
+    }
+
+    private static String readString(Path file) {
+        try {
+            return Files.readString(file);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read callback " + file, e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.config.JacksonConfiguration;
+
+/*
+ * Case data shaped like what CCD sends, at three sizes. small is a freshly submitted appeal, medium
+ * is a listed appeal with a typical bundle of documents, and huge is a long running appeal with
+ * thousands of documents and sent notifications, which is where reads and serialisation hurt.
+ */
+public final class CaseFixtures {
+
+    public static final String SMALL = "small";
+    public static final String MEDIUM = "medium";
+    public static final String HUGE = "huge";
+
+    public static final long CASE_ID = 1234123412341234L;
+
+    private CaseFixtures() {
+    }
+
+    public static ObjectMapper objectMapper() {
+        JacksonConfiguration jacksonConfiguration = new JacksonConfiguration();
+
+        return jacksonConfiguration.jacksonObjectMapper(
+            new Jackson2ObjectMapperBuilder().modulesToInstall(jacksonConfiguration.caseDataModule())
+        );
+    }
+
+    public static Map<String, Object> caseData(String size) {
+
+        Map<String, Object> caseData = new LinkedHashMap<>();
+        caseData.put("appealReferenceNumber", "PA/50001/2026");
+        caseData.put("appealType", "protection");
+        caseData.put("journeyType", "rep");
+        caseData.put("hearingCentre", "manchester");
+        caseData.put("appellantGivenNames", "Talia");
+        caseData.put("appellantFamilyName", "Example");
+        caseData.put("appellantDateOfBirth", "1990-01-01");
+        caseData.put("homeOfficeReferenceNumber", "A1234567/001");
+        caseData.put("legalRepReferenceNumber", "REF-0001");
+        caseData.put("legalRepresentativeEmailAddress", "legal.rep@example.com");
+        caseData.put("legalRepresentativeName", "Legal Rep");
+        caseData.put("legalRepCompany", "Example Solicitors");
+        caseData.put("submissionOutOfTime", "No");
+        caseData.put("appellantInUk", "Yes");
+        caseData.put("appellantInDetention", "No");
+        caseData.put("isAdmin", "No");
+
+        switch (size) {
+            case SMALL -> {
+                return caseData;
+            }
+            case MEDIUM -> {
+                caseData.put("listCaseHearingCentre", "manchester");
+                caseData.put("listCaseHearingDate", "2026-11-02T10:00:00.000");
+                caseData.put("legalRepresentativeDocuments", documents("legalRepresentativeDocument", 15));
+                caseData.put("hearingDocuments", documents("hearingDocument", 10));
+                caseData.put("notificationsSent", notificationsSent(50));
+            }
+            case HUGE -> {
+                caseData.put("listCaseHearingCentre", "manchester");
+                caseData.put("listCaseHearingDate", "2026-11-02T10:00:00.000");
+                caseData.put("legalRepresentativeDocuments", documents("legalRepresentativeDocument", 1_000));
+                caseData.put("hearingDocuments", documents("hearingDocument", 1_000));
+                caseData.put("respondentDocuments", documents("respondentDocument", 1_000));
+                caseData.put("notificationsSent", notificationsSent(5_000));
+            }
+            default -> throw new IllegalArgumentException("Unknown fixture size: " + size);
+        }
+
+        return caseData;
+    }
+
+    public static byte[] callbackJson(ObjectMapper objectMapper, String size, Event event) {
+
+        Map<String, Object> caseDetails = new LinkedHashMap<>();
+        caseDetails.put("id", CASE_ID);
+        caseDetails.put("jurisdiction", "IA");
+        caseDetails.put("state", "listing");
+        caseDetails.put("case_data", caseData(size));
+        caseDetails.put("created_date", "2026-01-01T09:00:00");
+
+        Map<String, Object> callback = new LinkedHashMap<>();
+        callback.put("case_details", caseDetails);
+        callback.put("event_id", event.toString());
+
+        try {
+            return objectMapper.writeValueAsBytes(callback);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write " + size + " callback fixture", e);
+        }
+    }
+
+    public static List<Map<String, Object>> notificationsSent(int count) {
+
+        List<Map<String, Object>> notificationsSent = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            notificationsSent.add(idValue(
+                CASE_ID + "_NOTIFICATION_" + (i % 40) + "_" + (1_700_000_000_000L + i),
+                "00000000-0000-0000-0000-" + String.format("%012d", i)
+            ));
+        }
+        return notificationsSent;
+    }
+
+    private static List<Map<String, Object>> documents(String prefix, int count) {
+
+        List<Map<String, Object>> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> document = new LinkedHashMap<>();
+            document.put("document_url", "http://dm-store/documents/" + prefix + "-" + i);
+            document.put("document_binary_url", "http://dm-store/documents/" + prefix + "-" + i + "/binary");
+            document.put("document_filename", prefix + "-" + i + ".pdf");
+
+            Map<String, Object> documentWithMetadata = new LinkedHashMap<>();
+            documentWithMetadata.put("document", document);
+            documentWithMetadata.put("description", "Evidence bundle part " + i);
+            documentWithMetadata.put("dateUploaded", "2026-02-01");
+            documentWithMetadata.put("tag", "caseArgument");
+
+            documents.add(idValue(String.valueOf(i + 1), documentWithMetadata));
+        }
+        return documents;
+    }
+
+    private static Map<String, Object> idValue(String id, Object value) {
+        Map<String, Object> idValue = new LinkedHashMap<>();
+        idValue.put("id", id);
+        idValue.put("value", value);
+        return idValue;
+    }
+}
@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities;
+
+import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCaseDefinition.APPEAL_REFERENCE_NUMBER;
+import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCaseDefinition.APPEAL_TYPE;
+import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCaseDefinition.LEGAL_REPRESENTATIVE_DOCUMENTS;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.iacasenotificationsapi.CaseFixtures;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.field.IdValue;
+
+/*
+ * Reads from a case deserialized the way callbacks are. The *Converted benchmarks put the raw
+ * value back before each read, so they pay the Jackson conversion every time, as the first read
+ * of a field in a callback does; the others hit the memoised value, as every later read does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AsylumCaseReadBenchmark {
+
+    @Param({CaseFixtures.MEDIUM, CaseFixtures.HUGE})
+    private String caseSize;
+
+    private AsylumCase asylumCase;
+    private Object rawAppealType;
+    private Object rawLegalRepresentativeDocuments;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        ObjectMapper objectMapper = CaseFixtures.objectMapper();
+
+        Callback<AsylumCase> callback = objectMapper.readValue(
+            CaseFixtures.callbackJson(objectMapper, caseSize, Event.SUBMIT_APPEAL),
+            new TypeReference<Callback<AsylumCase>>() {}
+        );
+
+        asylumCase = callback.getCaseDetails().getCaseData();
+        rawAppealType = asylumCase.get(APPEAL_TYPE.value());
+        rawLegalRepresentativeDocuments = asylumCase.get(LEGAL_REPRESENTATIVE_DOCUMENTS.value());
+    }
+
+    @Benchmark
+    public Optional<String> readString() {
+        return asylumCase.read(APPEAL_REFERENCE_NUMBER, String.class);
+    }
+
+    @Benchmark
+    public Optional<AppealType> readEnum() {
+        return asylumCase.read(APPEAL_TYPE, AppealType.class);
+    }
+
+    @Benchmark
+    public Optional<AppealType> readEnumConverted() {
+        asylumCase.write(APPEAL_TYPE, rawAppealType);
+        return asylumCase.read(APPEAL_TYPE, AppealType.class);
+    }
+
+    @Benchmark
+    public Optional<List<IdValue<DocumentWithMetadata>>> readDocuments() {
+        return asylumCase.read(LEGAL_REPRESENTATIVE_DOCUMENTS);
+    }
+
+    @Benchmark
+    public Optional<List<IdValue<DocumentWithMetadata>>> readDocumentsConverted() {
+        asylumCase.write(LEGAL_REPRESENTATIVE_DOCUMENTS, rawLegalRepresentativeDocuments);
+        return asylumCase.read(LEGAL_REPRESENTATIVE_DOCUMENTS);
+    }
+}
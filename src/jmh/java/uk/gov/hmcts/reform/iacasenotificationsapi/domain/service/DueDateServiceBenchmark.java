@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.domain.service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.holidaydates.HolidayService;
+
+/*
+ * Working day arithmetic against a holiday list the size of the one loaded from GOV.UK, which
+ * covers England and Wales bank holidays for several years either side of today.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DueDateServiceBenchmark {
+
+    @Param({"5", "28", "140"})
+    private int workingDays;
+
+    private DueDateService dueDateService;
+    private ZonedDateTime eventDateTime;
+
+    @Setup
+    public void setUp() {
+
+        List<LocalDate> holidays = new ArrayList<>();
+        for (int year = 2018; year <= 2032; year++) {
+            holidays.add(LocalDate.of(year, 1, 1));
+            holidays.add(LocalDate.of(year, 4, 3));
+            holidays.add(LocalDate.of(year, 4, 6));
+            holidays.add(LocalDate.of(year, 5, 4));
+            holidays.add(LocalDate.of(year, 5, 25));
+            holidays.add(LocalDate.of(year, 8, 31));
+            holidays.add(LocalDate.of(year, 12, 25));
+            holidays.add(LocalDate.of(year, 12, 26));
+        }
+
+        dueDateService = new DueDateService(new HolidayService(holidays));
+        eventDateTime = ZonedDateTime.of(2026, 12, 18, 10, 30, 0, 0, ZoneId.of("Europe/London"));
+    }
+
+    @Benchmark
+    public ZonedDateTime calculateWorkingDaysDueDate() {
+        return dueDateService.calculateWorkingDaysDueDate(eventDateTime, workingDays);
+    }
+
+    @Benchmark
+    public ZonedDateTime calculateDelayUntil() {
+        return dueDateService.calculateDelayUntil(eventDateTime, workingDays);
+    }
+}
@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.domain.service;
+
+import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCaseDefinition.NOTIFICATIONS_SENT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.iacasenotificationsapi.CaseFixtures;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.field.IdValue;
+
+/*
+ * Appends the ids of one generator's sends to a case that already holds notificationsSentCount
+ * sent notifications. The reference is one the case has sent before, so each append also takes
+ * the path that makes the reference unique.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class NotificationIdAppenderBenchmark {
+
+    private static final String REFERENCE = CaseFixtures.CASE_ID + "_NOTIFICATION_1";
+
+    @Param({"10", "1000", "10000"})
+    private int notificationsSentCount;
+
+    @Param({"1", "5"})
+    private int notificationIdCount;
+
+    private final NotificationIdAppender notificationIdAppender = new NotificationIdAppender();
+    private final AsylumCase asylumCase = new AsylumCase();
+
+    private List<IdValue<String>> notificationsSent;
+    private List<String> notificationIds;
+
+    @Setup
+    public void setUp() {
+
+        notificationsSent = new ArrayList<>(notificationsSentCount);
+        for (int i = 0; i < notificationsSentCount; i++) {
+            notificationsSent.add(new IdValue<>(
+                CaseFixtures.CASE_ID + "_NOTIFICATION_" + (i % 40) + "_" + (1_700_000_000_000L + i),
+                "notification-" + i
+            ));
+        }
+
+        notificationIds = new ArrayList<>(notificationIdCount);
+        for (int i = 0; i < notificationIdCount; i++) {
+            notificationIds.add("new-notification-" + i);
+        }
+    }
+
+    @Benchmark
+    public AsylumCase appendAllAsylum() {
+        asylumCase.write(NOTIFICATIONS_SENT, notificationsSent);
+        notificationIdAppender.appendAllAsylum(asylumCase, REFERENCE, notificationIds);
+        return asylumCase;
+    }
+}
@@ -0,0 +1,130 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCaseDefinition;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseDetails;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.State;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PreSubmitCallbackResponse;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PreSubmitCallbackStage;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.PreSubmitCallbackHandler;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.presubmit.NotificationHandler;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.metrics.CallbackMetrics;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.CcdEventAuthorizor;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
+
+/*
+ * Run with the gc profiler (configured in build.gradle) and compare gc.alloc.rate.norm of
+ * dispatch against perHandlerSnapshot, which reproduces the previous dispatch loop that built
+ * a new CaseDetails and Callback for every handler before asking canHandle.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PreSubmitCallbackDispatcherBenchmark {
+
+    private static final String ROLE = "caseworker-ia-legalrep-solicitor";
+
+    @Param({"10", "50", "200"})
+    private int handlerCount;
+
+    private List<PreSubmitCallbackHandler<AsylumCase>> handlers;
+    private PreSubmitCallbackDispatcher<AsylumCase> preSubmitCallbackDispatcher;
+    private Callback<AsylumCase> callback;
+
+    @Setup
+    public void setUp() {
+
+        AsylumCase asylumCase = new AsylumCase();
+        asylumCase.write(AsylumCaseDefinition.APPEAL_REFERENCE_NUMBER, "PA/50001/2026");
+
+        callback = new Callback<>(
+            new CaseDetails<>(1L, "IA", State.APPEAL_SUBMITTED, asylumCase, LocalDateTime.now()),
+            Optional.empty(),
+            Event.SUBMIT_APPEAL
+        );
+
+        handlers = new ArrayList<>();
+        for (int i = 0; i < handlerCount; i++) {
+            // one in ten handlers accepts the callback, the rest reject it after looking at the case
+            final boolean accepts = i % 10 == 0;
+            handlers.add(new NotificationHandler(
+                PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+                EnumSet.of(Event.SUBMIT_APPEAL),
+                (callbackStage, handlerCallback) ->
+                    callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
+                        && handlerCallback.getCaseDetails().getCaseData().containsKey("appealReferenceNumber")
+                        && accepts,
+                Collections.emptyList()
+            ));
+        }
+
+        preSubmitCallbackDispatcher = new PreSubmitCallbackDispatcher<>(
+            new CcdEventAuthorizor(Map.of(ROLE, List.of(Event.SUBMIT_APPEAL)), () -> Set.of(ROLE)),
+            handlers,
+            0,
+            new CallbackMetrics(new SimpleMeterRegistry()),
+            CallbackTracer.NOOP
+        );
+    }
+
+    @Benchmark
+    public PreSubmitCallbackResponse<AsylumCase> dispatch() {
+        return preSubmitCallbackDispatcher.handle(PreSubmitCallbackStage.ABOUT_TO_SUBMIT, callback);
+    }
+
+    @Benchmark
+    public void perHandlerSnapshot(Blackhole blackhole) {
+
+        PreSubmitCallbackResponse<AsylumCase> callbackResponse =
+            new PreSubmitCallbackResponse<>(callback.getCaseDetails().getCaseData());
+
+        for (PreSubmitCallbackHandler<AsylumCase> callbackHandler : handlers) {
+
+            Callback<AsylumCase> callbackForHandler = new Callback<>(
+                new CaseDetails<>(
+                    callback.getCaseDetails().getId(),
+                    callback.getCaseDetails().getJurisdiction(),
+                    callback.getCaseDetails().getState(),
+                    callbackResponse.getData(),
+                    callback.getCaseDetails().getCreatedDate()
+                ),
+                callback.getCaseDetailsBefore(),
+                callback.getEvent()
+            );
+
+            if (callbackHandler.canHandle(PreSubmitCallbackStage.ABOUT_TO_SUBMIT, callbackForHandler)) {
+                callbackResponse.setData(
+                    callbackHandler.handle(PreSubmitCallbackStage.ABOUT_TO_SUBMIT, callbackForHandler).getData()
+                );
+            }
+        }
+
+        blackhole.consume(callbackResponse);
+    }
+}
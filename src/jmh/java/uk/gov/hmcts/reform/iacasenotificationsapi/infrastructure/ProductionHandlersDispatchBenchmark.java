@@ -0,0 +1,133 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.reform.iacasenotificationsapi.CaseFixtures;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PreSubmitCallbackResponse;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PreSubmitCallbackStage;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.PreSubmitCallbackHandler;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.DirectionFinder;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.RecordApplicationRespondentFinder;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.config.NotificationHandlerConfiguration;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.metrics.CallbackMetrics;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.CcdEventAuthorizor;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
+
+/*
+ * Dispatches a callback through every asylum handler that NotificationHandlerConfiguration
+ * declares, with the same canHandle predicates as production. The generators are left empty, so
+ * this measures routing a callback to its handlers and not the sends they would make.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProductionHandlersDispatchBenchmark {
+
+    private static final String ROLE = "caseworker-ia-caseofficer";
+
+    @Param({"submitAppeal", "sendDirection", "listCase", "editCaseListing", "recordApplication"})
+    private String eventId;
+
+    @Param({CaseFixtures.MEDIUM})
+    private String caseSize;
+
+    private PreSubmitCallbackDispatcher<AsylumCase> preSubmitCallbackDispatcher;
+    private Callback<AsylumCase> callback;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        ObjectMapper objectMapper = CaseFixtures.objectMapper();
+        Event event = objectMapper.convertValue(eventId, Event.class);
+
+        callback = objectMapper.readValue(
+            CaseFixtures.callbackJson(objectMapper, caseSize, event),
+            new TypeReference<Callback<AsylumCase>>() {}
+        );
+
+        preSubmitCallbackDispatcher = new PreSubmitCallbackDispatcher<>(
+            new CcdEventAuthorizor(Map.of(ROLE, List.copyOf(EnumSet.allOf(Event.class))), () -> Set.of(ROLE)),
+            productionHandlers(),
+            0,
+            new CallbackMetrics(new SimpleMeterRegistry()),
+            CallbackTracer.NOOP
+        );
+
+        // fail here rather than part way through measuring if a predicate needs a field the fixture lacks
+        preSubmitCallbackDispatcher.handle(PreSubmitCallbackStage.ABOUT_TO_SUBMIT, callback);
+    }
+
+    @Benchmark
+    public PreSubmitCallbackResponse<AsylumCase> dispatch() {
+        return preSubmitCallbackDispatcher.handle(PreSubmitCallbackStage.ABOUT_TO_SUBMIT, callback);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<PreSubmitCallbackHandler<AsylumCase>> productionHandlers() {
+
+        NotificationHandlerConfiguration configuration = new NotificationHandlerConfiguration();
+        Map<Class<?>, Object> collaborators = Map.of(
+            List.class, Collections.emptyList(),
+            DirectionFinder.class, new DirectionFinder(),
+            RecordApplicationRespondentFinder.class,
+            new RecordApplicationRespondentFinder("ho@example.com", "review@example.com", Map.of())
+        );
+
+        List<PreSubmitCallbackHandler<AsylumCase>> handlers = new ArrayList<>();
+
+        for (Method method : NotificationHandlerConfiguration.class.getMethods()) {
+
+            if (!PreSubmitCallbackHandler.class.isAssignableFrom(method.getReturnType())) {
+                continue;
+            }
+
+            Object[] arguments = new Object[method.getParameterCount()];
+            Parameter[] parameters = method.getParameters();
+            for (int i = 0; i < parameters.length; i++) {
+                if (!collaborators.containsKey(parameters[i].getType())) {
+                    throw new IllegalStateException(
+                        "No collaborator for " + parameters[i].getType().getSimpleName() + " in " + method.getName()
+                    );
+                }
+                arguments[i] = collaborators.get(parameters[i].getType());
+            }
+
+            try {
+                handlers.add((PreSubmitCallbackHandler<AsylumCase>) method.invoke(configuration, arguments));
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Could not create handler " + method.getName(), e);
+            }
+        }
+
+        return handlers;
+    }
+}
@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.serialization;
+
+import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCaseDefinition.APPEAL_REFERENCE_NUMBER;
+import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCaseDefinition.LEGAL_REPRESENTATIVE_EMAIL_ADDRESS;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.gov.hmcts.reform.iacasenotificationsapi.CaseFixtures;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
+
+/*
+ * Reads and writes callbacks with the application's ObjectMapper. deserializeAndRead also reads
+ * the few fields a typical notification needs, which is what a callback costs end to end now that
+ * case data is bound lazily.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CallbackSerializationBenchmark {
+
+    @Param({CaseFixtures.SMALL, CaseFixtures.MEDIUM, CaseFixtures.HUGE})
+    private String caseSize;
+
+    private ObjectReader callbackReader;
+    private ObjectWriter callbackWriter;
+    private byte[] callbackJson;
+    private Callback<AsylumCase> callback;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        ObjectMapper objectMapper = CaseFixtures.objectMapper();
+        TypeReference<Callback<AsylumCase>> callbackType = new TypeReference<>() {};
+
+        callbackReader = objectMapper.readerFor(callbackType);
+        callbackWriter = objectMapper.writerFor(callbackType);
+        callbackJson = CaseFixtures.callbackJson(objectMapper, caseSize, Event.SUBMIT_APPEAL);
+        callback = callbackReader.readValue(callbackJson);
+    }
+
+    @Benchmark
+    public Callback<AsylumCase> deserialize() throws IOException {
+        return callbackReader.readValue(callbackJson);
+    }
+
+    @Benchmark
+    public void deserializeAndRead(Blackhole blackhole) throws IOException {
+        Callback<AsylumCase> deserialized = callbackReader.readValue(callbackJson);
+        AsylumCase asylumCase = deserialized.getCaseDetails().getCaseData();
+
+        blackhole.consume(asylumCase.read(APPEAL_REFERENCE_NUMBER, String.class));
+        blackhole.consume(asylumCase.read(LEGAL_REPRESENTATIVE_EMAIL_ADDRESS, String.class));
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return callbackWriter.writeValueAsBytes(callback);
+    }
+}
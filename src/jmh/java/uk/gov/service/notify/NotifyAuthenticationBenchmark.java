@@ -0,0 +1,63 @@
+package uk.gov.service.notify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * What the GOV.UK Notify token costs each send. signPerSend is the library's behaviour and what
+ * CustomNotificationClient does with a zero tokenReuse, cachedToken is the SignedTokenCache path
+ * CustomNotificationClient takes for emails and text messages. Run with several threads so the
+ * compare-and-set refresh is contended as it is under the concurrent send fan-out.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class NotifyAuthenticationBenchmark {
+
+    private SignedTokenCache signPerSend;
+    private SignedTokenCache cachedToken;
+
+    @Setup
+    public void setUp() {
+        String serviceId = UUID.randomUUID().toString();
+        String secretKey = UUID.randomUUID().toString();
+
+        signPerSend = new SignedTokenCache(
+            () -> new Authentication().create(serviceId, secretKey),
+            Duration.ZERO,
+            Clock.systemUTC()
+        );
+        cachedToken = new SignedTokenCache(
+            () -> new Authentication().create(serviceId, secretKey),
+            Duration.ofSeconds(10),
+            Clock.systemUTC()
+        );
+    }
+
+    @Benchmark
+    public String signPerSend() {
+        return "Bearer " + signPerSend.token();
+    }
+
+    @Benchmark
+    public String cachedToken() {
+        return "Bearer " + cachedToken.token();
+    }
+}
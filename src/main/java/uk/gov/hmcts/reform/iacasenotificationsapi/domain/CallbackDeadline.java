@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.domain;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * The time left to answer the callback currently being handled. CCD gives up on a callback after a
+ * fixed timeout and retries the whole event, so sends that would finish after that are not made;
+ * they are recorded as failed notifications instead, to be resent later, and the response goes
+ * back in time. The deadline is bound to the thread handling the callback, and carried over to any
+ * thread that sends on its behalf.
+ */
+public final class CallbackDeadline {
+
+    private static final ThreadLocal<CallbackDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+    private final LongSupplier nanoTime;
+
+    CallbackDeadline(long deadlineNanos, LongSupplier nanoTime) {
+        this.deadlineNanos = deadlineNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    public static CallbackDeadline after(Duration budget) {
+        requireNonNull(budget, "budget must not be null");
+
+        return new CallbackDeadline(System.nanoTime() + budget.toNanos(), System::nanoTime);
+    }
+
+    public static Optional<CallbackDeadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    public static <R> R runWithin(Optional<CallbackDeadline> deadline, Supplier<R> action) {
+        requireNonNull(deadline, "deadline must not be null");
+        requireNonNull(action, "action must not be null");
+
+        CallbackDeadline previous = CURRENT.get();
+        CURRENT.set(deadline.orElse(null));
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - nanoTime.getAsLong()));
+    }
+
+    public boolean isExpired() {
+        return remaining().isZero();
+    }
+
+    // true when there is not enough time left for something that takes the given duration
+    public boolean isExceededBy(Duration duration) {
+        return remaining().compareTo(duration) <= 0;
+    }
+}
@@ -5,6 +5,8 @@ import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.C
 
 import java.io.InputStream;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 
 public interface NotificationSender<T extends CaseData> {
@@ -37,4 +39,12 @@ public interface NotificationSender<T extends CaseData> {
         String reference,
         InputStream stream
     );
+
+    /**
+     * The executor independent sends may be fanned out on. When empty, notifications are sent one
+     * after another on the calling thread.
+     */
+    default Optional<Executor> getConcurrentSendExecutor() {
+        return Optional.empty();
+    }
 }
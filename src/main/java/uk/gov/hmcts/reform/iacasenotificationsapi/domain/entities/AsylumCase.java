@@ -1,17 +1,15 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import java.util.HashMap;
 import java.util.Optional;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
 
 public class AsylumCase extends HashMap<String, Object> implements CaseData {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final transient ConvertedFieldValues<AsylumCaseDefinition> convertedFieldValues = new ConvertedFieldValues<>();
 
     public AsylumCase() {
-        objectMapper.registerModule(new Jdk8Module());
+        // noop -- for deserializer
     }
 
     /*
@@ -29,7 +27,7 @@ public class AsylumCase extends HashMap<String, Object> implements CaseData {
             return Optional.empty();
         }
 
-        Object value = objectMapper.convertValue(o, asylumCaseDefinition.getTypeReference());
+        Object value = convertedFieldValues.convert(asylumCaseDefinition, o, asylumCaseDefinition.getTypeReference());
 
         return Optional.of((T) value);
     }
@@ -39,10 +37,12 @@ public class AsylumCase extends HashMap<String, Object> implements CaseData {
     }
 
     public <T> void write(AsylumCaseDefinition asylumCaseDefinition, T value) {
+        convertedFieldValues.invalidate(asylumCaseDefinition);
         this.put(asylumCaseDefinition.value(), value);
     }
 
     public void clear(AsylumCaseDefinition asylumCaseDefinition) {
+        convertedFieldValues.invalidate(asylumCaseDefinition);
         this.put(asylumCaseDefinition.value(), null);
     }
 
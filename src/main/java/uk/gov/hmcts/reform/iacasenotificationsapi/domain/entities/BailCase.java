@@ -1,17 +1,15 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import java.util.HashMap;
 import java.util.Optional;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
 
 public class BailCase extends HashMap<String, Object> implements CaseData {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final transient ConvertedFieldValues<BailCaseFieldDefinition> convertedFieldValues = new ConvertedFieldValues<>();
 
     public BailCase() {
-        objectMapper.registerModule(new Jdk8Module());
+        // noop -- for deserializer
     }
 
     public <T> Optional<T> read(BailCaseFieldDefinition extractor, Class<T> type) {
@@ -27,16 +25,18 @@ public class BailCase extends HashMap<String, Object> implements CaseData {
             return Optional.empty();
         }
 
-        Object value = objectMapper.convertValue(o, extractor.getTypeReference());
+        Object value = convertedFieldValues.convert(extractor, o, extractor.getTypeReference());
 
         return Optional.of((T) value);
     }
 
     public <T> void write(BailCaseFieldDefinition extractor, T value) {
+        convertedFieldValues.invalidate(extractor);
         this.put(extractor.value(), value);
     }
 
     public void clear(BailCaseFieldDefinition extractor) {
+        convertedFieldValues.invalidate(extractor);
         this.put(extractor.value(), null);
     }
 }
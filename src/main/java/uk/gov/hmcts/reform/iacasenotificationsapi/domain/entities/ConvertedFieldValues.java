@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoises the typed values read from a case, so repeated reads of the same field cost a map lookup
+ * instead of a Jackson conversion. An entry is only reused while the raw value held by the case is
+ * the very same object it was converted from; the owning case invalidates entries it overwrites.
+ */
+class ConvertedFieldValues<K> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new Jdk8Module());
+
+    private final Map<K, ConvertedValue> convertedValues = new ConcurrentHashMap<>();
+
+    Object convert(K field, Object rawValue, TypeReference<?> typeReference) {
+
+        ConvertedValue convertedValue = convertedValues.get(field);
+
+        if (convertedValue == null || convertedValue.rawValue() != rawValue) {
+            convertedValue = new ConvertedValue(rawValue, convertValue(rawValue, typeReference));
+            convertedValues.put(field, convertedValue);
+        }
+
+        return convertedValue.value();
+    }
+
+    void invalidate(K field) {
+        convertedValues.remove(field);
+    }
+
+    private static Object convertValue(Object rawValue, TypeReference<?> typeReference) {
+
+        if (rawValue instanceof TokenBuffer tokenBuffer) {
+            // fields left unbound by the deserializer are read straight from their tokens
+            try (JsonParser parser = tokenBuffer.asParser()) {
+                return OBJECT_MAPPER.readValue(parser, typeReference);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Could not convert case field", e);
+            }
+        }
+
+        return OBJECT_MAPPER.convertValue(rawValue, typeReference);
+    }
+
+    private record ConvertedValue(Object rawValue, Object value) {
+    }
+}
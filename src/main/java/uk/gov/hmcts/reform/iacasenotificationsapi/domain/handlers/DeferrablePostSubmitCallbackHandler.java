@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers;
+
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PostSubmitCallbackResponse;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PostSubmitCallbackStage;
+
+/**
+ * A post-submit handler whose sends do not need to finish before CCD is answered. The response can
+ * be built without sending anything, and the sends can be made later, from another thread.
+ *
+ * <p>Sends made later run without the request, so a handler whose personalisations read the request
+ * user, feature flags evaluated for that user or documents downloaded as that user needs the request
+ * to send, and is handled before CCD is answered like any other handler.
+ */
+public interface DeferrablePostSubmitCallbackHandler<T extends CaseData> extends PostSubmitCallbackHandler<T> {
+
+    PostSubmitCallbackResponse respond(
+        PostSubmitCallbackStage callbackStage,
+        Callback<T> callback
+    );
+
+    void send(
+        PostSubmitCallbackStage callbackStage,
+        Callback<T> callback
+    );
+
+    boolean needsRequestToSend();
+}
@@ -1,6 +1,9 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers;
 
+import java.util.Optional;
+import java.util.Set;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.DispatchPriority;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PreSubmitCallbackResponse;
@@ -17,6 +20,22 @@ public interface PreSubmitCallbackHandler<T extends CaseData> {
         return DispatchPriority.LATE;
     }
 
+    /**
+     * The only stage this handler can ever handle, if it is known up front.
+     * When empty the handler is offered callbacks for every stage.
+     */
+    default Optional<PreSubmitCallbackStage> getHandledStage() {
+        return Optional.empty();
+    }
+
+    /**
+     * The only events this handler can ever handle, if they are known up front.
+     * When empty the handler is offered callbacks for every event.
+     */
+    default Optional<Set<Event>> getHandledEvents() {
+        return Optional.empty();
+    }
+
     PreSubmitCallbackResponse<T> handle(
         PreSubmitCallbackStage callbackStage,
         Callback<T> callback
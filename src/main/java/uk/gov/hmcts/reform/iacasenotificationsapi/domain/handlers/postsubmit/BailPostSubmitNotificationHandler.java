@@ -10,12 +10,12 @@ import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.Message;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PostSubmitCallbackResponse;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PostSubmitCallbackStage;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.DeferrablePostSubmitCallbackHandler;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.ErrorHandler;
-import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.PostSubmitCallbackHandler;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.BailNotificationGenerator;
 
 
-public class BailPostSubmitNotificationHandler implements PostSubmitCallbackHandler<BailCase> {
+public class BailPostSubmitNotificationHandler implements DeferrablePostSubmitCallbackHandler<BailCase> {
 
     private final BiPredicate<PostSubmitCallbackStage, Callback<BailCase>> canHandleFunction;
     private final List<? extends BailNotificationGenerator> bailNotificationGenerators;
@@ -55,27 +55,38 @@ public class BailPostSubmitNotificationHandler implements PostSubmitCallbackHand
         PostSubmitCallbackResponse postSubmitCallbackResponse = new PostSubmitCallbackResponse("success", "success");
 
         try {
-
             bailNotificationGenerators.forEach(bailNotificationGenerator -> bailNotificationGenerator.generate(callback));
+            setSuccessMessage(postSubmitCallbackResponse, callback);
+        } catch (Exception e) {
+            if (errorHandling.isPresent()) {
+                errorHandling.get().accept(callback, e);
+            } else {
+                throw e;
+            }
+        }
+        return postSubmitCallbackResponse;
+    }
 
-            if (!bailNotificationGenerators.isEmpty()) {
+    @Override
+    public PostSubmitCallbackResponse respond(PostSubmitCallbackStage callbackStage, Callback<BailCase> callback) {
+        if (!canHandle(callbackStage, callback)) {
+            throw new IllegalStateException("Cannot handle callback");
+        }
 
-                int lastBailNotificationGeneratorIndex = bailNotificationGenerators.size() - 1;
-                Message message = bailNotificationGenerators.get(lastBailNotificationGeneratorIndex).getSuccessMessage();
+        PostSubmitCallbackResponse postSubmitCallbackResponse = new PostSubmitCallbackResponse("success", "success");
+        setSuccessMessage(postSubmitCallbackResponse, callback);
 
-                if (message.getMessageHeader() != null) {
-                    postSubmitCallbackResponse.setConfirmationHeader(message.getMessageHeader());
-                }
-                if (message.getMessageBody() != null) {
+        return postSubmitCallbackResponse;
+    }
 
-                    BailCase bailCase =
-                        callback
-                            .getCaseDetails()
-                            .getCaseData();
+    @Override
+    public void send(PostSubmitCallbackStage callbackStage, Callback<BailCase> callback) {
+        if (!canHandle(callbackStage, callback)) {
+            throw new IllegalStateException("Cannot handle callback");
+        }
 
-                    postSubmitCallbackResponse.setConfirmationBody(bailCase.toString());
-                }
-            }
+        try {
+            bailNotificationGenerators.forEach(bailNotificationGenerator -> bailNotificationGenerator.generate(callback));
         } catch (Exception e) {
             if (errorHandling.isPresent()) {
                 errorHandling.get().accept(callback, e);
@@ -83,6 +94,33 @@ public class BailPostSubmitNotificationHandler implements PostSubmitCallbackHand
                 throw e;
             }
         }
-        return postSubmitCallbackResponse;
+    }
+
+    @Override
+    public boolean needsRequestToSend() {
+        return false;
+    }
+
+    private void setSuccessMessage(PostSubmitCallbackResponse postSubmitCallbackResponse, Callback<BailCase> callback) {
+
+        if (bailNotificationGenerators.isEmpty()) {
+            return;
+        }
+
+        int lastBailNotificationGeneratorIndex = bailNotificationGenerators.size() - 1;
+        Message message = bailNotificationGenerators.get(lastBailNotificationGeneratorIndex).getSuccessMessage();
+
+        if (message.getMessageHeader() != null) {
+            postSubmitCallbackResponse.setConfirmationHeader(message.getMessageHeader());
+        }
+        if (message.getMessageBody() != null) {
+
+            BailCase bailCase =
+                callback
+                    .getCaseDetails()
+                    .getCaseData();
+
+            postSubmitCallbackResponse.setConfirmationBody(bailCase.toString());
+        }
     }
 }
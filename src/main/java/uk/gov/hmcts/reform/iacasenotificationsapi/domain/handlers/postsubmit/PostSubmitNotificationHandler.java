@@ -11,23 +11,32 @@ import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PostSubmitCallbackResponse;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PostSubmitCallbackStage;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.DeferrablePostSubmitCallbackHandler;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.ErrorHandler;
-import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.PostSubmitCallbackHandler;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.NotificationGenerator;
 
 
-public class PostSubmitNotificationHandler implements PostSubmitCallbackHandler<AsylumCase> {
+public class PostSubmitNotificationHandler implements DeferrablePostSubmitCallbackHandler<AsylumCase> {
 
     private final BiPredicate<PostSubmitCallbackStage, Callback<AsylumCase>> canHandleFunction;
     private final List<? extends NotificationGenerator> notificationGenerators;
     private final Optional<ErrorHandler<AsylumCase>> errorHandling;
+    private final boolean needsRequestToSend;
 
     public PostSubmitNotificationHandler(BiPredicate<PostSubmitCallbackStage, Callback<AsylumCase>> canHandleFunction,
                                          List<? extends NotificationGenerator> notificationGenerator
+    ) {
+        this(canHandleFunction, notificationGenerator, false);
+    }
+
+    public PostSubmitNotificationHandler(BiPredicate<PostSubmitCallbackStage, Callback<AsylumCase>> canHandleFunction,
+                                         List<? extends NotificationGenerator> notificationGenerator,
+                                         boolean needsRequestToSend
     ) {
         this.canHandleFunction = canHandleFunction;
         this.notificationGenerators = notificationGenerator;
         this.errorHandling = Optional.empty();
+        this.needsRequestToSend = needsRequestToSend;
     }
 
     public PostSubmitNotificationHandler(BiPredicate<PostSubmitCallbackStage, Callback<AsylumCase>> canHandleFunction,
@@ -37,6 +46,7 @@ public class PostSubmitNotificationHandler implements PostSubmitCallbackHandler<
         this.canHandleFunction = canHandleFunction;
         this.notificationGenerators = notificationGenerator;
         this.errorHandling = Optional.ofNullable(errorHandling);
+        this.needsRequestToSend = false;
     }
 
     @Override
@@ -66,24 +76,37 @@ public class PostSubmitNotificationHandler implements PostSubmitCallbackHandler<
 
         try {
             notificationGenerators.forEach(notificationGenerator -> notificationGenerator.generate(callback));
-            if (!notificationGenerators.isEmpty()) {
+            setSuccessMessage(postSubmitCallbackResponse, callback);
+        } catch (Exception e) {
+            if (errorHandling.isPresent()) {
+                errorHandling.get().accept(callback, e);
+            } else {
+                throw e;
+            }
+        }
+        return postSubmitCallbackResponse;
+    }
 
-                int lastNotificationGeneratorIndex = notificationGenerators.size() - 1;
-                Message message = notificationGenerators.get(lastNotificationGeneratorIndex).getSuccessMessage();
+    @Override
+    public PostSubmitCallbackResponse respond(PostSubmitCallbackStage callbackStage, Callback<AsylumCase> callback) {
+        if (!canHandle(callbackStage, callback)) {
+            throw new IllegalStateException("Cannot handle callback");
+        }
 
-                if (message.getMessageHeader() != null) {
-                    postSubmitCallbackResponse.setConfirmationHeader(message.getMessageHeader());
-                }
-                if (message.getMessageBody() != null) {
+        PostSubmitCallbackResponse postSubmitCallbackResponse = new PostSubmitCallbackResponse("success", "success");
+        setSuccessMessage(postSubmitCallbackResponse, callback);
 
-                    AsylumCase asylumCase =
-                        callback
-                            .getCaseDetails()
-                            .getCaseData();
+        return postSubmitCallbackResponse;
+    }
 
-                    postSubmitCallbackResponse.setConfirmationBody(asylumCase.toString());
-                }
-            }
+    @Override
+    public void send(PostSubmitCallbackStage callbackStage, Callback<AsylumCase> callback) {
+        if (!canHandle(callbackStage, callback)) {
+            throw new IllegalStateException("Cannot handle callback");
+        }
+
+        try {
+            notificationGenerators.forEach(notificationGenerator -> notificationGenerator.generate(callback));
         } catch (Exception e) {
             if (errorHandling.isPresent()) {
                 errorHandling.get().accept(callback, e);
@@ -91,7 +114,34 @@ public class PostSubmitNotificationHandler implements PostSubmitCallbackHandler<
                 throw e;
             }
         }
-        return postSubmitCallbackResponse;
+    }
+
+    @Override
+    public boolean needsRequestToSend() {
+        return needsRequestToSend;
+    }
+
+    private void setSuccessMessage(PostSubmitCallbackResponse postSubmitCallbackResponse, Callback<AsylumCase> callback) {
+
+        if (notificationGenerators.isEmpty()) {
+            return;
+        }
+
+        int lastNotificationGeneratorIndex = notificationGenerators.size() - 1;
+        Message message = notificationGenerators.get(lastNotificationGeneratorIndex).getSuccessMessage();
+
+        if (message.getMessageHeader() != null) {
+            postSubmitCallbackResponse.setConfirmationHeader(message.getMessageHeader());
+        }
+        if (message.getMessageBody() != null) {
+
+            AsylumCase asylumCase =
+                callback
+                    .getCaseDetails()
+                    .getCaseData();
+
+            postSubmitCallbackResponse.setConfirmationBody(asylumCase.toString());
+        }
     }
 
 }
@@ -2,10 +2,14 @@ package uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.presubmit;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.BailCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PreSubmitCallbackResponse;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PreSubmitCallbackStage;
@@ -15,6 +19,8 @@ import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.BailNotificatio
 
 public class BailNotificationHandler implements PreSubmitCallbackHandler<BailCase> {
 
+    private final Optional<PreSubmitCallbackStage> handledStage;
+    private final Optional<Set<Event>> handledEvents;
     private final BiPredicate<PreSubmitCallbackStage, Callback<BailCase>> canHandleFunction;
     private final List<? extends BailNotificationGenerator> bailNotificationGenerators;
     private final Optional<ErrorHandler<BailCase>> errorHandling;
@@ -22,6 +28,8 @@ public class BailNotificationHandler implements PreSubmitCallbackHandler<BailCas
     public BailNotificationHandler(BiPredicate<PreSubmitCallbackStage, Callback<BailCase>> canHandleFunction,
                                    List<? extends BailNotificationGenerator> notificationGenerator
     ) {
+        this.handledStage = Optional.empty();
+        this.handledEvents = Optional.empty();
         this.canHandleFunction = canHandleFunction;
         this.bailNotificationGenerators = notificationGenerator;
         this.errorHandling = Optional.empty();
@@ -31,11 +39,48 @@ public class BailNotificationHandler implements PreSubmitCallbackHandler<BailCas
                                    List<? extends BailNotificationGenerator> bailNotificationGenerators,
                                    ErrorHandler<BailCase> errorHandling
     ) {
+        this.handledStage = Optional.empty();
+        this.handledEvents = Optional.empty();
         this.canHandleFunction = canHandleFunction;
         this.bailNotificationGenerators = bailNotificationGenerators;
         this.errorHandling = Optional.ofNullable(errorHandling);
     }
 
+    public BailNotificationHandler(PreSubmitCallbackStage handledStage,
+                                   Set<Event> handledEvents,
+                                   BiPredicate<PreSubmitCallbackStage, Callback<BailCase>> canHandleFunction,
+                                   List<? extends BailNotificationGenerator> bailNotificationGenerators
+    ) {
+        this(handledStage, handledEvents, canHandleFunction, bailNotificationGenerators, null);
+    }
+
+    public BailNotificationHandler(PreSubmitCallbackStage handledStage,
+                                   Set<Event> handledEvents,
+                                   BiPredicate<PreSubmitCallbackStage, Callback<BailCase>> canHandleFunction,
+                                   List<? extends BailNotificationGenerator> bailNotificationGenerators,
+                                   ErrorHandler<BailCase> errorHandling
+    ) {
+        requireNonNull(handledStage, "handledStage must not be null");
+        requireNonNull(handledEvents, "handledEvents must not be null");
+        Set<Event> events = EnumSet.noneOf(Event.class);
+        events.addAll(handledEvents);
+        this.handledStage = Optional.of(handledStage);
+        this.handledEvents = Optional.of(Collections.unmodifiableSet(events));
+        this.canHandleFunction = canHandleFunction;
+        this.bailNotificationGenerators = bailNotificationGenerators;
+        this.errorHandling = Optional.ofNullable(errorHandling);
+    }
+
+    @Override
+    public Optional<PreSubmitCallbackStage> getHandledStage() {
+        return handledStage;
+    }
+
+    @Override
+    public Optional<Set<Event>> getHandledEvents() {
+        return handledEvents;
+    }
+
     @Override
     public boolean canHandle(PreSubmitCallbackStage callbackStage, Callback<BailCase> callback) {
         requireNonNull(callbackStage, "callbackStage must not be null");
@@ -2,9 +2,11 @@ package uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.presubmit;
 
 import static java.util.Objects.requireNonNull;
 
-import com.google.common.collect.Lists;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
@@ -17,6 +19,31 @@ import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.NotificationGen
 
 public class NotificationHandler implements PreSubmitCallbackHandler<AsylumCase> {
 
+    private static final Set<Event> EVENTS_TO_SKIP = EnumSet.of(
+        Event.SUBMIT_APPLICATION,
+        Event.UPLOAD_BAIL_SUMMARY,
+        Event.UPLOAD_SIGNED_DECISION_NOTICE,
+        Event.UPLOAD_SIGNED_DECISION_NOTICE_CONDITIONAL_GRANT,
+        Event.END_APPLICATION,
+        Event.UPLOAD_DOCUMENTS,
+        Event.SEND_BAIL_DIRECTION,
+        Event.EDIT_BAIL_DOCUMENTS,
+        Event.CHANGE_BAIL_DIRECTION_DUE_DATE,
+        Event.MAKE_NEW_APPLICATION,
+        Event.EDIT_BAIL_APPLICATION_AFTER_SUBMIT,
+        Event.CREATE_BAIL_CASE_LINK,
+        Event.MAINTAIN_BAIL_CASE_LINKS,
+        Event.RECORD_THE_DECISION,
+        Event.SEND_UPLOAD_BAIL_SUMMARY_DIRECTION,
+        Event.CASE_LISTING,
+        Event.FORCE_CASE_TO_HEARING,
+        Event.CHANGE_TRIBUNAL_CENTRE,
+        Event.START_APPLICATION,
+        Event.EDIT_BAIL_APPLICATION
+    );
+
+    private final Optional<PreSubmitCallbackStage> handledStage;
+    private final Set<Event> handledEvents;
     private final BiPredicate<PreSubmitCallbackStage, Callback<AsylumCase>> canHandleFunction;
     private final List<? extends NotificationGenerator> notificationGenerators;
     private final Optional<ErrorHandler<AsylumCase>> errorHandling;
@@ -24,55 +51,70 @@ public class NotificationHandler implements PreSubmitCallbackHandler<AsylumCase>
     public NotificationHandler(BiPredicate<PreSubmitCallbackStage, Callback<AsylumCase>> canHandleFunction,
                                List<? extends NotificationGenerator> notificationGenerator
     ) {
-        this.canHandleFunction = canHandleFunction;
-        this.notificationGenerators = notificationGenerator;
-        this.errorHandling = Optional.empty();
+        this(Optional.empty(), EnumSet.allOf(Event.class), canHandleFunction, notificationGenerator, null);
     }
 
     public NotificationHandler(BiPredicate<PreSubmitCallbackStage, Callback<AsylumCase>> canHandleFunction,
                                List<? extends NotificationGenerator> notificationGenerator,
                                ErrorHandler<AsylumCase> errorHandling
     ) {
+        this(Optional.empty(), EnumSet.allOf(Event.class), canHandleFunction, notificationGenerator, errorHandling);
+    }
+
+    public NotificationHandler(PreSubmitCallbackStage handledStage,
+                               Set<Event> handledEvents,
+                               BiPredicate<PreSubmitCallbackStage, Callback<AsylumCase>> canHandleFunction,
+                               List<? extends NotificationGenerator> notificationGenerator
+    ) {
+        this(Optional.of(handledStage), handledEvents, canHandleFunction, notificationGenerator, null);
+    }
+
+    public NotificationHandler(PreSubmitCallbackStage handledStage,
+                               Set<Event> handledEvents,
+                               BiPredicate<PreSubmitCallbackStage, Callback<AsylumCase>> canHandleFunction,
+                               List<? extends NotificationGenerator> notificationGenerator,
+                               ErrorHandler<AsylumCase> errorHandling
+    ) {
+        this(Optional.of(handledStage), handledEvents, canHandleFunction, notificationGenerator, errorHandling);
+    }
+
+    private NotificationHandler(Optional<PreSubmitCallbackStage> handledStage,
+                                Set<Event> handledEvents,
+                                BiPredicate<PreSubmitCallbackStage, Callback<AsylumCase>> canHandleFunction,
+                                List<? extends NotificationGenerator> notificationGenerator,
+                                ErrorHandler<AsylumCase> errorHandling
+    ) {
+        requireNonNull(handledEvents, "handledEvents must not be null");
+        Set<Event> events = EnumSet.noneOf(Event.class);
+        events.addAll(handledEvents);
+        events.removeAll(EVENTS_TO_SKIP);
+        this.handledStage = handledStage;
+        this.handledEvents = Collections.unmodifiableSet(events);
         this.canHandleFunction = canHandleFunction;
         this.notificationGenerators = notificationGenerator;
         this.errorHandling = Optional.ofNullable(errorHandling);
     }
 
+    @Override
+    public Optional<PreSubmitCallbackStage> getHandledStage() {
+        return handledStage;
+    }
+
+    @Override
+    public Optional<Set<Event>> getHandledEvents() {
+        return Optional.of(handledEvents);
+    }
+
     @Override
     public boolean canHandle(PreSubmitCallbackStage callbackStage, Callback<AsylumCase> callback) {
         requireNonNull(callbackStage, "callbackStage must not be null");
         requireNonNull(callback, "callback must not be null");
-        if (getEventsToSkip().contains(callback.getEvent())) {
+        if (EVENTS_TO_SKIP.contains(callback.getEvent())) {
             return false;
         }
         return canHandleFunction.test(callbackStage, callback);
     }
 
-    private List<Event> getEventsToSkip() {
-        return Lists.newArrayList(
-            Event.SUBMIT_APPLICATION,
-            Event.UPLOAD_BAIL_SUMMARY,
-            Event.UPLOAD_SIGNED_DECISION_NOTICE,
-            Event.UPLOAD_SIGNED_DECISION_NOTICE_CONDITIONAL_GRANT,
-            Event.END_APPLICATION,
-            Event.UPLOAD_DOCUMENTS,
-            Event.SEND_BAIL_DIRECTION,
-            Event.EDIT_BAIL_DOCUMENTS,
-            Event.CHANGE_BAIL_DIRECTION_DUE_DATE,
-            Event.MAKE_NEW_APPLICATION,
-            Event.EDIT_BAIL_APPLICATION_AFTER_SUBMIT,
-            Event.CREATE_BAIL_CASE_LINK,
-            Event.MAINTAIN_BAIL_CASE_LINKS,
-            Event.RECORD_THE_DECISION,
-            Event.SEND_UPLOAD_BAIL_SUMMARY_DIRECTION,
-            Event.CASE_LISTING,
-            Event.FORCE_CASE_TO_HEARING,
-            Event.CHANGE_TRIBUNAL_CENTRE,
-            Event.START_APPLICATION,
-            Event.EDIT_BAIL_APPLICATION
-        );
-    }
-
     @Override
     public PreSubmitCallbackResponse<AsylumCase> handle(PreSubmitCallbackStage callbackStage, Callback<AsylumCase> callback) {
 
@@ -41,23 +41,12 @@ public class DueDateService {
             return dueDate;
         }
 
-        ZonedDateTime newDate = dueDate.plusDays(1);
-        if (holidayService.isWeekend(newDate) || holidayService.isHoliday(newDate)) {
-            return addWorkingDays(newDate, numberOfDays);
-        } else {
-            return addWorkingDays(newDate, numberOfDays - 1);
-        }
+        return dueDate.with(holidayService.plusWorkingDays(dueDate.toLocalDate(), numberOfDays));
     }
 
     private ZonedDateTime addWorkingDaysForDelayDuration(ZonedDateTime eventDate, int delayDuration) {
 
-        ZonedDateTime newDate = eventDate.plusDays(delayDuration);
-
-        if (holidayService.isWeekend(newDate) || holidayService.isHoliday(newDate)) {
-            return addWorkingDaysForDelayDuration(eventDate, delayDuration + 1);
-        }
-
-        return newDate;
+        return eventDate.with(holidayService.nextWorkingDayOnOrAfter(eventDate.toLocalDate().plusDays(delayDuration)));
     }
 
     private ZonedDateTime resetTo4PmTime(ZonedDateTime eventDateTime) {
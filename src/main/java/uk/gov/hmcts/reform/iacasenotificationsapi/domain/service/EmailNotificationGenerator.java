@@ -1,7 +1,12 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.domain.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +41,24 @@ public class EmailNotificationGenerator implements NotificationGenerator {
 
         final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
+        Optional<Executor> sendExecutor = notificationSender.getConcurrentSendExecutor();
+
+        if (sendExecutor.isPresent()) {
+            // every recipient of every personalisation is sent to at once, ids are appended in order afterwards
+            List<String> referenceIds = new ArrayList<>();
+            List<List<Supplier<String>>> sendsPerPersonalisation = new ArrayList<>();
+            personalisationList.forEach(personalisation -> {
+                String referenceId = personalisation.getReferenceId(callback.getCaseDetails().getId());
+                referenceIds.add(referenceId);
+                sendsPerPersonalisation.add(prepareEmails(personalisation, asylumCase, referenceId, callback));
+            });
+
+            NotificationFanOut.sendAll(sendExecutor, sendsPerPersonalisation, (notificationIds, i) ->
+                notificationIdAppender.appendAllAsylum(asylumCase, referenceIds.get(i), sent(notificationIds))
+            );
+            return;
+        }
+
         personalisationList.forEach(personalisation -> {
 
             String referenceId = personalisation.getReferenceId(callback.getCaseDetails().getId());
@@ -49,22 +72,38 @@ public class EmailNotificationGenerator implements NotificationGenerator {
         final AsylumCase asylumCase,
         final String referenceId,
         final Callback<AsylumCase> callback
+    ) {
+        List<Supplier<String>> sends = prepareEmails(personalisation, asylumCase, referenceId, callback);
+
+        List<String> notificationIds = new ArrayList<>();
+        NotificationFanOut.sendAll(notificationSender.getConcurrentSendExecutor(), List.of(sends), (sentIds, i) ->
+            notificationIds.addAll(sent(sentIds))
+        );
+        return notificationIds;
+    }
+
+    private List<Supplier<String>> prepareEmails(
+        final BaseNotificationPersonalisation personalisation,
+        final AsylumCase asylumCase,
+        final String referenceId,
+        final Callback<AsylumCase> callback
     ) {
         EmailNotificationPersonalisation emailNotificationPersonalisation = (EmailNotificationPersonalisation) personalisation;
         Set<String> subscriberEmails = emailNotificationPersonalisation.getRecipientsList(asylumCase);
 
         return subscriberEmails.stream()
             .filter(this::isValidEmailAddress)
-            .map(email -> sendEmail(
+            .map(email -> prepareEmail(
                 email,
                 emailNotificationPersonalisation,
                 referenceId,
                 callback
             ))
-            .filter(StringUtils::isNotBlank).collect(Collectors.toList());
+            .collect(Collectors.toList());
     }
 
-    protected String sendEmail(
+    // everything read from the case is resolved here, so only the send itself runs concurrently
+    private Supplier<String> prepareEmail(
         final String email,
         final EmailNotificationPersonalisation personalisation,
         final String referenceId,
@@ -73,11 +112,12 @@ public class EmailNotificationGenerator implements NotificationGenerator {
         String emailTemplateId = personalisation.getTemplateId() == null
             ?
             personalisation.getTemplateId(callback.getCaseDetails().getCaseData()) : personalisation.getTemplateId();
+        Map<String, String> personalisationValues = personalisation.getPersonalisation(callback);
 
-        return notificationSender.sendEmail(
+        return () -> notificationSender.sendEmail(
             emailTemplateId,
             email,
-            personalisation.getPersonalisation(callback),
+            personalisationValues,
             referenceId,
             callback
         );
@@ -91,4 +131,8 @@ public class EmailNotificationGenerator implements NotificationGenerator {
 
         return true;
     }
+
+    private static List<String> sent(List<String> notificationIds) {
+        return notificationIds.stream().filter(StringUtils::isNotBlank).collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,259 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.domain.service;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.NotificationSender;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.StoredNotification;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseDetails;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.field.IdValue;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.personalisation.BaseNotificationPersonalisation;
+
+/**
+ * Resends the email and sms notifications recorded as Failed on a case. Failed entries only keep
+ * the reference and recipient, so the template and personalisation are rebuilt from the
+ * personalisation whose reference id matches, against the case data as it is now. An entry is not
+ * resent when a later entry shows the same notification went out to the same recipient.
+ *
+ * <p>Resends are made outside any callback, so there is no request and no event. Personalisations that
+ * need the request, for the request user or feature flags evaluated for that user, and those that
+ * branch on the event are not resent and are reported as unsupported. Cases are
+ * worked through concurrently, up to the given maximum, and sends go through the notification
+ * sender, so its rate limiting, retries and de-duplication all apply.
+ */
+@Slf4j
+public class FailedNotificationResender<T extends CaseData> {
+
+    private static final String FAILED = "Failed";
+
+    public enum Outcome {
+        RESENT,
+        FAILED,
+        ALREADY_SENT,
+        UNKNOWN_REFERENCE,
+        AMBIGUOUS_REFERENCE,
+        UNSUPPORTED
+    }
+
+    public record NotificationResult(String reference, String method, Outcome outcome, String notificationId) {
+    }
+
+    public record CaseResult(long caseId, List<NotificationResult> notifications, String error) {
+    }
+
+    private final List<? extends BaseNotificationPersonalisation<T>> emailPersonalisations;
+    private final List<? extends BaseNotificationPersonalisation<T>> smsPersonalisations;
+    private final NotificationSender<T> notificationSender;
+    private final Function<T, Optional<List<IdValue<StoredNotification>>>> storedNotifications;
+    private final Predicate<Object> needsRequest;
+    private final int maximumConcurrency;
+
+    public FailedNotificationResender(
+        List<? extends BaseNotificationPersonalisation<T>> emailPersonalisations,
+        List<? extends BaseNotificationPersonalisation<T>> smsPersonalisations,
+        NotificationSender<T> notificationSender,
+        Function<T, Optional<List<IdValue<StoredNotification>>>> storedNotifications,
+        Predicate<Object> needsRequest,
+        int maximumConcurrency
+    ) {
+        requireNonNull(emailPersonalisations, "emailPersonalisations must not be null");
+        requireNonNull(smsPersonalisations, "smsPersonalisations must not be null");
+        requireNonNull(notificationSender, "notificationSender must not be null");
+        requireNonNull(storedNotifications, "storedNotifications must not be null");
+        requireNonNull(needsRequest, "needsRequest must not be null");
+
+        if (maximumConcurrency < 1) {
+            throw new IllegalArgumentException("maximumConcurrency must be at least 1");
+        }
+
+        this.emailPersonalisations = emailPersonalisations;
+        this.smsPersonalisations = smsPersonalisations;
+        this.notificationSender = notificationSender;
+        this.storedNotifications = storedNotifications;
+        this.needsRequest = needsRequest;
+        this.maximumConcurrency = maximumConcurrency;
+    }
+
+    /*
+     * Results are reported one case at a time, in the order the cases finish, and only from one
+     * thread at a time. Returns once every case has been reported.
+     */
+    public void resendAll(Iterator<CaseDetails<T>> cases, Consumer<CaseResult> report) {
+        requireNonNull(cases, "cases must not be null");
+        requireNonNull(report, "report must not be null");
+
+        Semaphore inFlight = new Semaphore(maximumConcurrency);
+        Object reportLock = new Object();
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("failed-notification-resend-", 0).factory()
+        )) {
+            while (cases.hasNext()) {
+                CaseDetails<T> caseDetails = cases.next();
+                inFlight.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        CaseResult result = resend(caseDetails);
+                        synchronized (reportLock) {
+                            report.accept(result);
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+
+    public CaseResult resend(CaseDetails<T> caseDetails) {
+        requireNonNull(caseDetails, "caseDetails must not be null");
+
+        try {
+            T caseData = caseDetails.getCaseData();
+            List<StoredNotification> notifications = storedNotifications.apply(caseData)
+                .orElse(Collections.emptyList())
+                .stream()
+                .map(IdValue::getValue)
+                .collect(Collectors.toList());
+
+            // the event only keys the sender's ledger, personalisations are not given it
+            Callback<T> callback = new Callback<>(caseDetails, Optional.empty(), Event.UNKNOWN);
+
+            // a notification that failed more than once is only resent once
+            Set<String> resentNotifications = new HashSet<>();
+
+            List<NotificationResult> results = new ArrayList<>();
+            for (StoredNotification notification : notifications) {
+                String resendKey = notification.getNotificationReference() + ":" + notification.getNotificationSentTo();
+                if (FAILED.equalsIgnoreCase(notification.getNotificationStatus()) && resentNotifications.add(resendKey)) {
+                    results.add(resend(notification, notifications, callback));
+                }
+            }
+
+            return new CaseResult(caseDetails.getId(), results, null);
+
+        } catch (RuntimeException e) {
+            log.error("Could not resend failed notifications for case {}", caseDetails.getId(), e);
+            return new CaseResult(caseDetails.getId(), Collections.emptyList(), e.getMessage());
+        }
+    }
+
+    private NotificationResult resend(
+        StoredNotification failedNotification,
+        List<StoredNotification> notifications,
+        Callback<T> callback
+    ) {
+        String reference = failedNotification.getNotificationReference();
+        String method = failedNotification.getNotificationMethod();
+
+        if (sentLater(failedNotification, notifications)) {
+            return new NotificationResult(reference, method, Outcome.ALREADY_SENT, null);
+        }
+
+        boolean isSms = "Sms".equalsIgnoreCase(method);
+        long caseId = callback.getCaseDetails().getId();
+        List<? extends BaseNotificationPersonalisation<T>> matchingPersonalisations =
+            (isSms ? smsPersonalisations : emailPersonalisations).stream()
+                .filter(personalisation -> reference.equals(personalisation.getReferenceId(caseId)))
+                .collect(Collectors.toList());
+
+        if (matchingPersonalisations.isEmpty()) {
+            return new NotificationResult(reference, method, Outcome.UNKNOWN_REFERENCE, null);
+        }
+        if (matchingPersonalisations.size() > 1) {
+            return new NotificationResult(reference, method, Outcome.AMBIGUOUS_REFERENCE, null);
+        }
+
+        BaseNotificationPersonalisation<T> personalisation = matchingPersonalisations.get(0);
+        if (needsRequest.test(personalisation)) {
+            return new NotificationResult(reference, method, Outcome.UNSUPPORTED, null);
+        }
+
+        String templateId;
+        Map<String, String> personalisationValues;
+        try {
+            templateId = personalisation.getTemplateId() == null
+                ? personalisation.getTemplateId(callback.getCaseDetails().getCaseData())
+                : personalisation.getTemplateId();
+            personalisationValues = personalisation.getPersonalisation(new EventlessCallback<>(callback));
+        } catch (EventNotKnownException e) {
+            return new NotificationResult(reference, method, Outcome.UNSUPPORTED, null);
+        }
+
+        String notificationId = isSms
+            ? notificationSender.sendSms(
+                templateId, failedNotification.getNotificationSentTo(), personalisationValues, reference, callback)
+            : notificationSender.sendEmail(
+                templateId, failedNotification.getNotificationSentTo(), personalisationValues, reference, callback);
+
+        return StringUtils.isNotBlank(notificationId)
+            ? new NotificationResult(reference, method, Outcome.RESENT, notificationId)
+            : new NotificationResult(reference, method, Outcome.FAILED, null);
+    }
+
+    /*
+     * The callback handed to personalisations. A resend has no event, so a personalisation that asks
+     * for one cannot be rebuilt the way it was first sent.
+     */
+    private static final class EventlessCallback<T extends CaseData> extends Callback<T> {
+
+        EventlessCallback(Callback<T> callback) {
+            super(callback.getCaseDetails(), callback.getCaseDetailsBefore(), callback.getEvent());
+        }
+
+        @Override
+        public Event getEvent() {
+            throw new EventNotKnownException();
+        }
+    }
+
+    private static final class EventNotKnownException extends RuntimeException {
+
+        EventNotKnownException() {
+            super("The event is not known when resending a failed notification");
+        }
+    }
+
+    // entries whose dates cannot be compared count as sent, so nothing is sent twice
+    private static boolean sentLater(StoredNotification failed, List<StoredNotification> notifications) {
+        Optional<LocalDateTime> failedAt = parseDateSent(failed);
+
+        return notifications.stream()
+            .filter(notification -> !FAILED.equalsIgnoreCase(notification.getNotificationStatus()))
+            .filter(notification -> failed.getNotificationReference().equals(notification.getNotificationReference()))
+            .filter(notification -> failed.getNotificationSentTo().equals(notification.getNotificationSentTo()))
+            .anyMatch(notification -> {
+                Optional<LocalDateTime> sentAt = parseDateSent(notification);
+                return failedAt.isEmpty() || sentAt.isEmpty() || !sentAt.get().isBefore(failedAt.get());
+            });
+    }
+
+    private static Optional<LocalDateTime> parseDateSent(StoredNotification notification) {
+        try {
+            return Optional.of(LocalDateTime.parse(notification.getNotificationDateSent()));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.domain.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.CallbackDeadline;
+
+/**
+ * Runs groups of independent sends, on the given executor when there is one and otherwise one after
+ * another. The notification ids of each group are handed over in the order the sends were given,
+ * whatever order they complete in, so they can be appended to the case deterministically. Sends made
+ * on the executor keep the deadline of the callback they are made for.
+ *
+ * <p>When a send fails, the ids of the sends that did go out are still handed over before the first
+ * failure is rethrown, so they are not lost from the case. On the executor, ids are only handed over
+ * once every send of every group has finished, on the calling thread.
+ */
+final class NotificationFanOut {
+
+    private NotificationFanOut() {
+        // noop
+    }
+
+    /*
+     * notificationIdsSent receives the ids of each group's successful sends along with the group's
+     * index. One after another, sending stops at the first failure, as the generators always have.
+     */
+    static void sendAll(
+        Optional<Executor> sendExecutor,
+        List<List<Supplier<String>>> sendsPerGroup,
+        ObjIntConsumer<List<String>> notificationIdsSent
+    ) {
+        if (sendExecutor.isEmpty()) {
+            for (int group = 0; group < sendsPerGroup.size(); group++) {
+                List<String> notificationIds = new ArrayList<>();
+                try {
+                    sendsPerGroup.get(group).forEach(send -> notificationIds.add(send.get()));
+                } finally {
+                    notificationIdsSent.accept(notificationIds, group);
+                }
+            }
+            return;
+        }
+
+        Optional<CallbackDeadline> deadline = CallbackDeadline.current();
+
+        List<List<CompletableFuture<String>>> pendingSendsPerGroup = new ArrayList<>();
+        for (List<Supplier<String>> sends : sendsPerGroup) {
+            List<CompletableFuture<String>> pendingSends = new ArrayList<>();
+            sends.forEach(send -> pendingSends.add(CompletableFuture.supplyAsync(
+                () -> CallbackDeadline.runWithin(deadline, send),
+                sendExecutor.get()
+            )));
+            pendingSendsPerGroup.add(pendingSends);
+        }
+
+        // every send of every group is waited for before any ids are handed over, so nothing else is
+        // writing to the case (failed sends store their notification on it) while the ids are appended
+        RuntimeException firstFailure = null;
+        List<List<String>> notificationIdsPerGroup = new ArrayList<>();
+        for (List<CompletableFuture<String>> pendingSends : pendingSendsPerGroup) {
+            List<String> notificationIds = new ArrayList<>();
+            for (CompletableFuture<String> pendingSend : pendingSends) {
+                try {
+                    notificationIds.add(pendingSend.join());
+                } catch (CompletionException e) {
+                    if (firstFailure == null) {
+                        firstFailure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                    }
+                }
+            }
+            notificationIdsPerGroup.add(notificationIds);
+        }
+
+        for (int group = 0; group < notificationIdsPerGroup.size(); group++) {
+            notificationIdsSent.accept(notificationIdsPerGroup.get(group), group);
+        }
+
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+    }
+}
@@ -7,8 +7,13 @@ import uk.gov.hmcts.reform.iacasenotificationsapi.domain.personalisation.BaseNot
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.personalisation.SmsNotificationPersonalisation;
 import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.GovNotifyNotificationSender;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class SmsNotificationGenerator implements NotificationGenerator {
@@ -32,6 +37,24 @@ public class SmsNotificationGenerator implements NotificationGenerator {
 
         final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
+        Optional<Executor> sendExecutor = notificationSender.getConcurrentSendExecutor();
+
+        if (sendExecutor.isPresent()) {
+            // every recipient of every personalisation is sent to at once, ids are appended in order afterwards
+            List<String> referenceIds = new ArrayList<>();
+            List<List<Supplier<String>>> sendsPerPersonalisation = new ArrayList<>();
+            personalisationList.forEach(personalisation -> {
+                String referenceId = personalisation.getReferenceId(callback.getCaseDetails().getId());
+                referenceIds.add(referenceId);
+                sendsPerPersonalisation.add(prepareSmses(personalisation, asylumCase, referenceId, callback));
+            });
+
+            NotificationFanOut.sendAll(sendExecutor, sendsPerPersonalisation, (notificationIds, i) ->
+                notificationIdAppender.appendAllAsylum(asylumCase, referenceIds.get(i), sent(notificationIds))
+            );
+            return;
+        }
+
         personalisationList.forEach(personalisation -> {
             String referenceId = personalisation.getReferenceId(callback.getCaseDetails().getId());
             List<String> notificationIds = createSms(personalisation, asylumCase, referenceId, callback);
@@ -45,22 +68,38 @@ public class SmsNotificationGenerator implements NotificationGenerator {
         final String referenceId,
         final Callback<AsylumCase> callback) {
 
+        List<Supplier<String>> sends = prepareSmses(personalisation, asylumCase, referenceId, callback);
+
+        List<String> notificationIds = new ArrayList<>();
+        NotificationFanOut.sendAll(notificationSender.getConcurrentSendExecutor(), List.of(sends), (sentIds, i) ->
+            notificationIds.addAll(sent(sentIds))
+        );
+        return notificationIds;
+    }
+
+    private List<Supplier<String>> prepareSmses(
+        final BaseNotificationPersonalisation personalisation,
+        final AsylumCase asylumCase,
+        final String referenceId,
+        final Callback<AsylumCase> callback) {
+
         SmsNotificationPersonalisation smsNotificationPersonalisation = (SmsNotificationPersonalisation) personalisation;
 
         Set<String> phoneNumbers = smsNotificationPersonalisation.getRecipientsList(asylumCase);
 
         return phoneNumbers.stream()
             .map(phoneNumber ->
-                sendSms(
+                prepareSms(
                     phoneNumber,
                     smsNotificationPersonalisation,
                     referenceId,
                     callback)
-            ).filter(StringUtils::isNotBlank)
+            )
             .collect(Collectors.toList());
     }
 
-    private String sendSms(
+    // everything read from the case is resolved here, so only the send itself runs concurrently
+    private Supplier<String> prepareSms(
         final String mobileNumber,
         final SmsNotificationPersonalisation personalisation,
         final String referenceId,
@@ -68,12 +107,18 @@ public class SmsNotificationGenerator implements NotificationGenerator {
         String smsTemplateId = personalisation.getTemplateId() == null
             ?
             personalisation.getTemplateId(callback.getCaseDetails().getCaseData()) : personalisation.getTemplateId();
-        return notificationSender.sendSms(
+        Map<String, String> personalisationValues = personalisation.getPersonalisation(callback);
+
+        return () -> notificationSender.sendSms(
             smsTemplateId,
             mobileNumber,
-            personalisation.getPersonalisation(callback),
+            personalisationValues,
             referenceId,
             callback
         );
     }
+
+    private static List<String> sent(List<String> notificationIds) {
+        return notificationIds.stream().filter(StringUtils::isNotBlank).collect(Collectors.toList());
+    }
 }
@@ -1,24 +1,41 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.holidaydates;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
 @Component
-@Configuration
 public class HolidayLoader {
+    static final String BUNDLED_HOLIDAYS = "bank-holidays.json";
+
     private final GovUkHolidayDatesClient govUkHolidayDatesClient;
 
     public HolidayLoader(GovUkHolidayDatesClient govUkHolidayDatesClient) {
         this.govUkHolidayDatesClient = govUkHolidayDatesClient;
     }
 
-    @Bean
     public List<LocalDate> loadHolidays() {
-        UkHolidayDates holidayDates = govUkHolidayDatesClient.getHolidayDates();
+        return toDates(govUkHolidayDatesClient.getHolidayDates());
+    }
+
+    // a copy of GOV.UK's bank-holidays.json, so the service can start when GOV.UK cannot be reached
+    public List<LocalDate> loadBundledHolidays() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        try (InputStream bundledHolidays = new ClassPathResource(BUNDLED_HOLIDAYS).getInputStream()) {
+            return toDates(objectMapper.readValue(bundledHolidays, UkHolidayDates.class));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot load bundled holidays from file: " + BUNDLED_HOLIDAYS, e);
+        }
+    }
+
+    private static List<LocalDate> toDates(UkHolidayDates holidayDates) {
         return holidayDates.getEnglandAndWales().getEvents().stream()
             .map(HolidayDate::getDate)
             .collect(Collectors.toList());
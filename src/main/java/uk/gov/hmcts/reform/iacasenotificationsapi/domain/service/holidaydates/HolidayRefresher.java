@@ -0,0 +1,119 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.holidaydates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fetches bank holidays from GOV.UK in the background, once the service has started and then
+ * periodically, and hands them to the HolidayService. GOV.UK only lists a few years either side of
+ * now, so its holidays replace the bundled ones for the years it covers and the bundled holidays are
+ * kept for every other year. When GOV.UK cannot be reached the holidays already in use are kept and
+ * it tries again at the next refresh.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "govUkHolidays.refresh.enabled", havingValue = "true")
+public class HolidayRefresher implements SmartLifecycle {
+
+    private final HolidayLoader holidayLoader;
+    private final HolidayService holidayService;
+    private final List<LocalDate> bundledHolidays;
+    private final Duration refreshInterval;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean running;
+
+    @Autowired
+    public HolidayRefresher(
+        HolidayLoader holidayLoader,
+        HolidayService holidayService,
+        @Value("${govUkHolidays.refresh.intervalHours}") long refreshIntervalHours
+    ) {
+        this(
+            holidayLoader,
+            holidayService,
+            Duration.ofHours(refreshIntervalHours),
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("holiday-refresh").daemon().factory())
+        );
+    }
+
+    public HolidayRefresher(
+        HolidayLoader holidayLoader,
+        HolidayService holidayService,
+        Duration refreshInterval,
+        ScheduledExecutorService scheduler
+    ) {
+        requireNonNull(holidayLoader, "holidayLoader must not be null");
+        requireNonNull(holidayService, "holidayService must not be null");
+        requireNonNull(refreshInterval, "refreshInterval must not be null");
+        requireNonNull(scheduler, "scheduler must not be null");
+
+        this.holidayLoader = holidayLoader;
+        this.holidayService = holidayService;
+        this.bundledHolidays = List.copyOf(holidayLoader.loadBundledHolidays());
+        this.refreshInterval = refreshInterval;
+        this.scheduler = scheduler;
+    }
+
+    public void refresh() {
+        try {
+            List<LocalDate> holidays = holidayLoader.loadHolidays();
+
+            if (holidays.isEmpty()) {
+                log.warn("GOV.UK returned no bank holidays, keeping the holidays already loaded");
+                return;
+            }
+
+            holidayService.updateHolidays(mergeOverBundledHolidays(holidays));
+            log.info("Refreshed {} bank holidays from GOV.UK", holidays.size());
+
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh bank holidays from GOV.UK, keeping the holidays already loaded", e);
+        }
+    }
+
+    private List<LocalDate> mergeOverBundledHolidays(List<LocalDate> holidays) {
+        Set<Integer> refreshedYears = holidays.stream()
+            .map(LocalDate::getYear)
+            .collect(Collectors.toSet());
+
+        return Stream.concat(
+                bundledHolidays.stream().filter(holiday -> !refreshedYears.contains(holiday.getYear())),
+                holidays.stream()
+            )
+            .sorted()
+            .toList();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
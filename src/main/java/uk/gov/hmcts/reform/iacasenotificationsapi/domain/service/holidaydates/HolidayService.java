@@ -1,32 +1,59 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.holidaydates;
 
-import java.time.DayOfWeek;
+import static java.util.Objects.requireNonNull;
+
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+/*
+ * Starts from the holidays bundled with the service, so it never waits on GOV.UK, and is given
+ * newer holidays by HolidayRefresher. Each update builds a new calendar before swapping it in, so a
+ * calculation never sees a half built one.
+ */
 @Component
 public class HolidayService {
-    private final List<LocalDate> holidays;
+    private final AtomicReference<WorkingDayCalendar> calendar = new AtomicReference<>();
 
     public HolidayService(List<LocalDate> holidays) {
-        this.holidays = holidays;
+        updateHolidays(holidays);
+    }
+
+    @Autowired
+    public HolidayService(HolidayLoader holidayLoader) {
+        this(holidayLoader.loadBundledHolidays());
+    }
+
+    public void updateHolidays(List<LocalDate> holidays) {
+        requireNonNull(holidays, "holidays must not be null");
+
+        calendar.set(new WorkingDayCalendar(holidays));
     }
 
     public boolean isHoliday(ZonedDateTime zonedDateTime) {
-        return holidays.contains(zonedDateTime.toLocalDate());
+        return calendar.get().isHoliday(zonedDateTime.toLocalDate());
     }
 
     public boolean isHoliday(LocalDate localDate) {
-        return holidays.contains(localDate);
+        return calendar.get().isHoliday(localDate);
     }
 
     public boolean isWeekend(ZonedDateTime date) {
-        return date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+        return WorkingDayCalendar.isWeekend(date.toLocalDate());
     }
 
     public boolean isWeekend(LocalDate localDate) {
-        return localDate.getDayOfWeek() == DayOfWeek.SATURDAY || localDate.getDayOfWeek() == DayOfWeek.SUNDAY;
+        return WorkingDayCalendar.isWeekend(localDate);
+    }
+
+    public LocalDate plusWorkingDays(LocalDate localDate, int workingDays) {
+        return calendar.get().plusWorkingDays(localDate, workingDays);
+    }
+
+    public LocalDate nextWorkingDayOnOrAfter(LocalDate localDate) {
+        return calendar.get().nextWorkingDayOnOrAfter(localDate);
     }
 }
@@ -0,0 +1,137 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.holidaydates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Working days in England and Wales, indexed so that "the nth working day after a date" is two array
+ * lookups. The index runs from the start of the first year with a known holiday to the end of
+ * {@link #YEARS_AFTER_LAST_HOLIDAY} years after the last, where only weekends are left to skip.
+ * Dates outside it are still answered, by walking a day at a time.
+ */
+public final class WorkingDayCalendar {
+
+    static final int YEARS_AFTER_LAST_HOLIDAY = 5;
+
+    private final Set<LocalDate> holidays;
+    private final LocalDate firstIndexedDay;
+    private final int indexedDays;
+
+    // workingDaysBefore[i] is the number of working days from firstIndexedDay up to, not including, day i
+    private final int[] workingDaysBefore;
+    // workingDays[n] is the offset from firstIndexedDay of the nth working day in the index
+    private final int[] workingDays;
+
+    public WorkingDayCalendar(Collection<LocalDate> holidays) {
+        requireNonNull(holidays, "holidays must not be null");
+
+        this.holidays = Set.copyOf(holidays);
+
+        if (this.holidays.isEmpty()) {
+            this.firstIndexedDay = LocalDate.EPOCH;
+            this.indexedDays = 0;
+        } else {
+            LocalDate firstHoliday = this.holidays.stream().min(LocalDate::compareTo).get();
+            LocalDate lastHoliday = this.holidays.stream().max(LocalDate::compareTo).get();
+
+            this.firstIndexedDay = firstHoliday.withDayOfYear(1);
+            this.indexedDays = (int) ChronoUnit.DAYS.between(
+                firstIndexedDay,
+                lastHoliday.plusYears(YEARS_AFTER_LAST_HOLIDAY + 1L).withDayOfYear(1)
+            );
+        }
+
+        this.workingDaysBefore = new int[indexedDays + 1];
+        int[] offsets = new int[indexedDays];
+        int workingDayCount = 0;
+
+        for (int offset = 0; offset < indexedDays; offset++) {
+            workingDaysBefore[offset] = workingDayCount;
+            if (!isNonWorkingDay(firstIndexedDay.plusDays(offset))) {
+                offsets[workingDayCount++] = offset;
+            }
+        }
+        workingDaysBefore[indexedDays] = workingDayCount;
+
+        this.workingDays = Arrays.copyOf(offsets, workingDayCount);
+    }
+
+    public boolean isHoliday(LocalDate date) {
+        return holidays.contains(date);
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        int offset = offsetOf(date);
+        if (offset < 0) {
+            return !isNonWorkingDay(date);
+        }
+        return workingDaysBefore[offset + 1] > workingDaysBefore[offset];
+    }
+
+    /*
+     * The working day the given number of working days after the date, so one working day after a
+     * Friday is the following Monday. Zero working days is the date itself, working day or not.
+     */
+    public LocalDate plusWorkingDays(LocalDate date, int workingDaysToAdd) {
+        requireNonNull(date, "date must not be null");
+        if (workingDaysToAdd < 0) {
+            throw new IllegalArgumentException("workingDaysToAdd must not be negative");
+        }
+
+        if (workingDaysToAdd == 0) {
+            return date;
+        }
+
+        int offset = offsetOf(date);
+        if (offset >= 0) {
+            int target = workingDaysBefore[offset + 1] + workingDaysToAdd - 1;
+            if (target < workingDays.length) {
+                return firstIndexedDay.plusDays(workingDays[target]);
+            }
+        }
+
+        LocalDate workingDay = date;
+        int remaining = workingDaysToAdd;
+        while (remaining > 0) {
+            workingDay = workingDay.plusDays(1);
+            if (isWorkingDay(workingDay)) {
+                remaining--;
+            }
+        }
+        return workingDay;
+    }
+
+    public LocalDate nextWorkingDayOnOrAfter(LocalDate date) {
+        requireNonNull(date, "date must not be null");
+
+        int offset = offsetOf(date);
+        if (offset >= 0 && workingDaysBefore[offset] < workingDays.length) {
+            return firstIndexedDay.plusDays(workingDays[workingDaysBefore[offset]]);
+        }
+
+        LocalDate workingDay = date;
+        while (!isWorkingDay(workingDay)) {
+            workingDay = workingDay.plusDays(1);
+        }
+        return workingDay;
+    }
+
+    public static boolean isWeekend(LocalDate date) {
+        return date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+    }
+
+    private boolean isNonWorkingDay(LocalDate date) {
+        return isWeekend(date) || holidays.contains(date);
+    }
+
+    private int offsetOf(LocalDate date) {
+        long offset = ChronoUnit.DAYS.between(firstIndexedDay, date);
+        return offset >= 0 && offset < indexedDays ? (int) offset : -1;
+    }
+}
@@ -4,32 +4,54 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PostSubmitCallbackResponse;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PostSubmitCallbackStage;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.DeferrablePostSubmitCallbackHandler;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.PostSubmitCallbackHandler;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.metrics.CallbackMetrics;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.outbox.NotificationOutbox;
 import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.CcdEventAuthorizor;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
 
 
 @Component
 public class PostSubmitCallbackDispatcher<T extends CaseData> {
     private final CcdEventAuthorizor ccdEventAuthorizor;
     private final List<PostSubmitCallbackHandler<T>> sortedCallbackHandlers;
+    private final Optional<NotificationOutbox> notificationOutbox;
+    private final CallbackMetrics callbackMetrics;
+    private final CallbackTracer callbackTracer;
 
+    @Autowired
     public PostSubmitCallbackDispatcher(
         CcdEventAuthorizor ccdEventAuthorizor,
-        List<PostSubmitCallbackHandler<T>> callbackHandlers
+        List<PostSubmitCallbackHandler<T>> callbackHandlers,
+        Optional<NotificationOutbox> notificationOutbox,
+        CallbackMetrics callbackMetrics,
+        CallbackTracer callbackTracer
     ) {
         requireNonNull(ccdEventAuthorizor, "ccdEventAuthorizor must not be null");
         requireNonNull(callbackHandlers, "callbackHandlers must not be null");
+        requireNonNull(notificationOutbox, "notificationOutbox must not be null");
+        requireNonNull(callbackMetrics, "callbackMetrics must not be null");
+        requireNonNull(callbackTracer, "callbackTracer must not be null");
         this.ccdEventAuthorizor = ccdEventAuthorizor;
         this.sortedCallbackHandlers = callbackHandlers.stream()
             // sorting handlers by handler class name
             .sorted(Comparator.comparing(h -> h.getClass().getSimpleName()))
             .collect(Collectors.toList());
+        this.notificationOutbox = notificationOutbox;
+        this.callbackMetrics = callbackMetrics;
+        this.callbackTracer = callbackTracer;
+
+        notificationOutbox.ifPresent(outbox -> outbox.registerSender(this::sendDeferred));
     }
 
     public PostSubmitCallbackResponse handle(PostSubmitCallbackStage callbackStage,
@@ -39,15 +61,43 @@ public class PostSubmitCallbackDispatcher<T extends CaseData> {
         requireNonNull(callback, "callback must not be null");
         ccdEventAuthorizor.throwIfNotAuthorized(callback.getEvent());
 
+        Map<String, String> spanAttributes = CallbackTracer.callbackAttributes(callback);
+        spanAttributes.put("stage", callbackStage.toString());
+
+        return callbackMetrics.timeDispatch("postSubmit", callbackStage, callback.getEvent(), () ->
+            callbackTracer.inSpan("callback.dispatch postSubmit", spanAttributes, () ->
+                dispatch(callbackStage, callback)
+            )
+        );
+    }
+
+    private PostSubmitCallbackResponse dispatch(PostSubmitCallbackStage callbackStage, Callback<T> callback) {
+
         PostSubmitCallbackResponse callbackResponse =
             new PostSubmitCallbackResponse();
 
+        boolean sendsDeferred = false;
+
         for (PostSubmitCallbackHandler<T> callbackHandler : sortedCallbackHandlers) {
 
-            if (callbackHandler.canHandle(callbackStage, callback)) {
+            if (callbackMetrics.timeCanHandle(callbackHandler, () -> callbackHandler.canHandle(callbackStage, callback))) {
 
-                PostSubmitCallbackResponse callbackResponseFromHandler =
-                    callbackHandler.handle(callbackStage, callback);
+                PostSubmitCallbackResponse callbackResponseFromHandler;
+
+                Map<String, String> handlerAttributes = Map.of("handler", callbackMetrics.nameOf(callbackHandler));
+
+                if (notificationOutbox.isPresent() && isDeferrable(callbackHandler)) {
+                    DeferrablePostSubmitCallbackHandler<T> deferrableHandler =
+                        (DeferrablePostSubmitCallbackHandler<T>) callbackHandler;
+                    callbackResponseFromHandler = callbackTracer.inSpan("callback.handler", handlerAttributes, () ->
+                        deferrableHandler.respond(callbackStage, callback)
+                    );
+                    sendsDeferred = true;
+                } else {
+                    callbackResponseFromHandler = callbackTracer.inSpan("callback.handler", handlerAttributes, () ->
+                        callbackHandler.handle(callbackStage, callback)
+                    );
+                }
 
                 callbackResponseFromHandler
                     .getConfirmationHeader()
@@ -59,6 +109,30 @@ public class PostSubmitCallbackDispatcher<T extends CaseData> {
             }
         }
 
+        // when the callback cannot be journalled its notifications are sent before answering CCD, as before
+        if (sendsDeferred && !notificationOutbox.get().enqueue(callbackStage, callback)) {
+            sendDeferred(callbackStage, callback);
+        }
+
         return callbackResponse;
     }
+
+    @SuppressWarnings("unchecked")
+    private void sendDeferred(PostSubmitCallbackStage callbackStage, Callback<? extends CaseData> callback) {
+
+        Callback<T> typedCallback = (Callback<T>) callback;
+
+        for (PostSubmitCallbackHandler<T> callbackHandler : sortedCallbackHandlers) {
+
+            if (isDeferrable(callbackHandler) && callbackHandler.canHandle(callbackStage, typedCallback)) {
+
+                ((DeferrablePostSubmitCallbackHandler<T>) callbackHandler).send(callbackStage, typedCallback);
+            }
+        }
+    }
+
+    private boolean isDeferrable(PostSubmitCallbackHandler<T> callbackHandler) {
+        return callbackHandler instanceof DeferrablePostSubmitCallbackHandler<T> deferrableHandler
+            && !deferrableHandler.needsRequestToSend();
+    }
 }
@@ -2,36 +2,112 @@ package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.CallbackDeadline;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseDetails;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.DispatchPriority;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PreSubmitCallbackResponse;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PreSubmitCallbackStage;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.PreSubmitCallbackHandler;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.metrics.CallbackMetrics;
 import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.CcdEventAuthorizor;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
 
 @Component
 public class PreSubmitCallbackDispatcher<T extends CaseData> {
 
+    private static final DispatchPriority[] DISPATCH_ORDER = {
+        DispatchPriority.EARLIEST,
+        DispatchPriority.EARLY,
+        DispatchPriority.LATE,
+        DispatchPriority.LATEST
+    };
+
     private final CcdEventAuthorizor ccdEventAuthorizor;
-    private final List<PreSubmitCallbackHandler<T>> sortedCallbackHandlers;
+    private final Map<PreSubmitCallbackStage, Map<Event, Map<DispatchPriority, List<PreSubmitCallbackHandler<T>>>>>
+        callbackHandlersByStageAndEvent;
+    private final Duration callbackBudget;
+    private final CallbackMetrics callbackMetrics;
+    private final CallbackTracer callbackTracer;
 
+    @Autowired
     public PreSubmitCallbackDispatcher(
         CcdEventAuthorizor ccdEventAuthorizor,
-        List<PreSubmitCallbackHandler<T>> callbackHandlers
+        List<PreSubmitCallbackHandler<T>> callbackHandlers,
+        @Value("${callbackDeadline.budgetMillis}") long callbackBudgetMillis,
+        CallbackMetrics callbackMetrics,
+        CallbackTracer callbackTracer
     ) {
         requireNonNull(ccdEventAuthorizor, "ccdEventAuthorizor must not be null");
         requireNonNull(callbackHandlers, "callbackHandlers must not be null");
+        requireNonNull(callbackMetrics, "callbackMetrics must not be null");
+        requireNonNull(callbackTracer, "callbackTracer must not be null");
         this.ccdEventAuthorizor = ccdEventAuthorizor;
-        this.sortedCallbackHandlers = callbackHandlers.stream()
+        this.callbackBudget = Duration.ofMillis(callbackBudgetMillis);
+        this.callbackMetrics = callbackMetrics;
+        this.callbackTracer = callbackTracer;
+        List<PreSubmitCallbackHandler<T>> sortedCallbackHandlers = callbackHandlers.stream()
             // sorting handlers by handler class name
             .sorted(Comparator.comparing(h -> h.getClass().getSimpleName()))
             .collect(Collectors.toList());
+        this.callbackHandlersByStageAndEvent = indexCallbackHandlers(sortedCallbackHandlers);
+    }
+
+    private Map<PreSubmitCallbackStage, Map<Event, Map<DispatchPriority, List<PreSubmitCallbackHandler<T>>>>>
+        indexCallbackHandlers(List<PreSubmitCallbackHandler<T>> sortedCallbackHandlers) {
+
+        Map<PreSubmitCallbackStage, Map<Event, Map<DispatchPriority, List<PreSubmitCallbackHandler<T>>>>> index =
+            new EnumMap<>(PreSubmitCallbackStage.class);
+
+        for (PreSubmitCallbackStage callbackStage : PreSubmitCallbackStage.values()) {
+            Map<Event, Map<DispatchPriority, List<PreSubmitCallbackHandler<T>>>> handlersByEvent =
+                new EnumMap<>(Event.class);
+            for (Event event : Event.values()) {
+                Map<DispatchPriority, List<PreSubmitCallbackHandler<T>>> handlersByPriority =
+                    new EnumMap<>(DispatchPriority.class);
+                for (DispatchPriority dispatchPriority : DispatchPriority.values()) {
+                    handlersByPriority.put(dispatchPriority, new ArrayList<>());
+                }
+                handlersByEvent.put(event, handlersByPriority);
+            }
+            index.put(callbackStage, handlersByEvent);
+        }
+
+        // handlers are appended in sorted order, so each candidate list keeps the original dispatch order
+        for (PreSubmitCallbackHandler<T> callbackHandler : sortedCallbackHandlers) {
+
+            Set<PreSubmitCallbackStage> handledStages = callbackHandler.getHandledStage()
+                .map(EnumSet::of)
+                .orElseGet(() -> EnumSet.allOf(PreSubmitCallbackStage.class));
+
+            Set<Event> handledEvents = callbackHandler.getHandledEvents()
+                .orElseGet(() -> EnumSet.allOf(Event.class));
+
+            DispatchPriority dispatchPriority = callbackHandler.getDispatchPriority();
+
+            for (PreSubmitCallbackStage callbackStage : handledStages) {
+                for (Event event : handledEvents) {
+                    index.get(callbackStage).get(event).get(dispatchPriority).add(callbackHandler);
+                }
+            }
+        }
+
+        return index;
     }
 
     public PreSubmitCallbackResponse<T> handle(
@@ -43,6 +119,25 @@ public class PreSubmitCallbackDispatcher<T extends CaseData> {
 
         ccdEventAuthorizor.throwIfNotAuthorized(callback.getEvent());
 
+        // a budget of zero leaves callbacks without a deadline
+        Optional<CallbackDeadline> deadline = callbackBudget.isZero() || callbackBudget.isNegative()
+            ? Optional.empty()
+            : Optional.of(CallbackDeadline.after(callbackBudget));
+
+        Map<String, String> spanAttributes = CallbackTracer.callbackAttributes(callback);
+        spanAttributes.put("stage", callbackStage.toString());
+
+        return callbackMetrics.timeDispatch("preSubmit", callbackStage, callback.getEvent(), () ->
+            callbackTracer.inSpan("callback.dispatch preSubmit", spanAttributes, () ->
+                CallbackDeadline.runWithin(deadline, () -> dispatch(callbackStage, callback))
+            )
+        );
+    }
+
+    private PreSubmitCallbackResponse<T> dispatch(
+        PreSubmitCallbackStage callbackStage,
+        Callback<T> callback
+    ) {
         T caseData =
             callback
                 .getCaseDetails()
@@ -51,41 +146,32 @@ public class PreSubmitCallbackDispatcher<T extends CaseData> {
         PreSubmitCallbackResponse<T> callbackResponse =
             new PreSubmitCallbackResponse<>(caseData);
 
-        dispatchToHandlers(callbackStage, callback, sortedCallbackHandlers, callbackResponse, DispatchPriority.EARLIEST);
-        dispatchToHandlers(callbackStage, callback, sortedCallbackHandlers, callbackResponse, DispatchPriority.EARLY);
-        dispatchToHandlers(callbackStage, callback, sortedCallbackHandlers, callbackResponse, DispatchPriority.LATE);
-        dispatchToHandlers(callbackStage, callback, sortedCallbackHandlers, callbackResponse, DispatchPriority.LATEST);
-
-        return callbackResponse;
-    }
+        Map<DispatchPriority, List<PreSubmitCallbackHandler<T>>> candidateHandlers =
+            callbackHandlersByStageAndEvent
+                .get(callbackStage)
+                .get(callback.getEvent());
 
-    private void dispatchToHandlers(
-        PreSubmitCallbackStage callbackStage,
-        Callback<T> callback,
-        List<PreSubmitCallbackHandler<T>> callbackHandlers,
-        PreSubmitCallbackResponse<T> callbackResponse,
-        DispatchPriority dispatchPriority
-    ) {
-        for (PreSubmitCallbackHandler<T> callbackHandler : callbackHandlers) {
+        // handlers are given a snapshot of the callback carrying the latest case data, which is only
+        // rebuilt when an earlier handler has replaced the data, rather than one copy per handler
+        Callback<T> callbackForHandlers = null;
 
-            if (callbackHandler.getDispatchPriority() == dispatchPriority) {
+        for (DispatchPriority dispatchPriority : DISPATCH_ORDER) {
+            for (PreSubmitCallbackHandler<T> callbackHandler : candidateHandlers.get(dispatchPriority)) {
 
-                Callback<T> callbackForHandler = new Callback<>(
-                    new CaseDetails<>(
-                        callback.getCaseDetails().getId(),
-                        callback.getCaseDetails().getJurisdiction(),
-                        callback.getCaseDetails().getState(),
-                        callbackResponse.getData(),
-                        callback.getCaseDetails().getCreatedDate()
-                    ),
-                    callback.getCaseDetailsBefore(),
-                    callback.getEvent()
-                );
+                if (callbackForHandlers == null
+                    || callbackForHandlers.getCaseDetails().getCaseData() != callbackResponse.getData()) {
+                    callbackForHandlers = snapshotWithCaseData(callback, callbackResponse.getData());
+                }
 
-                if (callbackHandler.canHandle(callbackStage, callbackForHandler)) {
+                Callback<T> handlerCallback = callbackForHandlers;
+                if (callbackMetrics.timeCanHandle(callbackHandler, () ->
+                    callbackHandler.canHandle(callbackStage, handlerCallback))) {
 
-                    PreSubmitCallbackResponse<T> callbackResponseFromHandler =
-                        callbackHandler.handle(callbackStage, callbackForHandler);
+                    PreSubmitCallbackResponse<T> callbackResponseFromHandler = callbackTracer.inSpan(
+                        "callback.handler",
+                        Map.of("handler", callbackMetrics.nameOf(callbackHandler)),
+                        () -> callbackHandler.handle(callbackStage, handlerCallback)
+                    );
 
                     callbackResponse.setData(callbackResponseFromHandler.getData());
 
@@ -95,5 +181,22 @@ public class PreSubmitCallbackDispatcher<T extends CaseData> {
                 }
             }
         }
+
+        return callbackResponse;
+    }
+
+    private Callback<T> snapshotWithCaseData(Callback<T> callback, T caseData) {
+
+        return new Callback<>(
+            new CaseDetails<>(
+                callback.getCaseDetails().getId(),
+                callback.getCaseDetails().getJurisdiction(),
+                callback.getCaseDetails().getState(),
+                caseData,
+                callback.getCaseDetails().getCreatedDate()
+            ),
+            callback.getCaseDetailsBefore(),
+            callback.getEvent()
+        );
     }
 }
@@ -6,26 +6,40 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StreamUtils;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.BailHearingLocation;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.HearingCentre;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.StringProvider;
 
+/*
+ * Strings are read once when the service starts and never change, so lookups need no locking. The
+ * file is checked for a name and address for every hearing centre, and an address for every bail
+ * hearing location, so a missing entry stops the service starting rather than failing a callback.
+ */
 @Service
 public class TsvStringProvider implements StringProvider {
 
-    private final String tsvStringsFileLocation;
+    private static final String HEARING_CENTRE_NAME = "hearingCentreName";
+    private static final String HEARING_CENTRE_ADDRESS = "hearingCentreAddress";
 
-    private final Map<String, Map<String, String>> stringsByGroup = new HashMap<>();
+    private final Map<String, Map<String, String>> stringsByGroup;
 
     public TsvStringProvider(
         @Value("${tsvStringsFileLocation}") String tsvStringsFileLocation
     ) {
-        this.tsvStringsFileLocation = tsvStringsFileLocation;
+        requireNonNull(tsvStringsFileLocation, "tsvStringsFileLocation must not be null");
+
+        this.stringsByGroup = loadTsv(tsvStringsFileLocation);
+
+        validate(tsvStringsFileLocation);
     }
 
     public Optional<String> get(
@@ -35,8 +49,6 @@ public class TsvStringProvider implements StringProvider {
         requireNonNull(group, "group must not be null");
         requireNonNull(code, "code must not be null");
 
-        tryLoadTsv();
-
         return Optional.ofNullable(
             stringsByGroup
                 .getOrDefault(group, Collections.emptyMap())
@@ -44,11 +56,9 @@ public class TsvStringProvider implements StringProvider {
         );
     }
 
-    private synchronized void tryLoadTsv() {
+    private static Map<String, Map<String, String>> loadTsv(String tsvStringsFileLocation) {
 
-        if (!stringsByGroup.isEmpty()) {
-            return;
-        }
+        Map<String, Map<String, String>> strings = new HashMap<>();
 
         try {
 
@@ -64,7 +74,7 @@ public class TsvStringProvider implements StringProvider {
                 .of(lines)
                 .map(line -> line.split("\t"))
                 .forEach(fields ->
-                    stringsByGroup.computeIfAbsent(
+                    strings.computeIfAbsent(
                         fields[0],
                         k -> new HashMap<>()
                     ).put(
@@ -74,7 +84,37 @@ public class TsvStringProvider implements StringProvider {
                 );
 
         } catch (IOException | ArrayIndexOutOfBoundsException e) {
-            throw new IllegalStateException("Cannot load TSV strings from file: " + tsvStringsFileLocation);
+            throw new IllegalStateException("Cannot load TSV strings from file: " + tsvStringsFileLocation, e);
+        }
+
+        return strings.entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, group -> Map.copyOf(group.getValue())));
+    }
+
+    private void validate(String tsvStringsFileLocation) {
+
+        List<String> missing = Stream.concat(
+            Stream.of(HearingCentre.values()).flatMap(hearingCentre -> Stream.of(
+                missing(HEARING_CENTRE_NAME, hearingCentre.getValue()),
+                missing(HEARING_CENTRE_ADDRESS, hearingCentre.getValue())
+            )),
+            Stream.of(BailHearingLocation.values())
+                .map(bailHearingLocation -> missing(HEARING_CENTRE_ADDRESS, bailHearingLocation.getValue()))
+        )
+            .flatMap(Optional::stream)
+            .distinct()
+            .toList();
+
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException(
+                "TSV strings file " + tsvStringsFileLocation + " is missing: " + String.join(", ", missing)
+            );
         }
     }
+
+    private Optional<String> missing(String group, String code) {
+        return get(group, code).isPresent()
+            ? Optional.empty()
+            : Optional.of(group + "." + code);
+    }
 }
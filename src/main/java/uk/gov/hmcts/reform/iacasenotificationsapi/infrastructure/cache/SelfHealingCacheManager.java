@@ -0,0 +1,278 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Uses the Redis caches while Redis answers and local in memory caches while it does not. Redis is
+ * pinged in the background, so the caches move to local ones when Redis goes away and back to Redis
+ * when it returns, without a restart. A Redis error during a cache operation also moves to the
+ * local caches, until the next successful ping, and the operation is retried there. Local entries
+ * are dropped when moving back to Redis, so nothing cached while Redis was away is served after.
+ */
+@Slf4j
+public class SelfHealingCacheManager implements CacheManager, SmartLifecycle {
+
+    public enum Mode {
+        REDIS,
+        LOCAL
+    }
+
+    private final Optional<CacheManager> redisCacheManager;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final Duration localEntryTtl;
+    private final long localMaximumSize;
+    private final Duration probeInterval;
+    private final ScheduledExecutorService prober;
+    private final AtomicReference<Mode> mode = new AtomicReference<>();
+    private final ConcurrentMap<String, CaffeineCache> localCaches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+
+    public SelfHealingCacheManager(
+        Optional<CacheManager> redisCacheManager,
+        RedisConnectionFactory redisConnectionFactory,
+        Duration localEntryTtl,
+        long localMaximumSize,
+        Duration probeInterval,
+        ScheduledExecutorService prober,
+        MeterRegistry meterRegistry
+    ) {
+        requireNonNull(redisCacheManager, "redisCacheManager must not be null");
+        requireNonNull(redisConnectionFactory, "redisConnectionFactory must not be null");
+        requireNonNull(localEntryTtl, "localEntryTtl must not be null");
+        requireNonNull(probeInterval, "probeInterval must not be null");
+        requireNonNull(prober, "prober must not be null");
+        requireNonNull(meterRegistry, "meterRegistry must not be null");
+
+        this.redisCacheManager = redisCacheManager;
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.localEntryTtl = localEntryTtl;
+        this.localMaximumSize = localMaximumSize;
+        this.probeInterval = probeInterval;
+        this.prober = prober;
+
+        Gauge.builder("cache.redis.active", mode, current -> current.get() == Mode.REDIS ? 1 : 0)
+            .register(meterRegistry);
+
+        probe();
+    }
+
+    public Mode getMode() {
+        return mode.get();
+    }
+
+    public void probe() {
+        if (redisCacheManager.isEmpty()) {
+            useLocal(new IllegalStateException("Redis caches are not configured"));
+            return;
+        }
+
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.ping();
+            useRedis();
+        } catch (Exception e) {
+            useLocal(e);
+        }
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, SwitchingCache::new);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> cacheNames = new LinkedHashSet<>();
+        redisCacheManager.ifPresent(cacheManager -> cacheNames.addAll(cacheManager.getCacheNames()));
+        cacheNames.addAll(caches.keySet());
+        return cacheNames;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+
+        if (redisCacheManager.isEmpty()) {
+            return;
+        }
+
+        prober.scheduleWithFixedDelay(
+            this::probe,
+            probeInterval.toMillis(),
+            probeInterval.toMillis(),
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        prober.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void useRedis() {
+        Mode previous = mode.getAndSet(Mode.REDIS);
+        if (previous != Mode.REDIS) {
+            localCaches.values().forEach(CaffeineCache::clear);
+            log.info("Redis connection successful - using Redis caches");
+        }
+    }
+
+    private void useLocal(Exception cause) {
+        Mode previous = mode.getAndSet(Mode.LOCAL);
+        if (previous != Mode.LOCAL) {
+            log.warn("Redis unavailable, using local caches until it returns: {}", cause.getMessage());
+        }
+    }
+
+    private Cache localCache(String name) {
+        return localCaches.computeIfAbsent(name, cacheName -> new CaffeineCache(
+            cacheName,
+            Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localEntryTtl)
+                .build(),
+            false
+        ));
+    }
+
+    private class SwitchingCache implements Cache {
+
+        private final String name;
+
+        SwitchingCache(String name) {
+            this.name = name;
+        }
+
+        private <R> R apply(Function<Cache, R> operation) {
+            if (mode.get() == Mode.REDIS) {
+                Cache redisCache = redisCacheManager.get().getCache(name);
+                if (redisCache != null) {
+                    try {
+                        return operation.apply(redisCache);
+                    } catch (ValueRetrievalException e) {
+                        throw e;
+                    } catch (RuntimeException e) {
+                        useLocal(e);
+                    }
+                }
+            }
+            return operation.apply(localCache(name));
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return apply(Cache::getNativeCache);
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            return apply(cache -> cache.get(key));
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return apply(cache -> cache.get(key, type));
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            // when Redis fails after loading, the value already loaded goes into the local cache
+            LoadOnce<T> loadOnce = new LoadOnce<>(valueLoader);
+            return apply(cache -> cache.get(key, loadOnce));
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            apply(cache -> {
+                cache.put(key, value);
+                return null;
+            });
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return apply(cache -> cache.putIfAbsent(key, value));
+        }
+
+        @Override
+        public void evict(Object key) {
+            apply(cache -> {
+                cache.evict(key);
+                return null;
+            });
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            return apply(cache -> cache.evictIfPresent(key));
+        }
+
+        @Override
+        public void clear() {
+            apply(cache -> {
+                cache.clear();
+                return null;
+            });
+        }
+
+        @Override
+        public boolean invalidate() {
+            return apply(Cache::invalidate);
+        }
+    }
+
+    private static final class LoadOnce<T> implements Callable<T> {
+
+        private final Callable<T> valueLoader;
+        private boolean loaded;
+        private T value;
+
+        private LoadOnce(Callable<T> valueLoader) {
+            this.valueLoader = valueLoader;
+        }
+
+        @Override
+        public T call() throws Exception {
+            if (!loaded) {
+                value = valueLoader.call();
+                loaded = true;
+            }
+            return value;
+        }
+    }
+}
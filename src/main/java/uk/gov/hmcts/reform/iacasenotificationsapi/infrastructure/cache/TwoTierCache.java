@@ -0,0 +1,160 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * A cache held in memory in front of a shared one. Reads are answered from memory when they can,
+ * and otherwise from the shared cache, whose answer is then kept in memory. Writes and evictions go
+ * to both. Evictions made by other instances are not seen, so an entry can be served from memory for
+ * up to the in memory time to live after it has left the shared cache.
+ */
+public class TwoTierCache implements org.springframework.cache.Cache {
+
+    private final String name;
+    private final Cache<Object, Object> nearCache;
+    private final org.springframework.cache.Cache sharedCache;
+    private final Counter nearHits;
+    private final Counter sharedHits;
+    private final Counter misses;
+
+    public TwoTierCache(
+        String name,
+        Cache<Object, Object> nearCache,
+        org.springframework.cache.Cache sharedCache,
+        MeterRegistry meterRegistry
+    ) {
+        requireNonNull(name, "name must not be null");
+        requireNonNull(nearCache, "nearCache must not be null");
+        requireNonNull(sharedCache, "sharedCache must not be null");
+        requireNonNull(meterRegistry, "meterRegistry must not be null");
+
+        this.name = name;
+        this.nearCache = nearCache;
+        this.sharedCache = sharedCache;
+        this.nearHits = lookups(meterRegistry, name, "near");
+        this.sharedHits = lookups(meterRegistry, name, "shared");
+        this.misses = lookups(meterRegistry, name, "miss");
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("cache.twoTier.lookups")
+            .tag("cache", name)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return nearCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object nearValue = nearCache.getIfPresent(key);
+        if (nearValue != null) {
+            nearHits.increment();
+            return new SimpleValueWrapper(nearValue);
+        }
+
+        ValueWrapper sharedValue = sharedCache.get(key);
+        if (sharedValue == null || sharedValue.get() == null) {
+            misses.increment();
+            return sharedValue;
+        }
+
+        sharedHits.increment();
+        nearCache.put(key, sharedValue.get());
+        return sharedValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null || value.get() == null) {
+            return null;
+        }
+        if (type != null && !type.isInstance(value.get())) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value.get()
+            );
+        }
+        return (T) value.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object nearValue = nearCache.getIfPresent(key);
+        if (nearValue != null) {
+            nearHits.increment();
+            return (T) nearValue;
+        }
+
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = sharedCache.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        (loaded.get() ? misses : sharedHits).increment();
+        if (value != null) {
+            nearCache.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        sharedCache.put(key, value);
+        if (value == null) {
+            nearCache.invalidate(key);
+        } else {
+            nearCache.put(key, value);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = sharedCache.putIfAbsent(key, value);
+        nearCache.invalidate(key);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        sharedCache.evict(key);
+        nearCache.invalidate(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = sharedCache.evictIfPresent(key);
+        nearCache.invalidate(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        sharedCache.clear();
+        nearCache.invalidateAll();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = sharedCache.invalidate();
+        nearCache.invalidateAll();
+        return invalidated;
+    }
+}
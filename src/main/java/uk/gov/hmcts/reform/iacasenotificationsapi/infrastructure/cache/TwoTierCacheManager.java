@@ -0,0 +1,92 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/*
+ * Puts a small, short lived in memory cache in front of every cache of the shared cache manager, so
+ * values looked up on most requests, like IDAM user info and the system user token, are served
+ * without a round trip to Redis and the decryption and deserialisation that follow it.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager sharedCacheManager;
+    private final Duration nearCacheTtl;
+    private final long nearCacheMaximumSize;
+    private final MeterRegistry meterRegistry;
+    private final Ticker ticker;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(
+        CacheManager sharedCacheManager,
+        Duration nearCacheTtl,
+        long nearCacheMaximumSize,
+        MeterRegistry meterRegistry
+    ) {
+        this(sharedCacheManager, nearCacheTtl, nearCacheMaximumSize, meterRegistry, Ticker.systemTicker());
+    }
+
+    public TwoTierCacheManager(
+        CacheManager sharedCacheManager,
+        Duration nearCacheTtl,
+        long nearCacheMaximumSize,
+        MeterRegistry meterRegistry,
+        Ticker ticker
+    ) {
+        requireNonNull(sharedCacheManager, "sharedCacheManager must not be null");
+        requireNonNull(nearCacheTtl, "nearCacheTtl must not be null");
+        requireNonNull(meterRegistry, "meterRegistry must not be null");
+        requireNonNull(ticker, "ticker must not be null");
+
+        this.sharedCacheManager = sharedCacheManager;
+        this.nearCacheTtl = nearCacheTtl;
+        this.nearCacheMaximumSize = nearCacheMaximumSize;
+        this.meterRegistry = meterRegistry;
+        this.ticker = ticker;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache sharedCache = sharedCacheManager.getCache(name);
+        if (sharedCache == null) {
+            return null;
+        }
+
+        return caches.computeIfAbsent(name, cacheName -> twoTierCache(cacheName, sharedCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return sharedCacheManager.getCacheNames();
+    }
+
+    private Cache twoTierCache(String name, Cache sharedCache) {
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nearCache = Caffeine.newBuilder()
+            .maximumSize(nearCacheMaximumSize)
+            .expireAfterWrite(nearCacheTtl)
+            .ticker(ticker)
+            .build();
+
+        Gauge.builder("cache.twoTier.near.size", nearCache, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+            .tag("cache", name)
+            .register(meterRegistry);
+
+        return new TwoTierCache(name, nearCache, sharedCache, meterRegistry);
+    }
+}
@@ -36,7 +36,7 @@ public class BailGovNotifyNotificationSender implements NotificationSender<BailC
         this.senderHelper = senderHelper;
     }
 
-    public synchronized String sendEmail(
+    public String sendEmail(
         String templateId,
         String emailAddress,
         Map<String, String> personalisation,
@@ -56,7 +56,7 @@ public class BailGovNotifyNotificationSender implements NotificationSender<BailC
     }
 
     @Override
-    public synchronized String sendSms(
+    public String sendSms(
         final String templateId,
         final String phoneNumber,
         final Map<String, String> personalisation,
@@ -76,7 +76,7 @@ public class BailGovNotifyNotificationSender implements NotificationSender<BailC
     }
 
     @Override
-    public synchronized String sendLetter(
+    public String sendLetter(
         final String templateId,
         final String address,
         final Map<String, String> personalisation,
@@ -96,7 +96,7 @@ public class BailGovNotifyNotificationSender implements NotificationSender<BailC
     }
 
     @Override
-    public synchronized String sendPrecompiledLetter(
+    public String sendPrecompiledLetter(
         final String reference,
         final InputStream stream
     ) {
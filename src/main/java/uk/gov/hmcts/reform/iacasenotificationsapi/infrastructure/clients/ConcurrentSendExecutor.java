@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs each send on a virtual thread of its own, with at most {@code maximumConcurrency} of them
+ * sending at once. Sends over the limit wait on their own thread for a permit, so handing a send
+ * over never blocks the caller.
+ */
+public class ConcurrentSendExecutor implements Executor, AutoCloseable {
+
+    private final ExecutorService executorService =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("notification-send-", 0).factory());
+
+    private final Semaphore permits;
+
+    public ConcurrentSendExecutor(int maximumConcurrency) {
+        if (maximumConcurrency < 1) {
+            throw new IllegalArgumentException("maximumConcurrency must be at least 1");
+        }
+
+        this.permits = new Semaphore(maximumConcurrency);
+    }
+
+    @Override
+    public void execute(Runnable send) {
+        requireNonNull(send, "send must not be null");
+
+        executorService.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                send.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        executorService.close();
+    }
+}
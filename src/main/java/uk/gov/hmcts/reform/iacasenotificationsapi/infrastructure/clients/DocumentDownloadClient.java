@@ -2,12 +2,16 @@ package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients;
 
 import static java.lang.String.join;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.Map;
 import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +21,7 @@ import uk.gov.hmcts.reform.document.DocumentDownloadClientApi;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.UserDetailsProvider;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.*;
 import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.AccessTokenProvider;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
 import uk.gov.service.notify.NotificationClient;
 import uk.gov.service.notify.NotificationClientException;
 
@@ -28,20 +33,36 @@ public class DocumentDownloadClient {
     private final AuthTokenGenerator serviceAuthTokenGenerator;
     private final AccessTokenProvider accessTokenProvider;
     private final UserDetailsProvider userDetailsProvider;
+    private final DistributionSummary downloadedBytes;
+    private final CallbackTracer callbackTracer;
 
+    @Autowired
     public DocumentDownloadClient(
         DocumentDownloadClientApi documentDownloadClientApi,
         AuthTokenGenerator serviceAuthTokenGenerator,
         @Qualifier("requestUser") AccessTokenProvider accessTokenProvider,
-        @Qualifier("requestUser") UserDetailsProvider userDetailsProvider
+        @Qualifier("requestUser") UserDetailsProvider userDetailsProvider,
+        MeterRegistry meterRegistry,
+        CallbackTracer callbackTracer
     ) {
         this.documentDownloadClientApi = documentDownloadClientApi;
         this.serviceAuthTokenGenerator = serviceAuthTokenGenerator;
         this.accessTokenProvider = accessTokenProvider;
         this.userDetailsProvider = userDetailsProvider;
+        this.downloadedBytes = DistributionSummary.builder("document.download.size")
+            .baseUnit("bytes")
+            .tag("user", "requestUser")
+            .register(meterRegistry);
+        this.callbackTracer = callbackTracer;
     }
 
     public Resource download(String documentBinaryUrl) {
+        return callbackTracer.inSpan("document.download", Map.of("user", "requestUser"), () ->
+            downloadBinary(documentBinaryUrl)
+        );
+    }
+
+    private Resource downloadBinary(String documentBinaryUrl) {
 
         URL url;
 
@@ -72,6 +93,8 @@ public class DocumentDownloadClient {
     public JSONObject getJsonObjectFromDocument(DocumentWithMetadata document) throws IOException, NotificationClientException {
         Resource resource =
                 download(document.getDocument().getDocumentBinaryUrl());
-        return NotificationClient.prepareUpload(resource.getInputStream().readAllBytes());
+        byte[] documentBytes = resource.getInputStream().readAllBytes();
+        downloadedBytes.record(documentBytes.length);
+        return NotificationClient.prepareUpload(documentBytes);
     }
 }
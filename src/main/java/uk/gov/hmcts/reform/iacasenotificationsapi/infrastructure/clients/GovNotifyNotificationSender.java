@@ -4,12 +4,17 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 import java.io.InputStream;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.NotificationSender;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
 import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper.NotificationSenderHelper;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
 
 @Service
 public class GovNotifyNotificationSender implements NotificationSender<AsylumCase> {
@@ -19,18 +24,29 @@ public class GovNotifyNotificationSender implements NotificationSender<AsylumCas
     private final int deduplicateSendsWithinSeconds;
     private final RetryableNotificationClient notificationClient;
     private final NotificationSenderHelper<AsylumCase> senderHelper;
+    private final Optional<Executor> concurrentSendExecutor;
 
+    @Autowired
     public GovNotifyNotificationSender(
         @Value("${notificationSender.deduplicateSendsWithinSeconds}") int deduplicateSendsWithinSeconds,
         RetryableNotificationClient notificationClient,
-        NotificationSenderHelper<AsylumCase> senderHelper
+        NotificationSenderHelper<AsylumCase> senderHelper,
+        @Qualifier("notificationSendExecutor") Optional<Executor> concurrentSendExecutor,
+        CallbackTracer callbackTracer
     ) {
         this.deduplicateSendsWithinSeconds = deduplicateSendsWithinSeconds;
         this.notificationClient = notificationClient;
         this.senderHelper = senderHelper;
+        // sends made concurrently still show up under the generator that made them
+        this.concurrentSendExecutor = concurrentSendExecutor.map(callbackTracer::propagating);
     }
 
-    public synchronized String sendEmail(
+    @Override
+    public Optional<Executor> getConcurrentSendExecutor() {
+        return concurrentSendExecutor;
+    }
+
+    public String sendEmail(
         String templateId,
         String emailAddress,
         Map<String, String> personalisation,
@@ -50,7 +66,7 @@ public class GovNotifyNotificationSender implements NotificationSender<AsylumCas
         );
     }
 
-    public synchronized String sendEmailWithLink(
+    public String sendEmailWithLink(
             String templateId,
             String emailAddress,
             Map<String, Object> personalisation,
@@ -68,7 +84,7 @@ public class GovNotifyNotificationSender implements NotificationSender<AsylumCas
     }
 
     @Override
-    public synchronized String sendSms(
+    public String sendSms(
         final String templateId,
         final String phoneNumber,
         final Map<String, String> personalisation,
@@ -88,7 +104,7 @@ public class GovNotifyNotificationSender implements NotificationSender<AsylumCas
     }
 
     @Override
-    public synchronized String sendLetter(
+    public String sendLetter(
         final String templateId,
         final String address,
         final Map<String, String> personalisation,
@@ -107,7 +123,7 @@ public class GovNotifyNotificationSender implements NotificationSender<AsylumCas
     }
 
     @Override
-    public synchronized String sendPrecompiledLetter(
+    public String sendPrecompiledLetter(
         final String reference,
         final InputStream stream
     ) {
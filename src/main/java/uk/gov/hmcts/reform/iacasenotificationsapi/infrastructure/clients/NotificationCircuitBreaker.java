@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Stops calling GOV.UK Notify for a while once it keeps failing. After the configured number of
+ * consecutive transient failures the circuit opens and calls are rejected straight away. Once the
+ * open period has passed a single trial call is let through, which closes the circuit again if it
+ * succeeds and re-opens it if it fails.
+ */
+public class NotificationCircuitBreaker {
+
+    private enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoTime;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    public NotificationCircuitBreaker(
+        int failureThreshold,
+        Duration openDuration
+    ) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    NotificationCircuitBreaker(
+        int failureThreshold,
+        Duration openDuration,
+        LongSupplier nanoTime
+    ) {
+        requireNonNull(openDuration, "openDuration must not be null");
+        requireNonNull(nanoTime, "nanoTime must not be null");
+
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be at least 1");
+        }
+
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nanoTime.getAsLong() - openedAtNanos < openNanos) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default:
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void recordFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAtNanos = nanoTime.getAsLong();
+        }
+    }
+
+    // gives back a permit that was acquired but not used for a call
+    public synchronized void release() {
+        trialInFlight = false;
+    }
+
+    public synchronized boolean isOpen() {
+        return state != State.CLOSED;
+    }
+}
@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients;
+
+import uk.gov.service.notify.NotificationClientException;
+
+public class NotificationCircuitOpenException extends NotificationClientException {
+
+    public NotificationCircuitOpenException(
+        String clientName) {
+
+        super("GOV.UK Notify circuit breaker is open for " + clientName + " client, not sending");
+
+    }
+
+}
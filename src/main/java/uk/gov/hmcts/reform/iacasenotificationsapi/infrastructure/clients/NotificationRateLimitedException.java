@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients;
+
+import uk.gov.service.notify.NotificationClientException;
+
+public class NotificationRateLimitedException extends NotificationClientException {
+
+    public NotificationRateLimitedException(
+        String clientName) {
+
+        super("GOV.UK Notify rate limit reached for " + clientName + " client, not sending");
+
+    }
+
+}
@@ -0,0 +1,131 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients;
+
+import static java.util.Objects.requireNonNull;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket in front of one GOV.UK Notify API key. Up to {@code burst} calls go straight through,
+ * after which permits are handed out at {@code permitsPerSecond}. A caller that would have to wait
+ * longer than {@code maxWait} for its permit is turned away rather than queued.
+ *
+ * <p>The number of callers waiting and how long they waited are published as
+ * {@code govnotify.client.rate.limit.queue} and {@code govnotify.client.rate.limit.wait}.
+ */
+public class NotificationRateLimiter {
+
+    private final String clientName;
+    private final double burst;
+    private final double nanosPerPermit;
+    private final long maxWaitNanos;
+    private final LongSupplier nanoTime;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Counter rejections;
+
+    private double availablePermits;
+    private long refilledAtNanos;
+
+    public NotificationRateLimiter(
+        String clientName,
+        double permitsPerSecond,
+        int burst,
+        Duration maxWait,
+        MeterRegistry meterRegistry
+    ) {
+        this(clientName, permitsPerSecond, burst, maxWait, meterRegistry, System::nanoTime);
+    }
+
+    NotificationRateLimiter(
+        String clientName,
+        double permitsPerSecond,
+        int burst,
+        Duration maxWait,
+        MeterRegistry meterRegistry,
+        LongSupplier nanoTime
+    ) {
+        requireNonNull(clientName, "clientName must not be null");
+        requireNonNull(maxWait, "maxWait must not be null");
+        requireNonNull(meterRegistry, "meterRegistry must not be null");
+        requireNonNull(nanoTime, "nanoTime must not be null");
+
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+
+        this.clientName = clientName;
+        this.burst = burst;
+        this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.nanoTime = nanoTime;
+        this.availablePermits = burst;
+        this.refilledAtNanos = nanoTime.getAsLong();
+
+        Gauge.builder("govnotify.client.rate.limit.queue", waiting, AtomicInteger::get)
+            .tag("client", clientName)
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("govnotify.client.rate.limit.wait")
+            .tag("client", clientName)
+            .register(meterRegistry);
+        this.rejections = Counter.builder("govnotify.client.rate.limit.rejections")
+            .tag("client", clientName)
+            .register(meterRegistry);
+    }
+
+    /*
+     * Reserves the next permit and sleeps until it is due. Reservations are taken in arrival order,
+     * so waiting callers are served first come, first served.
+     */
+    public void acquire() throws NotificationRateLimitedException {
+
+        long waitNanos = reserve();
+
+        if (waitNanos < 0) {
+            rejections.increment();
+            throw new NotificationRateLimitedException(clientName);
+        }
+
+        waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+
+        if (waitNanos == 0) {
+            return;
+        }
+
+        waiting.incrementAndGet();
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NotificationRateLimitedException(clientName);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    // returns how long to wait for the reserved permit, or -1 when that would be longer than allowed
+    synchronized long reserve() {
+        long now = nanoTime.getAsLong();
+
+        availablePermits = Math.min(burst, availablePermits + (now - refilledAtNanos) / nanosPerPermit);
+        refilledAtNanos = now;
+
+        long waitNanos = availablePermits >= 1
+            ? 0
+            : (long) Math.ceil((1 - availablePermits) * nanosPerPermit);
+
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+
+        availablePermits -= 1;
+        return waitNanos;
+    }
+}
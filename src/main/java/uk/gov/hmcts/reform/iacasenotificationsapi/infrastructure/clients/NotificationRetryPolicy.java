@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import uk.gov.service.notify.NotificationClientException;
+
+/**
+ * Decides which GOV.UK Notify failures are worth another attempt and how long to wait before it.
+ * Only rate limiting, server errors and requests that never got a response are retried, a rejected
+ * request (bad template, personalisation or API key) fails the same way every time.
+ */
+public class NotificationRetryPolicy {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVER_ERROR = 500;
+    private static final int MAX_BACKOFF_DOUBLINGS = 30;
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public NotificationRetryPolicy(
+        int maxAttempts,
+        Duration initialBackoff,
+        Duration maxBackoff
+    ) {
+        requireNonNull(initialBackoff, "initialBackoff must not be null");
+        requireNonNull(maxBackoff, "maxBackoff must not be null");
+
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public boolean isRetryable(NotificationClientException e) {
+        // the client reports no status when the request failed before a response came back
+        int httpResult = e.getHttpResult();
+        return httpResult == 0 || httpResult == TOO_MANY_REQUESTS || httpResult >= SERVER_ERROR;
+    }
+
+    /*
+     * Exponential backoff with full jitter: a random wait between zero and the initial backoff doubled
+     * for each retry so far, capped at the maximum backoff. The randomness keeps replicas that failed
+     * together from retrying together.
+     */
+    public Duration backoffBefore(int retry) {
+        long initialNanos = initialBackoff.toNanos();
+        long maxNanos = maxBackoff.toNanos();
+        int doublings = Math.min(Math.max(retry - 1, 0), MAX_BACKOFF_DOUBLINGS);
+
+        long capNanos = initialNanos > (maxNanos >> doublings)
+            ? maxNanos
+            : initialNanos << doublings;
+
+        if (capNanos <= 0) {
+            return Duration.ZERO;
+        }
+
+        return Duration.ofNanos(ThreadLocalRandom.current().nextLong(capNanos + 1));
+    }
+}
@@ -1,61 +1,214 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients;
 
+import static java.util.Objects.requireNonNull;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.CallbackDeadline;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
 import uk.gov.service.notify.*;
 
 @Slf4j
 public class RetryableNotificationClient {
 
     private final NotificationClientApi notificationClient;
+    private final String clientName;
+    private final Duration requestTimeout;
+    private final NotificationRetryPolicy retryPolicy;
+    private final Optional<NotificationCircuitBreaker> circuitBreaker;
+    private final Optional<NotificationRateLimiter> rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final CallbackTracer callbackTracer;
+
+    public RetryableNotificationClient(
+        NotificationClientApi notificationClient,
+        String clientName,
+        Duration requestTimeout,
+        NotificationRetryPolicy retryPolicy,
+        Optional<NotificationCircuitBreaker> circuitBreaker,
+        Optional<NotificationRateLimiter> rateLimiter,
+        MeterRegistry meterRegistry,
+        CallbackTracer callbackTracer
+    ) {
+        requireNonNull(notificationClient, "notificationClient must not be null");
+        requireNonNull(clientName, "clientName must not be null");
+        requireNonNull(requestTimeout, "requestTimeout must not be null");
+        requireNonNull(retryPolicy, "retryPolicy must not be null");
+        requireNonNull(circuitBreaker, "circuitBreaker must not be null");
+        requireNonNull(rateLimiter, "rateLimiter must not be null");
+        requireNonNull(meterRegistry, "meterRegistry must not be null");
+        requireNonNull(callbackTracer, "callbackTracer must not be null");
 
-    public RetryableNotificationClient(NotificationClientApi notificationClient) {
         this.notificationClient = notificationClient;
+        this.clientName = clientName;
+        this.requestTimeout = requestTimeout;
+        this.retryPolicy = retryPolicy;
+        this.circuitBreaker = circuitBreaker;
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+        this.callbackTracer = callbackTracer;
+
+        circuitBreaker.ifPresent(breaker ->
+            Gauge.builder("govnotify.client.circuit.open", breaker, open -> open.isOpen() ? 1 : 0)
+                .tag("client", clientName)
+                .register(meterRegistry)
+        );
+    }
+
+    // the longest a single request to GOV.UK Notify can take before it times out
+    public Duration getRequestTimeout() {
+        return requestTimeout;
     }
 
     public SendEmailResponse sendEmail(String templateId, String emailAddress, Map<String, ?> personalisation, String reference) throws NotificationClientException {
-        try {
-            return notificationClient.sendEmail(templateId, emailAddress, personalisation, reference);
-        } catch (NotificationClientException e) {
-            log.warn("retry triggered: {}", e.getMessage());
-            return notificationClient.sendEmail(templateId, emailAddress, personalisation, reference);
-        }
+        return timeSend("email", templateId, reference, () ->
+            call("sendEmail", () -> notificationClient.sendEmail(templateId, emailAddress, personalisation, reference))
+        );
     }
 
     public SendSmsResponse sendSms(String templateId, String phoneNumber, Map<String, ?> personalisation, String reference) throws NotificationClientException {
-        try {
-            return notificationClient.sendSms(templateId, phoneNumber, personalisation, reference);
-        } catch (NotificationClientException e) {
-            log.warn("retry triggered: {}", e.getMessage());
-            return notificationClient.sendSms(templateId, phoneNumber, personalisation, reference);
-        }
+        return timeSend("sms", templateId, reference, () ->
+            call("sendSms", () -> notificationClient.sendSms(templateId, phoneNumber, personalisation, reference))
+        );
     }
 
     public Notification getNotificationById(String notificationId) throws NotificationClientException {
-        try {
-            return notificationClient.getNotificationById(notificationId);
-        } catch (NotificationClientException e) {
-            log.warn("retry triggered: {}", e.getMessage());
-            return notificationClient.getNotificationById(notificationId);
-        }
+        return callbackTracer.inSpan("govnotify.getNotificationById", Map.of("notification.id", String.valueOf(notificationId)), () ->
+            call("getNotificationById", () -> notificationClient.getNotificationById(notificationId))
+        );
     }
 
     public SendLetterResponse sendLetter(String templateId, Map<String, ?> personalisation, String reference) throws NotificationClientException {
+        return timeSend("letter", templateId, reference, () ->
+            call("sendLetter", () -> notificationClient.sendLetter(templateId, personalisation, reference))
+        );
+    }
+
+    public LetterResponse sendPrecompiledLetter(String reference, InputStream stream) throws NotificationClientException {
+        return timeSend("precompiledLetter", "none", reference, () ->
+            call("sendPrecompiledLetter", () -> notificationClient.sendPrecompiledLetterWithInputStream(reference, stream))
+        );
+    }
+
+    /*
+     * Transient failures are retried with backoff up to the policy's attempt limit, and count towards
+     * opening the circuit. Any other failure means GOV.UK Notify is up and answering, so it is thrown
+     * straight away and counts as a success for the circuit breaker.
+     */
+    private <T> T call(String operation, NotificationCall<T> notificationCall) throws NotificationClientException {
+
+        for (int attempt = 1; ; attempt++) {
+
+            if (circuitBreaker.isPresent() && !circuitBreaker.get().tryAcquire()) {
+                meterRegistry.counter("govnotify.client.rejections", "client", clientName, "operation", operation)
+                    .increment();
+                throw new NotificationCircuitOpenException(clientName);
+            }
+
+            // every attempt, retries included, counts against the API key's rate limit
+            if (rateLimiter.isPresent()) {
+                try {
+                    rateLimiter.get().acquire();
+                } catch (NotificationRateLimitedException e) {
+                    circuitBreaker.ifPresent(NotificationCircuitBreaker::release);
+                    throw e;
+                }
+            }
+
+            meterRegistry.counter("govnotify.client.attempts", "client", clientName, "operation", operation)
+                .increment();
+
+            try {
+                T response = notificationCall.call();
+                circuitBreaker.ifPresent(NotificationCircuitBreaker::recordSuccess);
+                return response;
+
+            } catch (NotificationClientException e) {
+
+                if (!retryPolicy.isRetryable(e)) {
+                    circuitBreaker.ifPresent(NotificationCircuitBreaker::recordSuccess);
+                    throw e;
+                }
+
+                circuitBreaker.ifPresent(NotificationCircuitBreaker::recordFailure);
+
+                if (attempt >= retryPolicy.getMaxAttempts()) {
+                    throw e;
+                }
+
+                log.warn("retry triggered: {}", e.getMessage());
+                meterRegistry.counter("govnotify.client.retries", "client", clientName, "operation", operation)
+                    .increment();
+
+                if (!backOff(attempt)) {
+                    throw e;
+                }
+
+            } catch (RuntimeException e) {
+                circuitBreaker.ifPresent(NotificationCircuitBreaker::recordFailure);
+                throw e;
+            }
+        }
+    }
+
+    // the whole send, retries and rate limiting included, as seen by the caller
+    private <T> T timeSend(
+        String channel,
+        String templateId,
+        String reference,
+        NotificationCall<T> send
+    ) throws NotificationClientException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
         try {
-            return notificationClient.sendLetter(templateId, personalisation, reference);
-        } catch (NotificationClientException e) {
-            log.warn("retry triggered: {}", e.getMessage());
-            return notificationClient.sendLetter(templateId, personalisation, reference);
+            T response = callbackTracer.inSpan(
+                "govnotify.send",
+                CallbackTracer.sendAttributes(channel, templateId, reference),
+                send::call
+            );
+            outcome = "success";
+            return response;
+        } finally {
+            sample.stop(
+                Timer.builder("govnotify.send")
+                    .tag("client", clientName)
+                    .tag("channel", channel)
+                    .tag("template", String.valueOf(templateId))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+            );
         }
     }
 
-    public LetterResponse sendPrecompiledLetter(String reference, InputStream stream) throws NotificationClientException {
+    private boolean backOff(int retry) {
+        Duration backoff = retryPolicy.backoffBefore(retry);
+
+        // a retry that could only start after the callback deadline would not reach CCD in time
+        if (CallbackDeadline.current().map(deadline -> deadline.isExceededBy(backoff)).orElse(false)) {
+            return false;
+        }
+
+        if (backoff.isZero()) {
+            return true;
+        }
+
         try {
-            return notificationClient.sendPrecompiledLetterWithInputStream(reference, stream);
-        } catch (NotificationClientException e) {
-            log.warn("retry triggered: {}", e.getMessage());
-            return notificationClient.sendPrecompiledLetterWithInputStream(reference, stream);
+            Thread.sleep(backoff);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
     }
+
+    @FunctionalInterface
+    private interface NotificationCall<T> {
+        T call() throws NotificationClientException;
+    }
 }
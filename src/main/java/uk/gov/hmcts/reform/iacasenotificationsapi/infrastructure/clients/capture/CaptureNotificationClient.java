@@ -0,0 +1,112 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.capture;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import org.json.JSONObject;
+import uk.gov.service.notify.LetterResponse;
+import uk.gov.service.notify.NotificationClient;
+import uk.gov.service.notify.NotificationClientException;
+import uk.gov.service.notify.SendEmailResponse;
+import uk.gov.service.notify.SendLetterResponse;
+import uk.gov.service.notify.SendSmsResponse;
+
+/*
+ * Stands in for the GOV.UK Notify client underneath RetryableNotificationClient. Sends are handed to
+ * the capture instead of Notify, so retries, deduplication, the ledger, the callback deadline and
+ * the stored notifications all run as they do against Notify, including for injected failures.
+ * Only sends are captured; the base URL does not resolve, so nothing else reaches Notify either.
+ */
+public class CaptureNotificationClient extends NotificationClient {
+
+    private static final String API_KEY = "capture-notifications";
+    private static final String BASE_URL = "http://notifications.capture.invalid";
+
+    private final NotificationCapture notificationCapture;
+
+    public CaptureNotificationClient(NotificationCapture notificationCapture) {
+        super(API_KEY, BASE_URL);
+
+        requireNonNull(notificationCapture, "notificationCapture must not be null");
+
+        this.notificationCapture = notificationCapture;
+    }
+
+    @Override
+    public SendEmailResponse sendEmail(
+        String templateId,
+        String emailAddress,
+        Map<String, ?> personalisation,
+        String reference
+    ) throws NotificationClientException {
+        String notificationId =
+            notificationCapture.capture("email", templateId, emailAddress, personalisation, reference);
+
+        return new SendEmailResponse(response(notificationId, reference, templateId, new JSONObject()
+            .put("body", "")
+            .put("subject", "")
+            .put("from_email", "capture@notifications.capture.invalid")));
+    }
+
+    @Override
+    public SendSmsResponse sendSms(
+        String templateId,
+        String phoneNumber,
+        Map<String, ?> personalisation,
+        String reference
+    ) throws NotificationClientException {
+        String notificationId =
+            notificationCapture.capture("sms", templateId, phoneNumber, personalisation, reference);
+
+        return new SendSmsResponse(response(notificationId, reference, templateId, new JSONObject()
+            .put("body", "")
+            .put("from_number", "CAPTURE")));
+    }
+
+    @Override
+    public SendLetterResponse sendLetter(
+        String templateId,
+        Map<String, ?> personalisation,
+        String reference
+    ) throws NotificationClientException {
+        String address = Optional.ofNullable(personalisation)
+            .map(fields -> fields.get("address_line_1"))
+            .map(String::valueOf)
+            .orElse(null);
+        String notificationId =
+            notificationCapture.capture("letter", templateId, address, personalisation, reference);
+
+        return new SendLetterResponse(response(notificationId, reference, templateId, new JSONObject()
+            .put("body", "")
+            .put("subject", "")));
+    }
+
+    @Override
+    public LetterResponse sendPrecompiledLetterWithInputStream(
+        String reference,
+        InputStream stream
+    ) throws NotificationClientException {
+        String notificationId = notificationCapture.capture("precompiledLetter", null, null, Map.of(), reference);
+
+        return new LetterResponse(new JSONObject()
+            .put("id", notificationId)
+            .put("reference", reference)
+            .put("postage", "second")
+            .toString());
+    }
+
+    private static String response(String notificationId, String reference, String templateId, JSONObject content) {
+        return new JSONObject()
+            .put("id", notificationId)
+            .put("reference", reference == null ? JSONObject.NULL : reference)
+            .put("uri", BASE_URL + "/v2/notifications/" + notificationId)
+            .put("content", content)
+            .put("template", new JSONObject()
+                .put("id", templateId)
+                .put("version", 1)
+                .put("uri", BASE_URL + "/v2/templates/" + templateId))
+            .toString();
+    }
+}
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.capture;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record CapturedNotification(
+    String notificationId,
+    String channel,
+    String templateId,
+    String recipient,
+    Map<String, ?> personalisation,
+    String reference,
+    Instant capturedAt
+) {
+}
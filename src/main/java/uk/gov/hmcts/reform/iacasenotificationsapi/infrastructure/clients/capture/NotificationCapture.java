@@ -0,0 +1,109 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.capture;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import uk.gov.service.notify.NotificationClientException;
+
+/**
+ * Keeps the notifications the capture client is asked to send, in memory, in the order they were
+ * sent. Only the most recent maximumSize notifications are kept, the counts by channel cover every
+ * send since the capture was last cleared. Each send waits for the configured latency and then
+ * fails with the configured probability, the same way a send fails when GOV.UK Notify cannot be
+ * reached.
+ */
+public class NotificationCapture {
+
+    private final Duration latency;
+    private final double errorRate;
+    private final int maximumSize;
+    private final Clock clock;
+    private final Deque<CapturedNotification> captured = new ArrayDeque<>();
+    private final Map<String, Long> countsByChannel = new TreeMap<>();
+
+    public NotificationCapture(Duration latency, double errorRate, int maximumSize, Clock clock) {
+        requireNonNull(latency, "latency must not be null");
+        requireNonNull(clock, "clock must not be null");
+
+        if (latency.isNegative()) {
+            throw new IllegalArgumentException("latency must not be negative");
+        }
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("errorRate must be between 0 and 1");
+        }
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1");
+        }
+
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+    }
+
+    public String capture(
+        String channel,
+        String templateId,
+        String recipient,
+        Map<String, ?> personalisation,
+        String reference
+    ) throws NotificationClientException {
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new NotificationClientException(e);
+            }
+        }
+
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            throw new NotificationClientException(
+                new IllegalStateException("Injected failure sending " + channel + " for reference " + reference)
+            );
+        }
+
+        CapturedNotification notification = new CapturedNotification(
+            UUID.randomUUID().toString(),
+            channel,
+            templateId,
+            recipient,
+            personalisation == null ? Map.of() : Collections.unmodifiableMap(new HashMap<>(personalisation)),
+            reference,
+            clock.instant()
+        );
+
+        synchronized (this) {
+            captured.addLast(notification);
+            if (captured.size() > maximumSize) {
+                captured.removeFirst();
+            }
+            countsByChannel.merge(channel, 1L, Long::sum);
+        }
+
+        return notification.notificationId();
+    }
+
+    public synchronized List<CapturedNotification> getCaptured() {
+        return List.copyOf(captured);
+    }
+
+    public synchronized Map<String, Long> countByChannel() {
+        return new TreeMap<>(countsByChannel);
+    }
+
+    public synchronized void clear() {
+        captured.clear();
+        countsByChannel.clear();
+    }
+}
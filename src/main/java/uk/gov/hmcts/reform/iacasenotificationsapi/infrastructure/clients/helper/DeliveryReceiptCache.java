@@ -0,0 +1,183 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the notification id of each recent send, so the same recipient and reference is not
+ * sent twice within the de-duplication window. There is one bounded cache per channel, and each
+ * case type has its own instance. Hits, misses and evictions are published as
+ * {@code notificationDeduplication} cache metrics. When a Redis store is given, the local caches act
+ * as a near-cache in front of it and only sends missing locally are claimed across replicas; sends
+ * found there are counted as {@code notificationDeduplication.distributed.hits}.
+ */
+public class DeliveryReceiptCache {
+
+    public enum Channel {
+        EMAIL,
+        SMS,
+        LETTER,
+        PRECOMPILED_LETTER
+    }
+
+    private final Map<Channel, Cache<String, DeliveryReceipt>> receiptsByChannel = new EnumMap<>(Channel.class);
+    private final Map<Channel, Counter> distributedHitsByChannel = new EnumMap<>(Channel.class);
+    private final String caseType;
+    private final Optional<RedisDeliveryReceiptStore> distributedReceiptStore;
+
+    public DeliveryReceiptCache(
+        String caseType,
+        long maximumSize,
+        MeterRegistry meterRegistry,
+        Optional<RedisDeliveryReceiptStore> distributedReceiptStore
+    ) {
+        requireNonNull(caseType, "caseType must not be null");
+        requireNonNull(meterRegistry, "meterRegistry must not be null");
+        requireNonNull(distributedReceiptStore, "distributedReceiptStore must not be null");
+
+        this.caseType = caseType;
+        this.distributedReceiptStore = distributedReceiptStore;
+
+        for (Channel channel : Channel.values()) {
+
+            Cache<String, DeliveryReceipt> receipts =
+                Caffeine
+                    .newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfter(new DeliveryReceiptExpiry())
+                    .recordStats()
+                    .build();
+
+            CaffeineCacheMetrics.monitor(
+                meterRegistry,
+                receipts,
+                "notificationDeduplication",
+                Tags.of("caseType", caseType, "channel", channel.name().toLowerCase())
+            );
+
+            receiptsByChannel.put(channel, receipts);
+            distributedHitsByChannel.put(
+                channel,
+                Counter.builder("notificationDeduplication.distributed.hits")
+                    .tags("caseType", caseType, "channel", channel.name().toLowerCase())
+                    .register(meterRegistry)
+            );
+        }
+    }
+
+    /*
+     * Single-flight de-duplication: the first caller for a key claims it with a pending receipt and
+     * sends outside of any lock, concurrent callers for the same key wait for that send to finish,
+     * and callers for other keys are not held up at all. A send that fails, either by throwing or
+     * by returning no notification id, is forgotten so that it can be retried straight away.
+     */
+    public String deduplicate(
+        Channel channel,
+        String key,
+        int deduplicateSendsWithinSeconds,
+        Supplier<String> send
+    ) {
+        Cache<String, DeliveryReceipt> receiptCache = receiptsByChannel.get(channel);
+        Map<String, DeliveryReceipt> receipts = receiptCache.asMap();
+
+        DeliveryReceipt pendingReceipt = new DeliveryReceipt(
+            new CompletableFuture<>(),
+            TimeUnit.SECONDS.toNanos(deduplicateSendsWithinSeconds)
+        );
+
+        // looked up through the cache first so that hits and misses are recorded
+        DeliveryReceipt existingReceipt = receiptCache.getIfPresent(key);
+        if (existingReceipt == null) {
+            existingReceipt = receipts.putIfAbsent(key, pendingReceipt);
+        }
+
+        if (existingReceipt != null) {
+            try {
+                return existingReceipt.notificationId().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            String notificationId =
+                distributedReceiptStore
+                    .map(store -> sendOnceAcrossReplicas(store, channel, key, deduplicateSendsWithinSeconds, send))
+                    .orElseGet(send);
+            if (notificationId == null || notificationId.isEmpty()) {
+                receipts.remove(key, pendingReceipt);
+            }
+            pendingReceipt.notificationId().complete(notificationId);
+            return notificationId;
+        } catch (RuntimeException | Error e) {
+            receipts.remove(key, pendingReceipt);
+            pendingReceipt.notificationId().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private String sendOnceAcrossReplicas(
+        RedisDeliveryReceiptStore store,
+        Channel channel,
+        String key,
+        int deduplicateSendsWithinSeconds,
+        Supplier<String> send
+    ) {
+        AtomicBoolean sent = new AtomicBoolean();
+
+        String notificationId = store.sendOnce(
+            caseType + ":" + channel + ":" + key,
+            deduplicateSendsWithinSeconds,
+            () -> {
+                sent.set(true);
+                return send.get();
+            }
+        );
+
+        if (!sent.get() && notificationId != null && !notificationId.isEmpty()) {
+            distributedHitsByChannel.get(channel).increment();
+        }
+
+        return notificationId;
+    }
+
+    private record DeliveryReceipt(CompletableFuture<String> notificationId, long timeToLiveNanos) {
+    }
+
+    // each receipt lives for the window requested by the sender that created it
+    private static class DeliveryReceiptExpiry implements Expiry<String, DeliveryReceipt> {
+
+        @Override
+        public long expireAfterCreate(String key, DeliveryReceipt receipt, long currentTime) {
+            return receipt.timeToLiveNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, DeliveryReceipt receipt, long currentTime, long currentDuration) {
+            return receipt.timeToLiveNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, DeliveryReceipt receipt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper;
+
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the ledger in memory and in a file on local disk, so it survives a restart of the pod. Each
+ * entry is appended to the file and flushed before the send is reported back. Entries older than
+ * the retention period are dropped when the file is loaded, and the file is rewritten with only the
+ * live entries once enough have been appended since it was last rewritten. Keys hold recipients, so
+ * only their keyed hashes are kept, as in the Redis ledger.
+ *
+ * <p>Appends are group committed: entries recorded while a flush is in progress queue up, and the
+ * next caller to take the write lock writes and flushes all of them at once. Concurrent sends then
+ * share one synced write instead of each waiting for its own.
+ */
+@Slf4j
+public class EmbeddedNotificationLedger implements NotificationLedger {
+
+    private static final String SEPARATOR = "\t";
+
+    private final Path file;
+    private final HashFunction keyHash;
+    private final long retentionMillis;
+    private final long maximumSize;
+    private final LongSupplier currentTimeMillis;
+    private final Cache<String, LedgerEntry> entries;
+    private final Queue<PendingAppend> pendingAppends = new ConcurrentLinkedQueue<>();
+    private final Object writeLock = new Object();
+
+    private BufferedWriter writer;
+    private long appendedSinceRewrite;
+
+    public EmbeddedNotificationLedger(
+        Path file,
+        byte[] keyHashSecret,
+        Duration retention,
+        long maximumSize
+    ) {
+        this(file, keyHashSecret, retention, maximumSize, System::currentTimeMillis);
+    }
+
+    EmbeddedNotificationLedger(
+        Path file,
+        byte[] keyHashSecret,
+        Duration retention,
+        long maximumSize,
+        LongSupplier currentTimeMillis
+    ) {
+        requireNonNull(file, "file must not be null");
+        requireNonNull(keyHashSecret, "keyHashSecret must not be null");
+        requireNonNull(retention, "retention must not be null");
+        requireNonNull(currentTimeMillis, "currentTimeMillis must not be null");
+
+        this.file = file;
+        this.keyHash = Hashing.hmacSha256(keyHashSecret);
+        this.retentionMillis = retention.toMillis();
+        this.maximumSize = maximumSize;
+        this.currentTimeMillis = currentTimeMillis;
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(retention)
+            .build();
+
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            load();
+            rewrite();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open notification ledger " + file, e);
+        }
+    }
+
+    @Override
+    public Optional<String> find(String key) {
+        LedgerEntry entry = entries.getIfPresent(hash(key));
+
+        if (entry == null || isExpired(entry)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(entry.notificationId());
+    }
+
+    @Override
+    public void record(String key, String notificationId) {
+        String hashedKey = hash(key);
+        LedgerEntry entry = new LedgerEntry(notificationId, currentTimeMillis.getAsLong());
+
+        entries.put(hashedKey, entry);
+
+        PendingAppend append =
+            new PendingAppend(entry.recordedAtMillis() + SEPARATOR + hashedKey + SEPARATOR + notificationId);
+        pendingAppends.add(append);
+
+        synchronized (writeLock) {
+            if (!append.written) {
+                writePendingAppends();
+            }
+        }
+    }
+
+    private void writePendingAppends() {
+        List<PendingAppend> batch = new ArrayList<>();
+        for (PendingAppend pending = pendingAppends.poll(); pending != null; pending = pendingAppends.poll()) {
+            batch.add(pending);
+        }
+
+        try {
+            for (PendingAppend pending : batch) {
+                writer.write(pending.line);
+                writer.newLine();
+            }
+            writer.flush();
+
+            appendedSinceRewrite += batch.size();
+            if (appendedSinceRewrite > maximumSize) {
+                rewrite();
+            }
+        } catch (IOException e) {
+            // the entries are still held in memory, they are only lost if the pod restarts
+            log.warn("Could not write {} notification ledger entries to {}: {}", batch.size(), file, e.getMessage());
+        } finally {
+            batch.forEach(pending -> pending.written = true);
+        }
+    }
+
+    private void load() throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String[] fields = line.split(SEPARATOR);
+            if (fields.length != 3) {
+                continue;
+            }
+
+            try {
+                LedgerEntry entry = new LedgerEntry(fields[2], Long.parseLong(fields[0]));
+                if (!isExpired(entry)) {
+                    entries.put(fields[1], entry);
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Skipping malformed notification ledger entry in {}", file);
+            }
+        }
+    }
+
+    private void rewrite() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (BufferedWriter rewritten = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, LedgerEntry> liveEntry : List.copyOf(entries.asMap().entrySet())) {
+                if (!isExpired(liveEntry.getValue())) {
+                    rewritten.write(liveEntry.getValue().recordedAtMillis() + SEPARATOR
+                        + liveEntry.getKey() + SEPARATOR
+                        + liveEntry.getValue().notificationId());
+                    rewritten.newLine();
+                }
+            }
+        }
+
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        writer = Files.newBufferedWriter(
+            file,
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND,
+            StandardOpenOption.DSYNC
+        );
+        appendedSinceRewrite = 0;
+    }
+
+    private boolean isExpired(LedgerEntry entry) {
+        return currentTimeMillis.getAsLong() - entry.recordedAtMillis() >= retentionMillis;
+    }
+
+    private String hash(String key) {
+        return keyHash.hashString(key, StandardCharsets.UTF_8).toString();
+    }
+
+    private record LedgerEntry(String notificationId, long recordedAtMillis) {
+    }
+
+    private static final class PendingAppend {
+
+        private final String line;
+        // only read and written while holding the write lock
+        private boolean written;
+
+        private PendingAppend(String line) {
+            this.line = line;
+        }
+    }
+}
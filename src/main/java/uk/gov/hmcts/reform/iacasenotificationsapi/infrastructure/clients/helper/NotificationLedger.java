@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper;
+
+import java.util.Optional;
+
+/**
+ * Records the notification id of every send made for a case, keyed by the case, the event, the
+ * channel, the reference and the recipient. A callback that CCD repeats then gets back the ids
+ * recorded the first time round instead of sending again. Unlike the de-duplication cache, the
+ * ledger outlives a restart and keeps entries for its whole retention period.
+ */
+public interface NotificationLedger {
+
+    Optional<String> find(String key);
+
+    void record(String key, String notificationId);
+}
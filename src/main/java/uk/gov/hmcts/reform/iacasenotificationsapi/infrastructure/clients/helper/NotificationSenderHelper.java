@@ -2,16 +2,14 @@ package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import java.io.InputStream;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.apache.logging.log4j.util.Strings;
 import org.slf4j.Logger;
-import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.CallbackDeadline;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCaseDefinition;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.BailCase;
@@ -22,6 +20,7 @@ import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.C
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.field.IdValue;
 import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.NotificationServiceResponseException;
 import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.RetryableNotificationClient;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper.DeliveryReceiptCache.Channel;
 import uk.gov.service.notify.*;
 
 import java.time.LocalDateTime;
@@ -33,10 +32,23 @@ import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
 
 @Slf4j
-@Component
 public class NotificationSenderHelper<T extends CaseData> {
 
-    private Cache<String, String> recentDeliveryReceiptCache;
+    private static final String DEADLINE_PASSED_MESSAGE = "Not sent before the callback deadline";
+
+    private final DeliveryReceiptCache deliveryReceiptCache;
+    private final Optional<NotificationLedger> notificationLedger;
+
+    public NotificationSenderHelper(
+        DeliveryReceiptCache deliveryReceiptCache,
+        Optional<NotificationLedger> notificationLedger
+    ) {
+        requireNonNull(deliveryReceiptCache, "deliveryReceiptCache must not be null");
+        requireNonNull(notificationLedger, "notificationLedger must not be null");
+
+        this.deliveryReceiptCache = deliveryReceiptCache;
+        this.notificationLedger = notificationLedger;
+    }
 
     public String sendEmail(
         String templateId,
@@ -48,10 +60,17 @@ public class NotificationSenderHelper<T extends CaseData> {
         Logger logger,
         Callback<T> callback
     ) {
-        recentDeliveryReceiptCache = getOrCreateDeliveryReceiptCache(deduplicateSendsWithinSeconds);
-        return recentDeliveryReceiptCache.get(
+        return deliveryReceiptCache.deduplicate(
+            Channel.EMAIL,
             emailAddress + reference,
-            k -> {
+            deduplicateSendsWithinSeconds,
+            () -> sendOnceForCallback(Channel.EMAIL, emailAddress, reference, callback, logger, () -> {
+                if (isPastCallbackDeadline(notificationClient)) {
+                    logger.warn("Callback deadline passed, recording email notification as failed: {}", reference);
+                    storeFailedNotification(callback, DEADLINE_PASSED_MESSAGE, reference, "email", emailAddress, logger);
+                    return Strings.EMPTY;
+                }
+
                 try {
                     logger.info("Attempting to send email notification to GovNotify: {}", reference);
 
@@ -76,7 +95,7 @@ public class NotificationSenderHelper<T extends CaseData> {
                     storeFailedNotification(callback, e, reference, "email", emailAddress, logger);
                 }
                 return Strings.EMPTY;
-            }
+            })
         );
     }
 
@@ -89,10 +108,11 @@ public class NotificationSenderHelper<T extends CaseData> {
         Integer deduplicateSendsWithinSeconds,
         Logger logger
     ) {
-        recentDeliveryReceiptCache = getOrCreateDeliveryReceiptCache(deduplicateSendsWithinSeconds);
-        return recentDeliveryReceiptCache.get(
+        return deliveryReceiptCache.deduplicate(
+            Channel.EMAIL,
             emailAddress + reference,
-            k -> {
+            deduplicateSendsWithinSeconds,
+            () -> {
                 try {
                     logger.info("Attempting to send email notification to GovNotify: {}", reference);
 
@@ -129,10 +149,17 @@ public class NotificationSenderHelper<T extends CaseData> {
         Logger logger,
         Callback<T> callback
     ) {
-        recentDeliveryReceiptCache = getOrCreateDeliveryReceiptCache(deduplicateSendsWithinSeconds);
-        return recentDeliveryReceiptCache.get(
+        return deliveryReceiptCache.deduplicate(
+            Channel.SMS,
             phoneNumber + reference,
-            k -> {
+            deduplicateSendsWithinSeconds,
+            () -> sendOnceForCallback(Channel.SMS, phoneNumber, reference, callback, logger, () -> {
+                if (isPastCallbackDeadline(notificationClient)) {
+                    logger.warn("Callback deadline passed, recording sms notification as failed: {}", reference);
+                    storeFailedNotification(callback, DEADLINE_PASSED_MESSAGE, reference, "sms", phoneNumber, logger);
+                    return Strings.EMPTY;
+                }
+
                 try {
                     logger.info("Attempting to send a text message notification to GovNotify: {}", reference);
 
@@ -157,7 +184,7 @@ public class NotificationSenderHelper<T extends CaseData> {
                     storeFailedNotification(callback, e, reference, "sms", phoneNumber, logger);
                 }
                 return Strings.EMPTY;
-            }
+            })
         );
     }
 
@@ -170,10 +197,11 @@ public class NotificationSenderHelper<T extends CaseData> {
         Integer deduplicateSendsWithinSeconds,
         Logger logger
     ) {
-        recentDeliveryReceiptCache = getOrCreateDeliveryReceiptCache(deduplicateSendsWithinSeconds);
-        return recentDeliveryReceiptCache.get(
+        return deliveryReceiptCache.deduplicate(
+            Channel.LETTER,
             address + reference,
-            k -> {
+            deduplicateSendsWithinSeconds,
+            () -> {
                 try {
                     logger.info("Attempting to send letter notification to GovNotify: {}", reference);
 
@@ -207,10 +235,11 @@ public class NotificationSenderHelper<T extends CaseData> {
         Integer deduplicateSendsWithinSeconds,
         Logger logger
     ) {
-        recentDeliveryReceiptCache = getOrCreateDeliveryReceiptCache(deduplicateSendsWithinSeconds);
-        return recentDeliveryReceiptCache.get(
+        return deliveryReceiptCache.deduplicate(
+            Channel.PRECOMPILED_LETTER,
             reference,
-            k -> {
+            deduplicateSendsWithinSeconds,
+            () -> {
                 try {
                     logger.info("Attempting to send pre-compiled letter notification to GovNotify: {}", reference);
 
@@ -236,26 +265,81 @@ public class NotificationSenderHelper<T extends CaseData> {
         );
     }
 
-    private Cache<String, String> getOrCreateDeliveryReceiptCache(int deduplicateSendsWithinSeconds) {
-        if (recentDeliveryReceiptCache == null) {
-            recentDeliveryReceiptCache =
-                Caffeine
-                    .newBuilder()
-                    .expireAfterWrite(deduplicateSendsWithinSeconds, TimeUnit.SECONDS)
-                    .build();
+    /*
+     * Returns the notification id recorded in the ledger when this callback has already made the
+     * send, so a callback repeated by CCD does not send it again. Otherwise sends and records the id.
+     */
+    private String sendOnceForCallback(
+        Channel channel,
+        String recipient,
+        String reference,
+        Callback<T> callback,
+        Logger logger,
+        Supplier<String> send
+    ) {
+        if (notificationLedger.isEmpty()) {
+            return send.get();
         }
 
-        return recentDeliveryReceiptCache;
+        String ledgerKey = String.join(":",
+            String.valueOf(callback.getCaseDetails().getId()),
+            String.valueOf(callback.getEvent()),
+            channel.name(),
+            reference,
+            recipient
+        );
+
+        Optional<String> recordedNotificationId = notificationLedger.get().find(ledgerKey);
+        if (recordedNotificationId.isPresent()) {
+            logger.info("Notification already sent for this callback, not sending again: {} ({})",
+                reference,
+                recordedNotificationId.get()
+            );
+            return recordedNotificationId.get();
+        }
+
+        String notificationId = send.get();
+        if (notificationId != null && !notificationId.isEmpty()) {
+            notificationLedger.get().record(ledgerKey, notificationId);
+        }
+        return notificationId;
+    }
+
+    // a send started now can take up to the client's request timeout, so it is not started unless that fits
+    private static boolean isPastCallbackDeadline(RetryableNotificationClient notificationClient) {
+        return CallbackDeadline.current()
+            .map(deadline -> deadline.isExceededBy(notificationClient.getRequestTimeout()))
+            .orElse(false);
     }
 
     private void storeFailedNotification(Callback<T> callback, NotificationClientException e,
                                          String reference, String method, String phoneNumber, Logger logger) {
+        storeFailedNotification(
+            callback,
+            String.join("; ", extractErrorMessages(e.getMessage())),
+            reference,
+            method,
+            phoneNumber,
+            logger
+        );
+    }
+
+    private void storeFailedNotification(Callback<T> callback, String errorMessage,
+                                         String reference, String method, String phoneNumber, Logger logger) {
         CaseData caseData = callback.getCaseDetails().getCaseData();
+        // sends for one case may run concurrently, and each failure is appended to the same list
+        synchronized (caseData) {
+            storeFailedNotification(caseData, errorMessage, reference, method, phoneNumber, logger);
+        }
+    }
+
+    private void storeFailedNotification(CaseData caseData, String errorMessage,
+                                         String reference, String method, String phoneNumber, Logger logger) {
         switch (caseData) {
             case AsylumCase asylumCase -> {
                 List<IdValue<StoredNotification>> sortedNotifications = getSortedNotifications(
                     asylumCase.read(AsylumCaseDefinition.NOTIFICATIONS),
-                    e,
+                    errorMessage,
                     reference,
                     method,
                     phoneNumber
@@ -265,7 +349,7 @@ public class NotificationSenderHelper<T extends CaseData> {
             case BailCase bailCase -> {
                 List<IdValue<StoredNotification>> sortedNotifications = getSortedNotifications(
                     bailCase.read(BailCaseFieldDefinition.NOTIFICATIONS),
-                    e,
+                    errorMessage,
                     reference,
                     method,
                     phoneNumber
@@ -277,13 +361,12 @@ public class NotificationSenderHelper<T extends CaseData> {
     }
 
     private List<IdValue<StoredNotification>> getSortedNotifications(Optional<List<IdValue<StoredNotification>>> maybeExistingNotifications,
-                                                                     NotificationClientException e,
+                                                                     String errorMessage,
                                                                      String reference,
                                                                      String method,
                                                                      String phoneNumber) {
         List<IdValue<StoredNotification>> allNotifications = maybeExistingNotifications.orElse(emptyList());
 
-        String errorMessage = e.getMessage();
         StoredNotification storedNotification = getFailedNotification(errorMessage, reference,
             method, phoneNumber);
         allNotifications = append(storedNotification, allNotifications);
@@ -295,7 +378,6 @@ public class NotificationSenderHelper<T extends CaseData> {
         ZonedDateTime zonedSentAt = ZonedDateTime.now()
             .withZoneSameInstant(ZoneId.of("Europe/London"));
         String sentAt = zonedSentAt.toLocalDateTime().toString();
-        List<String> errorMessages = extractErrorMessages(errorMessage);
         return StoredNotification.builder()
             .notificationId("N/A")
             .notificationDateSent(sentAt)
@@ -305,7 +387,7 @@ public class NotificationSenderHelper<T extends CaseData> {
             .notificationStatus("Failed")
             .notificationReference(reference)
             .notificationSubject(reference)
-            .notificationErrorMessage(String.join("; ", errorMessages))
+            .notificationErrorMessage(errorMessage)
             .build();
     }
 
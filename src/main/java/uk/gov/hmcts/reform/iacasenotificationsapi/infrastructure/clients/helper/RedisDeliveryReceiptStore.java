@@ -0,0 +1,159 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+/**
+ * Claims each send in Redis, so a notification is sent once across all replicas rather than once per
+ * pod. Keys are HMACs of the recipient and reference, because they would otherwise hold personal data.
+ * If Redis cannot be reached the send goes ahead and Redis is left alone for a while, leaving each pod
+ * to de-duplicate on its own until it is back. A claim expires after its own short time to live, so a
+ * replica that dies mid-send holds up that send for seconds rather than the whole de-duplication window.
+ */
+@Slf4j
+public class RedisDeliveryReceiptStore {
+
+    private static final String KEY_PREFIX = "notificationDeduplication:";
+    private static final String PENDING = "pending";
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final RedisOperations<String, String> redisOperations;
+    private final HashFunction keyHash;
+    private final Duration pendingWait;
+    private final Duration pendingTimeToLive;
+    private final Duration retryAfter;
+
+    private volatile long unavailableUntilNanos;
+
+    public RedisDeliveryReceiptStore(
+        RedisOperations<String, String> redisOperations,
+        byte[] keyHashSecret,
+        Duration pendingWait,
+        Duration pendingTimeToLive,
+        Duration retryAfter
+    ) {
+        requireNonNull(redisOperations, "redisOperations must not be null");
+        requireNonNull(keyHashSecret, "keyHashSecret must not be null");
+        requireNonNull(pendingWait, "pendingWait must not be null");
+        requireNonNull(pendingTimeToLive, "pendingTimeToLive must not be null");
+        requireNonNull(retryAfter, "retryAfter must not be null");
+
+        this.redisOperations = redisOperations;
+        this.keyHash = Hashing.hmacSha256(keyHashSecret);
+        this.pendingWait = pendingWait;
+        this.pendingTimeToLive = pendingTimeToLive;
+        this.retryAfter = retryAfter;
+        this.unavailableUntilNanos = System.nanoTime();
+    }
+
+    /*
+     * Runs the send if this replica claims the key. If another replica already holds the claim, waits
+     * a short while for its notification id instead. When that replica's send is still in flight after
+     * the wait, or the wait is interrupted, the send goes ahead here: a possible duplicate is better
+     * than a notification that is never sent and never recorded as failed.
+     */
+    public String sendOnce(
+        String key,
+        int deduplicateSendsWithinSeconds,
+        Supplier<String> send
+    ) {
+        if (deduplicateSendsWithinSeconds <= 0 || System.nanoTime() - unavailableUntilNanos < 0) {
+            return send.get();
+        }
+
+        String redisKey = KEY_PREFIX + keyHash.hashString(key, StandardCharsets.UTF_8);
+        Duration timeToLive = Duration.ofSeconds(deduplicateSendsWithinSeconds);
+        Duration claimTimeToLive = pendingTimeToLive.compareTo(timeToLive) < 0 ? pendingTimeToLive : timeToLive;
+        long waitUntilNanos = System.nanoTime() + pendingWait.toNanos();
+
+        ValueOperations<String, String> receipts = redisOperations.opsForValue();
+
+        while (true) {
+
+            boolean claimed;
+            String existingReceipt = null;
+
+            try {
+                claimed = Boolean.TRUE.equals(receipts.setIfAbsent(redisKey, PENDING, claimTimeToLive));
+                if (!claimed) {
+                    existingReceipt = receipts.get(redisKey);
+                }
+            } catch (RuntimeException e) {
+                markUnavailable(e);
+                return send.get();
+            }
+
+            if (claimed) {
+                return sendClaimed(redisKey, timeToLive, send);
+            }
+
+            if (existingReceipt != null && !PENDING.equals(existingReceipt)) {
+                return existingReceipt;
+            }
+
+            if (System.nanoTime() - waitUntilNanos > 0) {
+                log.warn("Notification is still being sent by another replica after {}ms, sending it here",
+                    pendingWait.toMillis()
+                );
+                return send.get();
+            }
+
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted waiting for another replica to send notification, sending it here");
+                return send.get();
+            }
+        }
+    }
+
+    private String sendClaimed(String redisKey, Duration timeToLive, Supplier<String> send) {
+
+        String notificationId;
+
+        try {
+            notificationId = send.get();
+        } catch (RuntimeException | Error e) {
+            release(redisKey);
+            throw e;
+        }
+
+        if (notificationId == null || notificationId.isEmpty()) {
+            release(redisKey);
+            return notificationId;
+        }
+
+        try {
+            redisOperations.opsForValue().set(redisKey, notificationId, timeToLive);
+        } catch (RuntimeException e) {
+            markUnavailable(e);
+        }
+
+        return notificationId;
+    }
+
+    private void release(String redisKey) {
+        try {
+            redisOperations.delete(redisKey);
+        } catch (RuntimeException e) {
+            markUnavailable(e);
+        }
+    }
+
+    private void markUnavailable(RuntimeException e) {
+        log.warn("Redis unavailable for notification de-duplication, de-duplicating locally for {}s: {}",
+            retryAfter.toSeconds(),
+            e.getMessage()
+        );
+        unavailableUntilNanos = System.nanoTime() + retryAfter.toNanos();
+    }
+}
@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+
+/**
+ * Keeps the ledger in Redis, so it is shared by all replicas as well as surviving restarts. Keys
+ * are HMACs of the ledger key, because they would otherwise hold personal data, and each entry
+ * expires after the retention period. If Redis cannot be reached the ledger is skipped and the
+ * send goes ahead, leaving the de-duplication cache to catch repeats.
+ */
+@Slf4j
+public class RedisNotificationLedger implements NotificationLedger {
+
+    private static final String KEY_PREFIX = "notificationLedger:";
+
+    private final RedisOperations<String, String> redisOperations;
+    private final HashFunction keyHash;
+    private final Duration retention;
+
+    public RedisNotificationLedger(
+        RedisOperations<String, String> redisOperations,
+        byte[] keyHashSecret,
+        Duration retention
+    ) {
+        requireNonNull(redisOperations, "redisOperations must not be null");
+        requireNonNull(keyHashSecret, "keyHashSecret must not be null");
+        requireNonNull(retention, "retention must not be null");
+
+        this.redisOperations = redisOperations;
+        this.keyHash = Hashing.hmacSha256(keyHashSecret);
+        this.retention = retention;
+    }
+
+    @Override
+    public Optional<String> find(String key) {
+        try {
+            return Optional.ofNullable(redisOperations.opsForValue().get(redisKey(key)));
+        } catch (RuntimeException e) {
+            log.warn("Could not read notification ledger from Redis: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void record(String key, String notificationId) {
+        try {
+            redisOperations.opsForValue().set(redisKey(key), notificationId, retention);
+        } catch (RuntimeException e) {
+            log.warn("Could not write notification ledger to Redis: {}", e.getMessage());
+        }
+    }
+
+    private String redisKey(String key) {
+        return KEY_PREFIX + keyHash.hashString(key, StandardCharsets.UTF_8);
+    }
+}
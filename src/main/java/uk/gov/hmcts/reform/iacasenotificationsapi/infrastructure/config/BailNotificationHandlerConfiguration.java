@@ -8,6 +8,7 @@ import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.fie
 import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.field.YesOrNo.YES;
 import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.personalisation.utils.CommonUtils.isLastEditNotificationNotToday;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +39,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("startApplicationDisposalNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.START_APPLICATION),
             (callbackStage, callback) -> {
                 boolean canBeHandled = callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == START_APPLICATION;
@@ -61,6 +64,8 @@ public class BailNotificationHandlerConfiguration {
     ) {
 
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_BAIL_APPLICATION),
             (callbackStage, callback) -> {
                 boolean canBeHandled = callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == EDIT_BAIL_APPLICATION;
@@ -81,6 +86,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("submitApplicationNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPLICATION, Event.MAKE_NEW_APPLICATION),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && (callback.getEvent() == Event.SUBMIT_APPLICATION
@@ -104,6 +111,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("submitApplicationWithoutLegalRepNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPLICATION, Event.MAKE_NEW_APPLICATION),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && (callback.getEvent() == Event.SUBMIT_APPLICATION
@@ -127,6 +136,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("uploadSummaryNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_BAIL_SUMMARY),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_BAIL_SUMMARY);
@@ -148,6 +159,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("uploadSummaryWithoutLrNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_BAIL_SUMMARY),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_BAIL_SUMMARY);
@@ -170,6 +183,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("uploadSignedDecisionNoticeNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_SIGNED_DECISION_NOTICE, Event.UPLOAD_SIGNED_DECISION_NOTICE_CONDITIONAL_GRANT),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && List.of(Event.UPLOAD_SIGNED_DECISION_NOTICE, Event.UPLOAD_SIGNED_DECISION_NOTICE_CONDITIONAL_GRANT).contains(callback.getEvent()));
@@ -190,6 +205,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("uploadSignedDecisionNoticeWithoutLrNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_SIGNED_DECISION_NOTICE, Event.UPLOAD_SIGNED_DECISION_NOTICE_CONDITIONAL_GRANT),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && List.of(Event.UPLOAD_SIGNED_DECISION_NOTICE, Event.UPLOAD_SIGNED_DECISION_NOTICE_CONDITIONAL_GRANT).contains(callback.getEvent()));
@@ -210,6 +227,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("endApplicationNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.END_APPLICATION),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.END_APPLICATION);
@@ -231,6 +250,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("endApplicationWithoutLrNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.END_APPLICATION),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.END_APPLICATION);
@@ -252,6 +273,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("uploadDocumentNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_DOCUMENTS),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_DOCUMENTS);
@@ -273,6 +296,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("uploadDocumentWithoutLrNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_DOCUMENTS),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_DOCUMENTS);
@@ -295,6 +320,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("sendBailDirectionNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_BAIL_DIRECTION),
             (callbackStage, callback) -> callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                 && callback.getEvent() == Event.SEND_BAIL_DIRECTION,
             bailNotificationGenerators,
@@ -307,6 +334,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("editBailDocumentsNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_BAIL_DOCUMENTS),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.EDIT_BAIL_DOCUMENTS);
@@ -328,6 +357,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("editBailDocumentsWithoutLrNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_BAIL_DOCUMENTS),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.EDIT_BAIL_DOCUMENTS);
@@ -349,6 +380,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("changeBailDirectionDueDateNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_BAIL_DIRECTION_DUE_DATE),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.CHANGE_BAIL_DIRECTION_DUE_DATE);
@@ -370,6 +403,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("changeBailDirectionDueDateWithoutLrNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_BAIL_DIRECTION_DUE_DATE),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.CHANGE_BAIL_DIRECTION_DUE_DATE);
@@ -392,6 +427,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("editApplicationAfterSubmitNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_BAIL_APPLICATION_AFTER_SUBMIT),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.EDIT_BAIL_APPLICATION_AFTER_SUBMIT);
@@ -413,6 +450,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("editApplicationAfterSubmitWithoutLegalRepNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_BAIL_APPLICATION_AFTER_SUBMIT),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.EDIT_BAIL_APPLICATION_AFTER_SUBMIT);
@@ -434,6 +473,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("createBailCaseLinkNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CREATE_BAIL_CASE_LINK),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.CREATE_BAIL_CASE_LINK);
@@ -455,6 +496,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("createBailCaseLinkWithoutLrNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CREATE_BAIL_CASE_LINK),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.CREATE_BAIL_CASE_LINK);
@@ -476,6 +519,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("maintainBailCaseLinksNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MAINTAIN_BAIL_CASE_LINKS),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.MAINTAIN_BAIL_CASE_LINKS);
@@ -497,6 +542,8 @@ public class BailNotificationHandlerConfiguration {
         @Qualifier("maintainBailCaseLinksWithoutLrNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MAINTAIN_BAIL_CASE_LINKS),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.MAINTAIN_BAIL_CASE_LINKS);
@@ -576,6 +623,8 @@ public class BailNotificationHandlerConfiguration {
         List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CASE_LISTING),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.CASE_LISTING);
@@ -596,6 +645,8 @@ public class BailNotificationHandlerConfiguration {
     public PreSubmitCallbackHandler<BailCase> upperTribunalDecisionRefusedImaNotificationHandler(
         @Qualifier("upperTribunalDecisionRefusedImaNotificationGenerator") List<BailNotificationGenerator> bailNotificationGenerators) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_THE_DECISION),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.RECORD_THE_DECISION);
@@ -618,6 +669,8 @@ public class BailNotificationHandlerConfiguration {
         List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CASE_LISTING),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.CASE_LISTING);
@@ -640,6 +693,8 @@ public class BailNotificationHandlerConfiguration {
         List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CASE_LISTING),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.CASE_LISTING);
@@ -662,6 +717,8 @@ public class BailNotificationHandlerConfiguration {
 
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.END_APPLICATION),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.END_APPLICATION);
@@ -684,6 +741,8 @@ public class BailNotificationHandlerConfiguration {
         List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_TRIBUNAL_CENTRE),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.CHANGE_TRIBUNAL_CENTRE);
@@ -705,6 +764,8 @@ public class BailNotificationHandlerConfiguration {
         List<BailNotificationGenerator> bailNotificationGenerators
     ) {
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_TRIBUNAL_CENTRE),
             (callbackStage, callback) -> {
                 boolean isAllowedBailCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.CHANGE_TRIBUNAL_CENTRE);
@@ -726,6 +787,8 @@ public class BailNotificationHandlerConfiguration {
         List<BailNotificationGenerator> bailNotificationGenerators) {
 
         return new BailNotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.FORCE_CASE_TO_HEARING),
             (callbackStage, callback) -> {
                 boolean validEvent = callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.FORCE_CASE_TO_HEARING;
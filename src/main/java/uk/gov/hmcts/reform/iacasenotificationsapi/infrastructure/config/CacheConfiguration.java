@@ -1,15 +1,17 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.config;
 
 import io.lettuce.core.RedisURI;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
-import org.springframework.cache.support.NoOpCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -23,10 +25,15 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.cache.SelfHealingCacheManager;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.cache.TwoTierCacheManager;
 import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.model.idam.UserInfo;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.health.CacheHealthIndicator;
 import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.AesEncryptingRedisSerializer;
 
 import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
 
 @EnableCaching
 @Configuration
@@ -39,9 +46,17 @@ public class CacheConfiguration {
 
     private static final Logger log = LoggerFactory.getLogger(CacheConfiguration.class);
 
+    private static final Duration REDIS_ENTRY_TTL = Duration.ofSeconds(1800);
+
     @Value("${spring.data.redis.encryption.key}") // Base64-encoded 32-byte key
     private String redisEncryptionKey;
 
+    @Value("${app.cache.redisProbeSeconds:30}")
+    private long redisProbeSeconds;
+
+    @Value("${app.cache.local.maximumSize:10000}")
+    private long localCacheMaximumSize;
+
     @Bean
     public CacheManagerCustomizer<CaffeineCacheManager> cacheManagerCustomizer() {
         return cacheManager -> cacheManager.setAllowNullValues(false);
@@ -49,67 +64,118 @@ public class CacheConfiguration {
 
     @Bean
     @Primary
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
-        try {
-            redisConnectionFactory.getConnection().ping();
-            log.info("Redis connection successful - using Redis for systemTokenCache and userTokenCache");
-
-            // Idam user info config
-            AesEncryptingRedisSerializer<UserInfo> userInfoSerializer =
-                new AesEncryptingRedisSerializer<>(
-                    new Jackson2JsonRedisSerializer<>(UserInfo.class),
-                    redisEncryptionKey
-                );
-
-            RedisCacheConfiguration userInfoCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofSeconds(1800))
-                .disableCachingNullValues()
-                .serializeKeysWith(
-                    RedisSerializationContext.SerializationPair
-                        .fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(
-                    RedisSerializationContext.SerializationPair
-                        .fromSerializer(userInfoSerializer));
-
-            // system user token config
-            AesEncryptingRedisSerializer<String> tokenSerializer =
-                new AesEncryptingRedisSerializer<>(
-                    new Jackson2JsonRedisSerializer<>(String.class),
-                    redisEncryptionKey
-                );
-
-            RedisCacheConfiguration tokenCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofSeconds(1800))  // 30mins (token might expire before cache)
-                .disableCachingNullValues()
-                .serializeKeysWith(
-                    RedisSerializationContext.SerializationPair
-                        .fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(
-                    RedisSerializationContext.SerializationPair
-                        .fromSerializer(tokenSerializer));
-
-            return RedisCacheManager.builder(redisConnectionFactory)
-                .cacheDefaults(tokenCacheConfig)
-                .withCacheConfiguration("systemUserTokenCache", tokenCacheConfig)
-                .withCacheConfiguration("userInfoCache", userInfoCacheConfig)
-                // caches for functional tests
-                .withCacheConfiguration("legalRepATokenCache", tokenCacheConfig)
-                .withCacheConfiguration("caseOfficerTokenCache", tokenCacheConfig)
-                .withCacheConfiguration("adminOfficerTokenCache", tokenCacheConfig)
-                .withCacheConfiguration("homeOfficeApcTokenCache", tokenCacheConfig)
-                .withCacheConfiguration("homeOfficeLartTokenCache", tokenCacheConfig)
-                .withCacheConfiguration("homeOfficePouTokenCache", tokenCacheConfig)
-                .withCacheConfiguration("homeOfficeGenericTokenCache", tokenCacheConfig)
-                .withCacheConfiguration("legalRepShareCaseATokenCache", tokenCacheConfig)
-                .withCacheConfiguration("judgeTokenCache", tokenCacheConfig)
-                .withCacheConfiguration("citizenTokenCache", tokenCacheConfig)
-                .build();
+    public CacheManager nearCacheManager(
+        @Qualifier("cacheManager") CacheManager cacheManager,
+        MeterRegistry meterRegistry,
+        @Value("${app.cache.nearCache.ttlSeconds:60}") long nearCacheTtlSeconds,
+        @Value("${app.cache.nearCache.maximumSize:10000}") long nearCacheMaximumSize
+    ) {
+        if (nearCacheTtlSeconds <= 0) {
+            return cacheManager;
+        }
 
+        // entries copied from Redis can outlive the Redis entry by up to this, so it must stay well under it
+        Duration nearCacheTtl = Duration.ofSeconds(nearCacheTtlSeconds);
+        if (nearCacheTtl.compareTo(REDIS_ENTRY_TTL) >= 0) {
+            throw new IllegalStateException(
+                "app.cache.nearCache.ttlSeconds must be less than the Redis entry TTL of "
+                + REDIS_ENTRY_TTL.toSeconds() + " seconds"
+            );
+        }
+
+        return new TwoTierCacheManager(
+            cacheManager,
+            nearCacheTtl,
+            nearCacheMaximumSize,
+            meterRegistry
+        );
+    }
+
+    @Bean
+    public SelfHealingCacheManager cacheManager(
+        RedisConnectionFactory redisConnectionFactory,
+        MeterRegistry meterRegistry
+    ) {
+        Optional<CacheManager> redisCacheManager;
+        try {
+            redisCacheManager = Optional.of(redisCacheManager(redisConnectionFactory));
         } catch (Exception e) {
-            // if redis is down, dont cache make idam calls, until pod restarts
-            log.warn("Redis unavailable: {}", e.getMessage());
-            return new NoOpCacheManager();
+            // without an encryption key nothing can be cached in Redis, so only local caches are used
+            log.warn("Redis caches could not be configured, using local caches: {}", e.getMessage());
+            redisCacheManager = Optional.empty();
         }
+
+        return new SelfHealingCacheManager(
+            redisCacheManager,
+            redisConnectionFactory,
+            REDIS_ENTRY_TTL,
+            localCacheMaximumSize,
+            Duration.ofSeconds(redisProbeSeconds),
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("redis-probe").daemon().factory()),
+            meterRegistry
+        );
+    }
+
+    @Bean
+    public HealthIndicator cacheHealthIndicator(SelfHealingCacheManager cacheManager) {
+        return new CacheHealthIndicator(cacheManager);
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
+
+        // Idam user info config
+        AesEncryptingRedisSerializer<UserInfo> userInfoSerializer =
+            new AesEncryptingRedisSerializer<>(
+                new Jackson2JsonRedisSerializer<>(UserInfo.class),
+                redisEncryptionKey
+            );
+
+        RedisCacheConfiguration userInfoCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
+            .entryTtl(REDIS_ENTRY_TTL)
+            .disableCachingNullValues()
+            .serializeKeysWith(
+                RedisSerializationContext.SerializationPair
+                    .fromSerializer(new StringRedisSerializer()))
+            .serializeValuesWith(
+                RedisSerializationContext.SerializationPair
+                    .fromSerializer(userInfoSerializer));
+
+        // system user token config
+        AesEncryptingRedisSerializer<String> tokenSerializer =
+            new AesEncryptingRedisSerializer<>(
+                new Jackson2JsonRedisSerializer<>(String.class),
+                redisEncryptionKey
+            );
+
+        RedisCacheConfiguration tokenCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
+            .entryTtl(REDIS_ENTRY_TTL)  // 30mins (token might expire before cache)
+            .disableCachingNullValues()
+            .serializeKeysWith(
+                RedisSerializationContext.SerializationPair
+                    .fromSerializer(new StringRedisSerializer()))
+            .serializeValuesWith(
+                RedisSerializationContext.SerializationPair
+                    .fromSerializer(tokenSerializer));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
+            .cacheDefaults(tokenCacheConfig)
+            .withCacheConfiguration("systemUserTokenCache", tokenCacheConfig)
+            .withCacheConfiguration("userInfoCache", userInfoCacheConfig)
+            // caches for functional tests
+            .withCacheConfiguration("legalRepATokenCache", tokenCacheConfig)
+            .withCacheConfiguration("caseOfficerTokenCache", tokenCacheConfig)
+            .withCacheConfiguration("adminOfficerTokenCache", tokenCacheConfig)
+            .withCacheConfiguration("homeOfficeApcTokenCache", tokenCacheConfig)
+            .withCacheConfiguration("homeOfficeLartTokenCache", tokenCacheConfig)
+            .withCacheConfiguration("homeOfficePouTokenCache", tokenCacheConfig)
+            .withCacheConfiguration("homeOfficeGenericTokenCache", tokenCacheConfig)
+            .withCacheConfiguration("legalRepShareCaseATokenCache", tokenCacheConfig)
+            .withCacheConfiguration("judgeTokenCache", tokenCacheConfig)
+            .withCacheConfiguration("citizenTokenCache", tokenCacheConfig)
+            .build();
+
+        redisCacheManager.initializeCaches();
+        return redisCacheManager;
     }
 
     @Bean
@@ -119,7 +185,7 @@ public class CacheConfiguration {
 
         if (redisUrl == null || redisUrl.isBlank()) {
             log.warn("No Redis URL configured");
-            // return a dummy factory - cacheManager will catch the ping failure and fall back
+            // return a dummy factory - cacheManager will fail to ping it and use local caches
             return new LettuceConnectionFactory();
         }
 
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.metrics.CallbackMetrics;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.metrics.CallbackMetricsBeanPostProcessor;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
+
+@Configuration
+public class CallbackMetricsConfiguration {
+
+    @Bean
+    public CallbackMetrics callbackMetrics(MeterRegistry meterRegistry) {
+        return new CallbackMetrics(meterRegistry);
+    }
+
+    @Bean
+    public static CallbackMetricsBeanPostProcessor callbackMetricsBeanPostProcessor(
+        ObjectProvider<CallbackMetrics> callbackMetrics,
+        ObjectProvider<CallbackTracer> callbackTracer
+    ) {
+        return new CallbackMetricsBeanPostProcessor(callbackMetrics, callbackTracer);
+    }
+}
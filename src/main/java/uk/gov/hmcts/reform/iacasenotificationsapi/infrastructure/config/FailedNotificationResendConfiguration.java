@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.NotificationSender;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCaseDefinition;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.BailCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.BailCaseFieldDefinition;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.personalisation.BailEmailNotificationPersonalisation;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.personalisation.BailSmsNotificationPersonalisation;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.personalisation.EmailNotificationPersonalisation;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.personalisation.SmsNotificationPersonalisation;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.FailedNotificationResender;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.resend.FailedNotificationResendRunner;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.resend.RequestScopedCollaborators;
+
+@Configuration
+public class FailedNotificationResendConfiguration {
+
+    @Bean
+    public FailedNotificationResender<AsylumCase> asylumFailedNotificationResender(
+        List<EmailNotificationPersonalisation> emailPersonalisations,
+        List<SmsNotificationPersonalisation> smsPersonalisations,
+        NotificationSender<AsylumCase> notificationSender,
+        @Value("${failedNotificationResend.maximumConcurrency}") int maximumConcurrency
+    ) {
+        return new FailedNotificationResender<>(
+            emailPersonalisations,
+            smsPersonalisations,
+            notificationSender,
+            asylumCase -> asylumCase.read(AsylumCaseDefinition.NOTIFICATIONS),
+            RequestScopedCollaborators::areUsedBy,
+            maximumConcurrency
+        );
+    }
+
+    @Bean
+    public FailedNotificationResender<BailCase> bailFailedNotificationResender(
+        List<BailEmailNotificationPersonalisation> emailPersonalisations,
+        List<BailSmsNotificationPersonalisation> smsPersonalisations,
+        NotificationSender<BailCase> notificationSender,
+        @Value("${failedNotificationResend.maximumConcurrency}") int maximumConcurrency
+    ) {
+        return new FailedNotificationResender<>(
+            emailPersonalisations,
+            smsPersonalisations,
+            notificationSender,
+            bailCase -> bailCase.read(BailCaseFieldDefinition.NOTIFICATIONS),
+            RequestScopedCollaborators::areUsedBy,
+            maximumConcurrency
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = {"failedNotificationResend.directory", "failedNotificationResend.caseType"})
+    public FailedNotificationResendRunner<?> failedNotificationResendRunner(
+        FailedNotificationResender<AsylumCase> asylumFailedNotificationResender,
+        FailedNotificationResender<BailCase> bailFailedNotificationResender,
+        ObjectMapper objectMapper,
+        @Value("${failedNotificationResend.directory}") String directory,
+        @Value("${failedNotificationResend.caseType}") String caseType
+    ) {
+        return switch (caseType) {
+            case "asylum" -> new FailedNotificationResendRunner<>(
+                asylumFailedNotificationResender, objectMapper, AsylumCase.class, Path.of(directory));
+            case "bail" -> new FailedNotificationResendRunner<>(
+                bailFailedNotificationResender, objectMapper, BailCase.class, Path.of(directory));
+            default -> throw new IllegalStateException(
+                "failedNotificationResend.caseType must be asylum or bail, was: " + caseType);
+        };
+    }
+}
@@ -2,38 +2,293 @@ package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.config;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.BailCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.ConcurrentSendExecutor;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.NotificationCircuitBreaker;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.NotificationRateLimiter;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.NotificationRetryPolicy;
 import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.RetryableNotificationClient;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.capture.CaptureNotificationClient;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.capture.NotificationCapture;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper.DeliveryReceiptCache;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper.EmbeddedNotificationLedger;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper.NotificationLedger;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper.NotificationSenderHelper;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper.RedisDeliveryReceiptStore;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper.RedisNotificationLedger;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.AesEncryptingRedisSerializer;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
 import uk.gov.service.notify.CustomNotificationClient;
+import uk.gov.service.notify.NotificationClientApi;
 
 @Slf4j
 @Configuration
 public class GovNotifyConfiguration {
 
+    private static final String KEY_HASH_LABEL = "ia-case-notifications-api:notification-key-hash";
+
     @Bean
     @Primary
     public RetryableNotificationClient notificationClient(
         @Value("${govnotify.key}") String key,
         @Value("${govnotify.baseUrl}") String goveNotifyBaseUrl,
-        @Value("${govnotify.timeout}") int timeout
+        @Value("${govnotify.timeout}") int timeout,
+        @Qualifier("govNotifyHttpClient") Optional<HttpClient> pooledHttpClient,
+        @Value("${govnotify.tokenReuseSeconds}") long tokenReuseSeconds,
+        NotificationRetryPolicy notificationRetryPolicy,
+        @Value("${govnotify.circuitBreaker.failureThreshold}") int failureThreshold,
+        @Value("${govnotify.circuitBreaker.openSeconds}") long openSeconds,
+        @Qualifier("asylumNotificationRateLimiter") Optional<NotificationRateLimiter> rateLimiter,
+        MeterRegistry meterRegistry,
+        CallbackTracer callbackTracer,
+        Optional<NotificationCapture> notificationCapture
     ) {
         requireNonNull(key);
 
-        return new RetryableNotificationClient(new CustomNotificationClient(key, goveNotifyBaseUrl, timeout));
+        return new RetryableNotificationClient(
+            notifyClient(notificationCapture, () -> new CustomNotificationClient(
+                key,
+                goveNotifyBaseUrl,
+                timeout,
+                pooledHttpClient,
+                Duration.ofSeconds(tokenReuseSeconds),
+                meterRegistry
+            )),
+            "asylum",
+            Duration.ofMillis(timeout),
+            notificationRetryPolicy,
+            Optional.of(new NotificationCircuitBreaker(failureThreshold, Duration.ofSeconds(openSeconds))),
+            rateLimiter,
+            meterRegistry,
+            callbackTracer
+        );
     }
 
     @Bean("BailClient")
     public RetryableNotificationClient notificationBailClient(
             @Value("${govnotify.bail.key}") String key,
             @Value("${govnotify.baseUrl}") String goveNotifyBaseUrl,
-            @Value("${govnotify.bail.timeout}") int timeout
+            @Value("${govnotify.bail.timeout}") int timeout,
+            @Qualifier("govNotifyHttpClient") Optional<HttpClient> pooledHttpClient,
+            @Value("${govnotify.tokenReuseSeconds}") long tokenReuseSeconds,
+            NotificationRetryPolicy notificationRetryPolicy,
+            @Value("${govnotify.circuitBreaker.failureThreshold}") int failureThreshold,
+            @Value("${govnotify.circuitBreaker.openSeconds}") long openSeconds,
+            @Qualifier("bailNotificationRateLimiter") Optional<NotificationRateLimiter> rateLimiter,
+            MeterRegistry meterRegistry,
+            CallbackTracer callbackTracer,
+            Optional<NotificationCapture> notificationCapture
     ) {
         requireNonNull(key);
 
-        return new RetryableNotificationClient(new CustomNotificationClient(key, goveNotifyBaseUrl, timeout));
+        return new RetryableNotificationClient(
+            notifyClient(notificationCapture, () -> new CustomNotificationClient(
+                key,
+                goveNotifyBaseUrl,
+                timeout,
+                pooledHttpClient,
+                Duration.ofSeconds(tokenReuseSeconds),
+                meterRegistry
+            )),
+            "bail",
+            Duration.ofMillis(timeout),
+            notificationRetryPolicy,
+            Optional.of(new NotificationCircuitBreaker(failureThreshold, Duration.ofSeconds(openSeconds))),
+            rateLimiter,
+            meterRegistry,
+            callbackTracer
+        );
+    }
+
+    // with the capture-notifications profile, sends are captured in memory instead of reaching Notify
+    private static NotificationClientApi notifyClient(
+        Optional<NotificationCapture> notificationCapture,
+        Supplier<NotificationClientApi> govNotifyClient
+    ) {
+        return notificationCapture
+            .<NotificationClientApi>map(CaptureNotificationClient::new)
+            .orElseGet(govNotifyClient);
+    }
+
+    @Bean
+    public NotificationRetryPolicy notificationRetryPolicy(
+        @Value("${govnotify.retry.maxAttempts}") int maxAttempts,
+        @Value("${govnotify.retry.initialBackoffMillis}") long initialBackoffMillis,
+        @Value("${govnotify.retry.maxBackoffMillis}") long maxBackoffMillis
+    ) {
+        return new NotificationRetryPolicy(
+            maxAttempts,
+            Duration.ofMillis(initialBackoffMillis),
+            Duration.ofMillis(maxBackoffMillis)
+        );
+    }
+
+    // GOV.UK Notify rate limits each API key separately, so the asylum and bail keys get a bucket each
+    @Bean("asylumNotificationRateLimiter")
+    @ConditionalOnProperty(name = "govnotify.rateLimit.enabled", havingValue = "true")
+    public NotificationRateLimiter asylumNotificationRateLimiter(
+        @Value("${govnotify.rateLimit.permitsPerSecond}") double permitsPerSecond,
+        @Value("${govnotify.rateLimit.burst}") int burst,
+        @Value("${govnotify.rateLimit.maxWaitMillis}") long maxWaitMillis,
+        MeterRegistry meterRegistry
+    ) {
+        return new NotificationRateLimiter("asylum", permitsPerSecond, burst, Duration.ofMillis(maxWaitMillis), meterRegistry);
+    }
+
+    @Bean("bailNotificationRateLimiter")
+    @ConditionalOnProperty(name = "govnotify.rateLimit.enabled", havingValue = "true")
+    public NotificationRateLimiter bailNotificationRateLimiter(
+        @Value("${govnotify.rateLimit.permitsPerSecond}") double permitsPerSecond,
+        @Value("${govnotify.rateLimit.burst}") int burst,
+        @Value("${govnotify.rateLimit.maxWaitMillis}") long maxWaitMillis,
+        MeterRegistry meterRegistry
+    ) {
+        return new NotificationRateLimiter("bail", permitsPerSecond, burst, Duration.ofMillis(maxWaitMillis), meterRegistry);
+    }
+
+    /*
+     * Shared by the asylum and bail clients, so both reuse the same connections to Notify. Connecting
+     * is allowed the longer of the two clients' timeouts, so neither client's setting is cut short,
+     * while each request still times out after its own client's timeout.
+     */
+    @Bean("govNotifyHttpClient")
+    @ConditionalOnProperty(name = "govnotify.pooledConnections.enabled", havingValue = "true")
+    public HttpClient govNotifyHttpClient(
+        @Value("${govnotify.timeout}") int timeout,
+        @Value("${govnotify.bail.timeout}") int bailTimeout
+    ) {
+        return HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(Math.max(timeout, bailTimeout)))
+            .build();
+    }
+
+    @Bean
+    public NotificationSenderHelper<AsylumCase> notificationSenderHelper(
+        @Value("${notificationSender.deduplicateMaximumSize}") long deduplicateMaximumSize,
+        MeterRegistry meterRegistry,
+        Optional<RedisDeliveryReceiptStore> redisDeliveryReceiptStore,
+        Optional<NotificationLedger> notificationLedger
+    ) {
+        return new NotificationSenderHelper<>(
+            new DeliveryReceiptCache("asylum", deduplicateMaximumSize, meterRegistry, redisDeliveryReceiptStore),
+            notificationLedger
+        );
+    }
+
+    @Bean
+    public NotificationSenderHelper<BailCase> bailNotificationSenderHelper(
+        @Value("${notificationSender.deduplicateMaximumSize}") long deduplicateMaximumSize,
+        MeterRegistry meterRegistry,
+        Optional<RedisDeliveryReceiptStore> redisDeliveryReceiptStore,
+        Optional<NotificationLedger> notificationLedger
+    ) {
+        return new NotificationSenderHelper<>(
+            new DeliveryReceiptCache("bail", deduplicateMaximumSize, meterRegistry, redisDeliveryReceiptStore),
+            notificationLedger
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "notificationSender.distributedDeduplication.enabled", havingValue = "true")
+    public RedisDeliveryReceiptStore redisDeliveryReceiptStore(
+        RedisConnectionFactory redisConnectionFactory,
+        @Value("${spring.data.redis.encryption.key}") String redisEncryptionKey,
+        @Value("${notificationSender.distributedDeduplication.pendingWaitMillis}") long pendingWaitMillis,
+        @Value("${notificationSender.distributedDeduplication.pendingTimeToLiveSeconds}") long pendingTimeToLiveSeconds,
+        @Value("${notificationSender.distributedDeduplication.retryAfterSeconds}") long retryAfterSeconds
+    ) {
+        return new RedisDeliveryReceiptStore(
+            encryptedRedisTemplate(redisConnectionFactory, redisEncryptionKey),
+            keyHashSecret(redisEncryptionKey),
+            Duration.ofMillis(pendingWaitMillis),
+            Duration.ofSeconds(pendingTimeToLiveSeconds),
+            Duration.ofSeconds(retryAfterSeconds)
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "notificationLedger.store", havingValue = "embedded")
+    public NotificationLedger embeddedNotificationLedger(
+        @Value("${notificationLedger.file}") String file,
+        @Value("${notificationLedger.retentionMinutes}") long retentionMinutes,
+        @Value("${notificationLedger.maximumSize}") long maximumSize,
+        @Value("${spring.data.redis.encryption.key}") String redisEncryptionKey
+    ) {
+        // the file is not encrypted, so without a key the hashed recipients could be recovered from it
+        if (StringUtils.isBlank(redisEncryptionKey)) {
+            throw new IllegalStateException(
+                "The embedded notification ledger needs spring.data.redis.encryption.key to key its hashes");
+        }
+
+        return new EmbeddedNotificationLedger(
+            Path.of(file),
+            keyHashSecret(redisEncryptionKey),
+            Duration.ofMinutes(retentionMinutes),
+            maximumSize
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "notificationLedger.store", havingValue = "redis")
+    public NotificationLedger redisNotificationLedger(
+        RedisConnectionFactory redisConnectionFactory,
+        @Value("${spring.data.redis.encryption.key}") String redisEncryptionKey,
+        @Value("${notificationLedger.retentionMinutes}") long retentionMinutes
+    ) {
+        return new RedisNotificationLedger(
+            encryptedRedisTemplate(redisConnectionFactory, redisEncryptionKey),
+            keyHashSecret(redisEncryptionKey),
+            Duration.ofMinutes(retentionMinutes)
+        );
+    }
+
+    @Bean("notificationSendExecutor")
+    @ConditionalOnProperty(name = "notificationSender.concurrentSends.enabled", havingValue = "true")
+    public ConcurrentSendExecutor notificationSendExecutor(
+        @Value("${notificationSender.concurrentSends.maximumConcurrency}") int maximumConcurrency
+    ) {
+        return new ConcurrentSendExecutor(maximumConcurrency);
+    }
+
+    private static RedisTemplate<String, String> encryptedRedisTemplate(
+        RedisConnectionFactory redisConnectionFactory,
+        String redisEncryptionKey
+    ) {
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(
+            new AesEncryptingRedisSerializer<>(new StringRedisSerializer(), redisEncryptionKey)
+        );
+        redisTemplate.afterPropertiesSet();
+        return redisTemplate;
+    }
+
+    // derived from the encryption key under its own label, so the AES key is never used as a MAC key
+    private static byte[] keyHashSecret(String redisEncryptionKey) {
+        return Hashing.hmacSha256(Base64.getDecoder().decode(redisEncryptionKey))
+            .hashString(KEY_HASH_LABEL, StandardCharsets.UTF_8)
+            .asBytes();
     }
 }
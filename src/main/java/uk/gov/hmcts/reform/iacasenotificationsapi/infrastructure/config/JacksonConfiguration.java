@@ -5,11 +5,16 @@ import static com.fasterxml.jackson.databind.DeserializationFeature.READ_UNKNOWN
 import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_ENUMS_USING_TO_STRING;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.BailCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.serialization.LazyCaseDataDeserializer;
 
 @Configuration
 public class JacksonConfiguration {
@@ -25,4 +30,11 @@ public class JacksonConfiguration {
             .createXmlMapper(false)
             .build();
     }
+
+    @Bean
+    public Module caseDataModule() {
+        return new SimpleModule("caseDataModule")
+            .addDeserializer(AsylumCase.class, new LazyCaseDataDeserializer<>(AsylumCase.class, AsylumCase::new))
+            .addDeserializer(BailCase.class, new LazyCaseDataDeserializer<>(BailCase.class, BailCase::new));
+    }
 }
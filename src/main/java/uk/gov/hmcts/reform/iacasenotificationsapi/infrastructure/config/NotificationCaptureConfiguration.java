@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.capture.NotificationCapture;
+
+// for load testing without a GOV.UK Notify key; never activate in a deployed environment
+@Configuration
+@Profile(NotificationCaptureConfiguration.PROFILE)
+public class NotificationCaptureConfiguration {
+
+    public static final String PROFILE = "capture-notifications";
+
+    // picked up by the Notify client beans in GovNotifyConfiguration, which then capture instead of sending
+    @Bean
+    public NotificationCapture notificationCapture(
+        @Value("${notificationSender.capture.latencyMillis}") long latencyMillis,
+        @Value("${notificationSender.capture.errorRate}") double errorRate,
+        @Value("${notificationSender.capture.maximumSize}") int maximumSize
+    ) {
+        return new NotificationCapture(Duration.ofMillis(latencyMillis), errorRate, maximumSize, Clock.systemUTC());
+    }
+}
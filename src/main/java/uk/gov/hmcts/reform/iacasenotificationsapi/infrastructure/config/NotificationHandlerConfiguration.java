@@ -61,6 +61,7 @@ import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.utils.AsylumCase
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -128,7 +129,12 @@ public class NotificationHandlerConfiguration {
             callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                 && callback.getEvent() == Event.FORCE_REQUEST_CASE_BUILDING
                 && isNotInternalOrIsInternalWithLegalRepresentation(callback.getCaseDetails().getCaseData());
-        return new NotificationHandler(function, notificationGenerators);
+        return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.FORCE_REQUEST_CASE_BUILDING),
+            function,
+            notificationGenerators
+        );
     }
 
     @Bean
@@ -137,7 +143,12 @@ public class NotificationHandlerConfiguration {
 
         BiPredicate<PreSubmitCallbackStage, Callback<AsylumCase>> function = (callbackStage, callback) ->
             callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT && callback.getEvent() == Event.EDIT_DOCUMENTS;
-        return new NotificationHandler(function, notificationGenerators);
+        return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_DOCUMENTS),
+            function,
+            notificationGenerators
+        );
     }
 
     @Bean
@@ -145,6 +156,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("caseLinkAppealNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CREATE_CASE_LINK),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -161,6 +174,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("homeOfficeMaintainCaseLinkAppealNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CREATE_CASE_LINK),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -176,6 +191,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("caseUnlinkAppealNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MAINTAIN_CASE_LINKS),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -193,6 +210,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("homeOfficeMaintainCaseUnlinkAppealNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MAINTAIN_CASE_LINKS),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -208,6 +227,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("unlinkAppealNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UNLINK_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -223,6 +244,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("unlinkAppealAppellantNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UNLINK_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -238,6 +261,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("linkAppealNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LINK_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -253,6 +278,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("linkAppealAppellantNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LINK_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -268,6 +295,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("reListCaseNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RESTORE_STATE_FROM_ADJOURN),
             (callbackStage, callback) -> {
                 YesOrNo isIntegrated = callback
                     .getCaseDetails()
@@ -287,6 +316,8 @@ public class NotificationHandlerConfiguration {
     public PreSubmitCallbackHandler<AsylumCase> requestCaseEditNotificationHandler(
         @Qualifier("requestCaseEditNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_CASE_EDIT),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REQUEST_CASE_EDIT,
@@ -299,6 +330,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("endAppealNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.END_APPEAL),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -318,6 +351,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("endAppealInternalHoNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.END_APPEAL),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -335,6 +370,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("endAppealAipSmsAppellantNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.END_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -355,6 +392,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("endAppealAipEmailAppellantNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.END_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -383,6 +422,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("endAppealAipEmailRespondentNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.END_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -400,6 +441,8 @@ public class NotificationHandlerConfiguration {
     public PreSubmitCallbackHandler<AsylumCase> appealOutcomeNotificationHandler(
         @Qualifier("appealOutcomeNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DECISION_AND_REASONS),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.SEND_DECISION_AND_REASONS,
@@ -411,6 +454,8 @@ public class NotificationHandlerConfiguration {
     public PreSubmitCallbackHandler<AsylumCase> appealOutcomeAdminNotificationHandler(
         @Qualifier("appealOutcomeAdminNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DECISION_AND_REASONS),
             (callbackStage, callback) -> callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                 && callback.getEvent() == Event.SEND_DECISION_AND_REASONS,
             notificationGenerators
@@ -422,6 +467,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("appealOutcomeRepNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DECISION_AND_REASONS),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -439,6 +486,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("appealOutcomeAipNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DECISION_AND_REASONS),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -457,6 +506,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("appealOutcomeHomeOfficeNotificationFailedNotificationGenerator") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DECISION_AND_REASONS),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -479,6 +530,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_DIRECTION_DUE_DATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -507,6 +560,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_DIRECTION_DUE_DATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -534,6 +589,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_DIRECTION_DUE_DATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -560,6 +617,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_DIRECTION_DUE_DATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -585,6 +644,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_DIRECTION_DUE_DATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -620,6 +681,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_DIRECTION_DUE_DATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -647,6 +710,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_DIRECTION_DUE_DATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -674,6 +739,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_DIRECTION_DUE_DATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -701,6 +768,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_DIRECTION_DUE_DATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -728,6 +797,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_DIRECTION_DUE_DATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -755,6 +826,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_DIRECTION_DUE_DATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -781,6 +854,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_DIRECTION_DUE_DATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -806,6 +881,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_DIRECTION_DUE_DATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -832,6 +909,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631 - listCase
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LIST_CASE),
             (callbackStage, callback) -> {
                 boolean isAllowedAsylumCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == LIST_CASE);
@@ -856,6 +935,8 @@ public class NotificationHandlerConfiguration {
 
         // ADA listCase
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LIST_CASE),
             (callbackStage, callback) -> {
                 boolean isAllowedAsylumCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == LIST_CASE);
@@ -880,6 +961,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631 - listCase
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LIST_CASE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == LIST_CASE
@@ -893,6 +976,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("listCaseInternalNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LIST_CASE),
             (callbackStage, callback) -> {
                 boolean isAllowedAsylumCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == LIST_CASE);
@@ -915,6 +1000,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("listCaseInternalDetainedNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LIST_CASE),
             (callbackStage, callback) -> {
                 boolean isAllowedAsylumCase = (callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == LIST_CASE);
@@ -937,6 +1024,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("listCaseProductionDetainedNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LIST_CASE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 Optional<String> detentionFacility = asylumCase.read(DETENTION_FACILITY, String.class);
@@ -955,6 +1044,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("addAppealNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.ADD_APPEAL_RESPONSE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.ADD_APPEAL_RESPONSE,
@@ -967,6 +1058,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("hearingRequirementsNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_HEARING_REQUIREMENTS),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REQUEST_HEARING_REQUIREMENTS,
@@ -980,6 +1073,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_HEARING_REQUIREMENTS_FEATURE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REQUEST_HEARING_REQUIREMENTS_FEATURE
@@ -995,6 +1090,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_HEARING_REQUIREMENTS_FEATURE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REQUEST_HEARING_REQUIREMENTS_FEATURE
@@ -1009,6 +1106,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_NEW_HEARING_REQUIREMENTS),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -1028,6 +1127,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("respondentEvidenceAipNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_RESPONDENT_EVIDENCE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -1046,6 +1147,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631 - requestRespondentEvidence
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_RESPONDENT_EVIDENCE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -1063,6 +1166,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-6702 - requestRespondentEvidence internal
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_RESPONDENT_EVIDENCE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -1079,6 +1184,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631 - requestRespondentReview
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_RESPONDENT_REVIEW),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -1096,6 +1203,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631 - requestRespondentReview
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_RESPONDENT_REVIEW),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REQUEST_RESPONDENT_REVIEW
@@ -1109,6 +1218,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("respondentReviewInternalNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_RESPONDENT_REVIEW),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -1125,6 +1236,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("respondentReviewInternalIrcPrisonNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_RESPONDENT_REVIEW),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -1177,6 +1290,8 @@ public class NotificationHandlerConfiguration {
         // This applies only to EA/HU/EUSS appeals
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.PAYMENT_APPEAL),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -1253,6 +1368,8 @@ public class NotificationHandlerConfiguration {
     ) {
         // RIA-3631 - submitAppeal
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -1281,6 +1398,8 @@ public class NotificationHandlerConfiguration {
     ) {
         // RIA-7948 - submitAppeal HO missing notification
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -1347,6 +1466,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("uploadRespondentNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_RESPONDENT_EVIDENCE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_RESPONDENT_EVIDENCE,
@@ -1359,6 +1480,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("requestReasonsForAppealAipNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_REASONS_FOR_APPEAL),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REQUEST_REASONS_FOR_APPEAL
@@ -1375,6 +1498,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_REASONS_FOR_APPEAL),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.SUBMIT_REASONS_FOR_APPEAL
@@ -1390,6 +1515,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("respondentEvidenceSubmitted") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_HOME_OFFICE_BUNDLE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_HOME_OFFICE_BUNDLE,
@@ -1404,6 +1531,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631 - requestResponseAmend
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_RESPONSE_AMEND),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REQUEST_RESPONSE_AMEND
@@ -1420,6 +1549,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631 - requestResponseAmend
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_RESPONSE_AMEND),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REQUEST_RESPONSE_AMEND
@@ -1434,6 +1565,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("requestCaseBuildingNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_CASE_BUILDING),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REQUEST_CASE_BUILDING
@@ -1449,6 +1582,8 @@ public class NotificationHandlerConfiguration {
     ) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_CASE_BUILDING),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -1467,6 +1602,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("requestCaseBuildingLegalRepInternalDetainedNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_CASE_BUILDING),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REQUEST_CASE_BUILDING
@@ -1485,6 +1622,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631 sendDirection (awaitingRespondentEvidence only)
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DIRECTION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -1508,6 +1647,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DIRECTION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -1529,6 +1670,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DIRECTION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -1550,6 +1693,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DIRECTION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -1572,6 +1717,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631 sendDirection (awaitingRespondentEvidence only)
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DIRECTION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -1595,6 +1742,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DIRECTION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -1618,6 +1767,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DIRECTION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -1639,6 +1790,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DIRECTION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -1665,6 +1818,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DIRECTION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -1682,6 +1837,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DIRECTION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -1699,6 +1856,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DIRECTION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -1716,6 +1875,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DIRECTION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -1738,6 +1899,8 @@ public class NotificationHandlerConfiguration {
         RecordApplicationRespondentFinder recordApplicationRespondentFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -1764,6 +1927,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631 - editCaseListing
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_CASE_LISTING),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.EDIT_CASE_LISTING
@@ -1779,6 +1944,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("editCaseListingAdaRepNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_CASE_LISTING),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.EDIT_CASE_LISTING
@@ -1794,6 +1961,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("editCaseListingAipNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_CASE_LISTING),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.EDIT_CASE_LISTING
@@ -1809,6 +1978,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_HOME_OFFICE_APPEAL_RESPONSE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_HOME_OFFICE_APPEAL_RESPONSE,
@@ -1822,6 +1993,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("requestResponseReviewNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_RESPONSE_REVIEW),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -1839,6 +2012,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("requestResponseReviewAipNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_RESPONSE_REVIEW),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REQUEST_RESPONSE_REVIEW
@@ -1852,6 +2027,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("hearingBundleReadyRepNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.ASYNC_STITCHING_COMPLETE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.ASYNC_STITCHING_COMPLETE
@@ -1868,6 +2045,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("hearingBundleReadyAipNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.ASYNC_STITCHING_COMPLETE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.ASYNC_STITCHING_COMPLETE
@@ -1884,6 +2063,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("homeOfficeHearingBundleReadyNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.ASYNC_STITCHING_COMPLETE),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -1902,6 +2083,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("hearingBundleFailedNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.ASYNC_STITCHING_COMPLETE),
             (callbackStage, callback) -> {
 
                 final String stitchStatus = getStitchStatus(callback);
@@ -1934,6 +2117,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("asyncStitchingCompleteHomeOfficeNotificationFailedNotificationGenerator") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.ASYNC_STITCHING_COMPLETE),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -1955,6 +2140,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DRAFT_HEARING_REQUIREMENTS),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.DRAFT_HEARING_REQUIREMENTS
@@ -1969,6 +2156,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DRAFT_HEARING_REQUIREMENTS),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.DRAFT_HEARING_REQUIREMENTS
@@ -1983,6 +2172,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+EnumSet.of(Event.REVIEW_HEARING_REQUIREMENTS),
 
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -1998,6 +2189,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+EnumSet.of(Event.REVIEW_HEARING_REQUIREMENTS),
 
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -2013,6 +2206,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LIST_CASE_WITHOUT_HEARING_REQUIREMENTS),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.LIST_CASE_WITHOUT_HEARING_REQUIREMENTS,
@@ -2025,6 +2220,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("uploadAdditionalEvidence") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_ADDITIONAL_EVIDENCE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_ADDITIONAL_EVIDENCE
@@ -2038,6 +2235,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("uploadAdditionalEvidenceAip") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_ADDITIONAL_EVIDENCE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_ADDITIONAL_EVIDENCE
@@ -2051,6 +2250,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("uploadAdditionalEvidenceHomeOffice") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_ADDITIONAL_EVIDENCE_HOME_OFFICE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_ADDITIONAL_EVIDENCE_HOME_OFFICE
@@ -2064,6 +2265,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("uploadAddendumEvidenceCaseOfficer") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_ADDENDUM_EVIDENCE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_ADDENDUM_EVIDENCE
@@ -2078,6 +2281,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("uploadAddendumEvidenceCaseOfficerAip") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_ADDENDUM_EVIDENCE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_ADDENDUM_EVIDENCE
@@ -2092,6 +2297,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("uploadAddendumEvidenceLegalRep") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_ADDENDUM_EVIDENCE_LEGAL_REP),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_ADDENDUM_EVIDENCE_LEGAL_REP
@@ -2106,6 +2313,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("uploadAddendumEvidenceLegalRepForAip") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_ADDENDUM_EVIDENCE_LEGAL_REP),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_ADDENDUM_EVIDENCE_LEGAL_REP
@@ -2119,6 +2328,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("uploadAddendumEvidenceAdminOfficerInternal") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_ADDENDUM_EVIDENCE_ADMIN_OFFICER),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == UPLOAD_ADDENDUM_EVIDENCE_ADMIN_OFFICER
@@ -2132,6 +2343,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("uploadAddendumEvidenceAdminOfficer") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_ADDENDUM_EVIDENCE_ADMIN_OFFICER),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_ADDENDUM_EVIDENCE_ADMIN_OFFICER
@@ -2146,6 +2359,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("uploadAddendumEvidenceAdminOfficerAip") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_ADDENDUM_EVIDENCE_ADMIN_OFFICER),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_ADDENDUM_EVIDENCE_ADMIN_OFFICER
@@ -2159,6 +2374,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("uploadAddendumEvidenceHomeOffice") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_ADDENDUM_EVIDENCE_HOME_OFFICE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_ADDENDUM_EVIDENCE_HOME_OFFICE
@@ -2173,6 +2390,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("internalUploadAddendumEvidenceHomeOffice") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_ADDENDUM_EVIDENCE_HOME_OFFICE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_ADDENDUM_EVIDENCE_HOME_OFFICE
@@ -2186,6 +2405,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("uploadAddendumEvidenceHomeOfficeAip") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_ADDENDUM_EVIDENCE_HOME_OFFICE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPLOAD_ADDENDUM_EVIDENCE_HOME_OFFICE
@@ -2211,6 +2432,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPDATE_HEARING_ADJUSTMENTS),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPDATE_HEARING_ADJUSTMENTS,
@@ -2222,6 +2445,8 @@ public class NotificationHandlerConfiguration {
     public PreSubmitCallbackHandler<AsylumCase> appealExitedOnlineNotificationHandler(
         @Qualifier("appealExitedOnlineNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REMOVE_APPEAL_FROM_ONLINE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -2236,6 +2461,8 @@ public class NotificationHandlerConfiguration {
     public PreSubmitCallbackHandler<AsylumCase> appealExitedOnlineAppellantNotificationHandler(
         @Qualifier("appealExitedOnlineAppellantNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REMOVE_APPEAL_FROM_ONLINE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -2251,6 +2478,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("changeHearingCentreNotificationGenerator") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_HEARING_CENTRE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -2267,6 +2496,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("internalLrChangeHearingCentreNotificationGenerator") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_HEARING_CENTRE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -2283,6 +2514,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("internalDetainedChangeHearingCentreNotificationGenerator") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_HEARING_CENTRE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -2299,6 +2532,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("changeHearingCentreAppellantNotificationGenerator") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CHANGE_HEARING_CENTRE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -2315,6 +2550,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3316 - applyForFTPAAppellant
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.APPLY_FOR_FTPA_APPELLANT),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.APPLY_FOR_FTPA_APPELLANT
@@ -2330,6 +2567,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-6112
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.APPLY_FOR_FTPA_APPELLANT),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.APPLY_FOR_FTPA_APPELLANT
@@ -2343,6 +2582,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("internalDetainedFtpaSubmittedNotificationGenerator") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.APPLY_FOR_FTPA_APPELLANT),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.APPLY_FOR_FTPA_APPELLANT
@@ -2356,6 +2597,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("ftpaSubmittedHomeOfficeNotificationFailedCaseOfficerNotificationGenerator") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.APPLY_FOR_FTPA_APPELLANT),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -2377,6 +2620,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("ftpaSubmittedHomeOfficeNotificationFailedCaseOfficerNotificationGenerator") List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.APPLY_FOR_FTPA_RESPONDENT),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -2398,6 +2643,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3316 - applyForFTPARespondent
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.APPLY_FOR_FTPA_RESPONDENT),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.APPLY_FOR_FTPA_RESPONDENT
@@ -2413,6 +2660,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-6115 - applyForFTPARespondent - notification to appellant
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.APPLY_FOR_FTPA_RESPONDENT),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.APPLY_FOR_FTPA_RESPONDENT
@@ -2426,6 +2675,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("internalDetainedApplyForFtpaRespondentNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.APPLY_FOR_FTPA_RESPONDENT),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -2443,6 +2694,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("respondentFtpaSubmittedHoNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.APPLY_FOR_FTPA_RESPONDENT),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -2458,6 +2711,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("makeAnApplicationAipNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MAKE_AN_APPLICATION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -2473,6 +2728,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("reviewTimeExtensionGrantedGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REVIEW_TIME_EXTENSION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -2505,6 +2762,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("reviewTimeExtensionRefusedGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REVIEW_TIME_EXTENSION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -2538,6 +2797,8 @@ public class NotificationHandlerConfiguration {
     ) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DIRECTION_WITH_QUESTIONS),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -2556,6 +2817,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_CLARIFYING_QUESTION_ANSWERS),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -2574,6 +2837,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.FORCE_CASE_TO_CASE_UNDER_REVIEW),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.FORCE_CASE_TO_CASE_UNDER_REVIEW,
@@ -2594,7 +2859,12 @@ public class NotificationHandlerConfiguration {
                 && isAipJourney(caseData)
                 && isEmailPreferred(caseData);
         };
-        return new NotificationHandler(function, notificationGenerators);
+        return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.FORCE_CASE_TO_CASE_UNDER_REVIEW),
+            function,
+            notificationGenerators
+        );
     }
 
     @Bean
@@ -2610,7 +2880,12 @@ public class NotificationHandlerConfiguration {
                 && isAipJourney(caseData)
                 && isSmsPreferred(caseData));
         };
-        return new NotificationHandler(function, notificationGenerators);
+        return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.FORCE_CASE_TO_CASE_UNDER_REVIEW),
+            function,
+            notificationGenerators
+        );
     }
 
     @Bean
@@ -2619,6 +2894,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.FORCE_CASE_TO_SUBMIT_HEARING_REQUIREMENTS),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.FORCE_CASE_TO_SUBMIT_HEARING_REQUIREMENTS,
@@ -2632,6 +2909,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.FORCE_CASE_TO_SUBMIT_HEARING_REQUIREMENTS),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.FORCE_CASE_TO_SUBMIT_HEARING_REQUIREMENTS
@@ -2647,6 +2926,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631 adjournHearingWithoutDate
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.ADJOURN_HEARING_WITHOUT_DATE),
             (callbackStage, callback) -> callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                 && callback.getEvent() == Event.ADJOURN_HEARING_WITHOUT_DATE
                 && !isListAssistIntegrated(callback.getCaseDetails().getCaseData())
@@ -2661,6 +2942,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.ADJOURN_HEARING_WITHOUT_DATE),
             (callbackStage, callback) -> callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                 && callback.getEvent() == Event.ADJOURN_HEARING_WITHOUT_DATE
                 && isListAssistIntegrated(callback.getCaseDetails().getCaseData())
@@ -2675,6 +2958,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_ADJOURNMENT_DETAILS),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -2698,6 +2983,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_ADJOURNMENT_DETAILS),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -2721,6 +3008,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerator) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.ADJOURN_HEARING_WITHOUT_DATE),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.ADJOURN_HEARING_WITHOUT_DATE
@@ -2735,6 +3024,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-6980
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECISION_WITHOUT_HEARING),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.DECISION_WITHOUT_HEARING
@@ -2749,6 +3040,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-7929
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECISION_WITHOUT_HEARING),
             (callbackStage, callback) -> {
 
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -2767,6 +3060,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECISION_WITHOUT_HEARING),
             (callbackStage, callback) -> {
 
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -2787,6 +3082,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("requestCmaRequirementsAipNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_CMA_REQUIREMENTS),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REQUEST_CMA_REQUIREMENTS
@@ -2803,6 +3100,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_CMA_REQUIREMENTS),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.SUBMIT_CMA_REQUIREMENTS
@@ -2818,6 +3117,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("listCmaAipNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LIST_CMA),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.LIST_CMA
@@ -2832,6 +3133,8 @@ public class NotificationHandlerConfiguration {
     public PreSubmitCallbackHandler<AsylumCase> editAppealAfterSubmitNotificationHandler(
         @Qualifier("editAppealAfterSubmitNotificationGenerator") List<NotificationGenerator> notificationGenerator) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_APPEAL_AFTER_SUBMIT),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -2848,6 +3151,8 @@ public class NotificationHandlerConfiguration {
     public PreSubmitCallbackHandler<AsylumCase> editAppealAfterSubmitInternalCaseNotificationHandler(
         @Qualifier("editAppealAfterSubmitInternalCaseNotificationGenerator") List<NotificationGenerator> notificationGenerator) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_APPEAL_AFTER_SUBMIT),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -2863,6 +3168,8 @@ public class NotificationHandlerConfiguration {
     public PreSubmitCallbackHandler<AsylumCase> editAppealAfterSubmitDetainedIrcPrisonInternalCaseNotificationHandler(
         @Qualifier("editAppealAfterSubmitDetainedIrcPrisonInternalCaseNotificationGenerator") List<NotificationGenerator> notificationGenerator) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_APPEAL_AFTER_SUBMIT),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -2882,6 +3189,8 @@ public class NotificationHandlerConfiguration {
 
         //RIA-3631 leadership/resident judge decision
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LEADERSHIP_JUDGE_FTPA_DECISION, Event.RESIDENT_JUDGE_FTPA_DECISION, Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -2908,6 +3217,8 @@ public class NotificationHandlerConfiguration {
 
         //RIA-3631 leadership/resident judge decision
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LEADERSHIP_JUDGE_FTPA_DECISION, Event.RESIDENT_JUDGE_FTPA_DECISION, Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -2935,6 +3246,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LEADERSHIP_JUDGE_FTPA_DECISION, Event.RESIDENT_JUDGE_FTPA_DECISION, Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -2961,6 +3274,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-6113
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LEADERSHIP_JUDGE_FTPA_DECISION, Event.RESIDENT_JUDGE_FTPA_DECISION, Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -2986,6 +3301,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("submitAppealPaidNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.PAY_AND_SUBMIT_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -3012,6 +3329,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631 reheard FTPA application (resident Judge)
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RESIDENT_JUDGE_FTPA_DECISION, Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -3050,6 +3369,8 @@ public class NotificationHandlerConfiguration {
 
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LEADERSHIP_JUDGE_FTPA_DECISION, Event.RESIDENT_JUDGE_FTPA_DECISION, Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -3092,6 +3413,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -3117,6 +3440,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("submitAppealLegalRepNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -3140,6 +3465,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LEADERSHIP_JUDGE_FTPA_DECISION, Event.RESIDENT_JUDGE_FTPA_DECISION, Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -3166,6 +3493,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-6135
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LEADERSHIP_JUDGE_FTPA_DECISION, Event.RESIDENT_JUDGE_FTPA_DECISION, Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -3263,6 +3592,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LEADERSHIP_JUDGE_FTPA_DECISION, Event.RESIDENT_JUDGE_FTPA_DECISION, Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -3288,6 +3619,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -3309,6 +3642,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-6116
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LEADERSHIP_JUDGE_FTPA_DECISION, Event.RESIDENT_JUDGE_FTPA_DECISION, Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -3333,6 +3668,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LEADERSHIP_JUDGE_FTPA_DECISION, Event.RESIDENT_JUDGE_FTPA_DECISION, Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -3365,6 +3702,8 @@ public class NotificationHandlerConfiguration {
 
         //RIA-3631 - ftpsResidentJudgeDecision
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RESIDENT_JUDGE_FTPA_DECISION, Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -3407,6 +3746,8 @@ public class NotificationHandlerConfiguration {
 
         //RIA-3631 - ftpsResidentJudgeDecision
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LEADERSHIP_JUDGE_FTPA_DECISION, Event.RESIDENT_JUDGE_FTPA_DECISION, Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -3467,6 +3808,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("submitAppealPayOfflineNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -3543,6 +3886,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631 - submitAppeal This needs to be changed as per ACs
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.SUBMIT_APPEAL
@@ -3562,6 +3907,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-3631 - submitAppeal This needs to be changed as per ACs
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.SUBMIT_APPEAL
@@ -3591,6 +3938,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MARK_APPEAL_PAID),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -3624,6 +3973,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MARK_APPEAL_PAID),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -3652,6 +4003,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MARK_APPEAL_PAID),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -3682,6 +4035,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -3759,6 +4114,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("reinstateAppealNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REINSTATE_APPEAL),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REINSTATE_APPEAL
@@ -3773,6 +4130,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("reinstateAppealAipNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REINSTATE_APPEAL),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REINSTATE_APPEAL
@@ -3786,6 +4145,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("homeOfficeLegalRepReinstateAppealInternalNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REINSTATE_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase caseData = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -3801,6 +4162,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("aipmDetainedInPrisonOrIrcReinstateAppealNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REINSTATE_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -3817,6 +4180,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("makeAnApplicationNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MAKE_AN_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -3835,6 +4200,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("internalMakeAnApplicationNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MAKE_AN_APPLICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -3852,6 +4219,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("decideAnApplicationLegalRepNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_AN_APPLICATION),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.DECIDE_AN_APPLICATION
@@ -3866,6 +4235,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("internalDetainedDecideAnApplicationNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_AN_APPLICATION),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -3884,6 +4255,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("decideAnApplicationInternalHomeOfficeNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_AN_APPLICATION),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -3901,6 +4274,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("decideARespondentApplicationHomeOfficeNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_AN_APPLICATION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -3917,6 +4292,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_AN_APPLICATION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -3936,6 +4313,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("decideAnApplicationAipNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_AN_APPLICATION),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.DECIDE_AN_APPLICATION
@@ -3950,6 +4329,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -3976,6 +4357,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -4003,6 +4386,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -4031,6 +4416,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -4057,6 +4444,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MANAGE_FEE_UPDATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -4087,6 +4476,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MANAGE_FEE_UPDATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -4239,6 +4630,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.GENERATE_PIN_IN_POST),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == GENERATE_PIN_IN_POST,
@@ -4252,6 +4645,8 @@ public class NotificationHandlerConfiguration {
     ) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_FEE_REMISSION),
             (callbackStage, callback) -> callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                 && !isAipJourney(callback.getCaseDetails().getCaseData())
                 && callback.getEvent() == Event.REQUEST_FEE_REMISSION,
@@ -4264,6 +4659,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("caseOfficerManageFeeUpdateGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MANAGE_FEE_UPDATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -4424,6 +4821,8 @@ public class NotificationHandlerConfiguration {
     ) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPDATE_PAYMENT_STATUS),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -4540,6 +4939,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_OUT_OF_TIME_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -4564,6 +4965,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -4588,6 +4991,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_RESPONDENT_EVIDENCE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -4607,6 +5012,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -4639,6 +5046,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 final Optional<CaseDetails<AsylumCase>> caseDetailsBefore = callback.getCaseDetailsBefore();
@@ -4673,6 +5082,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_OUT_OF_TIME_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -4696,6 +5107,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -4728,6 +5141,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -4753,6 +5168,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -4778,6 +5195,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -4806,6 +5225,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -4835,6 +5256,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -4859,6 +5282,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_OUT_OF_TIME_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -4881,6 +5306,7 @@ public class NotificationHandlerConfiguration {
         @Qualifier("payAndSubmitAppealEmailNotificationGenerator")
         List<NotificationGenerator> notificationGenerators) {
 
+        // the case officer personalisation reads feature flags for the request user
         return new PostSubmitNotificationHandler(
             (callbackStage, callback) -> {
 
@@ -4910,7 +5336,7 @@ public class NotificationHandlerConfiguration {
                     || (callback.getEvent() == Event.RECORD_REMISSION_DECISION
                     && isRemissionApproved
                     && isEaHuEuAppeal(asylumCase));
-            }, notificationGenerators
+            }, notificationGenerators, true
         );
     }
 
@@ -4919,6 +5345,7 @@ public class NotificationHandlerConfiguration {
         @Qualifier("payAndSubmitAppealEmailInternalNotificationGenerator")
         List<NotificationGenerator> notificationGenerators) {
 
+        // the case officer personalisation reads feature flags for the request user
         return new PostSubmitNotificationHandler(
             (callbackStage, callback) -> {
 
@@ -4947,7 +5374,7 @@ public class NotificationHandlerConfiguration {
                     || (callback.getEvent() == Event.RECORD_REMISSION_DECISION
                     && isRemissionApproved
                     && isEaHuEuAppeal(asylumCase));
-            }, notificationGenerators
+            }, notificationGenerators, true
         );
     }
 
@@ -4957,6 +5384,7 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators
     ) {
 
+        // the case officer personalisation reads feature flags for the request user
         return new PostSubmitNotificationHandler(
             (callbackStage, callback) -> {
 
@@ -4975,7 +5403,7 @@ public class NotificationHandlerConfiguration {
                     && !isInternalCase(asylumCase)
                     && paymentFailed
                     && isPaAppealType;
-            }, notificationGenerators
+            }, notificationGenerators, true
         );
     }
 
@@ -4985,6 +5413,7 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators
     ) {
 
+        // the case officer personalisation reads feature flags for the request user
         return new PostSubmitNotificationHandler(
             (callbackStage, callback) -> {
 
@@ -5003,7 +5432,7 @@ public class NotificationHandlerConfiguration {
                     && isInternalCase(asylumCase)
                     && paymentFailed
                     && isPaAppealType;
-            }, notificationGenerators
+            }, notificationGenerators, true
         );
     }
 
@@ -5059,6 +5488,8 @@ public class NotificationHandlerConfiguration {
     ) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_PAYMENT_METHOD),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -5087,6 +5518,8 @@ public class NotificationHandlerConfiguration {
     ) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_PAYMENT_METHOD),
             (callbackStage, callback) -> {
 
                 final State state = callback.getCaseDetails().getState();
@@ -5138,6 +5571,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_OUT_OF_TIME_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -5161,6 +5596,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_OUT_OF_TIME_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -5184,6 +5621,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_OUT_OF_TIME_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -5208,6 +5647,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_OUT_OF_TIME_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -5231,6 +5672,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("upperTribunalBundleFailedNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.ASYNC_STITCHING_COMPLETE),
             (callbackStage, callback) -> {
 
                 final String stitchStatus = getStitchStatus(callback);
@@ -5254,6 +5697,8 @@ public class NotificationHandlerConfiguration {
 
         // RIA-4827 - Ctsc notification of Pending payment on appeal decided or ended.
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.END_APPEAL, Event.SEND_DECISION_AND_REASONS),
             (callbackStage, callback) -> {
 
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -5336,6 +5781,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("detainedAppealHearingAdjournedNoDateAppellantEmail") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.ADJOURN_HEARING_WITHOUT_DATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -5419,6 +5866,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("updatePaymentStatusPaidAppealSubmittedLrHoGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPDATE_PAYMENT_STATUS),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -5455,6 +5904,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -5484,6 +5935,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -5511,6 +5964,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("submitAppealLegalRepAaaNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -5529,6 +5984,8 @@ public class NotificationHandlerConfiguration {
     ) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.START_APPEAL),
             (callbackStage, callback) -> {
                 boolean canBeHandled = callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == START_APPEAL;
@@ -5550,6 +6007,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("editAppealLegalRepDisposalNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_APPEAL),
             (callbackStage, callback) -> {
                 boolean canBeHandled = callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == EDIT_APPEAL;
@@ -5571,6 +6030,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("startAppealAipAppellantDisposalNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.START_APPEAL),
             (callbackStage, callback) -> {
 
                 boolean canBeHandled = callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -5593,6 +6054,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("editAppealAipAppellantDisposalNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_APPEAL),
             (callbackStage, callback) -> {
                 boolean canBeHandled = callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == EDIT_APPEAL;
@@ -5613,6 +6076,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("adaSuitabilityNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.ADA_SUITABILITY_REVIEW),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.ADA_SUITABILITY_REVIEW
@@ -5627,6 +6092,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("adaSuitabilityInternalAdaNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.ADA_SUITABILITY_REVIEW),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -5644,6 +6111,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("transferOutOfAdaNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.TRANSFER_OUT_OF_ADA),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.TRANSFER_OUT_OF_ADA
@@ -5756,6 +6225,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("removeStatutoryTimeframe24WeeksAppellantSmsNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REMOVE_STATUTORY_TIMEFRAME_24_WEEKS),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -5770,6 +6241,8 @@ public class NotificationHandlerConfiguration {
     public PreSubmitCallbackHandler<AsylumCase> removeStatutoryTimeframe24WeeksAppellantLetterNotificationHandler(
         @Qualifier("removeStatutoryTimeframe24WeeksAppellantLetterNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REMOVE_STATUTORY_TIMEFRAME_24_WEEKS),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -5787,6 +6260,8 @@ public class NotificationHandlerConfiguration {
     public PreSubmitCallbackHandler<AsylumCase> removeStatutoryTimeframe24WeeksAppellantNotificationHandler(
         @Qualifier("removeStatutoryTimeframe24WeeksAppellantNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REMOVE_STATUTORY_TIMEFRAME_24_WEEKS),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -5804,6 +6279,8 @@ public class NotificationHandlerConfiguration {
     public PreSubmitCallbackHandler<AsylumCase> removeStatutoryTimeframe24WeeksLegalRepNotificationHandler(
         @Qualifier("removeStatutoryTimeframe24WeeksLegalRepNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REMOVE_STATUTORY_TIMEFRAME_24_WEEKS),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -5822,6 +6299,8 @@ public class NotificationHandlerConfiguration {
     public PreSubmitCallbackHandler<AsylumCase> removeStatutoryTimeframe24WeeksHomeOfficeNotificationHandler(
         @Qualifier("removeStatutoryTimeframe24WeeksHomeOfficeNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REMOVE_STATUTORY_TIMEFRAME_24_WEEKS),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == REMOVE_STATUTORY_TIMEFRAME_24_WEEKS,
@@ -5834,6 +6313,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("internalDetainedTransferOutOfAdaNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.TRANSFER_OUT_OF_ADA),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -5851,6 +6332,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("markAppealAsAdaNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MARK_APPEAL_AS_ADA),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.MARK_APPEAL_AS_ADA
@@ -5864,6 +6347,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("removeDetentionStatusNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REMOVE_DETAINED_STATUS),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REMOVE_DETAINED_STATUS
@@ -5877,6 +6362,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("internalLrRemoveDetentionStatusNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REMOVE_DETAINED_STATUS),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REMOVE_DETAINED_STATUS
@@ -5890,6 +6377,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("removeDetentionStatusLegalRepManualNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REMOVE_DETAINED_STATUS),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REMOVE_DETAINED_STATUS
@@ -5903,6 +6392,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("removeDetentionStatusInternalNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REMOVE_DETAINED_STATUS),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.REMOVE_DETAINED_STATUS
@@ -5916,6 +6407,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("markAsDetainedNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MARK_APPEAL_AS_DETAINED),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.MARK_APPEAL_AS_DETAINED,
@@ -5928,6 +6421,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("markAsDetainedLegalRepNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MARK_APPEAL_AS_DETAINED),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.MARK_APPEAL_AS_DETAINED
@@ -5942,6 +6437,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("markAsDetainedLegalRepManualNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MARK_APPEAL_AS_DETAINED),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.MARK_APPEAL_AS_DETAINED
@@ -5955,6 +6452,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("updateDetentionLocationLegalRepManualNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPDATE_DETENTION_LOCATION),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.UPDATE_DETENTION_LOCATION
@@ -5969,6 +6468,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -5996,6 +6497,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("markAsReadyForUtTransferNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MARK_AS_READY_FOR_UT_TRANSFER),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.MARK_AS_READY_FOR_UT_TRANSFER
@@ -6010,6 +6513,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("markAsReadyForUtTransferInternalNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MARK_AS_READY_FOR_UT_TRANSFER),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent() == Event.MARK_AS_READY_FOR_UT_TRANSFER
@@ -6036,6 +6541,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("updateDetentionLocationNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPDATE_DETENTION_LOCATION),
             (callbackStage, callback) ->
                 callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                     && callback.getEvent().equals(Event.UPDATE_DETENTION_LOCATION)
@@ -6069,6 +6576,8 @@ public class NotificationHandlerConfiguration {
     ) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.END_APPEAL),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6087,6 +6596,8 @@ public class NotificationHandlerConfiguration {
     ) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_CASE_LISTING),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 final CaseDetails<AsylumCase> asylumCaseCaseDetailsBefore = callback.getCaseDetailsBefore().orElse(null);
@@ -6105,6 +6616,8 @@ public class NotificationHandlerConfiguration {
     ) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_CASE_LISTING),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 final CaseDetails<AsylumCase> asylumCaseCaseDetailsBefore = callback.getCaseDetailsBefore().orElse(null);
@@ -6122,6 +6635,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("editCaseListingInternalDetainedIrcPrisonNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_CASE_LISTING),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6137,6 +6652,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("internalDetainedManageFeeUpdateNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MANAGE_FEE_UPDATE),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 boolean isPaymentInstructed = asylumCase.read(FEE_UPDATE_TRIBUNAL_ACTION, FeeTribunalAction.class)
@@ -6159,6 +6676,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
         //turn on notifications event means implicitly that it is an EJP case
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.TURN_ON_NOTIFICATIONS),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase =
                     callback
@@ -6180,6 +6699,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_FEE_REMISSION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6198,6 +6719,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_REMINDER),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6253,6 +6776,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("internalMarkAppealAsAdaNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MARK_APPEAL_AS_ADA),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6341,6 +6866,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("internalLegalOfficerUploadAdditionalAddendumEvidenceNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPLOAD_ADDENDUM_EVIDENCE),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6356,6 +6883,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("applyForCostsNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.APPLY_FOR_COSTS),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6371,6 +6900,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("decideCostsNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_COSTS_APPLICATION),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6386,6 +6917,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("notificationsTurnedOnAppellantAndLegalRepNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.TURN_ON_NOTIFICATIONS),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6402,6 +6935,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("respondToCostsNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RESPOND_TO_COSTS),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6417,6 +6952,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("additionalEvidenceSubmittedOtherPartyGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.ADD_EVIDENCE_FOR_COSTS),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6433,6 +6970,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("additionalEvidenceSubmittedSubmitterGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.ADD_EVIDENCE_FOR_COSTS),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6449,6 +6988,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("considerMakingCostOrderNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.CONSIDER_MAKING_COSTS_ORDER),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6465,6 +7006,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6499,6 +7042,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6520,6 +7065,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6540,6 +7087,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6561,6 +7110,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPDATE_TRIBUNAL_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6582,6 +7133,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPDATE_TRIBUNAL_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6601,6 +7154,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPDATE_TRIBUNAL_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6622,6 +7177,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPDATE_TRIBUNAL_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6643,6 +7200,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPDATE_TRIBUNAL_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6663,6 +7222,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 RemissionOption remissionOption = asylumCase
@@ -6685,6 +7246,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6707,6 +7270,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6728,6 +7293,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6748,6 +7315,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6768,6 +7337,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MARK_APPEAL_PAID),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6787,6 +7358,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPDATE_TRIBUNAL_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6806,6 +7379,8 @@ public class NotificationHandlerConfiguration {
     ) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MARK_APPEAL_AS_REMITTED),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6823,6 +7398,8 @@ public class NotificationHandlerConfiguration {
     ) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MARK_APPEAL_AS_REMITTED),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -6839,6 +7416,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("internalSubmitAppealWithExemptionAppellantLetterNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -6866,6 +7445,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -6895,6 +7476,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.PROGRESS_MIGRATED_CASE),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -6925,6 +7508,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -6963,6 +7548,8 @@ public class NotificationHandlerConfiguration {
     ) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -6991,6 +7578,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7024,6 +7613,8 @@ public class NotificationHandlerConfiguration {
     ) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7058,6 +7649,8 @@ public class NotificationHandlerConfiguration {
     ) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7084,6 +7677,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_RESPONDENT_REVIEW),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7104,6 +7699,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.APPLY_FOR_FTPA_RESPONDENT),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7128,6 +7725,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SUBMIT_APPEAL),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7156,6 +7755,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MANAGE_FEE_UPDATE),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7179,6 +7780,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.END_APPEAL),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7202,6 +7805,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_RESPONDENT_EVIDENCE),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7226,6 +7831,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECISION_WITHOUT_HEARING),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7250,6 +7857,8 @@ public class NotificationHandlerConfiguration {
         DirectionFinder directionFinder) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DIRECTION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7274,6 +7883,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.END_APPEAL_AUTOMATICALLY),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7297,6 +7908,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LIST_CASE),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7318,6 +7931,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LIST_CASE),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7339,6 +7954,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LIST_CASE),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7358,6 +7975,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REINSTATE_APPEAL),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7380,6 +7999,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7412,6 +8033,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.ADJOURN_HEARING_WITHOUT_DATE),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7434,6 +8057,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7465,6 +8090,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -7488,6 +8115,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPDATE_TRIBUNAL_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -7509,6 +8138,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("internalMarkAppealRemittedAipIrcPrisonNotificationGenerator")
         List<NotificationGenerator> notificationGenerators) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MARK_APPEAL_AS_REMITTED),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
@@ -7528,6 +8159,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_FTPA_APPLICATION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -7548,6 +8181,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_AN_APPLICATION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -7571,6 +8206,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MARK_APPEAL_AS_REMITTED),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7593,6 +8230,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.UPDATE_TRIBUNAL_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -7616,6 +8255,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.GENERATE_HEARING_BUNDLE),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7635,6 +8276,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("internalRespondentApplicationDecidedLetterGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.DECIDE_AN_APPLICATION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -7658,6 +8301,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_OUT_OF_TIME_DECISION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7680,6 +8325,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("internalEditAppealAfterSubmitLetterNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_APPEAL_AFTER_SUBMIT),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -7702,6 +8349,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7735,6 +8384,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7766,6 +8417,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7801,6 +8454,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("editCaseListingInternalLetterNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_CASE_LISTING),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callback.getEvent() == Event.EDIT_CASE_LISTING
@@ -7815,6 +8470,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("editCaseListingInternalLrLetterNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_CASE_LISTING),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callback.getEvent() == Event.EDIT_CASE_LISTING
@@ -7831,6 +8488,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("reListCaseNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_CASE_LISTING),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 return callback.getEvent() == Event.EDIT_CASE_LISTING
@@ -7846,6 +8505,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.HEARING_CANCELLED),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 Optional<String> detentionFacility = asylumCase.read(DETENTION_FACILITY, String.class);
@@ -7865,6 +8526,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_CASE_LISTING),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 Optional<String> detentionFacility = asylumCase.read(DETENTION_FACILITY, String.class);
@@ -7898,6 +8561,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("editCaseListingProductionDetainedNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.EDIT_CASE_LISTING),
             (callbackStage, callback) -> {
                 final AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 final Optional<CaseDetails<AsylumCase>> caseDetailsBefore = callback.getCaseDetailsBefore();
@@ -7919,6 +8584,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("aipPaPayLaterRequestReasonsForAppealNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REQUEST_REASONS_FOR_APPEAL),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7951,6 +8618,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("aipPaPayLaterListingNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LIST_CASE),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -7983,6 +8652,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("aipPaPayLaterDecisionNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DECISION_AND_REASONS),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -8015,6 +8686,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("legalRepPaPayLaterCaseBuildingNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.BUILD_CASE),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -8047,6 +8720,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("legalRepPaPayLaterListingNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.LIST_CASE),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -8079,6 +8754,8 @@ public class NotificationHandlerConfiguration {
         @Qualifier("legalRepPaPayLaterDecisionNotificationGenerator") List<NotificationGenerator> notificationGenerators
     ) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_DECISION_AND_REASONS),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -8112,6 +8789,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.SEND_PAYMENT_REMINDER_NOTIFICATION),
             (callbackStage, callback) -> {
 
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
@@ -8135,6 +8814,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_DECISION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 Optional<CaseDetails<AsylumCase>> caseDetailsBefore = callback.getCaseDetailsBefore();
@@ -8163,6 +8844,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.RECORD_REMISSION_REMINDER),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
                 boolean isAppealPaid = asylumCase.read(PAYMENT_STATUS, PaymentStatus.class)
@@ -8184,6 +8867,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.MANAGE_FEE_UPDATE),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -8207,6 +8892,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REFUND_CONFIRMATION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -8225,6 +8912,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REFUND_CONFIRMATION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -8243,6 +8932,8 @@ public class NotificationHandlerConfiguration {
         List<NotificationGenerator> notificationGenerators) {
 
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REFUND_CONFIRMATION),
             (callbackStage, callback) -> {
                 AsylumCase asylumCase = callback.getCaseDetails().getCaseData();
 
@@ -8259,6 +8950,8 @@ public class NotificationHandlerConfiguration {
     public PreSubmitCallbackHandler<AsylumCase> generateRevokeCitizenAccessNotificationHandler(
         @Qualifier("generateRevokeCitizenAccessNotificationGenerator") List<NotificationGenerator> notificationGenerators) {
         return new NotificationHandler(
+            PreSubmitCallbackStage.ABOUT_TO_SUBMIT,
+            EnumSet.of(Event.REVOKE_CITIZEN_ACCESS),
             (callbackStage, callback) -> callbackStage == PreSubmitCallbackStage.ABOUT_TO_SUBMIT
                 && callback.getEvent() == REVOKE_CITIZEN_ACCESS,
             notificationGenerators
@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.outbox.NotificationOutbox;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.outbox.NotificationOutboxJournal;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.AesEncryptingRedisSerializer;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "notificationOutbox.enabled", havingValue = "true")
+public class NotificationOutboxConfiguration {
+
+    @Bean
+    public NotificationOutbox notificationOutbox(
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${notificationOutbox.directory}") String directory,
+        @Value("${notificationOutbox.workers}") int workers,
+        @Value("${notificationOutbox.maxAttempts}") int maxAttempts,
+        @Value("${notificationOutbox.retryBackoffSeconds}") long retryBackoffSeconds,
+        @Value("${spring.data.redis.encryption.key}") String encryptionKey
+    ) {
+        // the journal holds case data, so it is encrypted at rest with the same key as the Redis caches
+        RedisSerializer<byte[]> codec = RedisSerializer.byteArray();
+        if (StringUtils.isNotBlank(encryptionKey)) {
+            codec = new AesEncryptingRedisSerializer<>(codec, encryptionKey);
+        } else {
+            log.warn("No encryption key configured, notification outbox entries are stored unencrypted");
+        }
+
+        return new NotificationOutbox(
+            new NotificationOutboxJournal(Path.of(directory), codec),
+            objectMapper,
+            Executors.newScheduledThreadPool(workers, Thread.ofPlatform().name("notification-outbox-", 0).factory()),
+            maxAttempts,
+            Duration.ofSeconds(retryBackoffSeconds),
+            meterRegistry
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.config;
+
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
+
+@Configuration
+public class TracingConfiguration {
+
+    // spans are only exported when management.tracing.enabled is set
+    @Bean
+    public CallbackTracer callbackTracer(ObjectProvider<Tracer> tracer) {
+        return new CallbackTracer(tracer.getIfAvailable(() -> Tracer.NOOP));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.logSpans", havingValue = "true")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
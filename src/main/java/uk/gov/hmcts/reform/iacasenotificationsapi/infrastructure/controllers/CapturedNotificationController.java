@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.controllers;
+
+import static java.util.Objects.requireNonNull;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Map;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.capture.NotificationCapture;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.config.NotificationCaptureConfiguration;
+
+@Tag(name = "Captured notifications")
+@Profile(NotificationCaptureConfiguration.PROFILE)
+@RestController
+public class CapturedNotificationController {
+
+    private final NotificationCapture notificationCapture;
+
+    public CapturedNotificationController(NotificationCapture notificationCapture) {
+        requireNonNull(notificationCapture, "notificationCapture must not be null");
+
+        this.notificationCapture = notificationCapture;
+    }
+
+    @Operation(summary = "Counts of the notifications captured instead of being sent, by channel")
+    @GetMapping(path = "/capturedNotifications")
+    public ResponseEntity<Map<String, Long>> countCaptured() {
+        return ResponseEntity.ok(notificationCapture.countByChannel());
+    }
+
+    @Operation(summary = "Forget every captured notification")
+    @DeleteMapping(path = "/capturedNotifications")
+    public ResponseEntity<Void> clearCaptured() {
+        notificationCapture.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
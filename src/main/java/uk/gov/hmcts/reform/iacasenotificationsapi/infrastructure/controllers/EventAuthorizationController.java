@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.controllers;
+
+import static java.util.Objects.requireNonNull;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.AuthorizedRolesProvider;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.CcdEventAuthorizor;
+
+@Tag(name = "Event authorizations")
+@ConditionalOnProperty(name = "eventAuthorizations.enabled", havingValue = "true")
+@RestController
+public class EventAuthorizationController {
+
+    private final CcdEventAuthorizor ccdEventAuthorizor;
+    private final AuthorizedRolesProvider authorizedRolesProvider;
+    private final String requiredRole;
+
+    public EventAuthorizationController(
+        CcdEventAuthorizor ccdEventAuthorizor,
+        AuthorizedRolesProvider authorizedRolesProvider,
+        @Value("${eventAuthorizations.requiredRole}") String requiredRole
+    ) {
+        requireNonNull(ccdEventAuthorizor, "ccdEventAuthorizor must not be null");
+        requireNonNull(authorizedRolesProvider, "authorizedRolesProvider must not be null");
+        requireNonNull(requiredRole, "requiredRole must not be null");
+
+        this.ccdEventAuthorizor = ccdEventAuthorizor;
+        this.authorizedRolesProvider = authorizedRolesProvider;
+        this.requiredRole = requiredRole;
+    }
+
+    @Operation(
+        summary = "The roles allowed to trigger each event, as compiled from the configured role event access",
+        security =
+        {
+            @SecurityRequirement(name = "Authorization"),
+            @SecurityRequirement(name = "ServiceAuthorization")
+        },
+        responses =
+        {
+            @ApiResponse(responseCode = "200", description = "Roles by event id"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+        }
+    )
+    @GetMapping(path = "/eventAuthorizations")
+    public ResponseEntity<Map<String, List<String>>> getEventAuthorizations() {
+
+        if (!authorizedRolesProvider.getRoles().contains(requiredRole)) {
+            throw new AccessDeniedException("Viewing event authorizations not allowed");
+        }
+
+        Map<String, List<String>> rolesByEvent = new LinkedHashMap<>();
+        ccdEventAuthorizor.getRequiredRolesByEvent().forEach((event, roles) ->
+            rolesByEvent.put(event.toString(), roles.stream().sorted().toList())
+        );
+
+        return ResponseEntity.ok(rolesByEvent);
+    }
+}
@@ -0,0 +1,143 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.controllers;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.BailCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseDetails;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.FailedNotificationResender;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.AuthorizedRolesProvider;
+
+@Slf4j
+@Tag(name = "Failed notification resend")
+@ConditionalOnProperty(name = "failedNotificationResend.enabled", havingValue = "true")
+@RestController
+public class FailedNotificationResendController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final FailedNotificationResender<AsylumCase> asylumResender;
+    private final FailedNotificationResender<BailCase> bailResender;
+    private final AuthorizedRolesProvider authorizedRolesProvider;
+    private final ObjectMapper objectMapper;
+    private final String requiredRole;
+
+    public FailedNotificationResendController(
+        FailedNotificationResender<AsylumCase> asylumResender,
+        FailedNotificationResender<BailCase> bailResender,
+        AuthorizedRolesProvider authorizedRolesProvider,
+        ObjectMapper objectMapper,
+        @Value("${failedNotificationResend.requiredRole}") String requiredRole
+    ) {
+        requireNonNull(asylumResender, "asylumResender must not be null");
+        requireNonNull(bailResender, "bailResender must not be null");
+        requireNonNull(authorizedRolesProvider, "authorizedRolesProvider must not be null");
+        requireNonNull(objectMapper, "objectMapper must not be null");
+        requireNonNull(requiredRole, "requiredRole must not be null");
+
+        this.asylumResender = asylumResender;
+        this.bailResender = bailResender;
+        this.authorizedRolesProvider = authorizedRolesProvider;
+        this.objectMapper = objectMapper;
+        this.requiredRole = requiredRole;
+    }
+
+    @Operation(
+        summary = "Resends the notifications recorded as Failed on the given asylum cases",
+        security =
+        {
+            @SecurityRequirement(name = "Authorization"),
+            @SecurityRequirement(name = "ServiceAuthorization")
+        },
+        responses =
+        {
+            @ApiResponse(responseCode = "200", description = "One result per case, as newline delimited JSON"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+        }
+    )
+    @PostMapping(
+        path = "/asylum/resendFailedNotifications",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = NDJSON
+    )
+    public ResponseEntity<StreamingResponseBody> resendAsylum(
+        @Parameter(name = "Asylum cases", required = true) @RequestBody List<CaseDetails<AsylumCase>> cases
+    ) {
+        return resend(asylumResender, cases);
+    }
+
+    @Operation(
+        summary = "Resends the notifications recorded as Failed on the given bail cases",
+        security =
+        {
+            @SecurityRequirement(name = "Authorization"),
+            @SecurityRequirement(name = "ServiceAuthorization")
+        },
+        responses =
+        {
+            @ApiResponse(responseCode = "200", description = "One result per case, as newline delimited JSON"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+        }
+    )
+    @PostMapping(
+        path = "/bail/resendFailedNotifications",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = NDJSON
+    )
+    public ResponseEntity<StreamingResponseBody> resendBail(
+        @Parameter(name = "Bail cases", required = true) @RequestBody List<CaseDetails<BailCase>> cases
+    ) {
+        return resend(bailResender, cases);
+    }
+
+    private <T extends CaseData> ResponseEntity<StreamingResponseBody> resend(
+        FailedNotificationResender<T> resender,
+        List<CaseDetails<T>> cases
+    ) {
+        if (!authorizedRolesProvider.getRoles().contains(requiredRole)) {
+            throw new AccessDeniedException("Resending failed notifications not allowed");
+        }
+
+        log.info("Resending failed notifications for {} cases", cases.size());
+
+        StreamingResponseBody report = outputStream -> resender.resendAll(
+            cases.iterator(),
+            result -> writeLine(outputStream, result)
+        );
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(NDJSON))
+            .body(report);
+    }
+
+    private void writeLine(OutputStream outputStream, FailedNotificationResender.CaseResult result) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(result));
+            outputStream.write('\n');
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
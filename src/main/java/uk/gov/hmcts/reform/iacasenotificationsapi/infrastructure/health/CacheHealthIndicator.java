@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.health;
+
+import static java.util.Objects.requireNonNull;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.cache.SelfHealingCacheManager;
+
+/*
+ * Always up, as the service still works on local caches when Redis is away, but says which caches
+ * are in use.
+ */
+public class CacheHealthIndicator implements HealthIndicator {
+
+    private final SelfHealingCacheManager cacheManager;
+
+    public CacheHealthIndicator(SelfHealingCacheManager cacheManager) {
+        requireNonNull(cacheManager, "cacheManager must not be null");
+
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public Health health() {
+        return Health.up()
+            .withDetail("mode", cacheManager.getMode().name().toLowerCase())
+            .build();
+    }
+}
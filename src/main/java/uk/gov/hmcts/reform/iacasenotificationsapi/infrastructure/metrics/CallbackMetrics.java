@@ -0,0 +1,89 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
+
+/**
+ * Timers for each step of handling a CCD callback: the whole dispatch per event and stage, each
+ * handler's {@code canHandle} check, and each notification generator's {@code generate}. Handlers
+ * and generators are tagged with their bean name, as most of them share a class. Histograms and SLO
+ * buckets are configured per meter name under {@code management.metrics.distribution}.
+ */
+public class CallbackMetrics {
+
+    public static final String CALLBACK_DISPATCH = "callback.dispatch";
+    public static final String CALLBACK_HANDLER_CAN_HANDLE = "callback.handler.canHandle";
+    public static final String NOTIFICATION_GENERATE = "notification.generate";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Object, String> componentNames = new ConcurrentHashMap<>();
+    private final Map<Object, Timer> canHandleTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> generateTimers = new ConcurrentHashMap<>();
+
+    public CallbackMetrics(MeterRegistry meterRegistry) {
+        requireNonNull(meterRegistry, "meterRegistry must not be null");
+
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void registerName(Object component, String name) {
+        requireNonNull(component, "component must not be null");
+        requireNonNull(name, "name must not be null");
+
+        componentNames.put(component, name);
+    }
+
+    public String nameOf(Object component) {
+        return componentNames.getOrDefault(component, component.getClass().getSimpleName());
+    }
+
+    public <R> R timeDispatch(String callbackType, Object callbackStage, Event event, Supplier<R> dispatch) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            R response = dispatch.get();
+            outcome = "success";
+            return response;
+        } finally {
+            sample.stop(
+                Timer.builder(CALLBACK_DISPATCH)
+                    .tag("callbackType", callbackType)
+                    .tag("stage", String.valueOf(callbackStage))
+                    .tag("event", String.valueOf(event))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+            );
+        }
+    }
+
+    public boolean timeCanHandle(Object callbackHandler, BooleanSupplier canHandle) {
+        Timer timer = canHandleTimers.computeIfAbsent(callbackHandler, handler ->
+            Timer.builder(CALLBACK_HANDLER_CAN_HANDLE)
+                .tag("handler", nameOf(handler))
+                .register(meterRegistry)
+        );
+
+        long startNanos = System.nanoTime();
+        try {
+            return canHandle.getAsBoolean();
+        } finally {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void timeGenerate(String generatorName, Runnable generate) {
+        generateTimers.computeIfAbsent(generatorName, name ->
+            Timer.builder(NOTIFICATION_GENERATE)
+                .tag("generator", name)
+                .register(meterRegistry)
+        ).record(generate);
+    }
+}
@@ -0,0 +1,118 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.BailCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.Message;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.PostSubmitCallbackHandler;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.PreSubmitCallbackHandler;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.BailNotificationGenerator;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.NotificationGenerator;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
+
+/*
+ * Records the bean name of every callback handler, and times the generators in every notification
+ * generator list bean under that list's bean name, each in its own span. Handlers are left as they are, as the dispatchers
+ * order and recognise them by class.
+ */
+public class CallbackMetricsBeanPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<CallbackMetrics> callbackMetrics;
+    private final ObjectProvider<CallbackTracer> callbackTracer;
+
+    public CallbackMetricsBeanPostProcessor(
+        ObjectProvider<CallbackMetrics> callbackMetrics,
+        ObjectProvider<CallbackTracer> callbackTracer
+    ) {
+        requireNonNull(callbackMetrics, "callbackMetrics must not be null");
+        requireNonNull(callbackTracer, "callbackTracer must not be null");
+
+        this.callbackMetrics = callbackMetrics;
+        this.callbackTracer = callbackTracer;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+        if (bean instanceof PreSubmitCallbackHandler<?> || bean instanceof PostSubmitCallbackHandler<?>) {
+            callbackMetrics.getObject().registerName(bean, beanName);
+            return bean;
+        }
+
+        if (bean instanceof List<?> generators && !generators.isEmpty()) {
+
+            if (generators.stream().allMatch(NotificationGenerator.class::isInstance)) {
+                return generators.stream()
+                    .map(generator -> new TimedNotificationGenerator(beanName, (NotificationGenerator) generator))
+                    .toList();
+            }
+
+            if (generators.stream().allMatch(BailNotificationGenerator.class::isInstance)) {
+                return generators.stream()
+                    .map(generator -> new TimedBailNotificationGenerator(beanName, (BailNotificationGenerator) generator))
+                    .toList();
+            }
+        }
+
+        return bean;
+    }
+
+    private void generateInSpan(String name, Callback<? extends CaseData> callback, Runnable generate) {
+        Map<String, String> attributes = CallbackTracer.callbackAttributes(callback);
+        attributes.put("generator", name);
+
+        callbackTracer.getIfAvailable(() -> CallbackTracer.NOOP).inSpan("notification.generate", attributes, () -> {
+            callbackMetrics.getObject().timeGenerate(name, generate);
+            return null;
+        });
+    }
+
+    private final class TimedNotificationGenerator implements NotificationGenerator {
+
+        private final String name;
+        private final NotificationGenerator delegate;
+
+        private TimedNotificationGenerator(String name, NotificationGenerator delegate) {
+            this.name = name;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void generate(Callback<AsylumCase> callback) {
+            generateInSpan(name, callback, () -> delegate.generate(callback));
+        }
+
+        @Override
+        public Message getSuccessMessage() {
+            return delegate.getSuccessMessage();
+        }
+    }
+
+    private final class TimedBailNotificationGenerator implements BailNotificationGenerator {
+
+        private final String name;
+        private final BailNotificationGenerator delegate;
+
+        private TimedBailNotificationGenerator(String name, BailNotificationGenerator delegate) {
+            this.name = name;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void generate(Callback<BailCase> callback) {
+            generateInSpan(name, callback, () -> delegate.generate(callback));
+        }
+
+        @Override
+        public Message getSuccessMessage() {
+            return delegate.getSuccessMessage();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.outbox;
+
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PostSubmitCallbackStage;
+
+@FunctionalInterface
+public interface DeferredNotificationSender {
+
+    void send(
+        PostSubmitCallbackStage callbackStage,
+        Callback<? extends CaseData> callback
+    );
+}
@@ -0,0 +1,230 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.outbox;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.BailCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PostSubmitCallbackStage;
+
+/**
+ * Sends post-submit notifications after CCD has been answered. Each callback is journalled to disk
+ * before the request returns and drained by a pool of background workers, which retry with backoff
+ * and move an entry to the journal's failed entries once it runs out of attempts. Entries still in
+ * the journal when the service starts, because it stopped or crashed before they were sent, are
+ * replayed.
+ */
+@Slf4j
+public class NotificationOutbox implements SmartLifecycle {
+
+    private static final Map<String, Class<? extends CaseData>> CASE_TYPES = Map.of(
+        "asylum", AsylumCase.class,
+        "bail", BailCase.class
+    );
+
+    private final NotificationOutboxJournal journal;
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService workers;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final AtomicInteger pendingEntries = new AtomicInteger();
+
+    private volatile DeferredNotificationSender sender;
+    private volatile boolean running;
+
+    public NotificationOutbox(
+        NotificationOutboxJournal journal,
+        ObjectMapper objectMapper,
+        ScheduledExecutorService workers,
+        int maxAttempts,
+        Duration retryBackoff,
+        MeterRegistry meterRegistry
+    ) {
+        requireNonNull(journal, "journal must not be null");
+        requireNonNull(objectMapper, "objectMapper must not be null");
+        requireNonNull(workers, "workers must not be null");
+        requireNonNull(retryBackoff, "retryBackoff must not be null");
+        requireNonNull(meterRegistry, "meterRegistry must not be null");
+
+        this.journal = journal;
+        this.objectMapper = objectMapper;
+        this.workers = workers;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+
+        Gauge.builder("notification.outbox.pending", pendingEntries, AtomicInteger::get)
+            .register(meterRegistry);
+    }
+
+    public void registerSender(DeferredNotificationSender sender) {
+        requireNonNull(sender, "sender must not be null");
+
+        this.sender = sender;
+    }
+
+    /*
+     * Journals the callback so its notifications are sent in the background. Returns false when the
+     * callback could not be journalled, in which case the caller has to send them itself.
+     */
+    public boolean enqueue(
+        PostSubmitCallbackStage callbackStage,
+        Callback<? extends CaseData> callback
+    ) {
+        requireNonNull(callbackStage, "callbackStage must not be null");
+        requireNonNull(callback, "callback must not be null");
+
+        Optional<String> caseType = caseTypeOf(callback);
+
+        if (!running || sender == null || caseType.isEmpty()) {
+            return false;
+        }
+
+        String entryId;
+        try {
+            ObjectNode entry = objectMapper.createObjectNode();
+            entry.put("caseType", caseType.get());
+            entry.put("callbackStage", callbackStage.name());
+            entry.set("callback", objectMapper.valueToTree(callback));
+
+            entryId = journal.write(objectMapper.writeValueAsBytes(entry));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not journal notifications for case {}, sending them now",
+                callback.getCaseDetails().getId(),
+                e
+            );
+            return false;
+        }
+
+        pendingEntries.incrementAndGet();
+        schedule(entryId, 1, Duration.ZERO);
+
+        return true;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+
+        if (sender == null) {
+            log.warn("No sender registered with the notification outbox, unsent entries will not be replayed");
+            return;
+        }
+
+        try {
+            List<String> unsentEntries = journal.pending();
+            if (!unsentEntries.isEmpty()) {
+                log.info("Replaying {} unsent notification outbox entries", unsentEntries.size());
+            }
+            unsentEntries.forEach(entryId -> {
+                pendingEntries.incrementAndGet();
+                schedule(entryId, 1, Duration.ZERO);
+            });
+        } catch (IOException e) {
+            log.error("Could not read notification outbox journal, unsent entries will be replayed on next start", e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        workers.shutdown();
+
+        try {
+            if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drain(String entryId, int attempt) {
+        try {
+            JsonNode entry = objectMapper.readTree(journal.read(entryId));
+
+            PostSubmitCallbackStage callbackStage =
+                PostSubmitCallbackStage.valueOf(entry.get("callbackStage").asText());
+            Callback<? extends CaseData> callback =
+                objectMapper.readerFor(callbackType(entry.get("caseType").asText())).readValue(entry.get("callback"));
+
+            sender.send(callbackStage, callback);
+
+            journal.complete(entryId);
+            pendingEntries.decrementAndGet();
+
+        } catch (Exception e) {
+
+            if (attempt >= maxAttempts) {
+                log.error("Notification outbox entry {} failed after {} attempts, moving it to failed entries",
+                    entryId,
+                    attempt,
+                    e
+                );
+                moveToFailed(entryId);
+                pendingEntries.decrementAndGet();
+                return;
+            }
+
+            log.warn("Notification outbox entry {} failed on attempt {}, retrying", entryId, attempt, e);
+            schedule(entryId, attempt + 1, retryBackoff.multipliedBy(1L << Math.min(attempt - 1, 10)));
+        }
+    }
+
+    private void schedule(String entryId, int attempt, Duration delay) {
+        try {
+            workers.schedule(() -> drain(entryId, attempt), delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // shutting down, the entry stays in the journal and is replayed on next start
+            log.info("Notification outbox is stopping, entry {} will be replayed on next start", entryId);
+        }
+    }
+
+    private void moveToFailed(String entryId) {
+        try {
+            journal.fail(entryId);
+        } catch (IOException e) {
+            log.error("Could not move notification outbox entry {} to failed entries", entryId, e);
+        }
+    }
+
+    private JavaType callbackType(String caseType) {
+        Class<? extends CaseData> caseDataType = CASE_TYPES.get(caseType);
+        if (caseDataType == null) {
+            throw new IllegalStateException("Unknown case type in notification outbox entry: " + caseType);
+        }
+        return objectMapper.getTypeFactory().constructParametricType(Callback.class, caseDataType);
+    }
+
+    private static Optional<String> caseTypeOf(Callback<? extends CaseData> callback) {
+        CaseData caseData = callback.getCaseDetails().getCaseData();
+
+        return CASE_TYPES.entrySet().stream()
+            .filter(caseType -> caseType.getValue().isInstance(caseData))
+            .map(Map.Entry::getKey)
+            .findFirst();
+    }
+}
@@ -0,0 +1,115 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.outbox;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Keeps pending outbox entries on local disk, one file per entry. Each entry is written to a
+ * temporary file, flushed to disk and then renamed into place, so a crash never leaves a partial
+ * entry behind. Entries are deleted once sent, or moved to {@code failed} when they run out of
+ * attempts. Entry contents go through the given codec, which encrypts them when a key is configured.
+ */
+public class NotificationOutboxJournal {
+
+    private static final String ENTRY_SUFFIX = ".entry";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path pendingDirectory;
+    private final Path failedDirectory;
+    private final RedisSerializer<byte[]> codec;
+
+    public NotificationOutboxJournal(
+        Path directory,
+        RedisSerializer<byte[]> codec
+    ) {
+        requireNonNull(directory, "directory must not be null");
+        requireNonNull(codec, "codec must not be null");
+
+        this.pendingDirectory = directory.resolve("pending");
+        this.failedDirectory = directory.resolve("failed");
+        this.codec = codec;
+
+        try {
+            Files.createDirectories(pendingDirectory);
+            Files.createDirectories(failedDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create notification outbox journal in " + directory, e);
+        }
+    }
+
+    public String write(byte[] entry) throws IOException {
+
+        String entryId = UUID.randomUUID().toString();
+        Path temporaryFile = pendingDirectory.resolve(entryId + TEMPORARY_SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(
+            temporaryFile,
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.WRITE
+        )) {
+            ByteBuffer buffer = ByteBuffer.wrap(codec.serialize(entry));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        Files.move(temporaryFile, entryFile(entryId), StandardCopyOption.ATOMIC_MOVE);
+
+        return entryId;
+    }
+
+    public byte[] read(String entryId) throws IOException {
+        return codec.deserialize(Files.readAllBytes(entryFile(entryId)));
+    }
+
+    public void complete(String entryId) throws IOException {
+        Files.deleteIfExists(entryFile(entryId));
+    }
+
+    public void fail(String entryId) throws IOException {
+        Files.move(
+            entryFile(entryId),
+            failedDirectory.resolve(entryId + ENTRY_SUFFIX),
+            StandardCopyOption.ATOMIC_MOVE
+        );
+    }
+
+    // oldest first, so entries left behind by a crash are replayed in the order they were written
+    public List<String> pending() throws IOException {
+        try (Stream<Path> files = Files.list(pendingDirectory)) {
+            return files
+                .filter(file -> file.getFileName().toString().endsWith(ENTRY_SUFFIX))
+                .sorted(Comparator.comparing(NotificationOutboxJournal::lastModified))
+                .map(file -> file.getFileName().toString())
+                .map(fileName -> fileName.substring(0, fileName.length() - ENTRY_SUFFIX.length()))
+                .collect(Collectors.toList());
+        }
+    }
+
+    private Path entryFile(String entryId) {
+        return pendingDirectory.resolve(entryId + ENTRY_SUFFIX);
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
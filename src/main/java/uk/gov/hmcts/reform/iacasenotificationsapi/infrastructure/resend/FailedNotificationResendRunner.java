@@ -0,0 +1,147 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.resend;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseDetails;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.FailedNotificationResender;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.FailedNotificationResender.CaseResult;
+
+/**
+ * Resends the failed notifications on a directory of exported case details, one JSON file per
+ * case, for runs done outside of the API. Files are read one at a time as the resender asks for
+ * them, and a report with one line per case is written next to them. A file that cannot be read
+ * is reported as an error line, with a case id of 0, and the run carries on with the next file.
+ */
+@Slf4j
+public class FailedNotificationResendRunner<T extends CaseData> implements ApplicationRunner {
+
+    public static final String REPORT_FILE_NAME = "resend-report.ndjson";
+
+    private final FailedNotificationResender<T> resender;
+    private final ObjectMapper objectMapper;
+    private final JavaType caseDetailsType;
+    private final Path directory;
+
+    public FailedNotificationResendRunner(
+        FailedNotificationResender<T> resender,
+        ObjectMapper objectMapper,
+        Class<T> caseDataType,
+        Path directory
+    ) {
+        requireNonNull(resender, "resender must not be null");
+        requireNonNull(objectMapper, "objectMapper must not be null");
+        requireNonNull(caseDataType, "caseDataType must not be null");
+        requireNonNull(directory, "directory must not be null");
+
+        this.resender = resender;
+        this.objectMapper = objectMapper;
+        this.caseDetailsType = objectMapper.getTypeFactory().constructParametricType(CaseDetails.class, caseDataType);
+        this.directory = directory;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        List<Path> caseFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            caseFiles = files
+                .filter(file -> file.getFileName().toString().endsWith(".json"))
+                .sorted()
+                .toList();
+        }
+
+        log.info("Resending failed notifications for {} cases in {}", caseFiles.size(), directory);
+
+        Path report = directory.resolve(REPORT_FILE_NAME);
+        try (BufferedWriter writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+            // unreadable files are reported from the reading thread, alongside results from the resend threads
+            Object reportLock = new Object();
+            Consumer<CaseResult> reportLine = result -> {
+                synchronized (reportLock) {
+                    writeLine(writer, result);
+                }
+            };
+
+            resender.resendAll(
+                readCases(caseFiles.iterator(), reportLine),
+                reportLine
+            );
+        }
+
+        log.info("Failed notification resend report written to {}", report);
+    }
+
+    private Iterator<CaseDetails<T>> readCases(Iterator<Path> caseFiles, Consumer<CaseResult> reportLine) {
+        return new Iterator<>() {
+
+            private CaseDetails<T> nextCase;
+
+            @Override
+            public boolean hasNext() {
+                while (nextCase == null && caseFiles.hasNext()) {
+                    nextCase = read(caseFiles.next(), reportLine);
+                }
+                return nextCase != null;
+            }
+
+            @Override
+            public CaseDetails<T> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                CaseDetails<T> caseDetails = nextCase;
+                nextCase = null;
+                return caseDetails;
+            }
+        };
+    }
+
+    private CaseDetails<T> read(Path caseFile, Consumer<CaseResult> reportLine) {
+        try {
+            CaseDetails<T> caseDetails = objectMapper.readValue(caseFile.toFile(), caseDetailsType);
+            if (caseDetails != null) {
+                return caseDetails;
+            }
+            reportUnreadable(caseFile, "no case details in file", reportLine);
+        } catch (IOException | RuntimeException e) {
+            log.error("Could not read case details from {}", caseFile, e);
+            reportUnreadable(caseFile, e.getMessage(), reportLine);
+        }
+        return null;
+    }
+
+    private void reportUnreadable(Path caseFile, String reason, Consumer<CaseResult> reportLine) {
+        reportLine.accept(new CaseResult(
+            0,
+            Collections.emptyList(),
+            "Could not read case details from " + caseFile.getFileName() + ": " + reason
+        ));
+    }
+
+    private void writeLine(BufferedWriter writer, CaseResult result) {
+        try {
+            writer.write(objectMapper.writeValueAsString(result));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.resend;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.UserDetailsProvider;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.UserDetails;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.FeatureToggler;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.DocumentDownloadClient;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.RequestUserAccessTokenProvider;
+
+/**
+ * Tells whether a component works with anything that is only there while a request is handled: the
+ * request user's details, feature flags evaluated for that user, or documents downloaded as that
+ * user. Only the component's own fields, including those it inherits, are looked at.
+ */
+public final class RequestScopedCollaborators {
+
+    private static final List<Class<?>> REQUEST_SCOPED_TYPES = List.of(
+        UserDetails.class,
+        UserDetailsProvider.class,
+        FeatureToggler.class,
+        DocumentDownloadClient.class,
+        RequestUserAccessTokenProvider.class
+    );
+
+    private RequestScopedCollaborators() {
+        // noop
+    }
+
+    public static boolean areUsedBy(Object component) {
+        for (Class<?> type = component.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && isRequestScoped(field.getType())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRequestScoped(Class<?> fieldType) {
+        return REQUEST_SCOPED_TYPES.stream().anyMatch(type -> type.isAssignableFrom(fieldType));
+    }
+}
@@ -1,43 +1,56 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security;
 
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.springframework.security.access.AccessDeniedException;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
 
 public class CcdEventAuthorizor {
 
-    private final Map<String, List<Event>> roleEventAccess;
+    private final Map<Event, Set<String>> requiredRolesByEvent;
     private final AuthorizedRolesProvider authorizedRolesProvider;
 
     public CcdEventAuthorizor(Map<String, List<Event>> roleEventAccess, AuthorizedRolesProvider authorizedRolesProvider) {
-        this.roleEventAccess = roleEventAccess;
+        this.requiredRolesByEvent = indexRequiredRoles(roleEventAccess);
         this.authorizedRolesProvider = authorizedRolesProvider;
     }
 
+    // the configuration lists events by role, callbacks need the roles for an event
+    private static Map<Event, Set<String>> indexRequiredRoles(Map<String, List<Event>> roleEventAccess) {
+
+        Map<Event, Set<String>> rolesByEvent = new EnumMap<>(Event.class);
+
+        roleEventAccess.forEach((role, events) ->
+            events.forEach(event -> rolesByEvent.computeIfAbsent(event, e -> new HashSet<>()).add(role))
+        );
+
+        rolesByEvent.replaceAll((event, roles) -> Set.copyOf(roles));
+
+        return Collections.unmodifiableMap(rolesByEvent);
+    }
+
     public void throwIfNotAuthorized(Event event) {
 
-        List<String> requiredRoles = getRequiredRolesForEvent(event);
+        Set<String> requiredRoles = getRequiredRolesForEvent(event);
         Set<String> userRoles = authorizedRolesProvider.getRoles();
 
         if (requiredRoles.isEmpty()
             || userRoles.isEmpty()
-            || Collections.disjoint(requiredRoles, userRoles)) {
+            || userRoles.stream().noneMatch(requiredRoles::contains)) {
 
             throw new AccessDeniedException("Event '" + event.toString() + "' not allowed");
         }
     }
 
-    private List<String> getRequiredRolesForEvent(Event event) {
+    public Set<String> getRequiredRolesForEvent(Event event) {
+        return requiredRolesByEvent.getOrDefault(event, Collections.emptySet());
+    }
 
-        return roleEventAccess
-            .entrySet()
-            .stream()
-            .filter(entry -> entry.getValue().contains(event))
-            .map(Map.Entry::getKey)
-            .collect(Collectors.toList());
+    public Map<Event, Set<String>> getRequiredRolesByEvent() {
+        return requiredRolesByEvent;
     }
 }
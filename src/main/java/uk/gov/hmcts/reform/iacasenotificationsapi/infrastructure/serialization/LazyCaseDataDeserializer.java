@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.serialization;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Deserializes case data without binding its structured fields. Objects and arrays are kept as
+ * token buffers which are only bound when the field is read, and are written back verbatim when
+ * the case data is serialized again. Scalar fields are bound as before.
+ */
+public class LazyCaseDataDeserializer<T extends Map<String, Object>> extends StdDeserializer<T> {
+
+    private final Class<T> caseDataType;
+    private final Supplier<T> caseDataFactory;
+
+    public LazyCaseDataDeserializer(
+        Class<T> caseDataType,
+        Supplier<T> caseDataFactory
+    ) {
+        super(caseDataType);
+
+        requireNonNull(caseDataType, "caseDataType must not be null");
+        requireNonNull(caseDataFactory, "caseDataFactory must not be null");
+
+        this.caseDataType = caseDataType;
+        this.caseDataFactory = caseDataFactory;
+    }
+
+    @Override
+    public T deserialize(
+        JsonParser parser,
+        DeserializationContext context
+    ) throws IOException {
+
+        String fieldName;
+
+        if (parser.isExpectedStartObjectToken()) {
+            fieldName = parser.nextFieldName();
+        } else if (parser.hasToken(JsonToken.FIELD_NAME)) {
+            fieldName = parser.currentName();
+        } else {
+            return caseDataType.cast(context.handleUnexpectedToken(caseDataType, parser));
+        }
+
+        JsonDeserializer<Object> scalarDeserializer =
+            context.findRootValueDeserializer(context.constructType(Object.class));
+
+        T caseData = caseDataFactory.get();
+
+        for (; fieldName != null; fieldName = parser.nextFieldName()) {
+
+            JsonToken token = parser.nextToken();
+
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                caseData.put(fieldName, context.bufferAsCopyOfValue(parser));
+            } else if (token == JsonToken.VALUE_NULL) {
+                caseData.put(fieldName, null);
+            } else {
+                caseData.put(fieldName, scalarDeserializer.deserialize(parser, context));
+            }
+        }
+
+        return caseData;
+    }
+}
@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing;
+
+import static java.util.Objects.requireNonNull;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
+
+/**
+ * Spans for the steps of handling a callback that can add up to a slow response: the dispatch,
+ * each matched handler, each notification generator, and each call out to GOV.UK Notify and the
+ * document store. Spans only carry ids, events, template ids and notification types, never case
+ * data or recipients. When tracing is not enabled every span is a no-op.
+ */
+public class CallbackTracer {
+
+    public static final CallbackTracer NOOP = new CallbackTracer(Tracer.NOOP);
+
+    private final Tracer tracer;
+
+    public CallbackTracer(Tracer tracer) {
+        requireNonNull(tracer, "tracer must not be null");
+
+        this.tracer = tracer;
+    }
+
+    public <R, E extends Exception> R inSpan(
+        String name,
+        Map<String, String> attributes,
+        TracedCall<R, E> call
+    ) throws E {
+        Span span = tracer.nextSpan().name(name);
+        attributes.forEach(span::tag);
+
+        try (Tracer.SpanInScope scope = tracer.withSpan(span.start())) {
+            return call.call();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    // sends run on the executor stay children of the span that was current when they were submitted
+    public Executor propagating(Executor executor) {
+        requireNonNull(executor, "executor must not be null");
+
+        return task -> {
+            Span parent = tracer.currentSpan();
+            executor.execute(() -> {
+                try (Tracer.SpanInScope scope = tracer.withSpan(parent)) {
+                    task.run();
+                }
+            });
+        };
+    }
+
+    public static Map<String, String> callbackAttributes(Callback<? extends CaseData> callback) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        if (callback.getCaseDetails() != null) {
+            attributes.put("case.id", String.valueOf(callback.getCaseDetails().getId()));
+        }
+        attributes.put("event", String.valueOf(callback.getEvent()));
+        return attributes;
+    }
+
+    /*
+     * References are the case id followed by a name for the notification and who it is for, for
+     * example 1234_APPEAL_SUBMITTED_LEGAL_REPRESENTATIVE.
+     */
+    public static Map<String, String> sendAttributes(String channel, String templateId, String reference) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("notification.channel", channel);
+        attributes.put("notification.template_id", String.valueOf(templateId));
+
+        if (reference != null) {
+            int caseIdLength = 0;
+            while (caseIdLength < reference.length() && Character.isDigit(reference.charAt(caseIdLength))) {
+                caseIdLength++;
+            }
+            if (caseIdLength > 0) {
+                attributes.put("case.id", reference.substring(0, caseIdLength));
+            }
+            String notificationType = reference.substring(caseIdLength).replaceFirst("^_", "");
+            if (!notificationType.isEmpty()) {
+                attributes.put("notification.type", notificationType);
+            }
+        }
+
+        return attributes;
+    }
+
+    @FunctionalInterface
+    public interface TracedCall<R, E extends Exception> {
+        R call() throws E;
+    }
+}
@@ -1,20 +1,86 @@
 package uk.gov.service.notify;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
+import java.net.URI;
 import java.net.URL;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.json.JSONObject;
 
 public class CustomNotificationClient extends NotificationClient {
 
+    private static final String USER_AGENT = "NOTIFY-API-JAVA-CLIENT/"
+        + Optional.ofNullable(NotificationClient.class.getPackage().getImplementationVersion()).orElse("unknown");
+
     private final int timeout;
+    private final Optional<HttpClient> pooledHttpClient;
+    private final MeterRegistry meterRegistry;
+    private final SignedTokenCache signedTokenCache;
 
-    public CustomNotificationClient(final String apiKey, final String baseUrl, int timeout) {
+    /*
+     * When a pooled HttpClient is given, requests go through it and keep their connections alive
+     * between sends, otherwise each request opens a plain HttpURLConnection. Emails and text messages
+     * are sent with a signed token reused for up to tokenReuse, see SignedTokenCache.
+     */
+    public CustomNotificationClient(
+        final String apiKey,
+        final String baseUrl,
+        int timeout,
+        Optional<HttpClient> pooledHttpClient,
+        Duration tokenReuse,
+        MeterRegistry meterRegistry
+    ) {
         super(apiKey, baseUrl);
         this.timeout = timeout;
+        this.pooledHttpClient = pooledHttpClient;
+        this.meterRegistry = meterRegistry;
+        this.signedTokenCache = new SignedTokenCache(
+            () -> new Authentication().create(getServiceId(), getApiKey()),
+            tokenReuse,
+            Clock.systemUTC()
+        );
+    }
+
+    @Override
+    public SendEmailResponse sendEmail(
+        String templateId,
+        String emailAddress,
+        Map<String, ?> personalisation,
+        String reference
+    ) throws NotificationClientException {
+        JSONObject body = requestBody(templateId, personalisation, reference);
+        putIfPresent(body, "email_address", emailAddress);
+
+        return new SendEmailResponse(post("/v2/notifications/email", body));
+    }
+
+    @Override
+    public SendSmsResponse sendSms(
+        String templateId,
+        String phoneNumber,
+        Map<String, ?> personalisation,
+        String reference
+    ) throws NotificationClientException {
+        JSONObject body = requestBody(templateId, personalisation, reference);
+        putIfPresent(body, "phone_number", phoneNumber);
+
+        return new SendSmsResponse(post("/v2/notifications/sms", body));
     }
 
     @Override
     HttpURLConnection getConnection(URL url) throws IOException {
+        if (pooledHttpClient.isPresent()) {
+            return new PooledHttpConnection(url, pooledHttpClient.get(), Duration.ofMillis(timeout), meterRegistry);
+        }
+
         HttpURLConnection conn = (HttpURLConnection) url.openConnection();
 
         conn.setReadTimeout(timeout);
@@ -23,4 +89,58 @@ public class CustomNotificationClient extends NotificationClient {
         return conn;
     }
 
+    // the same body NotificationClient builds, which leaves out empty fields
+    private static JSONObject requestBody(String templateId, Map<String, ?> personalisation, String reference) {
+        JSONObject body = new JSONObject();
+        putIfPresent(body, "template_id", templateId);
+        if (personalisation != null && !personalisation.isEmpty()) {
+            body.put("personalisation", new JSONObject(personalisation));
+        }
+        putIfPresent(body, "reference", reference);
+        return body;
+    }
+
+    private static void putIfPresent(JSONObject body, String name, String value) {
+        if (value != null && !value.isEmpty()) {
+            body.put(name, value);
+        }
+    }
+
+    private String post(String path, JSONObject body) throws NotificationClientException {
+        HttpURLConnection conn = null;
+        try {
+            conn = getConnection(URI.create(getBaseUrl() + path).toURL());
+            conn.setRequestMethod("POST");
+            conn.setDoOutput(true);
+            conn.setRequestProperty("Authorization", "Bearer " + signedTokenCache.token());
+            conn.setRequestProperty("User-agent", USER_AGENT);
+            conn.setRequestProperty("Content-Type", "application/json");
+
+            try (OutputStream outputStream = conn.getOutputStream()) {
+                outputStream.write(body.toString().getBytes(StandardCharsets.UTF_8));
+            }
+
+            int httpResult = conn.getResponseCode();
+            if (httpResult == HttpURLConnection.HTTP_CREATED) {
+                return read(conn.getInputStream());
+            }
+            throw new NotificationClientException(httpResult, read(conn.getErrorStream()));
+
+        } catch (IOException e) {
+            throw new NotificationClientException(e);
+        } finally {
+            if (conn != null) {
+                conn.disconnect();
+            }
+        }
+    }
+
+    private static String read(InputStream inputStream) throws IOException {
+        if (inputStream == null) {
+            return "";
+        }
+        try (inputStream) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
 }
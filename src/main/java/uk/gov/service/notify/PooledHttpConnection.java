@@ -0,0 +1,171 @@
+package uk.gov.service.notify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.ProtocolException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link HttpURLConnection} whose exchange goes through a shared {@link HttpClient}, so connections
+ * and TLS sessions to GOV.UK Notify are kept open and reused between sends. The request body is
+ * buffered and sent when the response is first asked for.
+ *
+ * <p>Each exchange is timed in two phases on {@code govnotify.client.requests}: {@code headers} runs
+ * until the response headers arrive and includes connecting and the TLS handshake when no pooled
+ * connection could be reused, {@code body} is the time spent reading the response.
+ */
+class PooledHttpConnection extends HttpURLConnection {
+
+    // set by the client itself and rejected by HttpRequest
+    private static final Set<String> RESTRICTED_HEADERS =
+        Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private final HttpClient httpClient;
+    private final Duration timeout;
+    private final MeterRegistry meterRegistry;
+    private final ByteArrayOutputStream requestBody = new ByteArrayOutputStream();
+
+    private HttpResponse<byte[]> response;
+    private volatile long headersReceivedNanos;
+
+    PooledHttpConnection(URL url, HttpClient httpClient, Duration timeout, MeterRegistry meterRegistry) {
+        super(url);
+        this.httpClient = httpClient;
+        this.timeout = timeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void connect() {
+        // connections are opened and pooled by the HttpClient
+    }
+
+    @Override
+    public void disconnect() {
+        // the connection stays in the HttpClient pool for the next send
+    }
+
+    @Override
+    public boolean usingProxy() {
+        return false;
+    }
+
+    @Override
+    public OutputStream getOutputStream() throws IOException {
+        if (!getDoOutput()) {
+            throw new ProtocolException("cannot write to a URLConnection if doOutput=false - call setDoOutput(true)");
+        }
+        if (response != null) {
+            throw new ProtocolException("Cannot write output after reading input.");
+        }
+        return requestBody;
+    }
+
+    @Override
+    public int getResponseCode() throws IOException {
+        return exchange().statusCode();
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        HttpResponse<byte[]> exchanged = exchange();
+        if (exchanged.statusCode() >= HTTP_BAD_REQUEST) {
+            throw new IOException("Server returned HTTP response code: " + exchanged.statusCode() + " for URL: " + url);
+        }
+        return new ByteArrayInputStream(exchanged.body());
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+        if (response == null || response.statusCode() < HTTP_BAD_REQUEST) {
+            return null;
+        }
+        return new ByteArrayInputStream(response.body());
+    }
+
+    @Override
+    public String getHeaderField(String name) {
+        if (response == null) {
+            return null;
+        }
+        return response.headers().firstValue(name).orElse(null);
+    }
+
+    @Override
+    public Map<String, List<String>> getHeaderFields() {
+        if (response == null) {
+            return Map.of();
+        }
+        return response.headers().map();
+    }
+
+    private HttpResponse<byte[]> exchange() throws IOException {
+        if (response != null) {
+            return response;
+        }
+
+        HttpRequest.Builder request;
+        try {
+            request = HttpRequest.newBuilder(url.toURI()).timeout(timeout);
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid URL: " + url, e);
+        }
+
+        getRequestProperties().forEach((name, values) -> {
+            if (name != null && !RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                values.forEach(value -> request.header(name, value));
+            }
+        });
+
+        request.method(
+            getRequestMethod(),
+            getDoOutput()
+                ? HttpRequest.BodyPublishers.ofByteArray(requestBody.toByteArray())
+                : HttpRequest.BodyPublishers.noBody()
+        );
+
+        long startNanos = System.nanoTime();
+        headersReceivedNanos = startNanos;
+
+        try {
+            response = httpClient.send(request.build(), responseInfo -> {
+                headersReceivedNanos = System.nanoTime();
+                return HttpResponse.BodySubscribers.ofByteArray();
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while sending request to " + url);
+        }
+
+        long completedNanos = System.nanoTime();
+        record("headers", headersReceivedNanos - startNanos);
+        record("body", completedNanos - headersReceivedNanos);
+
+        return response;
+    }
+
+    private void record(String phase, long nanos) {
+        Timer.builder("govnotify.client.requests")
+            .tag("method", getRequestMethod())
+            .tag("phase", phase)
+            .register(meterRegistry)
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
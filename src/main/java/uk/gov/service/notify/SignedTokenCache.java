@@ -0,0 +1,64 @@
+package uk.gov.service.notify;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Reuses a signed GOV.UK Notify JWT for a short window instead of signing one for every request.
+ * Notify rejects tokens issued more than 30 seconds away from its own clock, so the window is capped
+ * well inside that to leave room for clock skew. A zero window signs a token for every request.
+ *
+ * <p>Refreshing takes no lock: a request that finds the token expired signs a new one and publishes
+ * it with a compare-and-set. Requests racing it use the token they signed themselves, which is as
+ * valid as the published one.
+ */
+class SignedTokenCache {
+
+    static final Duration MAXIMUM_REUSE = Duration.ofSeconds(20);
+
+    private final Supplier<String> signer;
+    private final Duration reuseWindow;
+    private final Clock clock;
+    private final AtomicReference<SignedToken> current = new AtomicReference<>();
+
+    SignedTokenCache(Supplier<String> signer, Duration reuseWindow, Clock clock) {
+        requireNonNull(signer, "signer must not be null");
+        requireNonNull(reuseWindow, "reuseWindow must not be null");
+        requireNonNull(clock, "clock must not be null");
+
+        if (reuseWindow.isNegative() || reuseWindow.compareTo(MAXIMUM_REUSE) > 0) {
+            throw new IllegalArgumentException(
+                "reuseWindow must be between 0 and " + MAXIMUM_REUSE.toSeconds() + " seconds"
+            );
+        }
+
+        this.signer = signer;
+        this.reuseWindow = reuseWindow;
+        this.clock = clock;
+    }
+
+    String token() {
+        long nowMillis = clock.millis();
+
+        SignedToken token = current.get();
+        if (token != null && token.isValidAt(nowMillis)) {
+            return token.value();
+        }
+
+        SignedToken signed = new SignedToken(signer.get(), nowMillis, nowMillis + reuseWindow.toMillis());
+        current.compareAndSet(token, signed);
+        return signed.value();
+    }
+
+    private record SignedToken(String value, long issuedAtMillis, long expiresAtMillis) {
+
+        // a clock stepping backwards must not stretch the reuse window
+        boolean isValidAt(long nowMillis) {
+            return nowMillis >= issuedAtMillis && nowMillis < expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CallbackDeadlineTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void should_count_down_remaining_time_until_expired() {
+
+        CallbackDeadline deadline = new CallbackDeadline(Duration.ofSeconds(10).toNanos(), nanoTime::get);
+
+        assertEquals(Duration.ofSeconds(10), deadline.remaining());
+        assertFalse(deadline.isExpired());
+        assertFalse(deadline.isExceededBy(Duration.ofSeconds(9)));
+
+        nanoTime.set(Duration.ofSeconds(8).toNanos());
+
+        assertEquals(Duration.ofSeconds(2), deadline.remaining());
+        assertTrue(deadline.isExceededBy(Duration.ofSeconds(3)));
+
+        nanoTime.set(Duration.ofSeconds(11).toNanos());
+
+        assertEquals(Duration.ZERO, deadline.remaining());
+        assertTrue(deadline.isExpired());
+    }
+
+    @Test
+    void should_bind_deadline_for_the_action_and_restore_the_previous_one() {
+
+        CallbackDeadline outer = new CallbackDeadline(100, nanoTime::get);
+        CallbackDeadline inner = new CallbackDeadline(50, nanoTime::get);
+
+        CallbackDeadline.runWithin(Optional.of(outer), () -> {
+            assertEquals(Optional.of(outer), CallbackDeadline.current());
+
+            CallbackDeadline.runWithin(Optional.of(inner), () -> {
+                assertEquals(Optional.of(inner), CallbackDeadline.current());
+                return null;
+            });
+
+            assertEquals(Optional.of(outer), CallbackDeadline.current());
+            return null;
+        });
+
+        assertEquals(Optional.empty(), CallbackDeadline.current());
+    }
+
+    @Test
+    void should_restore_no_deadline_when_action_throws() {
+
+        assertThrows(IllegalStateException.class, () -> CallbackDeadline.runWithin(
+            Optional.of(new CallbackDeadline(100, nanoTime::get)),
+            () -> {
+                throw new IllegalStateException("boom");
+            }
+        ));
+
+        assertEquals(Optional.empty(), CallbackDeadline.current());
+    }
+}
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCaseDefinition.*;
 import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.HearingCentre.MANCHESTER;
 
@@ -150,4 +151,40 @@ public class AsylumCaseTest {
 
         assertEquals("some-explanation", documents.getValue().getExplanation());
     }
+
+    @Test
+    public void reuses_converted_value_until_field_is_written() throws IOException {
+
+        String caseData = "{\"notificationsSent\": [{\"id\": \"ref_1\", \"value\": \"notification-1\"}]}";
+        AsylumCase asylumCase = objectMapper.readValue(caseData, AsylumCase.class);
+
+        Optional<List<IdValue<String>>> firstRead = asylumCase.read(NOTIFICATIONS_SENT);
+        Optional<List<IdValue<String>>> secondRead = asylumCase.read(NOTIFICATIONS_SENT);
+
+        assertSame(firstRead.get(), secondRead.get());
+
+        asylumCase.write(NOTIFICATIONS_SENT, List.of(new IdValue<>("ref_2", "notification-2")));
+
+        Optional<List<IdValue<String>>> readAfterWrite = asylumCase.read(NOTIFICATIONS_SENT);
+
+        assertEquals(1, readAfterWrite.get().size());
+        assertEquals("notification-2", readAfterWrite.get().getFirst().getValue());
+
+        asylumCase.clear(NOTIFICATIONS_SENT);
+
+        assertEquals(Optional.empty(), asylumCase.read(NOTIFICATIONS_SENT));
+    }
+
+    @Test
+    public void converts_again_when_raw_value_is_replaced_directly() throws IOException {
+
+        String caseData = "{\"hearingCentre\": \"manchester\"}";
+        AsylumCase asylumCase = objectMapper.readValue(caseData, AsylumCase.class);
+
+        assertEquals(Optional.of(MANCHESTER), asylumCase.read(HEARING_CENTRE));
+
+        asylumCase.put(HEARING_CENTRE.value(), "taylorHouse");
+
+        assertEquals(Optional.of(HearingCentre.TAYLOR_HOUSE), asylumCase.read(HEARING_CENTRE));
+    }
 }
@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.BailCaseFieldDefinition.*;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -75,4 +76,16 @@ public class BailCaseTest {
         assertEquals(Optional.empty(), bailCase.read(APPLICANT_FAMILY_NAME));
     }
 
+    @Test
+    public void should_reuse_converted_value_until_field_is_written() {
+        Optional<List<IdValue<NationalityFieldValue>>> firstRead = bailCase.read(APPLICANT_NATIONALITIES);
+        Optional<List<IdValue<NationalityFieldValue>>> secondRead = bailCase.read(APPLICANT_NATIONALITIES);
+
+        assertSame(firstRead.get(), secondRead.get());
+
+        bailCase.write(APPLICANT_NATIONALITIES, List.of(new IdValue<>("id", new NationalityFieldValue("Afghan"))));
+        Optional<List<IdValue<NationalityFieldValue>>> readAfterWrite = bailCase.read(APPLICANT_NATIONALITIES);
+
+        assertEquals("Afghan", readAfterWrite.get().getFirst().getValue().getCode());
+    }
 }
@@ -147,4 +147,45 @@ class PostSubmitNotificationHandlerTest {
             assertThrows(RuntimeException.class, () -> notificationHandler.handle(callbackStage, callback));
         assertEquals(message, exception.getMessage());
     }
+
+    @Test
+    void should_respond_without_generating_notification() {
+        when(callback.getEvent()).thenReturn(Event.EDIT_DOCUMENTS);
+        when(canHandle.test(callbackStage, callback)).thenReturn(true);
+        when(callback.getCaseDetails()).thenReturn(caseDetails);
+        when(caseDetails.getCaseData()).thenReturn(asylumCase);
+        when(notificationGenerator.getSuccessMessage()).thenReturn(expectedMessage);
+
+        PostSubmitCallbackResponse response = notificationHandler.respond(callbackStage, callback);
+
+        assertEquals("success", response.getConfirmationHeader().get());
+        assertEquals(asylumCase.toString(), response.getConfirmationBody().get());
+        verify(notificationGenerator, never()).generate(callback);
+    }
+
+    @Test
+    void should_send_notification_and_invoke_error_handler_on_failure() {
+        when(callback.getEvent()).thenReturn(Event.BUILD_CASE);
+        when(canHandle.test(callbackStage, callback)).thenReturn(true);
+        Throwable exception = new RuntimeException("exception happened");
+        doThrow(exception).when(notificationGenerator).generate(callback);
+        notificationHandler =
+            new PostSubmitNotificationHandler(canHandle, Collections.singletonList(notificationGenerator), errorHandler);
+
+        notificationHandler.send(callbackStage, callback);
+
+        verify(notificationGenerator).generate(callback);
+        verify(errorHandler).accept(callback, exception);
+    }
+
+    @Test
+    void should_not_respond_or_send_when_cannot_handle_event() {
+        when(callback.getEvent()).thenReturn(Event.BUILD_CASE);
+        when(canHandle.test(callbackStage, callback)).thenReturn(false);
+
+        assertThrows(IllegalStateException.class, () -> notificationHandler.respond(callbackStage, callback));
+        assertThrows(IllegalStateException.class, () -> notificationHandler.send(callbackStage, callback));
+
+        verifyNoInteractions(notificationGenerator);
+    }
 }
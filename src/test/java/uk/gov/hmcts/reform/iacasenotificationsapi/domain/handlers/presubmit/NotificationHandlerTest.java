@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.presubmit;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.doThrow;
@@ -9,6 +10,9 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +21,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseDetails;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PreSubmitCallbackResponse;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PreSubmitCallbackStage;
@@ -119,4 +124,43 @@ public class NotificationHandlerTest {
             assertThrows(RuntimeException.class, () -> notificationHandler.handle(callbackStage, callback));
         assertEquals(message, exception.getMessage());
     }
+
+    @Test
+    public void should_offer_every_asylum_event_when_nothing_is_declared() {
+
+        assertEquals(Optional.empty(), notificationHandler.getHandledStage());
+
+        Set<Event> handledEvents = notificationHandler.getHandledEvents().orElseThrow();
+
+        assertTrue(handledEvents.contains(Event.SUBMIT_APPEAL));
+        assertTrue(handledEvents.contains(Event.END_APPEAL));
+        assertFalse(handledEvents.contains(Event.SUBMIT_APPLICATION));
+        assertFalse(handledEvents.contains(Event.EDIT_BAIL_APPLICATION));
+    }
+
+    @Test
+    public void should_expose_declared_stage_and_events() {
+
+        notificationHandler = new NotificationHandler(
+            callbackStage,
+            EnumSet.of(Event.END_APPEAL, Event.END_APPLICATION),
+            canHandle,
+            Collections.singletonList(notificationGenerator)
+        );
+
+        assertEquals(Optional.of(callbackStage), notificationHandler.getHandledStage());
+        assertEquals(Optional.of(EnumSet.of(Event.END_APPEAL)), notificationHandler.getHandledEvents());
+    }
+
+    @Test
+    public void should_not_allow_null_handled_events() {
+
+        NullPointerException exception = assertThrows(NullPointerException.class, () -> new NotificationHandler(
+            callbackStage,
+            null,
+            canHandle,
+            Collections.singletonList(notificationGenerator)
+        ));
+        assertEquals("handledEvents must not be null", exception.getMessage());
+    }
 }
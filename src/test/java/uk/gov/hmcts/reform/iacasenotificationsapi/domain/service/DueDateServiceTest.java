@@ -1,30 +1,18 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.domain.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.*;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import org.junit.jupiter.api.BeforeEach;
+import java.util.List;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.holidaydates.HolidayService;
 
-@ExtendWith(MockitoExtension.class)
 class DueDateServiceTest {
 
-    @Mock
-    HolidayService holidayService;
-
-    private DueDateService dueDateService;
-
-    @BeforeEach
-    void setUp() {
-        dueDateService = new DueDateService(holidayService);
-    }
+    private DueDateService dueDateService = new DueDateService(new HolidayService(List.of()));
 
     @Test
     void should_return_next_working_day_4_pm_when_calculated_due_date_matches_holiday() {
@@ -37,8 +25,7 @@ class DueDateServiceTest {
 
         int workingDaysAllowed = 2;
 
-        when(holidayService.isHoliday(eventDateTime.plusDays(1)))
-            .thenReturn(true);
+        dueDateService = new DueDateService(new HolidayService(List.of(eventDateTime.plusDays(1).toLocalDate())));
 
         ZonedDateTime expectedDueDate = eventDateTime.plusDays(workingDaysAllowed + 1);
         ZonedDateTime expectedDueDateTime = expectedDueDate.with(
@@ -47,7 +34,6 @@ class DueDateServiceTest {
         ZonedDateTime actualDateTime = dueDateService.calculateWorkingDaysDueDate(eventDateTime, workingDaysAllowed);
 
         assertEquals(expectedDueDateTime, actualDateTime);
-        verify(holidayService, times(3)).isHoliday(any(ZonedDateTime.class));
     }
 
     @Test
@@ -81,17 +67,48 @@ class DueDateServiceTest {
 
         int delayDuration = 2;
 
-        when(holidayService.isHoliday(eventDateTime.plusDays(delayDuration)))
-            .thenReturn(true);
+        dueDateService = new DueDateService(
+            new HolidayService(List.of(eventDateTime.plusDays(delayDuration).toLocalDate()))
+        );
 
         ZonedDateTime expectedDelayDate = eventDateTime.plusDays(delayDuration + 1);
         ZonedDateTime expectedDelayDateTime = expectedDelayDate.with(LocalTime.of(16, 0, 0, 0));
         ZonedDateTime actualDateTime = dueDateService.calculateDelayUntil(eventDateTime, delayDuration);
 
         assertEquals(expectedDelayDateTime, actualDateTime);
-        verify(holidayService, times(2)).isHoliday(any(ZonedDateTime.class));
     }
 
+    @Test
+    void should_skip_weekends_and_holidays_when_adding_working_days() {
+        ZonedDateTime fridayBeforeChristmas =
+            ZonedDateTime.of(
+                2026, 12, 18,
+                9, 0, 0, 0,
+                ZoneId.systemDefault()
+            );
+
+        dueDateService = new DueDateService(new HolidayService(List.of(
+            LocalDate.of(2026, 12, 25),
+            LocalDate.of(2026, 12, 28)
+        )));
+
+        ZonedDateTime actualDateTime = dueDateService.calculateWorkingDaysDueDate(fridayBeforeChristmas, 5);
 
+        assertEquals(ZonedDateTime.of(2026, 12, 29, 16, 0, 0, 0, ZoneId.systemDefault()), actualDateTime);
+    }
+
+    @Test
+    void should_return_same_date_at_4_pm_when_no_working_days_allowed() {
+        ZonedDateTime saturday =
+            ZonedDateTime.of(
+                2026, 12, 19,
+                9, 0, 0, 0,
+                ZoneId.systemDefault()
+            );
+
+        ZonedDateTime actualDateTime = dueDateService.calculateWorkingDaysDueDate(saturday, 0);
+
+        assertEquals(saturday.with(LocalTime.of(16, 0, 0, 0)), actualDateTime);
+    }
 }
 
@@ -0,0 +1,235 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.NotificationSender;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.StoredNotification;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseDetails;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.field.IdValue;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.personalisation.EmailNotificationPersonalisation;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.personalisation.SmsNotificationPersonalisation;
+
+@ExtendWith(MockitoExtension.class)
+public class FailedNotificationResenderTest {
+
+    private static final long CASE_ID = 1234L;
+    private static final String EMAIL_REFERENCE = "1234_APPEAL_SUBMITTED_EMAIL";
+    private static final String SMS_REFERENCE = "1234_APPEAL_SUBMITTED_SMS";
+
+    @Mock private EmailNotificationPersonalisation emailPersonalisation;
+    @Mock private EmailNotificationPersonalisation otherEmailPersonalisation;
+    @Mock private SmsNotificationPersonalisation smsPersonalisation;
+    @Mock private NotificationSender<AsylumCase> notificationSender;
+    @Mock private CaseDetails<AsylumCase> caseDetails;
+    @Mock private AsylumCase asylumCase;
+
+    private final List<StoredNotification> storedNotifications = new ArrayList<>();
+    private final Set<Object> personalisationsNeedingRequest = new HashSet<>();
+    private final Map<String, String> personalisation = Map.of("appealReferenceNumber", "PA/12345/2024");
+
+    private FailedNotificationResender<AsylumCase> failedNotificationResender;
+
+    @BeforeEach
+    public void setUp() {
+        lenient().when(caseDetails.getId()).thenReturn(CASE_ID);
+        lenient().when(caseDetails.getCaseData()).thenReturn(asylumCase);
+
+        lenient().when(emailPersonalisation.getReferenceId(CASE_ID)).thenReturn(EMAIL_REFERENCE);
+        lenient().when(emailPersonalisation.getTemplateId()).thenReturn("email-template-id");
+        lenient().when(emailPersonalisation.getPersonalisation(ArgumentMatchers.<Callback<AsylumCase>>any()))
+            .thenReturn(personalisation);
+        lenient().when(otherEmailPersonalisation.getReferenceId(CASE_ID)).thenReturn("1234_OTHER_EMAIL");
+        lenient().when(smsPersonalisation.getReferenceId(CASE_ID)).thenReturn(SMS_REFERENCE);
+        lenient().when(smsPersonalisation.getTemplateId()).thenReturn("sms-template-id");
+        lenient().when(smsPersonalisation.getPersonalisation(ArgumentMatchers.<Callback<AsylumCase>>any()))
+            .thenReturn(personalisation);
+
+        failedNotificationResender = new FailedNotificationResender<>(
+            List.of(emailPersonalisation, otherEmailPersonalisation),
+            List.of(smsPersonalisation),
+            notificationSender,
+            asylumCase -> Optional.of(
+                storedNotifications.stream()
+                    .map(notification -> new IdValue<>(notification.getNotificationId(), notification))
+                    .collect(Collectors.toList())
+            ),
+            personalisationsNeedingRequest::contains,
+            2
+        );
+    }
+
+    @Test
+    public void should_resend_failed_email_with_the_personalisation_matching_its_reference() {
+
+        storedNotifications.add(notification("Failed", "Email", EMAIL_REFERENCE, "2024-05-01T10:00:00"));
+        when(notificationSender.sendEmail(
+            eq("email-template-id"), eq("someone@example.com"), eq(personalisation), eq(EMAIL_REFERENCE), any()
+        )).thenReturn("new-notification-id");
+
+        FailedNotificationResender.CaseResult result = failedNotificationResender.resend(caseDetails);
+
+        assertEquals(CASE_ID, result.caseId());
+        assertNull(result.error());
+        assertEquals(
+            List.of(new FailedNotificationResender.NotificationResult(
+                EMAIL_REFERENCE, "Email", FailedNotificationResender.Outcome.RESENT, "new-notification-id")),
+            result.notifications()
+        );
+    }
+
+    @Test
+    public void should_resend_failed_sms_with_sms_personalisation() {
+
+        storedNotifications.add(notification("Failed", "Sms", SMS_REFERENCE, "2024-05-01T10:00:00"));
+        when(notificationSender.sendSms(
+            eq("sms-template-id"), eq("someone@example.com"), eq(personalisation), eq(SMS_REFERENCE), any()
+        )).thenReturn("new-notification-id");
+
+        FailedNotificationResender.CaseResult result = failedNotificationResender.resend(caseDetails);
+
+        assertEquals(FailedNotificationResender.Outcome.RESENT, result.notifications().get(0).outcome());
+        verify(notificationSender, never()).sendEmail(anyString(), anyString(), any(), anyString(), any());
+    }
+
+    @Test
+    public void should_not_resend_when_a_later_send_to_the_same_recipient_succeeded() {
+
+        storedNotifications.add(notification("Failed", "Email", EMAIL_REFERENCE, "2024-05-01T10:00:00"));
+        storedNotifications.add(notification("Delivered", "Email", EMAIL_REFERENCE, "2024-05-01T11:00:00"));
+
+        FailedNotificationResender.CaseResult result = failedNotificationResender.resend(caseDetails);
+
+        assertEquals(FailedNotificationResender.Outcome.ALREADY_SENT, result.notifications().get(0).outcome());
+        verify(notificationSender, never()).sendEmail(anyString(), anyString(), any(), anyString(), any());
+    }
+
+    @Test
+    public void should_resend_a_notification_that_failed_more_than_once_only_once() {
+
+        storedNotifications.add(notification("Failed", "Email", EMAIL_REFERENCE, "2024-05-01T10:00:00"));
+        storedNotifications.add(notification("Failed", "Email", EMAIL_REFERENCE, "2024-05-01T11:00:00"));
+        when(notificationSender.sendEmail(anyString(), anyString(), any(), anyString(), any()))
+            .thenReturn("new-notification-id");
+
+        FailedNotificationResender.CaseResult result = failedNotificationResender.resend(caseDetails);
+
+        assertEquals(1, result.notifications().size());
+    }
+
+    @Test
+    public void should_report_references_without_exactly_one_matching_personalisation() {
+
+        storedNotifications.add(notification("Failed", "Email", "1234_REMOVED_EMAIL", "2024-05-01T10:00:00"));
+        when(otherEmailPersonalisation.getReferenceId(CASE_ID)).thenReturn(EMAIL_REFERENCE);
+        storedNotifications.add(notification("Failed", "Email", EMAIL_REFERENCE, "2024-05-01T10:00:00"));
+
+        FailedNotificationResender.CaseResult result = failedNotificationResender.resend(caseDetails);
+
+        assertEquals(
+            List.of(
+                FailedNotificationResender.Outcome.UNKNOWN_REFERENCE,
+                FailedNotificationResender.Outcome.AMBIGUOUS_REFERENCE
+            ),
+            result.notifications().stream()
+                .map(FailedNotificationResender.NotificationResult::outcome)
+                .collect(Collectors.toList())
+        );
+        verify(notificationSender, never()).sendEmail(anyString(), anyString(), any(), anyString(), any());
+    }
+
+    @Test
+    public void should_report_personalisations_needing_the_request_as_unsupported() {
+
+        storedNotifications.add(notification("Failed", "Email", EMAIL_REFERENCE, "2024-05-01T10:00:00"));
+        personalisationsNeedingRequest.add(emailPersonalisation);
+
+        FailedNotificationResender.CaseResult result = failedNotificationResender.resend(caseDetails);
+
+        assertEquals(FailedNotificationResender.Outcome.UNSUPPORTED, result.notifications().get(0).outcome());
+        verify(emailPersonalisation, never()).getPersonalisation(ArgumentMatchers.<Callback<AsylumCase>>any());
+        verify(notificationSender, never()).sendEmail(anyString(), anyString(), any(), anyString(), any());
+    }
+
+    @Test
+    public void should_report_personalisations_branching_on_the_event_as_unsupported() {
+
+        storedNotifications.add(notification("Failed", "Email", EMAIL_REFERENCE, "2024-05-01T10:00:00"));
+        when(emailPersonalisation.getPersonalisation(ArgumentMatchers.<Callback<AsylumCase>>any()))
+            .thenAnswer(invocation ->
+                Map.of("event", invocation.<Callback<AsylumCase>>getArgument(0).getEvent().toString()));
+
+        FailedNotificationResender.CaseResult result = failedNotificationResender.resend(caseDetails);
+
+        assertNull(result.error());
+        assertEquals(FailedNotificationResender.Outcome.UNSUPPORTED, result.notifications().get(0).outcome());
+        verify(notificationSender, never()).sendEmail(anyString(), anyString(), any(), anyString(), any());
+    }
+
+    @Test
+    public void should_report_failed_when_the_resend_does_not_return_an_id() {
+
+        storedNotifications.add(notification("Failed", "Email", EMAIL_REFERENCE, "2024-05-01T10:00:00"));
+        when(notificationSender.sendEmail(anyString(), anyString(), any(), anyString(), any())).thenReturn("");
+
+        FailedNotificationResender.CaseResult result = failedNotificationResender.resend(caseDetails);
+
+        assertEquals(FailedNotificationResender.Outcome.FAILED, result.notifications().get(0).outcome());
+    }
+
+    @Test
+    public void should_report_every_case() {
+
+        storedNotifications.add(notification("Failed", "Email", EMAIL_REFERENCE, "2024-05-01T10:00:00"));
+        when(notificationSender.sendEmail(anyString(), anyString(), any(), anyString(), any()))
+            .thenReturn("new-notification-id");
+
+        List<FailedNotificationResender.CaseResult> results = Collections.synchronizedList(new ArrayList<>());
+
+        failedNotificationResender.resendAll(
+            Collections.nCopies(10, caseDetails).iterator(),
+            results::add
+        );
+
+        assertEquals(10, results.size());
+        results.forEach(result ->
+            assertEquals(FailedNotificationResender.Outcome.RESENT, result.notifications().get(0).outcome())
+        );
+    }
+
+    private static StoredNotification notification(String status, String method, String reference, String dateSent) {
+        return StoredNotification.builder()
+            .notificationId("id-" + status + "-" + dateSent)
+            .notificationDateSent(dateSent)
+            .notificationSentTo("someone@example.com")
+            .notificationBody("body")
+            .notificationMethod(method)
+            .notificationStatus(status)
+            .notificationReference(reference)
+            .notificationSubject("subject")
+            .build();
+    }
+}
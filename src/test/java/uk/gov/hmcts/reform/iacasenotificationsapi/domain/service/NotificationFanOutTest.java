@@ -0,0 +1,172 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.CallbackDeadline;
+
+public class NotificationFanOutTest {
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+    private final List<List<String>> notificationIdsPerGroup = new ArrayList<>();
+    private final ObjIntConsumer<List<String>> notificationIdsSent = (notificationIds, group) -> {
+        assertEquals(notificationIdsPerGroup.size(), group);
+        notificationIdsPerGroup.add(notificationIds);
+    };
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void should_return_ids_in_the_order_sends_were_given_when_they_complete_out_of_order() {
+
+        CountDownLatch lastSendCompleted = new CountDownLatch(1);
+
+        Supplier<String> slowSend = () -> {
+            try {
+                lastSendCompleted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "first";
+        };
+        Supplier<String> fastSend = () -> "second";
+        Supplier<String> lastSend = () -> {
+            lastSendCompleted.countDown();
+            return "third";
+        };
+
+        NotificationFanOut.sendAll(
+            Optional.of(executorService),
+            List.of(List.of(slowSend, fastSend), List.of(lastSend)),
+            notificationIdsSent
+        );
+
+        assertEquals(List.of(List.of("first", "second"), List.of("third")), notificationIdsPerGroup);
+    }
+
+    @Test
+    public void should_send_one_after_another_without_an_executor() {
+
+        AtomicInteger sends = new AtomicInteger();
+        Supplier<String> send = () -> String.valueOf(sends.incrementAndGet());
+
+        NotificationFanOut.sendAll(
+            Optional.empty(),
+            List.of(List.of(send, send), List.of(send)),
+            notificationIdsSent
+        );
+
+        assertEquals(List.of(List.of("1", "2"), List.of("3")), notificationIdsPerGroup);
+    }
+
+    @Test
+    public void should_wait_for_every_send_before_rethrowing_the_first_failure() {
+
+        AtomicInteger completedSends = new AtomicInteger();
+        Supplier<String> failingSend = () -> {
+            throw new IllegalStateException("send failed");
+        };
+        Supplier<String> send = () -> String.valueOf(completedSends.incrementAndGet());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+            NotificationFanOut.sendAll(
+                Optional.of(executorService),
+                List.of(List.of(send, failingSend), List.of(send)),
+                notificationIdsSent
+            ));
+
+        assertEquals("send failed", exception.getMessage());
+        assertEquals(2, completedSends.get());
+        assertEquals(2, notificationIdsPerGroup.size());
+        assertEquals(1, notificationIdsPerGroup.get(0).size());
+        assertEquals(1, notificationIdsPerGroup.get(1).size());
+    }
+
+    @Test
+    public void should_hand_over_ids_only_once_a_slow_failing_later_group_has_finished() {
+
+        AtomicInteger runningSends = new AtomicInteger();
+        List<Integer> runningSendsWhenHandedOver = new ArrayList<>();
+        List<String> threadsHandedOverOn = new ArrayList<>();
+        Supplier<String> send = () -> "sent";
+        Supplier<String> slowFailingSend = () -> {
+            runningSends.incrementAndGet();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                runningSends.decrementAndGet();
+            }
+            throw new IllegalStateException("send failed");
+        };
+
+        assertThrows(IllegalStateException.class, () ->
+            NotificationFanOut.sendAll(
+                Optional.of(executorService),
+                List.of(List.of(send), List.of(send, slowFailingSend)),
+                (notificationIds, group) -> {
+                    runningSendsWhenHandedOver.add(runningSends.get());
+                    threadsHandedOverOn.add(Thread.currentThread().getName());
+                    notificationIdsSent.accept(notificationIds, group);
+                }
+            ));
+
+        assertEquals(List.of(0, 0), runningSendsWhenHandedOver);
+        assertEquals(List.of(Thread.currentThread().getName(), Thread.currentThread().getName()), threadsHandedOverOn);
+        assertEquals(List.of(List.of("sent"), List.of("sent")), notificationIdsPerGroup);
+    }
+
+    @Test
+    public void should_hand_over_ids_sent_before_failure_and_stop_without_an_executor() {
+
+        AtomicInteger sends = new AtomicInteger();
+        Supplier<String> send = () -> String.valueOf(sends.incrementAndGet());
+        Supplier<String> failingSend = () -> {
+            throw new IllegalStateException("send failed");
+        };
+
+        assertThrows(IllegalStateException.class, () ->
+            NotificationFanOut.sendAll(
+                Optional.empty(),
+                List.of(List.of(send), List.of(send, failingSend), List.of(send)),
+                notificationIdsSent
+            ));
+
+        assertEquals(List.of(List.of("1"), List.of("2")), notificationIdsPerGroup);
+        assertEquals(2, sends.get());
+    }
+
+    @Test
+    public void should_carry_callback_deadline_over_to_concurrent_sends() {
+
+        CallbackDeadline deadline = CallbackDeadline.after(Duration.ofSeconds(30));
+        Supplier<String> send = () -> CallbackDeadline.current().map(current -> current == deadline).toString();
+
+        CallbackDeadline.runWithin(
+            Optional.of(deadline),
+            () -> {
+                NotificationFanOut.sendAll(Optional.of(executorService), List.of(List.of(send, send)), notificationIdsSent);
+                return null;
+            }
+        );
+
+        assertEquals(List.of(List.of("Optional[true]", "Optional[true]")), notificationIdsPerGroup);
+    }
+}
@@ -5,6 +5,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCaseDefinition.LETTER_BUNDLE_DOCUMENTS;
 import static uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.EmailAddressFinder.NO_EMAIL_ADDRESS_DECISION_WITHOUT_HEARING;
@@ -14,10 +15,13 @@ import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Spy;
@@ -211,6 +215,76 @@ public class NotificationGeneratorTest {
         verify(asylumCase, times(2)).write(AsylumCaseDefinition.NOTIFICATIONS_SENT, notificationsSent);
     }
 
+    @Test
+    public void should_send_emails_concurrently_and_append_ids_in_personalisation_order() {
+        notificationGenerator =
+            new EmailNotificationGenerator(repEmailNotificationPersonalisationList, notificationSender,
+                notificationIdAppender);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        when(notificationSender.getConcurrentSendExecutor()).thenReturn(Optional.of(executorService));
+        when(emailNotificationPersonalisation.getRecipientsList(asylumCase)).thenReturn(singleton(emailAddress1));
+        when(emailNotificationPersonalisation1.getRecipientsList(asylumCase)).thenReturn(singleton(emailAddress2));
+
+        try {
+            notificationGenerator.generate(callback);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        verify(notificationSender).sendEmail(templateId1, emailAddress1, personalizationMap1, refId1, callback);
+        verify(notificationSender).sendEmail(templateId2, emailAddress2, personalizationMap2, refId2, callback);
+
+        InOrder inOrder = inOrder(notificationIdAppender);
+        inOrder.verify(notificationIdAppender).appendAllAsylum(asylumCase, refId1, singletonList(notificationId1));
+        inOrder.verify(notificationIdAppender).appendAllAsylum(asylumCase, refId2, singletonList(notificationId2));
+    }
+
+    @Test
+    public void should_append_ids_of_emails_sent_before_rethrowing_a_concurrent_send_failure() {
+        notificationGenerator =
+            new EmailNotificationGenerator(repEmailNotificationPersonalisationList, notificationSender,
+                notificationIdAppender);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        when(notificationSender.getConcurrentSendExecutor()).thenReturn(Optional.of(executorService));
+        when(emailNotificationPersonalisation.getRecipientsList(asylumCase)).thenReturn(singleton(emailAddress1));
+        when(emailNotificationPersonalisation1.getRecipientsList(asylumCase)).thenReturn(singleton(emailAddress2));
+        when(notificationSender.sendEmail(templateId1, emailAddress1, personalizationMap1, refId1, callback))
+            .thenThrow(new IllegalStateException("send failed"));
+
+        try {
+            assertThrows(IllegalStateException.class, () -> notificationGenerator.generate(callback));
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        verify(notificationIdAppender).appendAllAsylum(asylumCase, refId1, emptyList());
+        verify(notificationIdAppender).appendAllAsylum(asylumCase, refId2, singletonList(notificationId2));
+    }
+
+    @Test
+    public void should_append_ids_of_sms_sent_before_rethrowing_a_concurrent_send_failure() {
+        notificationGenerator = new SmsNotificationGenerator(aipSmsNotificationPersonalisationList, notificationSender,
+            notificationIdAppender);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        when(notificationSender.getConcurrentSendExecutor()).thenReturn(Optional.of(executorService));
+        when(smsNotificationPersonalisation1.getRecipientsList(asylumCase)).thenReturn(singleton(phoneNumber1));
+        when(smsNotificationPersonalisation2.getRecipientsList(asylumCase)).thenReturn(singleton(phoneNumber2));
+        when(notificationSender.sendSms(templateId2, phoneNumber2, personalizationMap2, refId2, callback))
+            .thenThrow(new IllegalStateException("send failed"));
+
+        try {
+            assertThrows(IllegalStateException.class, () -> notificationGenerator.generate(callback));
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        verify(notificationIdAppender).appendAllAsylum(asylumCase, refId1, singletonList(notificationId1));
+        verify(notificationIdAppender).appendAllAsylum(asylumCase, refId2, emptyList());
+    }
+
     @Test
     public void should_send_Aip_notification_emails_for_each_email_personalisation_using_the_subscriber_mode() {
         notificationGenerator =
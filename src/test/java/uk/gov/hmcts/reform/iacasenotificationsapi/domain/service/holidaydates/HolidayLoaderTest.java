@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.holidaydates;
 
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -22,4 +23,12 @@ class HolidayLoaderTest {
 
         assertEquals(singletonList(holiday), holidays);
     }
+
+    @Test
+    void loadBundledData() {
+        List<LocalDate> holidays = new HolidayLoader(mock(GovUkHolidayDatesClient.class)).loadBundledHolidays();
+
+        assertTrue(holidays.contains(LocalDate.of(2026, 12, 25)));
+        assertTrue(holidays.contains(LocalDate.of(2026, 12, 28)));
+    }
 }
@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.holidaydates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HolidayRefresherTest {
+
+    private static final LocalDate BUNDLED_HOLIDAY = LocalDate.of(2026, 12, 25);
+    private static final LocalDate NEW_HOLIDAY = LocalDate.of(2026, 9, 21);
+    private static final LocalDate EARLIER_BUNDLED_HOLIDAY = LocalDate.of(2018, 12, 25);
+    private static final LocalDate LATER_BUNDLED_HOLIDAY = LocalDate.of(2028, 12, 25);
+
+    private final HolidayLoader holidayLoader = mock(HolidayLoader.class);
+    private final List<LocalDate> bundledHolidays = List.of(EARLIER_BUNDLED_HOLIDAY, BUNDLED_HOLIDAY, LATER_BUNDLED_HOLIDAY);
+    private final HolidayService holidayService = new HolidayService(bundledHolidays);
+    private HolidayRefresher holidayRefresher;
+
+    @BeforeEach
+    void setUp() {
+        when(holidayLoader.loadBundledHolidays()).thenReturn(bundledHolidays);
+
+        holidayRefresher = new HolidayRefresher(
+            holidayLoader,
+            holidayService,
+            Duration.ofHours(24),
+            mock(ScheduledExecutorService.class)
+        );
+    }
+
+    @Test
+    void should_swap_in_refreshed_holidays() {
+        when(holidayLoader.loadHolidays()).thenReturn(List.of(NEW_HOLIDAY));
+
+        holidayRefresher.refresh();
+
+        assertTrue(holidayService.isHoliday(NEW_HOLIDAY));
+        assertFalse(holidayService.isHoliday(BUNDLED_HOLIDAY));
+    }
+
+    @Test
+    void should_keep_bundled_holidays_for_years_gov_uk_does_not_cover() {
+        when(holidayLoader.loadHolidays()).thenReturn(List.of(NEW_HOLIDAY));
+
+        holidayRefresher.refresh();
+
+        assertTrue(holidayService.isHoliday(EARLIER_BUNDLED_HOLIDAY));
+        assertTrue(holidayService.isHoliday(LATER_BUNDLED_HOLIDAY));
+        assertEquals(LocalDate.of(2028, 12, 27), holidayService.plusWorkingDays(LocalDate.of(2028, 12, 22), 2));
+    }
+
+    @Test
+    void should_keep_holidays_when_gov_uk_cannot_be_reached() {
+        when(holidayLoader.loadHolidays()).thenThrow(new RuntimeException("gov.uk unavailable"));
+
+        holidayRefresher.refresh();
+
+        assertTrue(holidayService.isHoliday(BUNDLED_HOLIDAY));
+    }
+
+    @Test
+    void should_keep_holidays_when_gov_uk_returns_none() {
+        when(holidayLoader.loadHolidays()).thenReturn(List.of());
+
+        holidayRefresher.refresh();
+
+        assertTrue(holidayService.isHoliday(BUNDLED_HOLIDAY));
+    }
+}
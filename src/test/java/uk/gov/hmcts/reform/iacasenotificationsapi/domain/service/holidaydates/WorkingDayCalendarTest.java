@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.holidaydates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class WorkingDayCalendarTest {
+
+    private static final List<LocalDate> HOLIDAYS = List.of(
+        LocalDate.of(2026, 12, 25),
+        LocalDate.of(2026, 12, 28),
+        LocalDate.of(2027, 1, 1)
+    );
+
+    private final WorkingDayCalendar workingDayCalendar = new WorkingDayCalendar(HOLIDAYS);
+
+    @Test
+    void should_know_holidays_weekends_and_working_days() {
+        assertTrue(workingDayCalendar.isHoliday(LocalDate.of(2026, 12, 25)));
+        assertFalse(workingDayCalendar.isHoliday(LocalDate.of(2026, 12, 24)));
+
+        assertFalse(workingDayCalendar.isWorkingDay(LocalDate.of(2026, 12, 25)));
+        assertFalse(workingDayCalendar.isWorkingDay(LocalDate.of(2026, 12, 26)));
+        assertTrue(workingDayCalendar.isWorkingDay(LocalDate.of(2026, 12, 24)));
+    }
+
+    @Test
+    void should_add_working_days_skipping_weekends_and_holidays() {
+        LocalDate fridayBeforeChristmas = LocalDate.of(2026, 12, 18);
+
+        assertEquals(fridayBeforeChristmas, workingDayCalendar.plusWorkingDays(fridayBeforeChristmas, 0));
+        assertEquals(LocalDate.of(2026, 12, 21), workingDayCalendar.plusWorkingDays(fridayBeforeChristmas, 1));
+        assertEquals(LocalDate.of(2026, 12, 29), workingDayCalendar.plusWorkingDays(fridayBeforeChristmas, 5));
+        assertEquals(LocalDate.of(2027, 1, 4), workingDayCalendar.plusWorkingDays(fridayBeforeChristmas, 8));
+    }
+
+    @Test
+    void should_find_next_working_day_on_or_after_date() {
+        assertEquals(LocalDate.of(2026, 12, 24), workingDayCalendar.nextWorkingDayOnOrAfter(LocalDate.of(2026, 12, 24)));
+        assertEquals(LocalDate.of(2026, 12, 29), workingDayCalendar.nextWorkingDayOnOrAfter(LocalDate.of(2026, 12, 25)));
+    }
+
+    @Test
+    void should_match_walking_a_day_at_a_time_inside_and_outside_the_index() {
+        LocalDate from = LocalDate.of(2025, 12, 1);
+        LocalDate to = LocalDate.of(2026 + WorkingDayCalendar.YEARS_AFTER_LAST_HOLIDAY + 2, 1, 31);
+
+        for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+            for (int workingDays : new int[] {1, 2, 5, 10, 28}) {
+                assertEquals(walk(date, workingDays), workingDayCalendar.plusWorkingDays(date, workingDays));
+            }
+            assertEquals(walk(date.minusDays(1), 1), workingDayCalendar.nextWorkingDayOnOrAfter(date));
+        }
+    }
+
+    @Test
+    void should_only_skip_weekends_without_holidays() {
+        WorkingDayCalendar weekendsOnly = new WorkingDayCalendar(List.of());
+
+        assertEquals(LocalDate.of(2026, 12, 28), weekendsOnly.plusWorkingDays(LocalDate.of(2026, 12, 24), 2));
+        assertEquals(LocalDate.of(2026, 12, 28), weekendsOnly.nextWorkingDayOnOrAfter(LocalDate.of(2026, 12, 26)));
+    }
+
+    @Test
+    void should_not_allow_negative_working_days() {
+        assertThrows(IllegalArgumentException.class, () ->
+            workingDayCalendar.plusWorkingDays(LocalDate.of(2026, 12, 18), -1));
+    }
+
+    private static LocalDate walk(LocalDate date, int workingDays) {
+        LocalDate workingDay = date;
+        while (workingDays > 0) {
+            workingDay = workingDay.plusDays(1);
+            if (!WorkingDayCalendar.isWeekend(workingDay) && !HOLIDAYS.contains(workingDay)) {
+                workingDays--;
+            }
+        }
+        return workingDay;
+    }
+}
@@ -1,32 +1,61 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure;
 
 
+import static com.fasterxml.jackson.databind.DeserializationFeature.READ_ENUMS_USING_TO_STRING;
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_ENUMS_USING_TO_STRING;
 import static org.assertj.core.api.Assertions.fail;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseDetails;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.State;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PostSubmitCallbackResponse;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PostSubmitCallbackStage;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.DeferrablePostSubmitCallbackHandler;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.PostSubmitCallbackHandler;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.postsubmit.PostSubmitNotificationHandler;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.NotificationGenerator;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.metrics.CallbackMetrics;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.outbox.DeferredNotificationSender;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.outbox.NotificationOutbox;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.outbox.NotificationOutboxJournal;
 import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.CcdEventAuthorizor;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +63,9 @@ import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.CcdEve
 @SuppressWarnings("unchecked")
 class PostSubmitCallbackDispatcherTest {
 
+    @TempDir
+    Path directory;
+
     @Mock
     private CcdEventAuthorizor ccdEventAuthorizor;
     @Mock
@@ -43,6 +75,10 @@ class PostSubmitCallbackDispatcherTest {
     @Mock
     private PostSubmitCallbackHandler<CaseData> handler3;
     @Mock
+    private DeferrablePostSubmitCallbackHandler<CaseData> deferrableHandler;
+    @Mock
+    private NotificationOutbox notificationOutbox;
+    @Mock
     private Callback<CaseData> callback;
     @Mock
     private CaseDetails<CaseData> caseDetails;
@@ -57,6 +93,8 @@ class PostSubmitCallbackDispatcherTest {
     @Mock
     private PostSubmitCallbackResponse response3;
 
+    private final CallbackMetrics callbackMetrics = new CallbackMetrics(new SimpleMeterRegistry());
+
     private PostSubmitCallbackDispatcher<CaseData> postSubmitCallbackDispatcher;
 
     @BeforeEach
@@ -67,7 +105,10 @@ class PostSubmitCallbackDispatcherTest {
                 handler1,
                 handler2,
                 handler3
-            )
+            ),
+            Optional.empty(),
+            callbackMetrics,
+            CallbackTracer.NOOP
         );
     }
 
@@ -158,7 +199,8 @@ class PostSubmitCallbackDispatcherTest {
     void should_not_error_if_no_handlers_are_provided() {
 
         PostSubmitCallbackDispatcher<CaseData> postSubmitCallbackDispatcher =
-            new PostSubmitCallbackDispatcher<>(ccdEventAuthorizor, Collections.emptyList());
+            new PostSubmitCallbackDispatcher<>(
+                ccdEventAuthorizor, Collections.emptyList(), Optional.empty(), callbackMetrics, CallbackTracer.NOOP);
 
         for (PostSubmitCallbackStage callbackStage : PostSubmitCallbackStage.values()) {
 
@@ -188,7 +230,8 @@ class PostSubmitCallbackDispatcherTest {
     void should_not_allow_null_ccd_event_authorizor() {
         List<PostSubmitCallbackHandler<CaseData>> postSubmitCallbackHandlers = Collections.emptyList();
         NullPointerException exception = assertThrows(NullPointerException.class,
-            () -> new PostSubmitCallbackDispatcher<>(null, postSubmitCallbackHandlers));
+            () -> new PostSubmitCallbackDispatcher<>(
+                null, postSubmitCallbackHandlers, Optional.empty(), callbackMetrics, CallbackTracer.NOOP));
         assertEquals("ccdEventAuthorizor must not be null", exception.getMessage());
     }
 
@@ -196,7 +239,8 @@ class PostSubmitCallbackDispatcherTest {
     void should_not_allow_null_handlers() {
 
         NullPointerException exception = assertThrows(NullPointerException.class,
-            () -> new PostSubmitCallbackDispatcher<>(ccdEventAuthorizor, null));
+            () -> new PostSubmitCallbackDispatcher<>(
+                ccdEventAuthorizor, null, Optional.empty(), callbackMetrics, CallbackTracer.NOOP));
         assertEquals("callbackHandlers must not be null", exception.getMessage());
     }
 
@@ -211,4 +255,139 @@ class PostSubmitCallbackDispatcherTest {
             () -> postSubmitCallbackDispatcher.handle(PostSubmitCallbackStage.CCD_SUBMITTED, null));
         assertEquals("callback must not be null", exceptionTwo.getMessage());
     }
+
+    @Test
+    void should_respond_from_deferrable_handlers_and_enqueue_their_sends_when_outbox_is_present() {
+
+        PostSubmitCallbackDispatcher<CaseData> postSubmitCallbackDispatcher = new PostSubmitCallbackDispatcher<>(
+            ccdEventAuthorizor,
+            Arrays.asList(deferrableHandler, handler1),
+            Optional.of(notificationOutbox),
+            callbackMetrics,
+            CallbackTracer.NOOP
+        );
+
+        ArgumentCaptor<DeferredNotificationSender> sender = ArgumentCaptor.forClass(DeferredNotificationSender.class);
+        verify(notificationOutbox, times(1)).registerSender(sender.capture());
+
+        when(callback.getEvent()).thenReturn(Event.BUILD_CASE);
+        when(deferrableHandler.canHandle(PostSubmitCallbackStage.CCD_SUBMITTED, callback)).thenReturn(true);
+        when(deferrableHandler.respond(PostSubmitCallbackStage.CCD_SUBMITTED, callback)).thenReturn(response1);
+        when(response1.getConfirmationBody()).thenReturn(Optional.of("Some body 1"));
+        when(handler1.canHandle(PostSubmitCallbackStage.CCD_SUBMITTED, callback)).thenReturn(true);
+        when(handler1.handle(PostSubmitCallbackStage.CCD_SUBMITTED, callback)).thenReturn(response2);
+        when(notificationOutbox.enqueue(PostSubmitCallbackStage.CCD_SUBMITTED, callback)).thenReturn(true);
+
+        PostSubmitCallbackResponse callbackResponse =
+            postSubmitCallbackDispatcher.handle(PostSubmitCallbackStage.CCD_SUBMITTED, callback);
+
+        assertEquals(Optional.of("Some body 1"), callbackResponse.getConfirmationBody());
+        verify(deferrableHandler, never()).handle(any(), any());
+        verify(deferrableHandler, never()).send(any(), any());
+        verify(handler1, times(1)).handle(PostSubmitCallbackStage.CCD_SUBMITTED, callback);
+        verify(notificationOutbox, times(1)).enqueue(PostSubmitCallbackStage.CCD_SUBMITTED, callback);
+
+        sender.getValue().send(PostSubmitCallbackStage.CCD_SUBMITTED, callback);
+
+        verify(deferrableHandler, times(1)).send(PostSubmitCallbackStage.CCD_SUBMITTED, callback);
+    }
+
+    @Test
+    void should_send_before_responding_when_outbox_cannot_enqueue() {
+
+        PostSubmitCallbackDispatcher<CaseData> postSubmitCallbackDispatcher = new PostSubmitCallbackDispatcher<>(
+            ccdEventAuthorizor,
+            Collections.singletonList(deferrableHandler),
+            Optional.of(notificationOutbox),
+            callbackMetrics,
+            CallbackTracer.NOOP
+        );
+
+        when(callback.getEvent()).thenReturn(Event.BUILD_CASE);
+        when(deferrableHandler.canHandle(PostSubmitCallbackStage.CCD_SUBMITTED, callback)).thenReturn(true);
+        when(deferrableHandler.respond(PostSubmitCallbackStage.CCD_SUBMITTED, callback)).thenReturn(response1);
+        when(notificationOutbox.enqueue(PostSubmitCallbackStage.CCD_SUBMITTED, callback)).thenReturn(false);
+
+        postSubmitCallbackDispatcher.handle(PostSubmitCallbackStage.CCD_SUBMITTED, callback);
+
+        verify(deferrableHandler, times(1)).send(PostSubmitCallbackStage.CCD_SUBMITTED, callback);
+        verify(deferrableHandler, never()).handle(any(), any());
+    }
+
+    @Test
+    void should_handle_deferrable_handlers_directly_without_outbox() {
+
+        PostSubmitCallbackDispatcher<CaseData> postSubmitCallbackDispatcher = new PostSubmitCallbackDispatcher<>(
+            ccdEventAuthorizor,
+            Collections.singletonList(deferrableHandler),
+            Optional.empty(),
+            callbackMetrics,
+            CallbackTracer.NOOP
+        );
+
+        when(callback.getEvent()).thenReturn(Event.BUILD_CASE);
+        when(deferrableHandler.canHandle(PostSubmitCallbackStage.CCD_SUBMITTED, callback)).thenReturn(true);
+        when(deferrableHandler.handle(PostSubmitCallbackStage.CCD_SUBMITTED, callback)).thenReturn(response1);
+
+        postSubmitCallbackDispatcher.handle(PostSubmitCallbackStage.CCD_SUBMITTED, callback);
+
+        verify(deferrableHandler, times(1)).handle(PostSubmitCallbackStage.CCD_SUBMITTED, callback);
+        verify(deferrableHandler, never()).respond(any(), any());
+        verify(deferrableHandler, never()).send(any(), any());
+    }
+
+    @Test
+    void should_send_on_outbox_worker_only_for_handlers_that_do_not_need_the_request() throws Exception {
+
+        NotificationOutbox outbox = new NotificationOutbox(
+            new NotificationOutboxJournal(directory, RedisSerializer.byteArray()),
+            new ObjectMapper()
+                .findAndRegisterModules()
+                .enable(READ_ENUMS_USING_TO_STRING)
+                .enable(WRITE_ENUMS_USING_TO_STRING),
+            Executors.newSingleThreadScheduledExecutor(),
+            1,
+            Duration.ZERO,
+            new SimpleMeterRegistry()
+        );
+
+        Map<String, Boolean> requestActiveWhenSent = new ConcurrentHashMap<>();
+        CountDownLatch deferredSendMade = new CountDownLatch(1);
+        NotificationGenerator requestBoundGenerator = callback ->
+            requestActiveWhenSent.put("requestBound", RequestContextHolder.getRequestAttributes() != null);
+        NotificationGenerator deferredGenerator = callback -> {
+            requestActiveWhenSent.put("deferred", RequestContextHolder.getRequestAttributes() != null);
+            deferredSendMade.countDown();
+        };
+
+        PostSubmitCallbackDispatcher<AsylumCase> postSubmitCallbackDispatcher = new PostSubmitCallbackDispatcher<>(
+            ccdEventAuthorizor,
+            Arrays.asList(
+                new PostSubmitNotificationHandler((stage, callback) -> true, List.of(requestBoundGenerator), true),
+                new PostSubmitNotificationHandler((stage, callback) -> true, List.of(deferredGenerator))
+            ),
+            Optional.of(outbox),
+            callbackMetrics,
+            CallbackTracer.NOOP
+        );
+        outbox.start();
+
+        Callback<AsylumCase> asylumCallback = new Callback<>(
+            new CaseDetails<>(12345L, "IA", State.APPEAL_SUBMITTED, new AsylumCase(), LocalDateTime.of(2026, 1, 1, 9, 0)),
+            Optional.empty(),
+            Event.PAY_AND_SUBMIT_APPEAL
+        );
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            postSubmitCallbackDispatcher.handle(PostSubmitCallbackStage.CCD_SUBMITTED, asylumCallback);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        assertTrue(deferredSendMade.await(5, TimeUnit.SECONDS));
+        outbox.stop();
+
+        assertEquals(Map.of("requestBound", true, "deferred", false), requestActiveWhenSent);
+    }
 }
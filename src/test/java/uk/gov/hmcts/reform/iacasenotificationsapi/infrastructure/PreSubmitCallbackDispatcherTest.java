@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.fail;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doThrow;
@@ -16,18 +18,25 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.security.access.AccessDeniedException;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.CallbackDeadline;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseDetails;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
@@ -36,7 +45,9 @@ import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.D
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PreSubmitCallbackResponse;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PreSubmitCallbackStage;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.PreSubmitCallbackHandler;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.metrics.CallbackMetrics;
 import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.CcdEventAuthorizor;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -70,17 +81,26 @@ public class PreSubmitCallbackDispatcherTest {
     @Mock
     private PreSubmitCallbackResponse<CaseData> response3;
 
+    private final CallbackMetrics callbackMetrics = new CallbackMetrics(new SimpleMeterRegistry());
+
     private PreSubmitCallbackDispatcher<CaseData> preSubmitCallbackDispatcher;
 
     @BeforeEach
     public void setUp() {
+        when(handler1.getDispatchPriority()).thenReturn(DispatchPriority.EARLY);
+        when(handler2.getDispatchPriority()).thenReturn(DispatchPriority.LATE);
+        when(handler3.getDispatchPriority()).thenReturn(DispatchPriority.EARLY);
+
         preSubmitCallbackDispatcher = new PreSubmitCallbackDispatcher<>(
             ccdEventAuthorizor,
             Arrays.asList(
                 handler1,
                 handler2,
                 handler3
-            )
+            ),
+            0,
+            callbackMetrics,
+            CallbackTracer.NOOP
         );
     }
 
@@ -194,6 +214,87 @@ public class PreSubmitCallbackDispatcherTest {
         }
     }
 
+    @Test
+    public void should_only_offer_callback_to_handlers_declaring_its_stage_and_event() {
+
+        when(handler1.getHandledStage()).thenReturn(Optional.of(PreSubmitCallbackStage.ABOUT_TO_SUBMIT));
+        when(handler1.getHandledEvents()).thenReturn(Optional.of(EnumSet.of(Event.BUILD_CASE)));
+        when(handler2.getHandledStage()).thenReturn(Optional.of(PreSubmitCallbackStage.ABOUT_TO_SUBMIT));
+        when(handler2.getHandledEvents()).thenReturn(Optional.of(EnumSet.of(Event.SUBMIT_APPEAL)));
+        when(handler3.getHandledStage()).thenReturn(Optional.of(PreSubmitCallbackStage.ABOUT_TO_START));
+        when(handler3.getHandledEvents()).thenReturn(Optional.of(EnumSet.of(Event.BUILD_CASE)));
+
+        PreSubmitCallbackDispatcher<CaseData> preSubmitCallbackDispatcher = new PreSubmitCallbackDispatcher<>(
+            ccdEventAuthorizor,
+            Arrays.asList(
+                handler1,
+                handler2,
+                handler3
+            ),
+            0,
+            callbackMetrics,
+            CallbackTracer.NOOP
+        );
+
+        when(callback.getEvent()).thenReturn(Event.BUILD_CASE);
+        when(callback.getCaseDetails()).thenReturn(caseDetails);
+        when(caseDetails.getCaseData()).thenReturn(caseData);
+
+        when(response1.getData()).thenReturn(caseDataMutation1);
+        when(response1.getErrors()).thenReturn(Collections.emptySet());
+
+        when(handler1.canHandle(eq(PreSubmitCallbackStage.ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(true);
+        when(handler1.handle(eq(PreSubmitCallbackStage.ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(response1);
+
+        PreSubmitCallbackResponse<CaseData> callbackResponse =
+            preSubmitCallbackDispatcher.handle(PreSubmitCallbackStage.ABOUT_TO_SUBMIT, callback);
+
+        assertEquals(caseDataMutation1, callbackResponse.getData());
+
+        verify(handler1, times(1)).canHandle(eq(PreSubmitCallbackStage.ABOUT_TO_SUBMIT), any(Callback.class));
+        verify(handler1, times(1)).handle(eq(PreSubmitCallbackStage.ABOUT_TO_SUBMIT), any(Callback.class));
+        verify(handler2, never()).canHandle(any(), any());
+        verify(handler3, never()).canHandle(any(), any());
+    }
+
+    @Test
+    public void should_share_callback_between_handlers_until_case_data_is_replaced() {
+
+        when(callback.getEvent()).thenReturn(Event.BUILD_CASE);
+        when(callback.getCaseDetails()).thenReturn(caseDetails);
+        when(caseDetails.getCaseData()).thenReturn(caseData);
+
+        when(response1.getData()).thenReturn(caseData);
+        when(response1.getErrors()).thenReturn(Collections.emptySet());
+
+        when(response3.getData()).thenReturn(caseDataMutation3);
+        when(response3.getErrors()).thenReturn(Collections.emptySet());
+
+        when(handler1.canHandle(any(), any(Callback.class))).thenReturn(true);
+        when(handler1.handle(any(), any(Callback.class))).thenReturn(response1);
+        when(handler2.canHandle(any(), any(Callback.class))).thenReturn(false);
+        when(handler3.canHandle(any(), any(Callback.class))).thenReturn(true);
+        when(handler3.handle(any(), any(Callback.class))).thenReturn(response3);
+
+        preSubmitCallbackDispatcher.handle(PreSubmitCallbackStage.ABOUT_TO_SUBMIT, callback);
+
+        ArgumentCaptor<Callback<CaseData>> handler1Callback = ArgumentCaptor.forClass(Callback.class);
+        ArgumentCaptor<Callback<CaseData>> handler2Callback = ArgumentCaptor.forClass(Callback.class);
+        ArgumentCaptor<Callback<CaseData>> handler3Callback = ArgumentCaptor.forClass(Callback.class);
+
+        verify(handler1).canHandle(any(), handler1Callback.capture());
+        verify(handler2).canHandle(any(), handler2Callback.capture());
+        verify(handler3).canHandle(any(), handler3Callback.capture());
+
+        // handler1 returned the data it was given, so handler3 sees the same snapshot
+        assertSame(handler1Callback.getValue(), handler3Callback.getValue());
+        assertEquals(caseData, handler3Callback.getValue().getCaseDetails().getCaseData());
+
+        // handler3 replaced the data, so the LATE pass gets a fresh snapshot carrying it
+        assertNotSame(handler3Callback.getValue(), handler2Callback.getValue());
+        assertEquals(caseDataMutation3, handler2Callback.getValue().getCaseDetails().getCaseData());
+    }
+
     @Test
     public void should_not_dispatch_to_handlers_if_user_not_authorized_for_event() {
 
@@ -225,7 +326,8 @@ public class PreSubmitCallbackDispatcherTest {
     public void should_not_error_if_no_handlers_are_provided() {
 
         PreSubmitCallbackDispatcher<CaseData> preSubmitCallbackDispatcher =
-            new PreSubmitCallbackDispatcher<>(ccdEventAuthorizor, Collections.emptyList());
+            new PreSubmitCallbackDispatcher<>(
+                ccdEventAuthorizor, Collections.emptyList(), 0, callbackMetrics, CallbackTracer.NOOP);
 
         for (PreSubmitCallbackStage callbackStage : PreSubmitCallbackStage.values()) {
 
@@ -253,11 +355,58 @@ public class PreSubmitCallbackDispatcherTest {
         }
     }
 
+    @Test
+    public void should_bind_callback_deadline_while_handlers_run_when_budget_is_configured() {
+
+        PreSubmitCallbackDispatcher<CaseData> preSubmitCallbackDispatcher =
+            new PreSubmitCallbackDispatcher<>(
+                ccdEventAuthorizor, Collections.singletonList(handler1), 30_000, callbackMetrics, CallbackTracer.NOOP);
+
+        when(callback.getEvent()).thenReturn(Event.BUILD_CASE);
+        when(callback.getCaseDetails()).thenReturn(caseDetails);
+        when(caseDetails.getCaseData()).thenReturn(caseData);
+        when(handler1.canHandle(eq(PreSubmitCallbackStage.ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(true);
+        when(response1.getData()).thenReturn(caseData);
+
+        AtomicReference<Optional<CallbackDeadline>> deadlineSeenByHandler = new AtomicReference<>();
+        when(handler1.handle(eq(PreSubmitCallbackStage.ABOUT_TO_SUBMIT), any(Callback.class))).thenAnswer(invocation -> {
+            deadlineSeenByHandler.set(CallbackDeadline.current());
+            return response1;
+        });
+
+        preSubmitCallbackDispatcher.handle(PreSubmitCallbackStage.ABOUT_TO_SUBMIT, callback);
+
+        assertTrue(deadlineSeenByHandler.get().isPresent());
+        assertTrue(deadlineSeenByHandler.get().get().remaining().compareTo(Duration.ofSeconds(30)) <= 0);
+        assertEquals(Optional.empty(), CallbackDeadline.current());
+    }
+
+    @Test
+    public void should_not_bind_callback_deadline_without_budget() {
+
+        when(callback.getEvent()).thenReturn(Event.BUILD_CASE);
+        when(callback.getCaseDetails()).thenReturn(caseDetails);
+        when(caseDetails.getCaseData()).thenReturn(caseData);
+        when(handler1.canHandle(eq(PreSubmitCallbackStage.ABOUT_TO_SUBMIT), any(Callback.class))).thenReturn(true);
+        when(response1.getData()).thenReturn(caseData);
+
+        AtomicReference<Optional<CallbackDeadline>> deadlineSeenByHandler = new AtomicReference<>();
+        when(handler1.handle(eq(PreSubmitCallbackStage.ABOUT_TO_SUBMIT), any(Callback.class))).thenAnswer(invocation -> {
+            deadlineSeenByHandler.set(CallbackDeadline.current());
+            return response1;
+        });
+
+        preSubmitCallbackDispatcher.handle(PreSubmitCallbackStage.ABOUT_TO_SUBMIT, callback);
+
+        assertEquals(Optional.empty(), deadlineSeenByHandler.get());
+    }
+
     @Test
     public void should_not_allow_null_ccd_event_authorizor() {
 
         NullPointerException exception = assertThrows(NullPointerException.class,
-            () -> new PreSubmitCallbackDispatcher<>(null, Collections.emptyList()));
+            () -> new PreSubmitCallbackDispatcher<>(
+                null, Collections.emptyList(), 0, callbackMetrics, CallbackTracer.NOOP));
         assertEquals("ccdEventAuthorizor must not be null", exception.getMessage());
     }
 
@@ -265,7 +414,8 @@ public class PreSubmitCallbackDispatcherTest {
     public void should_not_allow_null_handlers() {
 
         NullPointerException exception = assertThrows(NullPointerException.class,
-            () -> new PreSubmitCallbackDispatcher<>(ccdEventAuthorizor, null));
+            () -> new PreSubmitCallbackDispatcher<>(
+                ccdEventAuthorizor, null, 0, callbackMetrics, CallbackTracer.NOOP));
         assertEquals("callbackHandlers must not be null", exception.getMessage());
     }
 
@@ -0,0 +1,133 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+class SelfHealingCacheManagerTest {
+
+    private static final String CACHE_NAME = "userInfoCache";
+
+    private final RedisConnectionFactory redisConnectionFactory = mock(RedisConnectionFactory.class);
+    private final RedisConnection redisConnection = mock(RedisConnection.class);
+    private final ConcurrentMapCacheManager redisCacheManager = new ConcurrentMapCacheManager(CACHE_NAME);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void should_use_local_caches_while_redis_is_down_and_move_back_when_it_returns() {
+        when(redisConnectionFactory.getConnection()).thenThrow(new RedisConnectionFailureException("down"));
+        SelfHealingCacheManager cacheManager = cacheManager(Optional.of(redisCacheManager));
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+
+        assertEquals(SelfHealingCacheManager.Mode.LOCAL, cacheManager.getMode());
+        assertEquals(0, redisActive());
+
+        cache.put("token", "local-user-info");
+        assertEquals("local-user-info", cache.get("token").get());
+        assertNull(redisCacheManager.getCache(CACHE_NAME).get("token"));
+
+        redisIsUp();
+        cacheManager.probe();
+
+        assertEquals(SelfHealingCacheManager.Mode.REDIS, cacheManager.getMode());
+        assertEquals(1, redisActive());
+        assertNull(cache.get("token"));
+
+        cache.put("token", "user-info");
+        assertEquals("user-info", redisCacheManager.getCache(CACHE_NAME).get("token").get());
+    }
+
+    @Test
+    void should_move_to_local_caches_when_a_redis_operation_fails() {
+        redisIsUp();
+        CacheManager failingRedisCacheManager = mock(CacheManager.class);
+        Cache failingRedisCache = mock(Cache.class);
+        when(failingRedisCacheManager.getCache(CACHE_NAME)).thenReturn(failingRedisCache);
+        doThrow(new RedisConnectionFailureException("down")).when(failingRedisCache).put(any(), any());
+
+        SelfHealingCacheManager cacheManager = cacheManager(Optional.of(failingRedisCacheManager));
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+
+        cache.put("token", "user-info");
+
+        assertEquals(SelfHealingCacheManager.Mode.LOCAL, cacheManager.getMode());
+        assertEquals("user-info", cache.get("token").get());
+    }
+
+    @Test
+    void should_not_load_again_when_redis_fails_after_loading() {
+        redisIsUp();
+        CacheManager failingRedisCacheManager = mock(CacheManager.class);
+        Cache failingRedisCache = mock(Cache.class);
+        when(failingRedisCacheManager.getCache(CACHE_NAME)).thenReturn(failingRedisCache);
+        when(failingRedisCache.get(any(), any(Callable.class))).thenAnswer(invocation -> {
+            invocation.getArgument(1, Callable.class).call();
+            throw new RedisConnectionFailureException("down");
+        });
+
+        SelfHealingCacheManager cacheManager = cacheManager(Optional.of(failingRedisCacheManager));
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        AtomicInteger loads = new AtomicInteger();
+
+        String userInfo = cache.get("token", () -> {
+            loads.incrementAndGet();
+            return "user-info";
+        });
+
+        assertEquals("user-info", userInfo);
+
+        assertEquals(1, loads.get());
+        assertEquals(SelfHealingCacheManager.Mode.LOCAL, cacheManager.getMode());
+        assertEquals("user-info", cache.get("token").get());
+    }
+
+    @Test
+    void should_only_use_local_caches_when_redis_caches_are_not_configured() {
+        SelfHealingCacheManager cacheManager = cacheManager(Optional.empty());
+
+        cacheManager.getCache(CACHE_NAME).put("token", "user-info");
+
+        assertEquals(SelfHealingCacheManager.Mode.LOCAL, cacheManager.getMode());
+        assertEquals("user-info", cacheManager.getCache(CACHE_NAME).get("token").get());
+    }
+
+    private SelfHealingCacheManager cacheManager(Optional<CacheManager> redisCacheManager) {
+        return new SelfHealingCacheManager(
+            redisCacheManager,
+            redisConnectionFactory,
+            Duration.ofMinutes(30),
+            100,
+            Duration.ofSeconds(30),
+            mock(ScheduledExecutorService.class),
+            meterRegistry
+        );
+    }
+
+    private void redisIsUp() {
+        reset(redisConnectionFactory);
+        when(redisConnectionFactory.getConnection()).thenReturn(redisConnection);
+        when(redisConnection.ping()).thenReturn("PONG");
+    }
+
+    private double redisActive() {
+        return meterRegistry.get("cache.redis.active").gauge().value();
+    }
+}
@@ -0,0 +1,95 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class TwoTierCacheManagerTest {
+
+    private static final String CACHE_NAME = "userInfoCache";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrentMapCacheManager sharedCacheManager = new ConcurrentMapCacheManager(CACHE_NAME);
+    private final TwoTierCacheManager twoTierCacheManager = new TwoTierCacheManager(
+        sharedCacheManager,
+        Duration.ofSeconds(60),
+        100,
+        meterRegistry,
+        nanos::get
+    );
+
+    @Test
+    void should_serve_from_memory_once_read_from_shared_cache() {
+        sharedCacheManager.getCache(CACHE_NAME).put("token", "user-info");
+        Cache cache = twoTierCacheManager.getCache(CACHE_NAME);
+
+        assertEquals("user-info", cache.get("token").get());
+        sharedCacheManager.getCache(CACHE_NAME).evict("token");
+        assertEquals("user-info", cache.get("token").get());
+
+        assertEquals(1, lookups("shared"));
+        assertEquals(1, lookups("near"));
+    }
+
+    @Test
+    void should_go_back_to_shared_cache_once_near_entry_expires() {
+        Cache cache = twoTierCacheManager.getCache(CACHE_NAME);
+        cache.put("token", "user-info");
+
+        sharedCacheManager.getCache(CACHE_NAME).put("token", "refreshed-user-info");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+
+        assertEquals("refreshed-user-info", cache.get("token").get());
+    }
+
+    @Test
+    void should_write_and_evict_both_tiers() {
+        Cache cache = twoTierCacheManager.getCache(CACHE_NAME);
+
+        cache.put("token", "user-info");
+        assertEquals("user-info", sharedCacheManager.getCache(CACHE_NAME).get("token").get());
+
+        cache.evict("token");
+        assertNull(sharedCacheManager.getCache(CACHE_NAME).get("token"));
+        assertNull(cache.get("token"));
+        assertEquals(1, lookups("miss"));
+    }
+
+    @Test
+    void should_load_through_shared_cache_once() {
+        Cache cache = twoTierCacheManager.getCache(CACHE_NAME);
+        AtomicLong loads = new AtomicLong();
+
+        Callable<String> loader = () -> {
+            loads.incrementAndGet();
+            return "token";
+        };
+
+        assertEquals("token", cache.get("systemUserTokenCache", loader));
+        assertEquals("token", cache.get("systemUserTokenCache", loader));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, lookups("miss"));
+        assertEquals(1, lookups("near"));
+    }
+
+    @Test
+    void should_reuse_caches_and_report_shared_names() {
+        assertSame(twoTierCacheManager.getCache(CACHE_NAME), twoTierCacheManager.getCache(CACHE_NAME));
+        assertEquals(sharedCacheManager.getCacheNames(), twoTierCacheManager.getCacheNames());
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("cache.twoTier.lookups").tag("cache", CACHE_NAME).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,75 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentSendExecutorTest {
+
+    @Test
+    public void should_send_no_more_than_maximum_concurrency_at_once_without_blocking_the_caller() throws Exception {
+
+        AtomicInteger sending = new AtomicInteger();
+        AtomicInteger mostSendingAtOnce = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(6);
+
+        try (ConcurrentSendExecutor executor = new ConcurrentSendExecutor(2)) {
+            for (int i = 0; i < 6; i++) {
+                executor.execute(() -> {
+                    mostSendingAtOnce.accumulateAndGet(sending.incrementAndGet(), Math::max);
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        sending.decrementAndGet();
+                        finished.countDown();
+                    }
+                });
+            }
+
+            // every send has been handed over while the first two are still holding their permits
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertTrue(finished.await(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(2, mostSendingAtOnce.get());
+    }
+
+    @Test
+    public void should_run_sends_on_virtual_threads() throws Exception {
+
+        CountDownLatch sent = new CountDownLatch(1);
+        AtomicInteger virtualSends = new AtomicInteger();
+
+        try (ConcurrentSendExecutor executor = new ConcurrentSendExecutor(1)) {
+            executor.execute(() -> {
+                if (Thread.currentThread().isVirtual()) {
+                    virtualSends.incrementAndGet();
+                }
+                sent.countDown();
+            });
+
+            assertTrue(sent.await(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1, virtualSends.get());
+    }
+
+    @Test
+    public void should_not_allow_less_than_one_concurrent_send() {
+
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentSendExecutor(0));
+    }
+}
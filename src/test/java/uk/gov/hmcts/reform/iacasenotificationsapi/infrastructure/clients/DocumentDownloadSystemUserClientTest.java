@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,7 @@ import uk.gov.hmcts.reform.document.DocumentDownloadClientApi;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.UserDetailsProvider;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.UserDetails;
 import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.AccessTokenProvider;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
 
 @ExtendWith(MockitoExtension.class)
 public class DocumentDownloadSystemUserClientTest {
@@ -48,7 +50,9 @@ public class DocumentDownloadSystemUserClientTest {
             documentDownloadClientApi,
             serviceAuthTokenGenerator,
             accessTokenProvider,
-            userDetailsProvider);
+            userDetailsProvider,
+            new SimpleMeterRegistry(),
+            CallbackTracer.NOOP);
     }
 
     @Test
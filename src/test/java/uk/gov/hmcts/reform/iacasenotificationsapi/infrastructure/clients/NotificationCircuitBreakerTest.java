@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class NotificationCircuitBreakerTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final NotificationCircuitBreaker circuitBreaker =
+        new NotificationCircuitBreaker(2, Duration.ofSeconds(30), nanoTime::get);
+
+    @Test
+    void should_open_after_consecutive_failures() {
+        circuitBreaker.recordFailure();
+        assertTrue(circuitBreaker.tryAcquire());
+
+        circuitBreaker.recordFailure();
+        assertTrue(circuitBreaker.isOpen());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void should_not_count_failures_separated_by_a_success() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure();
+
+        assertFalse(circuitBreaker.isOpen());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void should_let_one_trial_call_through_after_open_period_and_close_when_it_succeeds() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertTrue(circuitBreaker.tryAcquire());
+        assertFalse(circuitBreaker.tryAcquire());
+
+        circuitBreaker.recordSuccess();
+
+        assertFalse(circuitBreaker.isOpen());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void should_open_again_when_trial_call_fails() {
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertTrue(circuitBreaker.tryAcquire());
+
+        circuitBreaker.recordFailure();
+
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+}
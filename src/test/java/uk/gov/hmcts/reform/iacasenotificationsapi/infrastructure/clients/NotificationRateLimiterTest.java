@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class NotificationRateLimiterTest {
+
+    private static final long PERMIT_NANOS = Duration.ofMillis(100).toNanos();
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NotificationRateLimiter rateLimiter =
+        new NotificationRateLimiter("asylum", 10, 2, Duration.ofMillis(250), meterRegistry, nanoTime::get);
+
+    @Test
+    void should_let_a_burst_through_then_space_out_permits() {
+        assertEquals(0, rateLimiter.reserve());
+        assertEquals(0, rateLimiter.reserve());
+
+        assertEquals(PERMIT_NANOS, rateLimiter.reserve());
+        assertEquals(2 * PERMIT_NANOS, rateLimiter.reserve());
+    }
+
+    @Test
+    void should_refill_permits_over_time_up_to_the_burst() {
+        rateLimiter.reserve();
+        rateLimiter.reserve();
+
+        nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertEquals(0, rateLimiter.reserve());
+        assertEquals(0, rateLimiter.reserve());
+        assertEquals(PERMIT_NANOS, rateLimiter.reserve());
+    }
+
+    @Test
+    void should_turn_callers_away_when_the_wait_would_be_too_long() throws Exception {
+        rateLimiter.acquire();
+        rateLimiter.acquire();
+        rateLimiter.reserve();
+        rateLimiter.reserve();
+
+        assertThrows(NotificationRateLimitedException.class, rateLimiter::acquire);
+
+        assertEquals(
+            1.0,
+            meterRegistry.get("govnotify.client.rate.limit.rejections").tag("client", "asylum").counter().count()
+        );
+        assertEquals(2, meterRegistry.get("govnotify.client.rate.limit.wait").tag("client", "asylum").timer().count());
+        assertEquals(0.0, meterRegistry.get("govnotify.client.rate.limit.queue").tag("client", "asylum").gauge().value());
+    }
+}
@@ -0,0 +1,53 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import uk.gov.service.notify.NotificationClientException;
+
+class NotificationRetryPolicyTest {
+
+    private final NotificationRetryPolicy retryPolicy =
+        new NotificationRetryPolicy(3, Duration.ofMillis(100), Duration.ofMillis(250));
+
+    @Test
+    void should_retry_only_transient_failures() {
+        assertTrue(retryPolicy.isRetryable(new NotificationClientException(new IOException("timed out"))));
+        assertTrue(retryPolicy.isRetryable(failureWithStatus(429)));
+        assertTrue(retryPolicy.isRetryable(failureWithStatus(500)));
+        assertTrue(retryPolicy.isRetryable(failureWithStatus(503)));
+
+        assertFalse(retryPolicy.isRetryable(failureWithStatus(400)));
+        assertFalse(retryPolicy.isRetryable(failureWithStatus(403)));
+        assertFalse(retryPolicy.isRetryable(failureWithStatus(404)));
+    }
+
+    @Test
+    void should_back_off_exponentially_with_jitter_up_to_max_backoff() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(retryPolicy.backoffBefore(1).compareTo(Duration.ofMillis(100)) <= 0);
+            assertTrue(retryPolicy.backoffBefore(2).compareTo(Duration.ofMillis(200)) <= 0);
+            assertTrue(retryPolicy.backoffBefore(3).compareTo(Duration.ofMillis(250)) <= 0);
+            assertTrue(retryPolicy.backoffBefore(64).compareTo(Duration.ofMillis(250)) <= 0);
+        }
+    }
+
+    @Test
+    void should_not_back_off_when_no_backoff_is_configured() {
+        NotificationRetryPolicy immediateRetryPolicy = new NotificationRetryPolicy(2, Duration.ZERO, Duration.ZERO);
+
+        assertEquals(Duration.ZERO, immediateRetryPolicy.backoffBefore(1));
+    }
+
+    private static NotificationClientException failureWithStatus(int httpResult) {
+        NotificationClientException e = mock(NotificationClientException.class);
+        when(e.getHttpResult()).thenReturn(httpResult);
+        return e;
+    }
+}
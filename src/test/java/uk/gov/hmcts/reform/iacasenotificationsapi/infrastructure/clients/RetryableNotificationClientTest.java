@@ -1,13 +1,21 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
 import uk.gov.service.notify.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,13 +40,22 @@ class RetryableNotificationClientTest {
     @BeforeEach
     void setup() {
 
-        retryableNotificationClient = new RetryableNotificationClient(notificationClient);
+        retryableNotificationClient = new RetryableNotificationClient(
+            notificationClient,
+            "asylum",
+            Duration.ofSeconds(5),
+            new NotificationRetryPolicy(2, Duration.ZERO, Duration.ZERO),
+            Optional.empty(),
+            Optional.empty(),
+            new SimpleMeterRegistry(),
+            CallbackTracer.NOOP
+        );
     }
 
     @Test
     void should_retry_once_when_sending_email_failed() throws NotificationClientException {
         when(notificationClient.sendEmail(anyString(), anyString(), anyMap(), anyString()))
-            .thenThrow(new NotificationClientException("some exception"))
+            .thenThrow(transientFailure())
             .thenReturn(sendEmailResponse);
 
         retryableNotificationClient.sendEmail(anyString(), anyString(), anyMap(), anyString());
@@ -49,7 +66,7 @@ class RetryableNotificationClientTest {
     @Test
     void should_retry_once_when_sending_sms_failed() throws NotificationClientException {
         when(notificationClient.sendSms(anyString(), anyString(), anyMap(), anyString()))
-            .thenThrow(new NotificationClientException("some exception"))
+            .thenThrow(transientFailure())
             .thenReturn(sendSmsResponse);
 
         retryableNotificationClient.sendSms(anyString(), anyString(), anyMap(), anyString());
@@ -60,7 +77,7 @@ class RetryableNotificationClientTest {
     @Test
     void should_retry_once_when_getting_notification_failed() throws NotificationClientException {
         when(notificationClient.getNotificationById(anyString()))
-            .thenThrow(new NotificationClientException("some exception"))
+            .thenThrow(transientFailure())
             .thenReturn(notification);
 
         retryableNotificationClient.getNotificationById(anyString());
@@ -71,7 +88,7 @@ class RetryableNotificationClientTest {
     @Test
     void should_retry_once_when_sending_letter_failed() throws NotificationClientException {
         when(notificationClient.sendLetter(anyString(), anyMap(), anyString()))
-            .thenThrow(new NotificationClientException("some exception"))
+            .thenThrow(transientFailure())
             .thenReturn(sendLetterResponse);
 
         retryableNotificationClient.sendLetter(anyString(), anyMap(), anyString());
@@ -84,11 +101,139 @@ class RetryableNotificationClientTest {
         InputStream mockStream = mock(InputStream.class);
 
         when(notificationClient.sendPrecompiledLetterWithInputStream(anyString(), eq(mockStream)))
-            .thenThrow(new NotificationClientException("some exception"))
+            .thenThrow(transientFailure())
             .thenReturn(letterResponse);
 
         retryableNotificationClient.sendPrecompiledLetter("testReference", mockStream);
 
         verify(notificationClient, times(2)).sendPrecompiledLetterWithInputStream(anyString(), eq(mockStream));
     }
+
+    @Test
+    void should_not_retry_when_request_is_rejected() throws NotificationClientException {
+        NotificationClientException badRequest = failureWithStatus(400);
+        when(notificationClient.sendEmail(anyString(), anyString(), anyMap(), anyString()))
+            .thenThrow(badRequest);
+
+        assertThrows(NotificationClientException.class, () ->
+            retryableNotificationClient.sendEmail("templateId", "email", Map.of(), "reference"));
+
+        verify(notificationClient, times(1)).sendEmail(anyString(), anyString(), anyMap(), anyString());
+    }
+
+    @Test
+    void should_retry_rate_limited_and_server_errors_up_to_max_attempts() throws NotificationClientException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        retryableNotificationClient = new RetryableNotificationClient(
+            notificationClient,
+            "asylum",
+            Duration.ofSeconds(5),
+            new NotificationRetryPolicy(3, Duration.ZERO, Duration.ZERO),
+            Optional.empty(),
+            Optional.empty(),
+            meterRegistry,
+            CallbackTracer.NOOP
+        );
+
+        NotificationClientException rateLimited = failureWithStatus(429);
+        NotificationClientException serverError = failureWithStatus(503);
+        when(notificationClient.sendSms(anyString(), anyString(), anyMap(), anyString()))
+            .thenThrow(rateLimited, serverError, serverError);
+
+        assertThrows(NotificationClientException.class, () ->
+            retryableNotificationClient.sendSms("templateId", "phone", Map.of(), "reference"));
+
+        verify(notificationClient, times(3)).sendSms(anyString(), anyString(), anyMap(), anyString());
+        assertEquals(3.0, meterRegistry.get("govnotify.client.attempts").tag("client", "asylum").counter().count());
+        assertEquals(2.0, meterRegistry.get("govnotify.client.retries").tag("client", "asylum").counter().count());
+    }
+
+    @Test
+    void should_time_sends_by_channel_template_and_outcome() throws NotificationClientException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        retryableNotificationClient = new RetryableNotificationClient(
+            notificationClient,
+            "asylum",
+            Duration.ofSeconds(5),
+            new NotificationRetryPolicy(1, Duration.ZERO, Duration.ZERO),
+            Optional.empty(),
+            Optional.empty(),
+            meterRegistry,
+            CallbackTracer.NOOP
+        );
+
+        when(notificationClient.sendEmail(anyString(), anyString(), anyMap(), anyString()))
+            .thenReturn(sendEmailResponse)
+            .thenThrow(failureWithStatus(400));
+
+        retryableNotificationClient.sendEmail("templateId", "email", Map.of(), "reference");
+        assertThrows(NotificationClientException.class, () ->
+            retryableNotificationClient.sendEmail("templateId", "email", Map.of(), "reference"));
+
+        assertEquals(1, meterRegistry.get("govnotify.send")
+            .tags("client", "asylum", "channel", "email", "template", "templateId", "outcome", "success")
+            .timer().count());
+        assertEquals(1, meterRegistry.get("govnotify.send")
+            .tags("client", "asylum", "channel", "email", "template", "templateId", "outcome", "failure")
+            .timer().count());
+    }
+
+    @Test
+    void should_fail_fast_while_circuit_is_open() throws NotificationClientException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        retryableNotificationClient = new RetryableNotificationClient(
+            notificationClient,
+            "bail",
+            Duration.ofSeconds(5),
+            new NotificationRetryPolicy(1, Duration.ZERO, Duration.ZERO),
+            Optional.of(new NotificationCircuitBreaker(2, Duration.ofMinutes(1))),
+            Optional.empty(),
+            meterRegistry,
+            CallbackTracer.NOOP
+        );
+
+        when(notificationClient.getNotificationById(anyString()))
+            .thenThrow(transientFailure());
+
+        assertThrows(NotificationClientException.class, () -> retryableNotificationClient.getNotificationById("1"));
+        assertThrows(NotificationClientException.class, () -> retryableNotificationClient.getNotificationById("2"));
+        assertThrows(NotificationCircuitOpenException.class, () -> retryableNotificationClient.getNotificationById("3"));
+
+        verify(notificationClient, times(2)).getNotificationById(anyString());
+        assertEquals(1.0, meterRegistry.get("govnotify.client.rejections").tag("client", "bail").counter().count());
+        assertEquals(1.0, meterRegistry.get("govnotify.client.circuit.open").tag("client", "bail").gauge().value());
+    }
+
+    @Test
+    void should_not_call_notify_when_rate_limit_is_reached() throws NotificationClientException {
+        retryableNotificationClient = new RetryableNotificationClient(
+            notificationClient,
+            "asylum",
+            Duration.ofSeconds(5),
+            new NotificationRetryPolicy(2, Duration.ZERO, Duration.ZERO),
+            Optional.empty(),
+            Optional.of(new NotificationRateLimiter("asylum", 1, 1, Duration.ZERO, new SimpleMeterRegistry())),
+            new SimpleMeterRegistry(),
+            CallbackTracer.NOOP
+        );
+
+        when(notificationClient.sendEmail(anyString(), anyString(), anyMap(), anyString()))
+            .thenReturn(sendEmailResponse);
+
+        retryableNotificationClient.sendEmail("templateId", "email", Map.of(), "reference");
+        assertThrows(NotificationRateLimitedException.class, () ->
+            retryableNotificationClient.sendEmail("templateId", "email", Map.of(), "reference"));
+
+        verify(notificationClient, times(1)).sendEmail(anyString(), anyString(), anyMap(), anyString());
+    }
+
+    private static NotificationClientException transientFailure() {
+        return new NotificationClientException(new IOException("connection reset"));
+    }
+
+    private static NotificationClientException failureWithStatus(int httpResult) {
+        NotificationClientException e = mock(NotificationClientException.class);
+        when(e.getHttpResult()).thenReturn(httpResult);
+        return e;
+    }
 }
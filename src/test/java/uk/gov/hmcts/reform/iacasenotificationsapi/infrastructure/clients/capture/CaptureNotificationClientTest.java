@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.capture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.NotificationRetryPolicy;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.RetryableNotificationClient;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
+import uk.gov.service.notify.NotificationClientException;
+import uk.gov.service.notify.SendEmailResponse;
+import uk.gov.service.notify.SendSmsResponse;
+
+class CaptureNotificationClientTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-10-18T10:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void should_capture_sends_and_answer_with_the_captured_notification_ids() throws Exception {
+
+        NotificationCapture notificationCapture = new NotificationCapture(Duration.ZERO, 0, 100, clock);
+        CaptureNotificationClient client = new CaptureNotificationClient(notificationCapture);
+
+        SendEmailResponse emailResponse = client.sendEmail(
+            "emailTemplateId", "someone@example.com", Map.of("name", "Talia"), "1234_APPEAL_SUBMITTED");
+        SendSmsResponse smsResponse = client.sendSms(
+            "smsTemplateId", "07123456789", Map.of(), "1234_APPEAL_SUBMITTED_SMS");
+
+        List<CapturedNotification> captured = notificationCapture.getCaptured();
+
+        assertEquals(2, captured.size());
+        assertEquals(captured.get(0).notificationId(), emailResponse.getNotificationId().toString());
+        assertEquals("someone@example.com", captured.get(0).recipient());
+        assertEquals(captured.get(1).notificationId(), smsResponse.getNotificationId().toString());
+        assertEquals("sms", captured.get(1).channel());
+    }
+
+    @Test
+    void should_fail_injected_sends_as_client_errors_that_are_retried() {
+
+        NotificationCapture notificationCapture = new NotificationCapture(Duration.ZERO, 1, 100, clock);
+        RetryableNotificationClient retryableNotificationClient = new RetryableNotificationClient(
+            new CaptureNotificationClient(notificationCapture),
+            "asylum",
+            Duration.ofSeconds(5),
+            new NotificationRetryPolicy(2, Duration.ZERO, Duration.ZERO),
+            Optional.empty(),
+            Optional.empty(),
+            new SimpleMeterRegistry(),
+            CallbackTracer.NOOP
+        );
+
+        assertThrows(NotificationClientException.class, () ->
+            retryableNotificationClient.sendEmail("templateId", "someone@example.com", Map.of(), "reference"));
+
+        assertTrue(notificationCapture.getCaptured().isEmpty());
+    }
+}
@@ -0,0 +1,83 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.capture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import uk.gov.service.notify.NotificationClientException;
+
+class NotificationCaptureTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-10-18T10:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    void should_record_every_send_in_order() throws Exception {
+
+        NotificationCapture notificationCapture = new NotificationCapture(Duration.ZERO, 0, 100, clock);
+
+        String emailId = notificationCapture.capture(
+            "email", "emailTemplateId", "someone@example.com", Map.of("name", "Talia"), "1234_APPEAL_SUBMITTED");
+        String smsId = notificationCapture.capture(
+            "sms", "smsTemplateId", "07123456789", Map.of(), "1234_APPEAL_SUBMITTED_SMS");
+
+        List<CapturedNotification> captured = notificationCapture.getCaptured();
+
+        assertEquals(2, captured.size());
+        assertEquals(emailId, captured.get(0).notificationId());
+        assertEquals("emailTemplateId", captured.get(0).templateId());
+        assertEquals("someone@example.com", captured.get(0).recipient());
+        assertEquals(Map.of("name", "Talia"), captured.get(0).personalisation());
+        assertEquals(clock.instant(), captured.get(0).capturedAt());
+        assertEquals(smsId, captured.get(1).notificationId());
+        assertEquals(Map.of("email", 1L, "sms", 1L), notificationCapture.countByChannel());
+
+        notificationCapture.clear();
+
+        assertTrue(notificationCapture.getCaptured().isEmpty());
+        assertTrue(notificationCapture.countByChannel().isEmpty());
+    }
+
+    @Test
+    void should_keep_only_the_most_recent_sends_but_count_them_all() throws Exception {
+
+        NotificationCapture notificationCapture = new NotificationCapture(Duration.ZERO, 0, 2, clock);
+
+        for (int i = 1; i <= 3; i++) {
+            notificationCapture.capture("email", "templateId", "someone@example.com", Map.of(), "reference-" + i);
+        }
+
+        List<CapturedNotification> captured = notificationCapture.getCaptured();
+
+        assertEquals(2, captured.size());
+        assertEquals("reference-2", captured.get(0).reference());
+        assertEquals("reference-3", captured.get(1).reference());
+        assertEquals(Map.of("email", 3L), notificationCapture.countByChannel());
+    }
+
+    @Test
+    void should_fail_sends_at_the_error_rate_without_recording_them() {
+
+        NotificationCapture notificationCapture = new NotificationCapture(Duration.ZERO, 1, 100, clock);
+
+        assertThrows(NotificationClientException.class, () ->
+            notificationCapture.capture("email", "templateId", "someone@example.com", Map.of(), "reference"));
+
+        assertTrue(notificationCapture.getCaptured().isEmpty());
+    }
+
+    @Test
+    void should_not_allow_invalid_settings() {
+
+        assertThrows(IllegalArgumentException.class, () ->
+            new NotificationCapture(Duration.ofMillis(-1), 0, 100, clock));
+        assertThrows(IllegalArgumentException.class, () -> new NotificationCapture(Duration.ZERO, 1.5, 100, clock));
+        assertThrows(IllegalArgumentException.class, () -> new NotificationCapture(Duration.ZERO, 0, 0, clock));
+    }
+}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper.DeliveryReceiptCache.Channel;
+
+public class DeliveryReceiptCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DeliveryReceiptCache deliveryReceiptCache =
+        new DeliveryReceiptCache("asylum", 100, meterRegistry, Optional.empty());
+    private final AtomicInteger sends = new AtomicInteger();
+
+    @Test
+    public void should_deduplicate_sends_per_channel() {
+
+        assertEquals("1", deliveryReceiptCache.deduplicate(Channel.EMAIL, "key", 60, this::send));
+        assertEquals("1", deliveryReceiptCache.deduplicate(Channel.EMAIL, "key", 60, this::send));
+        assertEquals("2", deliveryReceiptCache.deduplicate(Channel.SMS, "key", 60, this::send));
+
+        assertEquals(2, sends.get());
+    }
+
+    @Test
+    public void should_keep_each_receipt_for_the_window_it_was_sent_with() {
+
+        assertEquals("1", deliveryReceiptCache.deduplicate(Channel.LETTER, "short", 0, this::send));
+        assertEquals("2", deliveryReceiptCache.deduplicate(Channel.LETTER, "long", 60, this::send));
+
+        assertEquals("3", deliveryReceiptCache.deduplicate(Channel.LETTER, "short", 60, this::send));
+        assertEquals("2", deliveryReceiptCache.deduplicate(Channel.LETTER, "long", 0, this::send));
+    }
+
+    @Test
+    public void should_not_remember_failed_sends() {
+
+        assertEquals("", deliveryReceiptCache.deduplicate(Channel.EMAIL, "key", 60, () -> ""));
+        assertThrows(IllegalStateException.class, () ->
+            deliveryReceiptCache.deduplicate(Channel.EMAIL, "key", 60, () -> {
+                throw new IllegalStateException("unavailable");
+            }));
+
+        assertEquals("1", deliveryReceiptCache.deduplicate(Channel.EMAIL, "key", 60, this::send));
+    }
+
+    @Test
+    public void should_publish_cache_metrics_per_case_type_and_channel() {
+
+        deliveryReceiptCache.deduplicate(Channel.PRECOMPILED_LETTER, "key", 60, this::send);
+        deliveryReceiptCache.deduplicate(Channel.PRECOMPILED_LETTER, "key", 60, this::send);
+
+        assertEquals(
+            1.0,
+            meterRegistry.get("cache.gets")
+                .tags("cache", "notificationDeduplication", "caseType", "asylum", "channel", "precompiled_letter")
+                .tag("result", "hit")
+                .functionCounter()
+                .count()
+        );
+    }
+
+    private String send() {
+        return String.valueOf(sends.incrementAndGet());
+    }
+}
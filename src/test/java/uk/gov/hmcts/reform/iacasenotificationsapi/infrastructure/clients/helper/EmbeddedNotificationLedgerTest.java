@@ -0,0 +1,135 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class EmbeddedNotificationLedgerTest {
+
+    private static final String KEY = "1234:SUBMIT_APPEAL:EMAIL:1234_APPEAL_SUBMITTED:recipient@example.com";
+    private static final byte[] KEY_HASH_SECRET = "key-hash-secret".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path directory;
+
+    private final AtomicLong currentTimeMillis = new AtomicLong(1_000_000);
+
+    @Test
+    public void should_find_recorded_notification_id() {
+
+        EmbeddedNotificationLedger ledger = ledger(100);
+
+        assertEquals(Optional.empty(), ledger.find(KEY));
+
+        ledger.record(KEY, "notification-id");
+
+        assertEquals(Optional.of("notification-id"), ledger.find(KEY));
+        assertEquals(Optional.empty(), ledger.find(KEY + "-other"));
+    }
+
+    @Test
+    public void should_keep_recorded_notification_ids_across_restart() {
+
+        ledger(100).record(KEY, "notification-id");
+
+        assertEquals(Optional.of("notification-id"), ledger(100).find(KEY));
+    }
+
+    @Test
+    public void should_forget_entries_after_retention_period() {
+
+        EmbeddedNotificationLedger ledger = ledger(100);
+        ledger.record(KEY, "notification-id");
+
+        currentTimeMillis.addAndGet(Duration.ofMinutes(61).toMillis());
+
+        assertEquals(Optional.empty(), ledger.find(KEY));
+        assertEquals(Optional.empty(), ledger(100).find(KEY));
+    }
+
+    @Test
+    public void should_rewrite_file_with_live_entries_only() throws Exception {
+
+        EmbeddedNotificationLedger ledger = ledger(10);
+        ledger.record(KEY + "-expired", "expired-id");
+        currentTimeMillis.addAndGet(Duration.ofMinutes(61).toMillis());
+        for (int i = 0; i < 10; i++) {
+            ledger.record(KEY + "-" + i, "id-" + i);
+        }
+
+        String contents = Files.readString(directory.resolve("ledger.tsv"), StandardCharsets.UTF_8);
+
+        assertFalse(contents.contains("expired-id"));
+    }
+
+    @Test
+    public void should_not_keep_recipient_in_file() throws Exception {
+
+        ledger(100).record(KEY, "notification-id");
+
+        String contents = Files.readString(directory.resolve("ledger.tsv"), StandardCharsets.UTF_8);
+
+        assertFalse(contents.contains("recipient@example.com"));
+    }
+
+    @Test
+    public void should_not_keep_unkeyed_hash_of_key_in_file() throws Exception {
+
+        ledger(100).record(KEY, "notification-id");
+
+        String contents = Files.readString(directory.resolve("ledger.tsv"), StandardCharsets.UTF_8);
+
+        assertFalse(contents.contains(Hashing.sha256().hashString(KEY, StandardCharsets.UTF_8).toString()));
+        assertTrue(contents.contains(Hashing.hmacSha256(KEY_HASH_SECRET).hashString(KEY, StandardCharsets.UTF_8).toString()));
+    }
+
+    @Test
+    public void should_keep_every_entry_recorded_concurrently() throws Exception {
+
+        EmbeddedNotificationLedger ledger = ledger(10_000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> records = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                String suffix = "-" + i;
+                records.add(executor.submit(() -> ledger.record(KEY + suffix, "id" + suffix)));
+            }
+            for (Future<?> record : records) {
+                record.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        EmbeddedNotificationLedger restarted = ledger(10_000);
+        for (int i = 0; i < 400; i++) {
+            assertEquals(Optional.of("id-" + i), restarted.find(KEY + "-" + i));
+        }
+    }
+
+    private EmbeddedNotificationLedger ledger(long maximumSize) {
+        return new EmbeddedNotificationLedger(
+            directory.resolve("ledger.tsv"),
+            KEY_HASH_SECRET,
+            Duration.ofMinutes(60),
+            maximumSize,
+            currentTimeMillis::get
+        );
+    }
+}
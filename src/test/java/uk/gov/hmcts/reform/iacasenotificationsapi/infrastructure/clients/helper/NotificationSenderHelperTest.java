@@ -3,7 +3,9 @@ package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.InputStream;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import org.awaitility.core.ConditionTimeoutException;
@@ -14,6 +16,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.CallbackDeadline;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCaseDefinition;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.BailCase;
@@ -21,6 +24,7 @@ import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.BailCaseFieldD
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.StoredNotification;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseDetails;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.field.IdValue;
 import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.NotificationServiceResponseException;
@@ -31,6 +35,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import static org.awaitility.Awaitility.await;
@@ -42,6 +50,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -55,9 +64,21 @@ import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumC
 public class NotificationSenderHelperTest {
 
     private static final org.slf4j.Logger LOG = getLogger(NotificationSenderHelperTest.class);
-    private final NotificationSenderHelper<AsylumCase> senderHelper = new NotificationSenderHelper<>();
-    private final NotificationSenderHelper<BailCase> bailSenderHelper = new NotificationSenderHelper<>();
-    private final NotificationSenderHelper<UnknownCase> unknownSenderHelper = new NotificationSenderHelper<>();
+    private final NotificationSenderHelper<AsylumCase> senderHelper =
+        new NotificationSenderHelper<>(
+            new DeliveryReceiptCache("asylum", 100, new SimpleMeterRegistry(), Optional.empty()),
+            Optional.empty()
+        );
+    private final NotificationSenderHelper<BailCase> bailSenderHelper =
+        new NotificationSenderHelper<>(
+            new DeliveryReceiptCache("bail", 100, new SimpleMeterRegistry(), Optional.empty()),
+            Optional.empty()
+        );
+    private final NotificationSenderHelper<UnknownCase> unknownSenderHelper =
+        new NotificationSenderHelper<>(
+            new DeliveryReceiptCache("unknown", 100, new SimpleMeterRegistry(), Optional.empty()),
+            Optional.empty()
+        );
     private final int deduplicateSendsWithinSeconds = 1;
     private final String templateId = "a-b-c-d-e-f";
     private final String emailAddress = "recipient@example.com";
@@ -92,6 +113,8 @@ public class NotificationSenderHelperTest {
     private StoredNotification storedNotificationMock2;
     @Mock
     private InputStream stream;
+    @Mock
+    private NotificationLedger notificationLedger;
 
     @Test
     public void should_not_send_duplicate_emails_in_short_space_of_time() throws NotificationClientException {
@@ -843,6 +866,128 @@ public class NotificationSenderHelperTest {
         assertEquals("Some error message", storedNotification.getNotificationErrorMessage());
     }
 
+    @Test
+    void should_store_failed_notification_without_sending_once_callback_deadline_has_passed() throws Exception {
+        when(notificationClient.getRequestTimeout()).thenReturn(Duration.ofSeconds(5));
+        when(asylumCallback.getCaseDetails()).thenReturn(asylumCaseDetails);
+        when(asylumCaseDetails.getCaseData()).thenReturn(asylumCase);
+        when(asylumCase.read(AsylumCaseDefinition.NOTIFICATIONS)).thenReturn(Optional.empty());
+
+        String result = CallbackDeadline.runWithin(Optional.of(CallbackDeadline.after(Duration.ZERO)), () ->
+            senderHelper.sendSms(
+                templateId,
+                phoneNumber,
+                personalisation,
+                reference,
+                notificationClient,
+                deduplicateSendsWithinSeconds,
+                LOG,
+                asylumCallback
+            )
+        );
+
+        assertEquals("", result);
+        verify(notificationClient, never()).sendSms(any(), any(), any(), any());
+        ArgumentCaptor<List<IdValue<StoredNotification>>> captor = ArgumentCaptor.forClass(List.class);
+        verify(asylumCase).write(eq(AsylumCaseDefinition.NOTIFICATIONS), captor.capture());
+        StoredNotification storedNotification = captor.getValue().getFirst().getValue();
+        assertEquals(phoneNumber, storedNotification.getNotificationSentTo());
+        assertEquals("Sms", storedNotification.getNotificationMethod());
+        assertEquals("Failed", storedNotification.getNotificationStatus());
+        assertEquals("Not sent before the callback deadline", storedNotification.getNotificationErrorMessage());
+    }
+
+    @Test
+    void should_store_failed_notification_without_sending_when_deadline_is_under_the_request_timeout()
+        throws Exception {
+        when(notificationClient.getRequestTimeout()).thenReturn(Duration.ofSeconds(5));
+        when(asylumCallback.getCaseDetails()).thenReturn(asylumCaseDetails);
+        when(asylumCaseDetails.getCaseData()).thenReturn(asylumCase);
+        when(asylumCase.read(AsylumCaseDefinition.NOTIFICATIONS)).thenReturn(Optional.empty());
+
+        String result = CallbackDeadline.runWithin(Optional.of(CallbackDeadline.after(Duration.ofMillis(4900))), () ->
+            senderHelper.sendEmail(
+                templateId,
+                emailAddress,
+                personalisation,
+                reference,
+                notificationClient,
+                deduplicateSendsWithinSeconds,
+                LOG,
+                asylumCallback
+            )
+        );
+
+        assertEquals("", result);
+        verify(notificationClient, never()).sendEmail(any(), any(), any(), any());
+        ArgumentCaptor<List<IdValue<StoredNotification>>> captor = ArgumentCaptor.forClass(List.class);
+        verify(asylumCase).write(eq(AsylumCaseDefinition.NOTIFICATIONS), captor.capture());
+        StoredNotification storedNotification = captor.getValue().getFirst().getValue();
+        assertEquals("Email", storedNotification.getNotificationMethod());
+        assertEquals("Not sent before the callback deadline", storedNotification.getNotificationErrorMessage());
+    }
+
+    @Test
+    void should_return_notification_id_from_ledger_without_sending_again() throws Exception {
+        NotificationSenderHelper<AsylumCase> ledgerSenderHelper = new NotificationSenderHelper<>(
+            new DeliveryReceiptCache("asylum", 100, new SimpleMeterRegistry(), Optional.empty()),
+            Optional.of(notificationLedger)
+        );
+        when(asylumCallback.getCaseDetails()).thenReturn(asylumCaseDetails);
+        when(asylumCallback.getEvent()).thenReturn(Event.SUBMIT_APPEAL);
+        when(asylumCaseDetails.getId()).thenReturn(1234L);
+        String ledgerKey = "1234:submitAppeal:EMAIL:" + reference + ":" + emailAddress;
+        when(notificationLedger.find(ledgerKey)).thenReturn(Optional.of("recorded-notification-id"));
+
+        String notificationId = ledgerSenderHelper.sendEmail(
+            templateId,
+            emailAddress,
+            personalisation,
+            reference,
+            notificationClient,
+            deduplicateSendsWithinSeconds,
+            LOG,
+            asylumCallback
+        );
+
+        assertEquals("recorded-notification-id", notificationId);
+        verify(notificationClient, never()).sendEmail(any(), any(), any(), any());
+        verify(notificationLedger, never()).record(any(), any());
+    }
+
+    @Test
+    void should_record_notification_id_in_ledger_after_sending() throws Exception {
+        NotificationSenderHelper<AsylumCase> ledgerSenderHelper = new NotificationSenderHelper<>(
+            new DeliveryReceiptCache("asylum", 100, new SimpleMeterRegistry(), Optional.empty()),
+            Optional.of(notificationLedger)
+        );
+        final UUID expectedNotificationId = UUID.randomUUID();
+        SendSmsResponse sendSmsResponse = mock(SendSmsResponse.class);
+        when(sendSmsResponse.getNotificationId()).thenReturn(expectedNotificationId);
+        when(notificationClient.sendSms(templateId, phoneNumber, personalisation, reference)).thenReturn(sendSmsResponse);
+        when(asylumCallback.getCaseDetails()).thenReturn(asylumCaseDetails);
+        when(asylumCallback.getEvent()).thenReturn(Event.SUBMIT_APPEAL);
+        when(asylumCaseDetails.getId()).thenReturn(1234L);
+        when(notificationLedger.find(any())).thenReturn(Optional.empty());
+
+        String notificationId = ledgerSenderHelper.sendSms(
+            templateId,
+            phoneNumber,
+            personalisation,
+            reference,
+            notificationClient,
+            deduplicateSendsWithinSeconds,
+            LOG,
+            asylumCallback
+        );
+
+        assertEquals(expectedNotificationId.toString(), notificationId);
+        verify(notificationLedger).record(
+            "1234:submitAppeal:SMS:" + reference + ":" + phoneNumber,
+            expectedNotificationId.toString()
+        );
+    }
+
     @Test
     void storeFailedNotification_should_store_for_bail_case() throws Exception {
         when(bailCallback.getCaseDetails()).thenReturn(bailCaseDetails);
@@ -958,6 +1103,144 @@ public class NotificationSenderHelperTest {
         assertEquals("past-ref", notifications.get(2).getValue().getNotificationReference());
     }
 
+    @Test
+    public void should_send_once_when_duplicate_emails_are_sent_concurrently() throws Exception {
+
+        final UUID expectedNotificationId = UUID.randomUUID();
+        final CountDownLatch sendStarted = new CountDownLatch(1);
+        final CountDownLatch releaseSend = new CountDownLatch(1);
+
+        SendEmailResponse sendEmailResponse = mock(SendEmailResponse.class);
+        when(sendEmailResponse.getNotificationId()).thenReturn(expectedNotificationId);
+        when(notificationClient.sendEmail(templateId, emailAddress, personalisation, reference))
+            .thenAnswer(invocation -> {
+                sendStarted.countDown();
+                releaseSend.await(5, TimeUnit.SECONDS);
+                return sendEmailResponse;
+            });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> firstSend = executorService.submit(() ->
+                senderHelper.sendEmail(
+                    templateId, emailAddress, personalisation, reference,
+                    notificationClient, 10, LOG, asylumCallback
+                ));
+            assertTrue(sendStarted.await(5, TimeUnit.SECONDS));
+
+            Future<String> duplicateSend = executorService.submit(() ->
+                senderHelper.sendEmail(
+                    templateId, emailAddress, personalisation, reference,
+                    notificationClient, 10, LOG, asylumCallback
+                ));
+            releaseSend.countDown();
+
+            assertEquals(expectedNotificationId.toString(), firstSend.get(5, TimeUnit.SECONDS));
+            assertEquals(expectedNotificationId.toString(), duplicateSend.get(5, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        verify(notificationClient, times(1)).sendEmail(templateId, emailAddress, personalisation, reference);
+    }
+
+    @Test
+    public void should_not_hold_up_unrelated_sends_while_a_send_is_in_flight() throws Exception {
+
+        final String otherEmailAddress = "foo@bar.com";
+        final UUID expectedNotificationIdForOther = UUID.randomUUID();
+        final CountDownLatch sendStarted = new CountDownLatch(1);
+        final CountDownLatch releaseSend = new CountDownLatch(1);
+
+        SendEmailResponse sendEmailResponse = mock(SendEmailResponse.class);
+        SendEmailResponse sendEmailResponseForOther = mock(SendEmailResponse.class);
+        when(sendEmailResponse.getNotificationId()).thenReturn(UUID.randomUUID());
+        when(sendEmailResponseForOther.getNotificationId()).thenReturn(expectedNotificationIdForOther);
+        when(notificationClient.sendEmail(templateId, emailAddress, personalisation, reference))
+            .thenAnswer(invocation -> {
+                sendStarted.countDown();
+                releaseSend.await(5, TimeUnit.SECONDS);
+                return sendEmailResponse;
+            });
+        when(notificationClient.sendEmail(templateId, otherEmailAddress, personalisation, reference))
+            .thenReturn(sendEmailResponseForOther);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> blockedSend = executorService.submit(() ->
+                senderHelper.sendEmail(
+                    templateId, emailAddress, personalisation, reference,
+                    notificationClient, 10, LOG, asylumCallback
+                ));
+            assertTrue(sendStarted.await(5, TimeUnit.SECONDS));
+
+            assertEquals(
+                expectedNotificationIdForOther.toString(),
+                senderHelper.sendEmail(
+                    templateId, otherEmailAddress, personalisation, reference,
+                    notificationClient, 10, LOG, asylumCallback
+                )
+            );
+
+            releaseSend.countDown();
+            blockedSend.get(5, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void should_allow_retry_after_a_send_throws() throws NotificationClientException {
+
+        final UUID expectedNotificationId = UUID.randomUUID();
+
+        SendEmailResponse sendEmailResponse = mock(SendEmailResponse.class);
+        when(sendEmailResponse.getNotificationId()).thenReturn(expectedNotificationId);
+        when(notificationClient.sendEmail(templateId, emailAddress, personalisationWithLink, reference))
+            .thenThrow(new NotificationClientException("temporarily unavailable"))
+            .thenReturn(sendEmailResponse);
+
+        assertThrows(NotificationServiceResponseException.class, () ->
+            senderHelper.sendEmailWithLink(
+                templateId, emailAddress, personalisationWithLink, reference,
+                notificationClient, 10, LOG
+            ));
+
+        assertEquals(
+            expectedNotificationId.toString(),
+            senderHelper.sendEmailWithLink(
+                templateId, emailAddress, personalisationWithLink, reference,
+                notificationClient, 10, LOG
+            )
+        );
+    }
+
+    @Test
+    public void should_send_again_when_previous_send_failed() throws NotificationClientException {
+
+        final UUID expectedNotificationId = UUID.randomUUID();
+
+        SendSmsResponse sendSmsResponse = mock(SendSmsResponse.class);
+        when(sendSmsResponse.getNotificationId()).thenReturn(expectedNotificationId);
+        when(notificationClient.sendSms(templateId, phoneNumber, personalisation, reference))
+            .thenThrow(new NotificationClientException("temporarily unavailable"))
+            .thenReturn(sendSmsResponse);
+        when(asylumCallback.getCaseDetails()).thenReturn(asylumCaseDetails);
+        when(asylumCaseDetails.getCaseData()).thenReturn(asylumCase);
+
+        assertEquals("", senderHelper.sendSms(
+            templateId, phoneNumber, personalisation, reference,
+            notificationClient, 10, LOG, asylumCallback
+        ));
+
+        assertEquals(expectedNotificationId.toString(), senderHelper.sendSms(
+            templateId, phoneNumber, personalisation, reference,
+            notificationClient, 10, LOG, asylumCallback
+        ));
+
+        verify(notificationClient, times(2)).sendSms(templateId, phoneNumber, personalisation, reference);
+    }
+
     private static class UnknownCase extends HashMap<String, Object> implements CaseData {
         // noop
     }
@@ -0,0 +1,152 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+public class RedisDeliveryReceiptStoreTest {
+
+    private static final String KEY = "asylum:EMAIL:recipient@example.comour-reference";
+
+    @Mock
+    private RedisOperations<String, String> redisOperations;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final AtomicInteger sends = new AtomicInteger();
+
+    private RedisDeliveryReceiptStore redisDeliveryReceiptStore;
+
+    @BeforeEach
+    public void setUp() {
+        when(redisOperations.opsForValue()).thenReturn(valueOperations);
+
+        redisDeliveryReceiptStore = new RedisDeliveryReceiptStore(
+            redisOperations,
+            "secret".getBytes(),
+            Duration.ofMillis(300),
+            Duration.ofSeconds(30),
+            Duration.ofSeconds(30)
+        );
+    }
+
+    @Test
+    public void should_send_and_record_notification_id_when_key_is_claimed() {
+
+        when(valueOperations.setIfAbsent(anyString(), eq("pending"), eq(Duration.ofSeconds(30)))).thenReturn(true);
+
+        assertEquals("1", redisDeliveryReceiptStore.sendOnce(KEY, 60, this::send));
+
+        verify(valueOperations).set(startsWith("notificationDeduplication:"), eq("1"), eq(Duration.ofSeconds(60)));
+    }
+
+    @Test
+    public void should_not_keep_recipient_in_redis_key() {
+
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(true);
+
+        redisDeliveryReceiptStore.sendOnce(KEY, 60, this::send);
+
+        verify(valueOperations, never()).setIfAbsent(
+            contains("recipient@example.com"), any(), any(Duration.class));
+    }
+
+    @Test
+    public void should_return_notification_id_sent_by_another_replica() {
+
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(anyString())).thenReturn("pending", "other-replica-id");
+
+        assertEquals("other-replica-id", redisDeliveryReceiptStore.sendOnce(KEY, 60, this::send));
+        assertEquals(0, sends.get());
+    }
+
+    @Test
+    public void should_send_when_another_replica_is_still_sending_after_wait() {
+
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(anyString())).thenReturn("pending");
+
+        assertEquals("1", redisDeliveryReceiptStore.sendOnce(KEY, 60, this::send));
+        assertEquals(1, sends.get());
+    }
+
+    @Test
+    public void should_send_when_interrupted_waiting_for_another_replica() {
+
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(anyString())).thenReturn("pending");
+
+        Thread.currentThread().interrupt();
+        try {
+            assertEquals("1", redisDeliveryReceiptStore.sendOnce(KEY, 60, this::send));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void should_claim_for_no_longer_than_deduplication_window() {
+
+        when(valueOperations.setIfAbsent(anyString(), eq("pending"), eq(Duration.ofSeconds(10)))).thenReturn(true);
+
+        assertEquals("1", redisDeliveryReceiptStore.sendOnce(KEY, 10, this::send));
+
+        verify(valueOperations).set(startsWith("notificationDeduplication:"), eq("1"), eq(Duration.ofSeconds(10)));
+    }
+
+    @Test
+    public void should_release_claim_when_send_fails() {
+
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class))).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () ->
+            redisDeliveryReceiptStore.sendOnce(KEY, 60, () -> {
+                throw new IllegalStateException("unavailable");
+            }));
+        assertEquals("", redisDeliveryReceiptStore.sendOnce(KEY, 60, () -> ""));
+
+        verify(redisOperations, times(2)).delete(startsWith("notificationDeduplication:"));
+    }
+
+    @Test
+    public void should_send_locally_and_stop_using_redis_when_it_is_unavailable() {
+
+        when(valueOperations.setIfAbsent(anyString(), any(), any(Duration.class)))
+            .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        assertEquals("1", redisDeliveryReceiptStore.sendOnce(KEY, 60, this::send));
+        assertEquals("2", redisDeliveryReceiptStore.sendOnce(KEY, 60, this::send));
+
+        verify(valueOperations, times(1)).setIfAbsent(anyString(), any(), any(Duration.class));
+    }
+
+    private String send() {
+        return String.valueOf(sends.incrementAndGet());
+    }
+}
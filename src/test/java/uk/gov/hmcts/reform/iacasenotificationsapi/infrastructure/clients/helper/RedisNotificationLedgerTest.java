@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.clients.helper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(MockitoExtension.class)
+public class RedisNotificationLedgerTest {
+
+    private static final String KEY = "1234:SUBMIT_APPEAL:EMAIL:1234_APPEAL_SUBMITTED:recipient@example.com";
+
+    @Mock
+    private RedisOperations<String, String> redisOperations;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisNotificationLedger redisNotificationLedger;
+
+    @BeforeEach
+    public void setUp() {
+        when(redisOperations.opsForValue()).thenReturn(valueOperations);
+
+        redisNotificationLedger = new RedisNotificationLedger(
+            redisOperations,
+            "secret".getBytes(),
+            Duration.ofMinutes(60)
+        );
+    }
+
+    @Test
+    public void should_record_notification_id_with_retention_under_hashed_key() {
+
+        redisNotificationLedger.record(KEY, "notification-id");
+
+        verify(valueOperations).set(
+            argThat(key -> key.startsWith("notificationLedger:") && !key.contains("recipient@example.com")),
+            eq("notification-id"),
+            eq(Duration.ofMinutes(60))
+        );
+    }
+
+    @Test
+    public void should_find_recorded_notification_id() {
+
+        when(valueOperations.get(anyString())).thenReturn("notification-id");
+
+        assertEquals(Optional.of("notification-id"), redisNotificationLedger.find(KEY));
+    }
+
+    @Test
+    public void should_skip_ledger_when_redis_is_unavailable() {
+
+        when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down"))
+            .when(valueOperations).set(anyString(), anyString(), eq(Duration.ofMinutes(60)));
+
+        assertEquals(Optional.empty(), redisNotificationLedger.find(KEY));
+        redisNotificationLedger.record(KEY, "notification-id");
+    }
+}
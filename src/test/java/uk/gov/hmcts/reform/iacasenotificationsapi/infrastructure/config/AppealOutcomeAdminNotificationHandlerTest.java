@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.config;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -14,7 +15,9 @@ import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.C
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.PreSubmitCallbackHandler;
 import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.NotificationGenerator;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 
 import static java.util.Collections.emptyList;
 
@@ -66,4 +69,14 @@ class AppealOutcomeAdminNotificationHandlerTest {
         // then
         assertEquals(event == SEND_DECISION_AND_REASONS, res);
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_declare_stage_and_events_it_can_handle() {
+
+        assertEquals(Optional.of(ABOUT_TO_SUBMIT), asylumCasePreSubmitCallbackHandler.getHandledStage());
+        assertEquals(
+            Optional.of(EnumSet.of(SEND_DECISION_AND_REASONS)),
+            asylumCasePreSubmitCallbackHandler.getHandledEvents()
+        );
+    }
+}
@@ -1,5 +1,7 @@
 package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,8 +12,9 @@ import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
@@ -19,17 +22,20 @@ import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.cache.SelfHealingCacheManager;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.cache.TwoTierCacheManager;
 
 import java.util.Base64;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-@Import({CacheConfiguration.class})
+@Import({CacheConfiguration.class, CacheConfigurationTest.MeterRegistryConfiguration.class})
 @ExtendWith(SpringExtension.class)
 @ExtendWith(MockitoExtension.class)
 @EnableCaching
@@ -44,6 +50,16 @@ class CacheConfigurationTest {
     private RedisConnectionFactory redisConnectionFactory;
     @Mock
     private RedisConnection redisConnection;
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TestConfiguration
+    static class MeterRegistryConfiguration {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
 
     @DynamicPropertySource
     static void redisProperties(DynamicPropertyRegistry registry) {
@@ -58,23 +74,23 @@ class CacheConfigurationTest {
     }
 
     @Test
-    void cacheManager_shouldReturnRedisCacheManager_whenRedisAvailable() {
+    void cacheManager_shouldUseRedisCaches_whenRedisAvailable() {
         when(redisConnectionFactory.getConnection()).thenReturn(redisConnection);
         when(redisConnection.ping()).thenReturn("PONG");
 
-        CacheManager result = cacheConfiguration.cacheManager(redisConnectionFactory);
+        SelfHealingCacheManager result = cacheConfiguration.cacheManager(redisConnectionFactory, meterRegistry);
 
-        assertThat(result).isInstanceOf(RedisCacheManager.class);
+        assertEquals(SelfHealingCacheManager.Mode.REDIS, result.getMode());
         verify(redisConnectionFactory).getConnection();
     }
 
     @Test
-    void cacheManager_shouldReturnNoOpCacheManager_whenRedisUnavailable() {
+    void cacheManager_shouldUseLocalCaches_whenRedisUnavailable() {
         when(redisConnectionFactory.getConnection()).thenThrow(new RuntimeException("Redis unavailable"));
 
-        CacheManager result = cacheConfiguration.cacheManager(redisConnectionFactory);
+        SelfHealingCacheManager result = cacheConfiguration.cacheManager(redisConnectionFactory, meterRegistry);
 
-        assertThat(result).isInstanceOf(NoOpCacheManager.class);
+        assertEquals(SelfHealingCacheManager.Mode.LOCAL, result.getMode());
     }
 
     @Test
@@ -82,7 +98,7 @@ class CacheConfigurationTest {
         when(redisConnectionFactory.getConnection()).thenReturn(redisConnection);
         when(redisConnection.ping()).thenReturn("PONG");
 
-        CacheManager result = cacheConfiguration.cacheManager(redisConnectionFactory);
+        CacheManager result = cacheConfiguration.cacheManager(redisConnectionFactory, meterRegistry);
         result.getCache("systemUserTokenCache");
         result.getCache("userInfoCache");
 
@@ -90,13 +106,48 @@ class CacheConfigurationTest {
     }
 
     @Test
-    void cacheManager_shouldReturnNoOpCacheManager_whenPingThrowsException() {
+    void cacheManager_shouldUseLocalCaches_whenPingThrowsException() {
         when(redisConnectionFactory.getConnection()).thenReturn(redisConnection);
         when(redisConnection.ping()).thenThrow(new RuntimeException("Ping failed"));
 
-        CacheManager result = cacheConfiguration.cacheManager(redisConnectionFactory);
+        SelfHealingCacheManager result = cacheConfiguration.cacheManager(redisConnectionFactory, meterRegistry);
+
+        assertEquals(SelfHealingCacheManager.Mode.LOCAL, result.getMode());
+    }
+
+    @Test
+    void cacheManager_shouldUseLocalCaches_whenRedisCachesCannotBeConfigured() {
+        ReflectionTestUtils.setField(cacheConfiguration, "redisEncryptionKey", "");
+
+        SelfHealingCacheManager result = cacheConfiguration.cacheManager(redisConnectionFactory, meterRegistry);
+
+        assertEquals(SelfHealingCacheManager.Mode.LOCAL, result.getMode());
+    }
+
+    @Test
+    void nearCacheManager_shouldPutNearCacheInFrontOfRedis() {
+        CacheManager redisCacheManager = new NoOpCacheManager();
+
+        CacheManager result = cacheConfiguration.nearCacheManager(redisCacheManager, meterRegistry, 60, 100);
+
+        assertThat(result).isInstanceOf(TwoTierCacheManager.class);
+    }
+
+    @Test
+    void nearCacheManager_shouldReturnRedisCacheManager_whenNearCacheTurnedOff() {
+        CacheManager redisCacheManager = new NoOpCacheManager();
+
+        CacheManager result = cacheConfiguration.nearCacheManager(redisCacheManager, meterRegistry, 0, 100);
+
+        assertThat(result).isSameAs(redisCacheManager);
+    }
+
+    @Test
+    void nearCacheManager_shouldRejectNearCacheTtlNotUnderRedisTtl() {
+        CacheManager redisCacheManager = new NoOpCacheManager();
 
-        assertThat(result).isInstanceOf(NoOpCacheManager.class);
+        assertThatThrownBy(() -> cacheConfiguration.nearCacheManager(redisCacheManager, meterRegistry, 1800, 100))
+            .isExactlyInstanceOf(IllegalStateException.class);
     }
 
     @Test
@@ -0,0 +1,125 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.BailCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseDetails;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PreSubmitCallbackStage;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.PreSubmitCallbackHandler;
+
+/*
+ * The dispatcher only offers a callback to the handlers that declare its stage and event, so a
+ * handler whose predicate accepts anything else would silently stop sending. Every handler is
+ * offered every stage and event it does not declare, with an empty case, and must turn it down.
+ */
+class NotificationHandlerDeclarationsTest {
+
+    @Test
+    void should_only_handle_stages_and_events_declared_by_asylum_notification_handlers() throws Exception {
+
+        List<String> undeclared = new ArrayList<>();
+        int handlers = collectUndeclaredStagesAndEvents(new NotificationHandlerConfiguration(), AsylumCase::new, undeclared);
+
+        assertTrue(handlers > 300);
+        assertEquals(Collections.emptyList(), undeclared);
+    }
+
+    @Test
+    void should_only_handle_stages_and_events_declared_by_bail_notification_handlers() throws Exception {
+
+        List<String> undeclared = new ArrayList<>();
+        int handlers = collectUndeclaredStagesAndEvents(new BailNotificationHandlerConfiguration(), BailCase::new, undeclared);
+
+        assertTrue(handlers > 25);
+        assertEquals(Collections.emptyList(), undeclared);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends CaseData> int collectUndeclaredStagesAndEvents(
+        Object configuration,
+        Supplier<T> emptyCaseData,
+        List<String> undeclared
+    ) throws Exception {
+
+        List<Callback<T>> callbacks = new ArrayList<>();
+        for (Event event : Event.values()) {
+            callbacks.add(callback(event, emptyCaseData.get()));
+        }
+
+        int handlers = 0;
+        for (Method method : configuration.getClass().getDeclaredMethods()) {
+            if (!PreSubmitCallbackHandler.class.equals(method.getReturnType())) {
+                continue;
+            }
+
+            PreSubmitCallbackHandler<T> handler =
+                (PreSubmitCallbackHandler<T>) method.invoke(configuration, arguments(method));
+            handlers++;
+
+            for (PreSubmitCallbackStage callbackStage : PreSubmitCallbackStage.values()) {
+                for (Callback<T> callback : callbacks) {
+                    boolean declared = handler.getHandledStage().map(callbackStage::equals).orElse(true)
+                        && handler.getHandledEvents().map(events -> events.contains(callback.getEvent())).orElse(true);
+
+                    if (!declared && canHandle(handler, callbackStage, callback)) {
+                        undeclared.add(method.getName() + " handles " + callbackStage + " " + callback.getEvent());
+                    }
+                }
+            }
+        }
+
+        return handlers;
+    }
+
+    private static <T extends CaseData> boolean canHandle(
+        PreSubmitCallbackHandler<T> handler,
+        PreSubmitCallbackStage callbackStage,
+        Callback<T> callback
+    ) {
+        try {
+            return handler.canHandle(callbackStage, callback);
+        } catch (RuntimeException e) {
+            // a predicate that needs fields the empty case does not have is left to its own tests
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends CaseData> Callback<T> callback(Event event, T caseData) {
+
+        // stub only, so the many calls made are not all recorded
+        CaseDetails<T> caseDetails = mock(CaseDetails.class, withSettings().stubOnly());
+        when(caseDetails.getCaseData()).thenReturn(caseData);
+
+        Callback<T> callback = mock(Callback.class, withSettings().stubOnly());
+        when(callback.getEvent()).thenReturn(event);
+        when(callback.getCaseDetails()).thenReturn(caseDetails);
+
+        return callback;
+    }
+
+    private static Object[] arguments(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Object[] arguments = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            arguments[i] = List.class.equals(parameterTypes[i])
+                ? Collections.emptyList()
+                : mock(parameterTypes[i], withSettings().stubOnly());
+        }
+        return arguments;
+    }
+}
@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.controllers;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.controllers.advice.CallbackControllerAdvice;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.controllers.advice.ErrorResponseBuilder;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.AuthorizedRolesProvider;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.CcdEventAuthorizor;
+
+@ExtendWith(MockitoExtension.class)
+class EventAuthorizationControllerTest {
+
+    private static final String REQUIRED_ROLE = "caseworker-ia-system";
+
+    @Mock
+    private AuthorizedRolesProvider authorizedRolesProvider;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        Map<String, List<Event>> roleEventAccess = new ImmutableMap.Builder<String, List<Event>>()
+            .put("caseworker-ia-legalrep-solicitor", newArrayList(Event.SUBMIT_APPEAL))
+            .put("caseworker-ia-caseofficer", newArrayList(Event.SUBMIT_APPEAL, Event.SEND_DIRECTION))
+            .build();
+
+        EventAuthorizationController eventAuthorizationController = new EventAuthorizationController(
+            new CcdEventAuthorizor(roleEventAccess, authorizedRolesProvider),
+            authorizedRolesProvider,
+            REQUIRED_ROLE
+        );
+
+        mockMvc = MockMvcBuilders.standaloneSetup(eventAuthorizationController)
+            .setControllerAdvice(new CallbackControllerAdvice(new ErrorResponseBuilder()))
+            .build();
+    }
+
+    @Test
+    void should_return_sorted_roles_by_event_to_a_user_with_the_required_role() throws Exception {
+
+        when(authorizedRolesProvider.getRoles()).thenReturn(Set.of("caseworker-ia", REQUIRED_ROLE));
+
+        mockMvc.perform(get("/eventAuthorizations").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().json(
+                "{\"submitAppeal\":[\"caseworker-ia-caseofficer\",\"caseworker-ia-legalrep-solicitor\"],"
+                    + "\"sendDirection\":[\"caseworker-ia-caseofficer\"]}",
+                true
+            ));
+    }
+
+    @Test
+    void should_forbid_a_user_without_the_required_role() throws Exception {
+
+        when(authorizedRolesProvider.getRoles()).thenReturn(Set.of("caseworker-ia", "caseworker-ia-caseofficer"));
+
+        mockMvc.perform(get("/eventAuthorizations").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isForbidden())
+            .andExpect(jsonPath("$.errorCode").value("ACCESS_DENIED"));
+    }
+}
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.Message;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseDetails;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.handlers.PreSubmitCallbackHandler;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.NotificationGenerator;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing.CallbackTracer;
+
+@ExtendWith(MockitoExtension.class)
+public class CallbackMetricsBeanPostProcessorTest {
+
+    @Mock private ObjectProvider<CallbackMetrics> callbackMetricsProvider;
+    @Mock private ObjectProvider<CallbackTracer> callbackTracerProvider;
+    @Mock private PreSubmitCallbackHandler<AsylumCase> callbackHandler;
+    @Mock private NotificationGenerator notificationGenerator;
+    @Mock private Callback<AsylumCase> callback;
+    @Mock private CaseDetails<AsylumCase> caseDetails;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CallbackMetrics callbackMetrics = new CallbackMetrics(meterRegistry);
+
+    private CallbackMetricsBeanPostProcessor callbackMetricsBeanPostProcessor;
+
+    @BeforeEach
+    public void setUp() {
+        when(callbackMetricsProvider.getObject()).thenReturn(callbackMetrics);
+
+        callbackMetricsBeanPostProcessor = new CallbackMetricsBeanPostProcessor(callbackMetricsProvider, callbackTracerProvider);
+    }
+
+    @Test
+    public void should_record_callback_handler_names_without_wrapping_them() {
+
+        Object processed = callbackMetricsBeanPostProcessor
+            .postProcessAfterInitialization(callbackHandler, "appealSubmittedNotificationHandler");
+
+        assertSame(callbackHandler, processed);
+        assertEquals("appealSubmittedNotificationHandler", callbackMetrics.nameOf(callbackHandler));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_time_generators_in_notification_generator_lists() {
+
+        when(callbackTracerProvider.getIfAvailable(any())).thenReturn(CallbackTracer.NOOP);
+        when(callback.getCaseDetails()).thenReturn(caseDetails);
+        when(caseDetails.getId()).thenReturn(1234L);
+        when(callback.getEvent()).thenReturn(Event.SUBMIT_APPEAL);
+
+        Message successMessage = new Message("title", "body");
+        when(notificationGenerator.getSuccessMessage()).thenReturn(successMessage);
+
+        List<NotificationGenerator> generators = (List<NotificationGenerator>) callbackMetricsBeanPostProcessor
+            .postProcessAfterInitialization(List.of(notificationGenerator), "appealSubmittedNotificationGenerator");
+
+        generators.get(0).generate(callback);
+
+        verify(notificationGenerator).generate(callback);
+        assertSame(successMessage, generators.get(0).getSuccessMessage());
+        assertEquals(1, meterRegistry.get(CallbackMetrics.NOTIFICATION_GENERATE)
+            .tag("generator", "appealSubmittedNotificationGenerator")
+            .timer().count());
+    }
+}
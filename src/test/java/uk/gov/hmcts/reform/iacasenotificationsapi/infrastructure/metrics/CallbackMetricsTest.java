@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PreSubmitCallbackStage;
+
+public class CallbackMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CallbackMetrics callbackMetrics = new CallbackMetrics(meterRegistry);
+
+    @Test
+    public void should_time_dispatch_by_stage_event_and_outcome() {
+
+        assertEquals("response", callbackMetrics.timeDispatch(
+            "preSubmit", PreSubmitCallbackStage.ABOUT_TO_SUBMIT, Event.SUBMIT_APPEAL, () -> "response"));
+
+        assertThrows(IllegalStateException.class, () -> callbackMetrics.timeDispatch(
+            "preSubmit", PreSubmitCallbackStage.ABOUT_TO_SUBMIT, Event.SUBMIT_APPEAL, () -> {
+                throw new IllegalStateException("handler failed");
+            }));
+
+        assertEquals(1, meterRegistry.get(CallbackMetrics.CALLBACK_DISPATCH)
+            .tags("callbackType", "preSubmit", "stage", "aboutToSubmit", "event", "submitAppeal", "outcome", "success")
+            .timer().count());
+        assertEquals(1, meterRegistry.get(CallbackMetrics.CALLBACK_DISPATCH)
+            .tags("callbackType", "preSubmit", "stage", "aboutToSubmit", "event", "submitAppeal", "outcome", "error")
+            .timer().count());
+    }
+
+    @Test
+    public void should_time_can_handle_under_the_registered_handler_name() {
+
+        Object callbackHandler = new Object();
+        callbackMetrics.registerName(callbackHandler, "appealSubmittedNotificationHandler");
+
+        assertTrue(callbackMetrics.timeCanHandle(callbackHandler, () -> true));
+        callbackMetrics.timeCanHandle(callbackHandler, () -> false);
+
+        assertEquals(2, meterRegistry.get(CallbackMetrics.CALLBACK_HANDLER_CAN_HANDLE)
+            .tag("handler", "appealSubmittedNotificationHandler")
+            .timer().count());
+    }
+
+    @Test
+    public void should_fall_back_to_class_name_for_unregistered_handlers() {
+
+        callbackMetrics.timeCanHandle("handler", () -> true);
+
+        assertEquals(1, meterRegistry.get(CallbackMetrics.CALLBACK_HANDLER_CAN_HANDLE)
+            .tag("handler", "String")
+            .timer().count());
+    }
+
+    @Test
+    public void should_time_generate_by_generator_name() {
+
+        StringBuilder generated = new StringBuilder();
+
+        callbackMetrics.timeGenerate("appealSubmittedNotificationGenerator", () -> generated.append("sent"));
+
+        assertEquals("sent", generated.toString());
+        assertEquals(1, meterRegistry.get(CallbackMetrics.NOTIFICATION_GENERATE)
+            .tag("generator", "appealSubmittedNotificationGenerator")
+            .timer().count());
+    }
+}
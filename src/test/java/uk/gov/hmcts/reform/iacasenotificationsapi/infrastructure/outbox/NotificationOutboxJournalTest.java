@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.outbox;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.security.AesEncryptingRedisSerializer;
+
+class NotificationOutboxJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private NotificationOutboxJournal journal;
+
+    @BeforeEach
+    public void setUp() {
+        journal = new NotificationOutboxJournal(directory, RedisSerializer.byteArray());
+    }
+
+    @Test
+    void should_write_and_read_back_entry() throws Exception {
+
+        String entryId = journal.write("some-entry".getBytes(UTF_8));
+
+        assertArrayEquals("some-entry".getBytes(UTF_8), journal.read(entryId));
+        assertEquals(List.of(entryId), journal.pending());
+        assertTrue(Files.exists(directory.resolve("pending").resolve(entryId + ".entry")));
+    }
+
+    @Test
+    void should_remove_entry_once_completed() throws Exception {
+
+        String entryId = journal.write("some-entry".getBytes(UTF_8));
+
+        journal.complete(entryId);
+
+        assertEquals(Collections.emptyList(), journal.pending());
+    }
+
+    @Test
+    void should_move_failed_entry_out_of_pending_entries() throws Exception {
+
+        String entryId = journal.write("some-entry".getBytes(UTF_8));
+
+        journal.fail(entryId);
+
+        assertEquals(Collections.emptyList(), journal.pending());
+        assertTrue(Files.exists(directory.resolve("failed").resolve(entryId + ".entry")));
+    }
+
+    @Test
+    void should_list_pending_entries_oldest_first_and_ignore_partial_writes() throws Exception {
+
+        String newerEntryId = journal.write("newer".getBytes(UTF_8));
+        String olderEntryId = journal.write("older".getBytes(UTF_8));
+        Files.setLastModifiedTime(
+            directory.resolve("pending").resolve(olderEntryId + ".entry"),
+            FileTime.fromMillis(0)
+        );
+        Files.write(directory.resolve("pending").resolve("partial.tmp"), "partial".getBytes(UTF_8));
+
+        assertEquals(List.of(olderEntryId, newerEntryId), journal.pending());
+    }
+
+    @Test
+    void should_store_entries_through_the_codec() throws Exception {
+
+        String key = Base64.getEncoder().encodeToString(new byte[32]);
+        NotificationOutboxJournal encryptedJournal = new NotificationOutboxJournal(
+            directory,
+            new AesEncryptingRedisSerializer<>(RedisSerializer.byteArray(), key)
+        );
+
+        String entryId = encryptedJournal.write("some-entry".getBytes(UTF_8));
+
+        byte[] stored = Files.readAllBytes(directory.resolve("pending").resolve(entryId + ".entry"));
+        assertFalse(new String(stored, UTF_8).contains("some-entry"));
+        assertArrayEquals("some-entry".getBytes(UTF_8), encryptedJournal.read(entryId));
+    }
+}
@@ -0,0 +1,183 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.outbox;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.READ_ENUMS_USING_TO_STRING;
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_ENUMS_USING_TO_STRING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCaseDefinition.APPEAL_REFERENCE_NUMBER;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseData;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.CaseDetails;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.Event;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.State;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.Callback;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.callback.PostSubmitCallbackStage;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("unchecked")
+class NotificationOutboxTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private ScheduledExecutorService workers;
+    @Mock
+    private DeferredNotificationSender sender;
+
+    private final List<Runnable> scheduledTasks = new ArrayList<>();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .findAndRegisterModules()
+        .enable(READ_ENUMS_USING_TO_STRING)
+        .enable(WRITE_ENUMS_USING_TO_STRING);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private NotificationOutboxJournal journal;
+    private NotificationOutbox notificationOutbox;
+    private Callback<AsylumCase> callback;
+
+    @BeforeEach
+    public void setUp() {
+        journal = new NotificationOutboxJournal(directory, RedisSerializer.byteArray());
+        notificationOutbox = new NotificationOutbox(
+            journal,
+            objectMapper,
+            workers,
+            2,
+            Duration.ofSeconds(5),
+            meterRegistry
+        );
+
+        AsylumCase asylumCase = new AsylumCase();
+        asylumCase.write(APPEAL_REFERENCE_NUMBER, "PA/12345/2026");
+        callback = new Callback<>(
+            new CaseDetails<>(12345L, "IA", State.APPEAL_SUBMITTED, asylumCase, LocalDateTime.of(2026, 1, 1, 9, 0)),
+            Optional.empty(),
+            Event.SUBMIT_APPEAL
+        );
+    }
+
+    @Test
+    void should_journal_callback_and_send_it_in_the_background() throws Exception {
+
+        captureScheduledTasks();
+        notificationOutbox.registerSender(sender);
+        notificationOutbox.start();
+
+        assertTrue(notificationOutbox.enqueue(PostSubmitCallbackStage.CCD_SUBMITTED, callback));
+        assertEquals(1, journal.pending().size());
+        assertEquals(1.0, meterRegistry.get("notification.outbox.pending").gauge().value());
+        verify(sender, never()).send(any(), any());
+
+        runScheduledTasks();
+
+        ArgumentCaptor<Callback<? extends CaseData>> sent = ArgumentCaptor.forClass(Callback.class);
+        verify(sender, times(1)).send(eq(PostSubmitCallbackStage.CCD_SUBMITTED), sent.capture());
+        assertEquals(12345L, sent.getValue().getCaseDetails().getId());
+        assertEquals(Event.SUBMIT_APPEAL, sent.getValue().getEvent());
+        assertEquals(
+            Optional.of("PA/12345/2026"),
+            ((AsylumCase) sent.getValue().getCaseDetails().getCaseData()).read(APPEAL_REFERENCE_NUMBER, String.class)
+        );
+        assertTrue(journal.pending().isEmpty());
+        assertEquals(0.0, meterRegistry.get("notification.outbox.pending").gauge().value());
+    }
+
+    @Test
+    void should_retry_with_backoff_and_move_entry_to_failed_after_max_attempts() throws Exception {
+
+        captureScheduledTasks();
+        doThrow(new IllegalStateException("boom")).when(sender).send(any(), any());
+        notificationOutbox.registerSender(sender);
+        notificationOutbox.start();
+
+        notificationOutbox.enqueue(PostSubmitCallbackStage.CCD_SUBMITTED, callback);
+        runScheduledTasks();
+
+        verify(sender, times(2)).send(any(), any());
+        verify(workers, times(1)).schedule(any(Runnable.class), eq(0L), eq(TimeUnit.MILLISECONDS));
+        verify(workers, times(1)).schedule(any(Runnable.class), eq(5000L), eq(TimeUnit.MILLISECONDS));
+        assertTrue(journal.pending().isEmpty());
+        try (var failed = Files.list(directory.resolve("failed"))) {
+            assertEquals(1, failed.count());
+        }
+    }
+
+    @Test
+    void should_replay_unsent_entries_on_start() throws Exception {
+
+        captureScheduledTasks();
+        notificationOutbox.registerSender(sender);
+        notificationOutbox.start();
+        notificationOutbox.enqueue(PostSubmitCallbackStage.CCD_SUBMITTED, callback);
+
+        NotificationOutbox restartedOutbox = new NotificationOutbox(
+            journal,
+            objectMapper,
+            workers,
+            2,
+            Duration.ofSeconds(5),
+            new SimpleMeterRegistry()
+        );
+        scheduledTasks.clear();
+        restartedOutbox.registerSender(sender);
+        restartedOutbox.start();
+        runScheduledTasks();
+
+        verify(sender, times(1)).send(eq(PostSubmitCallbackStage.CCD_SUBMITTED), any());
+        assertTrue(journal.pending().isEmpty());
+    }
+
+    @Test
+    void should_not_enqueue_when_not_running_or_no_sender_is_registered() {
+
+        assertFalse(notificationOutbox.enqueue(PostSubmitCallbackStage.CCD_SUBMITTED, callback));
+
+        notificationOutbox.start();
+
+        assertFalse(notificationOutbox.enqueue(PostSubmitCallbackStage.CCD_SUBMITTED, callback));
+        verify(workers, never()).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    private void captureScheduledTasks() {
+        when(workers.schedule(any(Runnable.class), anyLong(), any())).thenAnswer(invocation -> {
+            scheduledTasks.add(invocation.getArgument(0));
+            return null;
+        });
+    }
+
+    private void runScheduledTasks() {
+        while (!scheduledTasks.isEmpty()) {
+            scheduledTasks.remove(0).run();
+        }
+    }
+}
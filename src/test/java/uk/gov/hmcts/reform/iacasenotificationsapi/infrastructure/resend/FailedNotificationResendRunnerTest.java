@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.resend;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.NotificationSender;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.service.FailedNotificationResender;
+
+@ExtendWith(MockitoExtension.class)
+public class FailedNotificationResendRunnerTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private NotificationSender<AsylumCase> notificationSender;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void should_report_unreadable_case_file_and_carry_on_with_the_rest() throws Exception {
+
+        Files.writeString(directory.resolve("1111.json"), "{\"id\": 1111, \"case_data\": {}}");
+        Files.writeString(directory.resolve("2222.json"), "{\"id\": 2222, \"case_data\": ");
+        Files.writeString(directory.resolve("3333.json"), "{\"id\": 3333, \"case_data\": {}}");
+
+        new FailedNotificationResendRunner<>(
+            new FailedNotificationResender<AsylumCase>(
+                List.of(),
+                List.of(),
+                notificationSender,
+                asylumCase -> Optional.empty(),
+                personalisation -> false,
+                2
+            ),
+            objectMapper,
+            AsylumCase.class,
+            directory
+        ).run(null);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(
+            directory.resolve(FailedNotificationResendRunner.REPORT_FILE_NAME),
+            StandardCharsets.UTF_8
+        )) {
+            lines.add(objectMapper.readTree(line));
+        }
+        lines.sort(Comparator.comparingLong(line -> line.get("caseId").asLong()));
+
+        assertEquals(3, lines.size());
+        assertEquals(0, lines.get(0).get("caseId").asLong());
+        assertTrue(lines.get(0).get("error").asText().contains("2222.json"));
+        assertEquals(1111, lines.get(1).get("caseId").asLong());
+        assertNull(lines.get(1).get("error").textValue());
+        assertEquals(3333, lines.get(2).get("caseId").asLong());
+        assertNull(lines.get(2).get("error").textValue());
+    }
+}
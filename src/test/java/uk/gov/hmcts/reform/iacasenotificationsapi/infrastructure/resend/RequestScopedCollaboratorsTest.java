@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.resend;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.personalisation.caseofficer.CaseOfficerPendingPaymentPaidPersonalisation;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.personalisation.caseofficer.CaseOfficerSubmitAppealPersonalisation;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.personalisation.detentionengagementteam.DetentionEngagementTeamMarkAsPaidPersonalisation;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.personalisation.homeoffice.HomeOfficeSubmitAppealPersonalisation;
+
+class RequestScopedCollaboratorsTest {
+
+    @Test
+    void should_find_personalisations_using_the_request_user_flags_or_documents() {
+
+        assertTrue(RequestScopedCollaborators.areUsedBy(mock(CaseOfficerSubmitAppealPersonalisation.class)));
+        assertTrue(RequestScopedCollaborators.areUsedBy(mock(CaseOfficerPendingPaymentPaidPersonalisation.class)));
+        assertTrue(RequestScopedCollaborators.areUsedBy(mock(DetentionEngagementTeamMarkAsPaidPersonalisation.class)));
+    }
+
+    @Test
+    void should_not_find_personalisations_working_from_case_data_only() {
+
+        assertFalse(RequestScopedCollaborators.areUsedBy(mock(HomeOfficeSubmitAppealPersonalisation.class)));
+        assertFalse(RequestScopedCollaborators.areUsedBy(new Object()));
+    }
+}
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 import com.google.common.collect.ImmutableMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -80,4 +81,62 @@ public class CcdEventAuthorizorTest {
         );
         assertEquals("Event 'unknown' not allowed", thrown.getMessage());
     }
+
+    @Test
+    public void should_index_required_roles_by_event() {
+
+        Map<String, List<Event>> roleEventAccess = new ImmutableMap.Builder<String, List<Event>>()
+            .put("caseworker-ia-caseofficer", newArrayList(Event.SUBMIT_APPEAL, Event.SEND_DIRECTION))
+            .put("caseworker-ia-legalrep-solicitor", newArrayList(Event.SUBMIT_APPEAL))
+            .build();
+
+        ccdEventAuthorizor = new CcdEventAuthorizor(roleEventAccess, authorizedRolesProvider);
+
+        assertEquals(
+            Set.of("caseworker-ia-caseofficer", "caseworker-ia-legalrep-solicitor"),
+            ccdEventAuthorizor.getRequiredRolesForEvent(Event.SUBMIT_APPEAL)
+        );
+        assertEquals(Set.of("caseworker-ia-caseofficer"), ccdEventAuthorizor.getRequiredRolesForEvent(Event.SEND_DIRECTION));
+        assertEquals(Set.of(), ccdEventAuthorizor.getRequiredRolesForEvent(Event.UNKNOWN));
+        assertEquals(Set.of(Event.SUBMIT_APPEAL, Event.SEND_DIRECTION), ccdEventAuthorizor.getRequiredRolesByEvent().keySet());
+    }
+
+    @Test
+    public void should_throw_exception_when_user_has_none_of_the_required_roles() {
+
+        Map<String, List<Event>> roleEventAccess = new ImmutableMap.Builder<String, List<Event>>()
+            .put("caseworker-ia-caseofficer", newArrayList(Event.SUBMIT_APPEAL))
+            .put("caseworker-ia-legalrep-solicitor", newArrayList(Event.SUBMIT_APPEAL))
+            .build();
+
+        ccdEventAuthorizor = new CcdEventAuthorizor(roleEventAccess, authorizedRolesProvider);
+
+        when(authorizedRolesProvider.getRoles()).thenReturn(newHashSet("caseworker-ia-judiciary", "citizen"));
+
+        assertEquals(
+            Set.of("caseworker-ia-caseofficer", "caseworker-ia-legalrep-solicitor"),
+            ccdEventAuthorizor.getRequiredRolesForEvent(Event.SUBMIT_APPEAL)
+        );
+
+        AccessDeniedException thrown = assertThrows(
+            AccessDeniedException.class,
+            () -> ccdEventAuthorizor.throwIfNotAuthorized(Event.SUBMIT_APPEAL)
+        );
+        assertEquals("Event 'submitAppeal' not allowed", thrown.getMessage());
+    }
+
+    @Test
+    public void should_not_throw_exception_when_user_has_one_of_the_required_roles() {
+
+        Map<String, List<Event>> roleEventAccess = new ImmutableMap.Builder<String, List<Event>>()
+            .put("caseworker-ia-caseofficer", newArrayList(Event.SUBMIT_APPEAL))
+            .put("caseworker-ia-legalrep-solicitor", newArrayList(Event.SUBMIT_APPEAL))
+            .build();
+
+        ccdEventAuthorizor = new CcdEventAuthorizor(roleEventAccess, authorizedRolesProvider);
+
+        when(authorizedRolesProvider.getRoles()).thenReturn(newHashSet("citizen", "caseworker-ia-legalrep-solicitor"));
+
+        ccdEventAuthorizor.throwIfNotAuthorized(Event.SUBMIT_APPEAL);
+    }
 }
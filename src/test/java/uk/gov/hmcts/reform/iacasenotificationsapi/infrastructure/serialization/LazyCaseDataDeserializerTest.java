@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCaseDefinition.NOTIFICATIONS_SENT;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.AsylumCase;
+import uk.gov.hmcts.reform.iacasenotificationsapi.domain.entities.ccd.field.IdValue;
+
+public class LazyCaseDataDeserializerTest {
+
+    private static final String CASE_DATA =
+        "{\"appealReferenceNumber\":\"PA/12345/2026\","
+        + "\"notificationsSent\":[{\"id\":\"1_EVENT\",\"value\":\"abc\"}],"
+        + "\"appellantAddress\":{\"PostCode\":\"AB1 2CD\"},"
+        + "\"caseNotes\":null}";
+
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    public void setUp() {
+        mapper = new ObjectMapper().registerModule(
+            new SimpleModule()
+                .addDeserializer(AsylumCase.class, new LazyCaseDataDeserializer<>(AsylumCase.class, AsylumCase::new))
+        );
+    }
+
+    @Test
+    public void should_bind_scalar_fields_and_leave_structured_fields_unbound() throws Exception {
+
+        AsylumCase asylumCase = mapper.readValue(CASE_DATA, AsylumCase.class);
+
+        assertEquals(4, asylumCase.size());
+        assertEquals("PA/12345/2026", asylumCase.get("appealReferenceNumber"));
+        assertTrue(asylumCase.containsKey("caseNotes"));
+        assertNull(asylumCase.get("caseNotes"));
+        assertFalse(asylumCase.get("notificationsSent") instanceof List);
+        assertFalse(asylumCase.get("appellantAddress") instanceof Map);
+    }
+
+    @Test
+    public void should_bind_structured_field_when_it_is_read() throws Exception {
+
+        AsylumCase asylumCase = mapper.readValue(CASE_DATA, AsylumCase.class);
+
+        List<IdValue<String>> notificationsSent =
+            asylumCase.<List<IdValue<String>>>read(NOTIFICATIONS_SENT).orElseThrow();
+
+        assertEquals(1, notificationsSent.size());
+        assertEquals("1_EVENT", notificationsSent.get(0).getId());
+        assertEquals("abc", notificationsSent.get(0).getValue());
+    }
+
+    @Test
+    public void should_write_unread_fields_back_verbatim() throws Exception {
+
+        AsylumCase asylumCase = mapper.readValue(CASE_DATA, AsylumCase.class);
+
+        assertEquals(
+            mapper.readTree(CASE_DATA),
+            mapper.readTree(mapper.writeValueAsString(asylumCase))
+        );
+    }
+
+    @Test
+    public void should_reject_case_data_which_is_not_an_object() {
+
+        assertThrows(JsonMappingException.class, () -> mapper.readValue("[]", AsylumCase.class));
+    }
+}
@@ -0,0 +1,84 @@
+package uk.gov.hmcts.reform.iacasenotificationsapi.infrastructure.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.Test;
+
+class CallbackTracerTest {
+
+    private final SimpleTracer tracer = new SimpleTracer();
+    private final CallbackTracer callbackTracer = new CallbackTracer(tracer);
+
+    @Test
+    void should_record_named_span_with_attributes() {
+
+        String result = callbackTracer.inSpan("callback.handler", Map.of("handler", "someHandler"), () -> "done");
+
+        SimpleSpan span = tracer.onlySpan();
+        assertEquals("done", result);
+        assertEquals("callback.handler", span.getName());
+        assertEquals("someHandler", span.getTags().get("handler"));
+    }
+
+    @Test
+    void should_record_error_and_rethrow() {
+
+        IllegalStateException failure = new IllegalStateException("failed");
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () ->
+            callbackTracer.inSpan("govnotify.send", Map.of(), () -> {
+                throw failure;
+            })
+        );
+
+        assertSame(failure, thrown);
+        assertSame(failure, tracer.onlySpan().getError());
+    }
+
+    @Test
+    void should_derive_case_id_and_notification_type_from_reference() {
+
+        Map<String, String> attributes =
+            CallbackTracer.sendAttributes("email", "templateId", "1234_APPEAL_SUBMITTED_LEGAL_REPRESENTATIVE");
+
+        assertEquals("email", attributes.get("notification.channel"));
+        assertEquals("templateId", attributes.get("notification.template_id"));
+        assertEquals("1234", attributes.get("case.id"));
+        assertEquals("APPEAL_SUBMITTED_LEGAL_REPRESENTATIVE", attributes.get("notification.type"));
+    }
+
+    @Test
+    void should_run_tasks_in_the_span_that_was_current_when_they_were_submitted() {
+
+        Tracer mockTracer = mock(Tracer.class);
+        Span parent = mock(Span.class);
+        Tracer.SpanInScope scope = mock(Tracer.SpanInScope.class);
+        when(mockTracer.currentSpan()).thenReturn(parent);
+        when(mockTracer.withSpan(parent)).thenReturn(scope);
+
+        List<Runnable> submitted = new ArrayList<>();
+        Executor executor = new CallbackTracer(mockTracer).propagating(submitted::add);
+
+        List<String> ran = new ArrayList<>();
+        executor.execute(() -> ran.add("task"));
+        when(mockTracer.currentSpan()).thenReturn(null);
+        submitted.get(0).run();
+
+        assertEquals(List.of("task"), ran);
+        verify(mockTracer).withSpan(parent);
+        verify(scope).close();
+    }
+}
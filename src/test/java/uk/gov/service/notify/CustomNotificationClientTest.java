@@ -2,16 +2,71 @@ package uk.gov.service.notify;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.json.JSONObject;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class CustomNotificationClientTest {
 
+    private static final String API_KEY = "test_key-" + UUID.randomUUID() + "-" + UUID.randomUUID();
+    private static final String NOTIFICATION_ID = "740e5834-3a29-46b4-9a6f-16142fde533a";
+    private static final String TEMPLATE_ID = "f33517ff-2a88-4f6e-b855-c550268ce08a";
+
     private final int timeout = 5000;
-    private final CustomNotificationClient notificationClient = new CustomNotificationClient("someKey", "http://someurl", timeout);
+    private final CustomNotificationClient notificationClient = new CustomNotificationClient(
+        "someKey",
+        "http://someurl",
+        timeout,
+        Optional.empty(),
+        Duration.ZERO,
+        new SimpleMeterRegistry()
+    );
+    private final List<String> receivedAuthorizations = new CopyOnWriteArrayList<>();
+    private final List<JSONObject> receivedBodies = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v2/notifications/email", exchange -> {
+            receive(exchange);
+            respond(exchange, 201, response(new JSONObject()
+                .put("body", "some body")
+                .put("subject", "some subject")
+                .put("from_email", "notify@example.com")));
+        });
+        server.createContext("/v2/notifications/sms", exchange -> {
+            receive(exchange);
+            respond(exchange, 201, response(new JSONObject()
+                .put("body", "some body")
+                .put("from_number", "GOVUK")));
+        });
+        server.start();
+    }
 
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
 
     @Test
     void should_return_http_connection_with_timeout() throws Exception {
@@ -20,4 +75,95 @@ class CustomNotificationClientTest {
         assertEquals(timeout, connection.getConnectTimeout());
         assertEquals(timeout, connection.getReadTimeout());
     }
+
+    @Test
+    void should_return_pooled_connection_when_http_client_is_given() throws Exception {
+        CustomNotificationClient pooledNotificationClient = new CustomNotificationClient(
+            "someKey",
+            "http://someurl",
+            timeout,
+            Optional.of(HttpClient.newHttpClient()),
+            Duration.ZERO,
+            new SimpleMeterRegistry()
+        );
+
+        HttpURLConnection connection = pooledNotificationClient.getConnection(URI.create("http://someurl").toURL());
+
+        assertInstanceOf(PooledHttpConnection.class, connection);
+    }
+
+    @Test
+    void should_send_email_and_sms_with_one_signed_token() throws Exception {
+        CustomNotificationClient client = clientWithTokenReuse(Duration.ofSeconds(10));
+
+        SendEmailResponse emailResponse =
+            client.sendEmail(TEMPLATE_ID, "someone@example.com", Map.of("name", "Someone"), "some-reference");
+        SendSmsResponse smsResponse =
+            client.sendSms(TEMPLATE_ID, "07123456789", Map.of("name", "Someone"), "some-reference");
+
+        assertEquals(UUID.fromString(NOTIFICATION_ID), emailResponse.getNotificationId());
+        assertEquals(UUID.fromString(NOTIFICATION_ID), smsResponse.getNotificationId());
+
+        assertEquals(2, receivedAuthorizations.size());
+        assertTrue(receivedAuthorizations.get(0).startsWith("Bearer "));
+        assertEquals(receivedAuthorizations.get(0), receivedAuthorizations.get(1));
+
+        JSONObject emailBody = receivedBodies.get(0);
+        assertEquals(TEMPLATE_ID, emailBody.getString("template_id"));
+        assertEquals("someone@example.com", emailBody.getString("email_address"));
+        assertEquals("Someone", emailBody.getJSONObject("personalisation").getString("name"));
+        assertEquals("some-reference", emailBody.getString("reference"));
+        assertEquals("07123456789", receivedBodies.get(1).getString("phone_number"));
+    }
+
+    @Test
+    void should_throw_with_status_when_notify_rejects_send() {
+        server.removeContext("/v2/notifications/email");
+        server.createContext("/v2/notifications/email", exchange -> respond(exchange, 400, "{\"errors\":[]}"));
+
+        CustomNotificationClient client = clientWithTokenReuse(Duration.ofSeconds(10));
+
+        NotificationClientException exception = assertThrows(
+            NotificationClientException.class,
+            () -> client.sendEmail(TEMPLATE_ID, "someone@example.com", Map.of(), "some-reference")
+        );
+        assertEquals(400, exception.getHttpResult());
+    }
+
+    private CustomNotificationClient clientWithTokenReuse(Duration tokenReuse) {
+        return new CustomNotificationClient(
+            API_KEY,
+            "http://localhost:" + server.getAddress().getPort(),
+            timeout,
+            Optional.empty(),
+            tokenReuse,
+            new SimpleMeterRegistry()
+        );
+    }
+
+    private void receive(HttpExchange exchange) throws IOException {
+        receivedAuthorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+        receivedBodies.add(new JSONObject(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)));
+    }
+
+    private static String response(JSONObject content) {
+        return new JSONObject()
+            .put("id", NOTIFICATION_ID)
+            .put("reference", "some-reference")
+            .put("uri", "http://localhost/v2/notifications/" + NOTIFICATION_ID)
+            .put("content", content)
+            .put("template", new JSONObject()
+                .put("id", TEMPLATE_ID)
+                .put("version", 1)
+                .put("uri", "http://localhost/v2/templates/" + TEMPLATE_ID))
+            .toString();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
 }
@@ -0,0 +1,109 @@
+package uk.gov.service.notify;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PooledHttpConnectionTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+    private final AtomicReference<String> receivedAuthorization = new AtomicReference<>();
+
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v2/notifications/email", exchange -> {
+            receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            receivedAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            respond(exchange, 201, "{\"id\":\"some-id\"}");
+        });
+        server.createContext("/v2/notifications/missing", exchange -> respond(exchange, 404, "{\"errors\":[]}"));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void should_post_body_and_headers_and_read_response() throws Exception {
+        HttpURLConnection connection = connectionTo("/v2/notifications/email");
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Authorization", "Bearer token");
+        connection.setRequestProperty("Content-Type", "application/json");
+
+        try (OutputStream outputStream = connection.getOutputStream()) {
+            outputStream.write("{\"template_id\":\"1\"}".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals(201, connection.getResponseCode());
+        assertEquals(
+            "{\"id\":\"some-id\"}",
+            new String(connection.getInputStream().readAllBytes(), StandardCharsets.UTF_8)
+        );
+        assertNull(connection.getErrorStream());
+        assertEquals("{\"template_id\":\"1\"}", receivedBody.get());
+        assertEquals("Bearer token", receivedAuthorization.get());
+    }
+
+    @Test
+    void should_return_error_stream_for_failed_request() throws Exception {
+        HttpURLConnection connection = connectionTo("/v2/notifications/missing");
+        connection.setRequestMethod("GET");
+
+        assertEquals(404, connection.getResponseCode());
+        assertEquals("{\"errors\":[]}", new String(connection.getErrorStream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void should_time_headers_and_body_separately() throws Exception {
+        HttpURLConnection connection = connectionTo("/v2/notifications/missing");
+        connection.setRequestMethod("GET");
+
+        connection.getResponseCode();
+        connection.getResponseCode();
+
+        assertEquals(1, requestTimer("headers").count());
+        assertEquals(1, requestTimer("body").count());
+    }
+
+    private Timer requestTimer(String phase) {
+        return meterRegistry.get("govnotify.client.requests").tags("method", "GET", "phase", phase).timer();
+    }
+
+    private HttpURLConnection connectionTo(String path) throws Exception {
+        URL url = URI.create("http://localhost:" + server.getAddress().getPort() + path).toURL();
+        return new PooledHttpConnection(url, httpClient, Duration.ofSeconds(5), meterRegistry);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
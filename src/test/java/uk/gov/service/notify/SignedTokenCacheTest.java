@@ -0,0 +1,104 @@
+package uk.gov.service.notify;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+class SignedTokenCacheTest {
+
+    private final AtomicInteger signed = new AtomicInteger();
+    private final Supplier<String> signer = () -> "token-" + signed.incrementAndGet();
+    private final Instant now = Instant.parse("2026-10-18T10:00:00Z");
+
+    @Test
+    void should_reuse_signed_token_within_window() {
+        SignedTokenCache signedTokenCache = new SignedTokenCache(signer, Duration.ofSeconds(10), clockAt(now));
+
+        assertEquals("token-1", signedTokenCache.token());
+        assertEquals("token-1", signedTokenCache.token());
+        assertEquals(1, signed.get());
+    }
+
+    @Test
+    void should_sign_new_token_when_window_expires() {
+        MutableClock clock = new MutableClock(now);
+        SignedTokenCache signedTokenCache = new SignedTokenCache(signer, Duration.ofSeconds(10), clock);
+
+        assertEquals("token-1", signedTokenCache.token());
+
+        clock.instant = now.plusMillis(9999);
+        assertEquals("token-1", signedTokenCache.token());
+
+        clock.instant = now.plusSeconds(10);
+        assertEquals("token-2", signedTokenCache.token());
+        assertEquals("token-2", signedTokenCache.token());
+        assertEquals(2, signed.get());
+    }
+
+    @Test
+    void should_sign_new_token_when_clock_steps_backwards() {
+        MutableClock clock = new MutableClock(now);
+        SignedTokenCache signedTokenCache = new SignedTokenCache(signer, Duration.ofSeconds(10), clock);
+
+        assertEquals("token-1", signedTokenCache.token());
+
+        clock.instant = now.minusSeconds(1);
+        assertEquals("token-2", signedTokenCache.token());
+    }
+
+    @Test
+    void should_sign_token_for_every_request_when_window_is_zero() {
+        SignedTokenCache signedTokenCache = new SignedTokenCache(signer, Duration.ZERO, clockAt(now));
+
+        assertEquals("token-1", signedTokenCache.token());
+        assertEquals("token-2", signedTokenCache.token());
+    }
+
+    @Test
+    void should_not_allow_window_beyond_clock_skew_allowance() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new SignedTokenCache(signer, Duration.ofSeconds(21), clockAt(now))
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new SignedTokenCache(signer, Duration.ofSeconds(-1), clockAt(now))
+        );
+    }
+
+    private static Clock clockAt(Instant instant) {
+        return Clock.fixed(instant, ZoneOffset.UTC);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}